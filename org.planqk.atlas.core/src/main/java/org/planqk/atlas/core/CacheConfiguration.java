@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.AlgorithmRelationType;
+import org.planqk.atlas.core.model.ApplicationArea;
+import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.LearningMethod;
+import org.planqk.atlas.core.model.PatternRelationType;
+import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.model.Tag;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Configures the Hibernate second-level cache, which keeps the rarely changing reference data (problem types,
+ * application areas, learning methods, tags and the relation and property types) in local Caffeine caches.
+ * <p>
+ * Only entities and collections annotated with {@link org.hibernate.annotations.Cache} are cached. Each of them needs
+ * a region declared below, Hibernate refuses to start otherwise, so no unbounded cache can be created by accident.
+ * Entries are evicted by size and expire after a while, which bounds the staleness if several instances share one
+ * database. Writes through the entity manager update the caches of the own instance immediately.
+ * <p>
+ * Hit and miss counts of all regions are part of the Hibernate statistics and are thus published as
+ * hibernate.second.level.cache.* metrics if statistics are enabled.
+ */
+@Configuration
+public class CacheConfiguration {
+
+    private static final List<Class<?>> CACHED_ENTITIES = List.of(ProblemType.class, ApplicationArea.class,
+            LearningMethod.class, Tag.class, AlgorithmRelationType.class, PatternRelationType.class,
+            ComputeResourcePropertyType.class);
+
+    private static final List<String> CACHED_COLLECTIONS = List.of(
+            Algorithm.class.getName() + ".problemTypes",
+            Algorithm.class.getName() + ".applicationAreas",
+            Algorithm.class.getName() + ".learningMethods",
+            Algorithm.class.getName() + ".tags",
+            Implementation.class.getName() + ".tags");
+
+    private static final long ENTITY_REGION_SIZE = 10_000;
+
+    private static final long COLLECTION_REGION_SIZE = 50_000;
+
+    private static final long QUERY_RESULTS_REGION_SIZE = 1_000;
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(30);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        // a provider instance of our own, so every application context gets a separate set of regions
+        final CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        CACHED_ENTITIES.forEach(entity ->
+                cacheManager.createCache(entity.getName(), regionConfiguration(ENTITY_REGION_SIZE, TIME_TO_LIVE)));
+        CACHED_COLLECTIONS.forEach(role ->
+                cacheManager.createCache(role, regionConfiguration(COLLECTION_REGION_SIZE, TIME_TO_LIVE)));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(QUERY_RESULTS_REGION_SIZE, TIME_TO_LIVE));
+        // the last update of each table must be known as long as there are cached query results for it,
+        // there is only one (tiny) entry per table anyway
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(ENTITY_REGION_SIZE, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(AvailableSettings.JPA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maximumSize, Duration timeToLive) {
+        final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (timeToLive != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+        }
+        // Hibernate stores immutable cache entries, copying them on every access is not necessary
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core;
+
+import java.util.List;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceException;
+import javax.persistence.PersistenceUnit;
+
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
+import org.planqk.atlas.core.repository.PropertyFilterSpecification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * This configuration creates the database objects the schema update of Hibernate (spring.jpa.hibernate.ddl-auto)
+ * cannot create, i.e. extensions and indexes on expressions or with operator classes. The operators used with these
+ * indexes are registered as SQL functions, so criteria queries are able to use them as well.
+ *
+ * The changelogs in db/changelog contain the same objects for databases managed by Liquibase. All statements are
+ * idempotent, so they are cheap once applied. A failing statement (e.g. due to missing privileges) is logged and does
+ * not prevent the startup, as the queries relying on the indexes still work without them.
+ *
+ * Afterwards, the rows stored before the current schema are migrated like the changelogs do. The migrations only touch
+ * rows not migrated yet, so they are cheap once applied as well. Migrations unable to tell migrated rows apart are
+ * recorded in the database_migration table and applied only once. A failing migration prevents the startup, as the
+ * affected rows would be served incorrectly otherwise.
+ */
+@Slf4j
+@Configuration
+public class DatabaseSchemaConfiguration {
+
+    private static final List<String> SCHEMA_STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            // full-text search over algorithms, see AlgorithmSearchRepositoryImpl
+            "CREATE INDEX IF NOT EXISTS algorithm_search_idx ON algorithm USING gin ((" +
+                    "setweight(to_tsvector('english', coalesce(name, '')), 'A') " +
+                    "|| setweight(to_tsvector('english', coalesce(acronym, '')), 'A') " +
+                    "|| setweight(to_tsvector('english', coalesce(intent, '')), 'B') " +
+                    "|| setweight(to_tsvector('english', coalesce(problem, '')), 'B') " +
+                    "|| setweight(to_tsvector('english', coalesce(solution, '')), 'C')))",
+            "CREATE INDEX IF NOT EXISTS algorithm_name_trgm_idx ON algorithm USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS algorithm_acronym_trgm_idx ON algorithm USING gin (acronym gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS algorithm_problem_trgm_idx ON algorithm USING gin (problem gin_trgm_ops)",
+            // similarity search, see TrigramSearchRepositoryImpl
+            "CREATE INDEX IF NOT EXISTS compute_resource_name_trgm_idx ON compute_resource USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS software_platform_name_trgm_idx ON software_platform USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS cloud_service_name_trgm_idx ON cloud_service USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS problem_type_name_trgm_idx ON problem_type USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS application_area_name_trgm_idx ON application_area USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS tag_value_trgm_idx ON tag USING gin (value gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS tag_category_trgm_idx ON tag USING gin (category gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS learning_method_name_trgm_idx ON learning_method USING gin (name gin_trgm_ops)",
+            // start and end revisions of the audit rows, see EnversConfiguration.UNREFERENCED_REVISION_CONDITION
+            "CREATE INDEX IF NOT EXISTS knowledge_artifact_revisions_rev_idx ON knowledge_artifact_revisions (rev)",
+            "CREATE INDEX IF NOT EXISTS knowledge_artifact_revisions_revend_idx ON knowledge_artifact_revisions (revend)",
+            "CREATE INDEX IF NOT EXISTS tosca_application_revisions_rev_idx ON tosca_application_revisions (rev)",
+            "CREATE INDEX IF NOT EXISTS tosca_application_revisions_revend_idx ON tosca_application_revisions (revend)",
+            // property filters, see PropertyDocumentRepositoryImpl
+            "CREATE INDEX IF NOT EXISTS compute_resource_property_document_idx ON compute_resource USING gin (property_document jsonb_path_ops)",
+            "CREATE INDEX IF NOT EXISTS algorithm_property_document_idx ON algorithm USING gin (property_document jsonb_path_ops)",
+            "CREATE INDEX IF NOT EXISTS implementation_property_document_idx ON implementation USING gin (property_document jsonb_path_ops)");
+
+    // the name of the image decoding in the database_migration table, see the changelog 2022-06-09
+    private static final String DECODE_BASE64_IMAGES = "decode-base64-images";
+
+    // the tables storing sketch images, including their revisions
+    private static final List<String> IMAGE_TABLES = List.of("image", "image_aud");
+
+    /*
+     * Condition of an image still stored Base64 encoded. Images are checked by their beginning first, which is binary
+     * data for all image formats except SVG, whose beginning contains "<" instead. Only images passing this check are
+     * checked completely, so the condition never fails decoding an image.
+     */
+    private static final String BASE64_IMAGE_CONDITION = "image IS NOT NULL AND CASE " +
+            "WHEN encode(substring(image FROM 1 FOR 64), 'escape') ~ '^[A-Za-z0-9+/=]+$' " +
+            "THEN length(image) % 4 = 0 AND encode(image, 'escape') ~ '^[A-Za-z0-9+/]*=?=?$' ELSE false END";
+
+    // drops the unique constraints of file.file_url, whose names were generated by Hibernate
+    private static final String DROP_FILE_URL_CONSTRAINTS = "DO $$ DECLARE constraint_name TEXT; BEGIN " +
+            "FOR constraint_name IN SELECT c.conname FROM pg_constraint c " +
+            "JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1] " +
+            "WHERE c.conrelid = CAST('file' AS regclass) AND c.contype = 'u' AND cardinality(c.conkey) = 1 AND a.attname = 'file_url' " +
+            "LOOP EXECUTE 'ALTER TABLE file DROP CONSTRAINT ' || quote_ident(constraint_name); END LOOP; END $$";
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ComputeResourcePropertyRepository computeResourcePropertyRepository;
+
+    // static, as the entity manager factory injected above cannot be created before its customizers
+    @Bean
+    public static HibernatePropertiesCustomizer sqlFunctionCustomizer() {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.METADATA_BUILDER_CONTRIBUTOR,
+                (MetadataBuilderContributor) PropertyFilterSpecification::registerFunctions);
+    }
+
+    @PostConstruct
+    protected void initialize() {
+        SCHEMA_STATEMENTS.forEach(this::execute);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> migrateRows());
+    }
+
+    private void migrateRows() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS database_migration (name VARCHAR(255) PRIMARY KEY, " +
+                "applied_at TIMESTAMP NOT NULL DEFAULT now())");
+        migrateFileDataToLargeObjects();
+        migrateFileDataToFileContents();
+        decodeBase64Images();
+        final int refreshedDocuments = computeResourcePropertyRepository.refreshMissingPropertyDocuments();
+        if (refreshedDocuments > 0) {
+            log.info("Built the property documents of {} owners", refreshedDocuments);
+        }
+    }
+
+    /*
+     * Moves the file contents stored as bytea values into large objects and computes the size and checksum of their
+     * files, see the changelog 2022-06-07. Files without checksum are read by their URL, which fails for these contents.
+     */
+    private void migrateFileDataToLargeObjects() {
+        if (!columnExists("file_data", "data")) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE file_data ADD COLUMN IF NOT EXISTS content_id oid");
+        final int migratedFiles = jdbcTemplate.update("UPDATE file f SET size = length(d.data), checksum = encode(sha256(d.data), 'hex') " +
+                "FROM file_data d WHERE d.file_id = f.id AND d.data IS NOT NULL");
+        jdbcTemplate.update("UPDATE file_data SET content_id = lo_from_bytea(0, data) WHERE data IS NOT NULL AND content_id IS NULL");
+        jdbcTemplate.execute("ALTER TABLE file_data DROP COLUMN data");
+        if (migratedFiles > 0) {
+            log.info("Moved the contents of {} files into large objects", migratedFiles);
+        }
+    }
+
+    /*
+     * Creates the file contents of the files stored before and removes the file_data table, see the changelog
+     * 2022-06-08. Files without file content cannot release their content, so deleting them would fail. The URL of a
+     * file is not unique anymore, hence the unique constraint generated by Hibernate is dropped as well.
+     */
+    private void migrateFileDataToFileContents() {
+        if (tableExists("file_data")) {
+            final int createdContents = jdbcTemplate.update("INSERT INTO file_content (checksum, size, content_id, reference_count) " +
+                    "SELECT f.checksum, MIN(f.size), MIN(d.content_id), COUNT(*) FROM file f JOIN file_data d ON d.file_id = f.id " +
+                    "WHERE f.checksum IS NOT NULL AND d.content_id IS NOT NULL GROUP BY f.checksum " +
+                    "ON CONFLICT (checksum) DO NOTHING");
+            jdbcTemplate.queryForList("SELECT lo_unlink(d.content_id) FROM file_data d WHERE d.content_id IS NOT NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM file_content c WHERE c.content_id = d.content_id)", Integer.class);
+            jdbcTemplate.execute("DROP TABLE file_data");
+            if (createdContents > 0) {
+                log.info("Created {} file contents of the files stored before", createdContents);
+            }
+        }
+        jdbcTemplate.execute(DROP_FILE_URL_CONSTRAINTS);
+    }
+
+    /*
+     * Decodes the sketch images stored Base64 encoded before, see the changelog 2022-06-09. Images are returned as
+     * stored, so these images would be returned as Base64 text. An uploaded image may consist of Base64 characters as
+     * well, hence the decoding is applied only once, i.e. to the images stored before it. On a new database, it finds
+     * no images and is recorded as well, so images uploaded later are never decoded.
+     */
+    private void decodeBase64Images() {
+        if (!recordMigration(DECODE_BASE64_IMAGES)) {
+            return;
+        }
+        for (final String table : IMAGE_TABLES) {
+            if (tableExists(table)) {
+                final int decodedImages = jdbcTemplate.update("UPDATE " + table + " SET image = decode(convert_from(image, 'UTF8'), 'base64') " +
+                        "WHERE " + BASE64_IMAGE_CONDITION);
+                if (decodedImages > 0) {
+                    log.info("Decoded {} Base64 encoded images in {}", decodedImages, table);
+                }
+            }
+        }
+    }
+
+    // records the migration with the given name, returns false if it was applied before
+    private boolean recordMigration(String name) {
+        return jdbcTemplate.update("INSERT INTO database_migration (name) VALUES (?) ON CONFLICT (name) DO NOTHING", name) > 0;
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM information_schema.tables " +
+                "WHERE table_schema = current_schema() AND table_name = ?)", Boolean.class, table));
+    }
+
+    private boolean columnExists(String table, String column) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?)", Boolean.class, table, column));
+    }
+
+    // executes the statement in its own transaction, as a failing statement aborts the transaction in PostgreSQL
+    private void execute(String statement) {
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.createNativeQuery(statement).executeUpdate();
+            entityManager.getTransaction().commit();
+        } catch (PersistenceException e) {
+            log.warn("Failed to apply \"{}\": {}", statement, e.getMessage());
+        } finally {
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+
+/**
+ * Validity audit strategy storing the properties audited with a modified flag as deltas.
+ * <p>
+ * Such a property is a large text that rarely changes together with the other properties of its entity. Its value is
+ * only stored in the audit rows of the revisions changing it, all other audit rows have a modified flag of {@code
+ * false} and no value. So the modified flag of a delta property tells whether an audit row stores its value, and the
+ * value at a revision is the one stored by the latest audit row up to this revision (see {@link
+ * org.planqk.atlas.core.repository.RevisionDeltaRepository}).
+ * <p>
+ * Envers computes the modified flags against the state of the entity at the begin of the transaction, so they are
+ * correct even if the entity is flushed several times in between.
+ */
+public class DeltaAuditStrategy extends ValidityAuditStrategy {
+
+    // default of the org.hibernate.envers.modified_flag_suffix setting, which is not changed
+    private static final String MODIFIED_FLAG_SUFFIX = "_MOD";
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void perform(Session session, String entityName, AuditEntitiesConfiguration auditEntitiesConfiguration,
+                        Serializable id, Object data, Object revision) {
+        final Map<String, Object> auditData = new HashMap<>((Map<String, Object>) data);
+        for (final Map.Entry<String, Object> entry : ((Map<String, Object>) data).entrySet()) {
+            if (entry.getKey().endsWith(MODIFIED_FLAG_SUFFIX) && Boolean.FALSE.equals(entry.getValue())) {
+                auditData.put(entry.getKey().substring(0, entry.getKey().length() - MODIFIED_FLAG_SUFFIX.length()), null);
+            }
+        }
+        super.perform(session, entityName, auditEntitiesConfiguration, id, auditData, revision);
+    }
+}
@@ -19,34 +19,139 @@
 
 package org.planqk.atlas.core;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.PersistenceUnit;
 
+import org.hibernate.envers.configuration.EnversSettings;
 import org.hibernate.envers.event.spi.EnversPostDeleteEventListenerImpl;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.PostDeleteEvent;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import lombok.extern.slf4j.Slf4j;
+
 /*
  * This configuration contains Hibernate Envers configurations used for the entity versioning.
  *
  * Includes a custom event listener to prevent Envers from auditing entity delete events
  *
+ * The validity audit strategy stores the end revision (revend) of every audit row in the revision table of the root
+ * entity of a hierarchy, so reading the state of an entity at a revision does not need a correlated subquery searching
+ * for the latest revision before. Hence, exactly one audit row per entity, the current one, has no end revision.
+ *
+ * Large text properties are audited with a modified flag and stored as deltas by the DeltaAuditStrategy, i.e. only by
+ * the audit rows of the revisions changing them.
  */
+@Slf4j
 @Configuration
 public class EnversConfiguration {
 
+    // the revision tables of the audited root entities, i.e. the tables containing the revend column
+    public static final List<String> ROOT_REVISION_TABLES = List.of("knowledge_artifact_revisions", "tosca_application_revisions");
+
+    // condition of a revision entry r which is neither the start nor the end revision of any audit row
+    public static final String UNREFERENCED_REVISION_CONDITION = ROOT_REVISION_TABLES.stream()
+            .map(table -> "NOT EXISTS (SELECT 1 FROM " + table + " t WHERE t.rev = r.rev) " +
+                    "AND NOT EXISTS (SELECT 1 FROM " + table + " t WHERE t.revend = r.rev)")
+            .collect(Collectors.joining(" AND "));
+
+    // the revision tables containing delta properties (see DeltaAuditStrategy) and the columns of these properties
+    public static final Map<String, List<String>> DELTA_COLUMNS = Map.of(
+            "algorithm_revisions", List.of("intent", "problem", "input_format", "output_format", "algo_parameter", "solution"),
+            "implementation_revisions", List.of("description", "problem_statement", "input_format", "output_format"));
+
+    /**
+     * Returns the expression selecting the value of a delta property at the audit row t of the given revision table,
+     * i.e. the value of the latest audit row up to t storing it.
+     */
+    public static String deltaValue(String table, String column) {
+        return "(SELECT x." + column + " FROM " + table + " x WHERE x.id = t.id AND x.rev <= t.rev " +
+                "AND x." + column + "_mod IS NOT FALSE ORDER BY x.rev DESC LIMIT 1)";
+    }
+
     @PersistenceUnit
     private EntityManagerFactory entityManagerFactory;
 
+    // static, as the entity manager factory injected above cannot be created before its customizers
+    @Bean
+    public static HibernatePropertiesCustomizer auditStrategyCustomizer() {
+        return properties -> properties.put(EnversSettings.AUDIT_STRATEGY, DeltaAuditStrategy.class.getName());
+    }
+
     @PostConstruct
     protected void initialize() {
         final SessionFactoryImpl sessionFactory = entityManagerFactory.unwrap(SessionFactoryImpl.class);
         final EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
         registry.setListeners(EventType.POST_DELETE, new AuditListener());
+
+        migrateAuditRows();
+    }
+
+    // migrates the audit rows written before the current audit strategy, the columns themselves are added by the schema update
+    private void migrateAuditRows() {
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            migrateRevisionEnds(entityManager);
+            migrateDeltaProperties(entityManager);
+            entityManager.getTransaction().commit();
+        } finally {
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            entityManager.close();
+        }
+    }
+
+    /*
+     * Sets the end revisions of audit rows written by the default audit strategy. Only entities with several open audit
+     * rows are touched, so this is cheap once migrated.
+     */
+    private void migrateRevisionEnds(EntityManager entityManager) {
+        for (final String table : ROOT_REVISION_TABLES) {
+            final int migratedRows = entityManager.createNativeQuery("UPDATE " + table + " t SET revend = n.next_rev " +
+                    "FROM (SELECT id, rev, lead(rev) OVER (PARTITION BY id ORDER BY rev) AS next_rev FROM " + table + " " +
+                    "WHERE id IN (SELECT id FROM " + table + " WHERE revend IS NULL GROUP BY id HAVING COUNT(*) > 1)) n " +
+                    "WHERE t.id = n.id AND t.rev = n.rev AND t.revend IS NULL AND n.next_rev IS NOT NULL")
+                    .executeUpdate();
+            if (migratedRows > 0) {
+                log.info("Set the end revision of {} audit rows in {}", migratedRows, table);
+            }
+        }
+    }
+
+    /*
+     * Turns the delta properties of audit rows written without modified flags into deltas. A value is only kept if it
+     * differs from the one of the previous audit row. All modified flags of an audit row are written together and the
+     * audit rows without them are older than all others of their entity, so their previous rows still store every value.
+     */
+    private void migrateDeltaProperties(EntityManager entityManager) {
+        DELTA_COLUMNS.forEach((table, columns) -> {
+            final String assignments = columns.stream()
+                    .map(column -> column + " = CASE WHEN p." + column + "_mod THEN t." + column + " END, " + column + "_mod = p." + column + "_mod")
+                    .collect(Collectors.joining(", "));
+            final String modifiedFlags = columns.stream()
+                    .map(column -> column + " IS DISTINCT FROM lag(" + column + ") OVER w AS " + column + "_mod")
+                    .collect(Collectors.joining(", "));
+            final String firstFlag = columns.get(0) + "_mod";
+            final int migratedRows = entityManager.createNativeQuery("UPDATE " + table + " t SET " + assignments + " " +
+                    "FROM (SELECT id, rev, " + modifiedFlags + " FROM " + table + " " +
+                    "WHERE id IN (SELECT id FROM " + table + " WHERE " + firstFlag + " IS NULL) WINDOW w AS (PARTITION BY id ORDER BY rev)) p " +
+                    "WHERE t.id = p.id AND t.rev = p.rev AND t." + firstFlag + " IS NULL")
+                    .executeUpdate();
+            if (migratedRows > 0) {
+                log.info("Stored the large text properties of {} audit rows in {} as deltas", migratedRows, table);
+            }
+        });
     }
 
     public static class AuditListener extends EnversPostDeleteEventListenerImpl {
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core;
+
+import org.planqk.atlas.core.model.RevisionRetentionPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Revision retention policies of the audited entity types, configured by the properties with the prefix
+ * org.planqk.atlas.revisions.retention, e.g. org.planqk.atlas.revisions.retention.algorithm.keep-last=20.
+ * <p>
+ * The policies of algorithms and implementations apply to all of their subclasses. If nothing is configured the last
+ * {@link org.planqk.atlas.core.util.Constants#REVISIONS_COUNT} revisions of every entity are kept.
+ */
+@Data
+@Configuration
+@ConfigurationProperties("org.planqk.atlas.revisions.retention")
+public class RevisionRetentionProperties {
+
+    private RevisionRetentionPolicy algorithm = new RevisionRetentionPolicy();
+
+    private RevisionRetentionPolicy implementation = new RevisionRetentionPolicy();
+
+    private RevisionRetentionPolicy toscaApplication = new RevisionRetentionPolicy();
+}
@@ -22,6 +22,7 @@ package org.planqk.atlas.core.model;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
@@ -32,6 +33,9 @@ import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
 import org.hibernate.envers.AuditTable;
 import org.hibernate.envers.Audited;
 import org.hibernate.envers.NotAudited;
@@ -66,15 +70,19 @@ public class Algorithm extends KnowledgeArtifact {
     @NotAudited
     private Set<Publication> publications = new HashSet<>();
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String intent;
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String problem;
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String inputFormat;
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String outputFormat;
 
@@ -102,6 +110,7 @@ public class Algorithm extends KnowledgeArtifact {
     @NotAudited
     private Set<ComputeResourceProperty> requiredComputeResourceProperties = new HashSet<>();
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String algoParameter;
 
@@ -109,6 +118,7 @@ public class Algorithm extends KnowledgeArtifact {
     @NotAudited
     private List<Sketch> sketches = new ArrayList<>();
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String solution;
 
@@ -129,6 +139,7 @@ public class Algorithm extends KnowledgeArtifact {
                joinColumns = @JoinColumn(name = "algorithm_id"),
                inverseJoinColumns = @JoinColumn(name = "problem_type_id"))
     @EqualsAndHashCode.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @NotAudited
     private Set<ProblemType> problemTypes = new HashSet<>();
 
@@ -137,6 +148,7 @@ public class Algorithm extends KnowledgeArtifact {
                joinColumns = @JoinColumn(name = "algorithm_id"),
                inverseJoinColumns = @JoinColumn(name = "application_area_id"))
     @EqualsAndHashCode.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @NotAudited
     private Set<ApplicationArea> applicationAreas = new HashSet<>();
 
@@ -146,6 +158,7 @@ public class Algorithm extends KnowledgeArtifact {
                inverseJoinColumns = @JoinColumn(name = "tag_value"))
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @NotAudited
     private Set<Tag> tags = new HashSet<>();
 
@@ -163,9 +176,20 @@ public class Algorithm extends KnowledgeArtifact {
                joinColumns = @JoinColumn(name = "algorithm_id"),
                inverseJoinColumns = @JoinColumn(name = "learning_method_id"))
     @EqualsAndHashCode.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @NotAudited
     private Set<LearningMethod> learningMethods = new HashSet<>();
 
+    /**
+     * Required compute resource properties grouped by type name, only written by the PropertyDocumentRepository.
+     */
+    @Type(type = "jsonb")
+    @Column(columnDefinition = "jsonb", insertable = false, updatable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @NotAudited
+    private Map<String, List<Object>> propertyDocument;
+
     public void addTag(@NonNull Tag tag) {
         if (tags.contains(tag)) {
             return;
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Self-contained representation of an {@link Algorithm} used for bulk imports, i.e. one line of an NDJSON document.
+ * <p>
+ * Besides the properties of the algorithm itself a record contains its {@link Implementation}s and references to
+ * {@link ProblemType}s, {@link Tag}s and {@link Publication}s. Referenced entities are identified by their id or by a
+ * natural key (name, value or DOI) and are created if they do not exist yet.
+ */
+@Data
+@NoArgsConstructor
+public class AlgorithmRecord {
+
+    private ComputationModel computationModel;
+
+    private String name;
+
+    private String acronym;
+
+    private String intent;
+
+    private String problem;
+
+    private String inputFormat;
+
+    private String outputFormat;
+
+    private String algoParameter;
+
+    private String solution;
+
+    private String assumptions;
+
+    // only used for quantum and hybrid algorithms
+    private boolean nisqReady;
+
+    private QuantumComputationModel quantumComputationModel;
+
+    private String speedUp;
+
+    private List<ProblemTypeRecord> problemTypes = new ArrayList<>();
+
+    private List<TagRecord> tags = new ArrayList<>();
+
+    private List<PublicationRecord> publications = new ArrayList<>();
+
+    private List<ImplementationRecord> implementations = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    public static class ImplementationRecord {
+
+        private String name;
+
+        private String description;
+
+        private String contributors;
+
+        private String assumptions;
+
+        private String parameter;
+
+        private String dependencies;
+
+        private String version;
+
+        private String license;
+
+        private String technology;
+
+        private String problemStatement;
+
+        private String inputFormat;
+
+        private String outputFormat;
+
+        private List<TagRecord> tags = new ArrayList<>();
+
+        private List<PublicationRecord> publications = new ArrayList<>();
+    }
+
+    /**
+     * Reference to an existing problem type by id, or to a problem type by name which is created if it does not exist.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class ProblemTypeRecord {
+
+        private UUID id;
+
+        private String name;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class TagRecord {
+
+        private String value;
+
+        private String category;
+    }
+
+    /**
+     * Reference to an existing publication by id or DOI. If neither matches, a new publication is created from the
+     * given properties.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class PublicationRecord {
+
+        private UUID id;
+
+        private String doi;
+
+        private String title;
+
+        private String url;
+
+        private List<String> authors = new ArrayList<>();
+    }
+}
@@ -19,14 +19,20 @@
 
 package org.planqk.atlas.core.model;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @EqualsAndHashCode(callSuper = true)
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class AlgorithmRelationType extends HasId {
 
     private String name;
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a full-text search over {@link Algorithm}s, consisting of the matched algorithm, its relevance rank and a
+ * highlighted snippet of the matching text. The snippet is HTML-escaped, only the {@code <b>} tags marking the matches
+ * are markup.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlgorithmSearchResult {
+
+    private Algorithm algorithm;
+
+    private float rank;
+
+    private String highlight;
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.model;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import lombok.Data;
+
+/**
+ * Progress and outcome of a bulk import of {@link AlgorithmRecord}s.
+ * <p>
+ * Jobs are only kept in memory. They are updated by the thread running the import and may be read concurrently, e.g.
+ * to report the progress.
+ */
+@Data
+public class BulkImportJob {
+
+    // errors beyond this number are only counted, so a broken input cannot exhaust the memory
+    private static final int MAX_ERRORS = 100;
+
+    private final UUID id;
+
+    private final Date createdAt = new Date();
+
+    private volatile Date finishedAt;
+
+    private volatile State state = State.PENDING;
+
+    private volatile long processedRecords;
+
+    private volatile long importedAlgorithms;
+
+    private volatile long importedImplementations;
+
+    private volatile long failedRecords;
+
+    private final List<String> errors = new CopyOnWriteArrayList<>();
+
+    public void addError(long lineNumber, String message) {
+        addError("Line " + lineNumber + ": " + message);
+    }
+
+    public void addError(String message) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(message);
+        }
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    public enum State {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -20,8 +20,11 @@
 package org.planqk.atlas.core.model;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.Inheritance;
@@ -29,6 +32,8 @@ import javax.persistence.InheritanceType;
 import javax.persistence.ManyToMany;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.Type;
+
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -75,6 +80,15 @@ public class ComputeResource extends HasId {
                 mappedBy = "providedComputeResources")
     private Set<CloudService> cloudServices = new HashSet<>();
 
+    /**
+     * Provided properties grouped by their type name, the document is only written by the PropertyDocumentRepository.
+     */
+    @Type(type = "jsonb")
+    @Column(columnDefinition = "jsonb", insertable = false, updatable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Map<String, List<Object>> propertyDocument;
+
     public void addSoftwarePlatform(@NonNull SoftwarePlatform softwarePlatform) {
         if (softwarePlatforms.contains(softwarePlatform)) {
             return;
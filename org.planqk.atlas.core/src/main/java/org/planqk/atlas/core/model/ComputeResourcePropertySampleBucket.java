@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020-2023 the qc-atlas contributors.
+ * Copyright (c) 2022 the qc-atlas contributors.
  *
  * See the NOTICE file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -19,25 +19,29 @@
 
 package org.planqk.atlas.core.model;
 
-import javax.persistence.Entity;
-import javax.persistence.JoinColumn;
-import javax.persistence.OneToOne;
+import java.time.Instant;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
-@Entity
-@AllArgsConstructor
-@NoArgsConstructor
-@EqualsAndHashCode(callSuper = true)
+/**
+ * Aggregate of all {@link ComputeResourcePropertySample}s of a property within the time interval [start, end).
+ */
 @Data
-public class FileData extends HasId {
-    @OneToOne
-    @JoinColumn(name = "file_id")
-    private File file;
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComputeResourcePropertySampleBucket {
 
-    private byte[] data;
-}
+    private Instant start;
 
+    private Instant end;
+
+    private long count;
+
+    private double min;
+
+    private double max;
+
+    private double mean;
+}
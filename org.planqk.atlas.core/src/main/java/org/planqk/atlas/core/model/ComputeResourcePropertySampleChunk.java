@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.model;
+
+import java.time.Instant;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Up to a fixed number of {@link ComputeResourcePropertySample}s of a single property, compressed into one row by the
+ * {@link org.planqk.atlas.core.util.SampleCodec}.
+ * <p>
+ * The property is referenced by its ID only, so storing samples neither loads nor locks the property. The chunks are
+ * deleted together with their property by the ComputeResourcePropertyService.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@Entity
+public class ComputeResourcePropertySampleChunk extends HasId {
+
+    @Column(nullable = false)
+    private UUID computeResourcePropertyId;
+
+    @Column(nullable = false)
+    private Instant startTime;
+
+    @Column(nullable = false)
+    private Instant endTime;
+
+    private int sampleCount;
+
+    @Column(nullable = false)
+    @ToString.Exclude
+    private byte[] data;
+}
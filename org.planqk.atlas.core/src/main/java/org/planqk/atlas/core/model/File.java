@@ -19,7 +19,6 @@
 
 package org.planqk.atlas.core.model;
 
-import javax.persistence.Column;
 import javax.persistence.Entity;
 
 import lombok.AllArgsConstructor;
@@ -38,6 +37,12 @@ public class File extends KnowledgeArtifact {
 
     private String mimeType;
 
-    @Column(unique = true)
     private String fileURL;
+
+    private Long size;
+
+    /**
+     * SHA-256 checksum of the content, which references the {@link FileContent} shared by all files with this content.
+     */
+    private String checksum;
 }
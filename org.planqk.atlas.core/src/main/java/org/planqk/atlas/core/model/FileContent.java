@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Content of one or more {@link File}s with the same checksum, which is stored only once by the
+ * {@link org.planqk.atlas.core.services.FileStorage}.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class FileContent {
+
+    /**
+     * SHA-256 checksum of the content, which addresses the content in the storage.
+     */
+    @Id
+    private String checksum;
+
+    private long size;
+
+    /**
+     * OID of the large object holding the content, if it is stored as large object. Storages addressing the content by
+     * its checksum do not set it.
+     */
+    @Column(columnDefinition = "oid")
+    private Long contentId;
+
+    /**
+     * Number of files with this content, the content is removed from the storage once no file references it.
+     */
+    private long referenceCount;
+}
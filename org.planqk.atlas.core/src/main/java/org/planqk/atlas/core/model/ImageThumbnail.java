@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.model;
+
+import java.util.List;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Downscaled copy of an {@link Image}, generated in one of the standard {@link #SIZES} after the image was uploaded.
+ * <p>
+ * Thumbnails are removed by the database together with their image, so they neither have to be loaded nor deleted
+ * explicitly when a sketch or algorithm is deleted.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"image_id", "size"}))
+public class ImageThumbnail extends HasId {
+
+    /**
+     * The standard sizes in pixels, which limit the longer edge of a thumbnail.
+     */
+    public static final List<Integer> SIZES = List.of(128, 256, 512);
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "image_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Image image;
+
+    private int size;
+
+    private String mimeType;
+
+    @Column(nullable = false)
+    @ToString.Exclude
+    private byte[] data;
+}
@@ -21,6 +21,8 @@ package org.planqk.atlas.core.model;
 
 import java.net.URI;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.persistence.CascadeType;
 import javax.persistence.CollectionTable;
@@ -33,6 +35,9 @@ import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
 import org.hibernate.envers.AuditTable;
 import org.hibernate.envers.Audited;
 import org.hibernate.envers.NotAudited;
@@ -56,6 +61,7 @@ public class Implementation extends KnowledgeArtifact {
 
     private String name;
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String description;
 
@@ -73,12 +79,15 @@ public class Implementation extends KnowledgeArtifact {
 
     private String technology;
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String problemStatement;
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String inputFormat;
 
+    @Audited(withModifiedFlag = true)
     @Column(columnDefinition = "text")
     private String outputFormat;
 
@@ -103,6 +112,7 @@ public class Implementation extends KnowledgeArtifact {
                inverseJoinColumns = @JoinColumn(name = "tag_value"))
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @NotAudited
     private Set<Tag> tags = new HashSet<>();
 
@@ -137,6 +147,16 @@ public class Implementation extends KnowledgeArtifact {
     @Column(name = "pattern_uri", nullable = false)
     private Set<String> patterns = new HashSet<>();
 
+    /**
+     * Document of the required compute resource properties, maintained by the PropertyDocumentRepository.
+     */
+    @Type(type = "jsonb")
+    @Column(columnDefinition = "jsonb", insertable = false, updatable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @NotAudited
+    private Map<String, List<Object>> propertyDocument;
+
     public void addTag(@NonNull Tag tag) {
         if (tags.contains(tag)) {
             return;
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filter on the compute resource properties of a {@link ComputeResource}, {@link Algorithm} or {@link Implementation},
+ * e.g. {@code qubitCount >= 127}. The name refers to the name of the {@link ComputeResourcePropertyType}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyFilter {
+
+    private String name;
+
+    private Operator operator;
+
+    private String value;
+
+    public enum Operator {
+        EQUAL,
+        GREATER,
+        GREATER_OR_EQUAL,
+        LESS,
+        LESS_OR_EQUAL
+    }
+}
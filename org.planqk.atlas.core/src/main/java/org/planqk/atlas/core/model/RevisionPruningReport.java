@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.model;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.Data;
+
+/**
+ * Outcome of a run of the revision pruning, i.e. the number of rows reclaimed from the audit tables.
+ */
+@Data
+public class RevisionPruningReport {
+
+    // deleted rows of all revision tables of the hierarchy per audited entity type, e.g. "algorithm"
+    private final Map<String, Long> deletedRevisionRows = new TreeMap<>();
+
+    private long deletedRevisionInfoRows;
+
+    public void addDeletedRevisionRows(String entityType, long rows) {
+        deletedRevisionRows.merge(entityType, rows, Long::sum);
+    }
+
+    public void addDeletedRevisionInfoRows(long rows) {
+        deletedRevisionInfoRows += rows;
+    }
+
+    public long getDeletedRows() {
+        return deletedRevisionRows.values().stream().mapToLong(Long::longValue).sum() + deletedRevisionInfoRows;
+    }
+}
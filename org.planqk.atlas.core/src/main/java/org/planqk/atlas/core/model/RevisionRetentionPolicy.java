@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.model;
+
+import java.time.Duration;
+
+import org.planqk.atlas.core.util.Constants;
+
+import lombok.Data;
+
+/**
+ * Retention policy for the revisions of an audited entity type.
+ * <p>
+ * A revision is kept if any of the rules applies to it, all other revisions are pruned. As the newest revision
+ * reflects the current state of an entity, at least one revision is always kept.
+ */
+@Data
+public class RevisionRetentionPolicy {
+
+    /**
+     * Number of newest revisions to keep per entity.
+     */
+    private int keepLast = Constants.REVISIONS_COUNT;
+
+    /**
+     * Revisions newer than this are kept, no revisions are kept because of their age if not set.
+     */
+    private Duration keepNewerThan;
+
+    /**
+     * The last revision of every day (UTC) within this period is kept as a checkpoint, no checkpoints are kept if not
+     * set.
+     */
+    private Duration keepDailyCheckpointsFor;
+
+    public void validate(String entityType) {
+        if (keepLast < 1) {
+            throw new IllegalArgumentException("The revision retention policy of " + entityType + " must keep at least one revision");
+        }
+        if (isNegative(keepNewerThan) || isNegative(keepDailyCheckpointsFor)) {
+            throw new IllegalArgumentException("The periods of the revision retention policy of " + entityType + " must not be negative");
+        }
+    }
+
+    private static boolean isNegative(Duration period) {
+        return period != null && period.isNegative();
+    }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.planqk.atlas.core.repository;
+
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.AlgorithmRelation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-only projection of an {@link AlgorithmRelation} to the IDs of the relation, its source and target algorithms and
+ * its type, i.e. an edge of the graph formed by all algorithm relations.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlgorithmRelationEdge {
+
+    private UUID id;
+
+    private UUID sourceAlgorithmId;
+
+    private UUID targetAlgorithmId;
+
+    private UUID algorithmRelationTypeId;
+}
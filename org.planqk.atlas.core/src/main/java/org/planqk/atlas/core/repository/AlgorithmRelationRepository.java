@@ -19,12 +19,14 @@
 
 package org.planqk.atlas.core.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.AlgorithmRelation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
@@ -38,4 +40,9 @@ public interface AlgorithmRelationRepository extends JpaRepository<AlgorithmRela
     Page<AlgorithmRelation> findBySourceAlgorithmIdOrTargetAlgorithmId(UUID sourceId, UUID targetId, Pageable pageable);
 
     long countByAlgorithmRelationTypeId(UUID algorithmRelationTypeId);
+
+    @Query("SELECT new org.planqk.atlas.core.repository.AlgorithmRelationEdge(" +
+                   "ar.id, ar.sourceAlgorithm.id, ar.targetAlgorithm.id, ar.algorithmRelationType.id) " +
+                   "FROM AlgorithmRelation ar")
+    List<AlgorithmRelationEdge> findAllEdges();
 }
@@ -19,13 +19,19 @@
 
 package org.planqk.atlas.core.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.history.Revision;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.history.RevisionRepository;
 import org.springframework.data.repository.query.Param;
@@ -37,54 +43,39 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface AlgorithmRepository extends RevisionRepository<Algorithm, UUID, Integer>, JpaRepository<Algorithm, UUID> {
+public interface AlgorithmRepository extends RevisionRepository<Algorithm, UUID, Integer>, JpaRepository<Algorithm, UUID>,
+        JpaSpecificationExecutor<Algorithm>, AlgorithmSearchRepository, KeysetRepository, CountEstimateRepository, LinkRepository,
+        CascadingDeleteRepository, RevisionAsOfRepository, RevisionDeltaRepository, PropertyDocumentRepository {
 
-    default Page<Algorithm> findAll(String search, Pageable pageable) {
-        return findByNameContainingIgnoreCaseOrAcronymContainingIgnoreCaseOrProblemContainingIgnoreCase(search, search, search, pageable);
+    default KeysetSlice<Algorithm> findAllAfter(String cursor, Pageable pageable) {
+        return findAllAfter(Algorithm.class, cursor, pageable);
     }
 
-    Page<Algorithm> findByNameContainingIgnoreCaseOrAcronymContainingIgnoreCaseOrProblemContainingIgnoreCase(String name, String acronym,
-                                                                                                             String problem, Pageable pageable);
+    Slice<Algorithm> findAllBy(Pageable pageable);
 
-    @Query("SELECT algo " +
-                   "FROM Algorithm algo " +
-                   "JOIN algo.publications pub " +
-                   "WHERE  pub.id = :pubId")
-    Page<Algorithm> findAlgorithmsByPublicationId(@Param("pubId") UUID publicationId, Pageable pageable);
-
-    @Modifying()
-    @Query(value = "DELETE FROM algorithm_revisions WHERE rev = :revId AND id = :algoId", nativeQuery = true)
-    void deleteAlgorithmRevision(@Param("revId") Integer revisionId, @Param("algoId") UUID algorithmId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM algorithm_revisions WHERE id = :algoId", nativeQuery = true)
-    void deleteAllAlgorithmRevisions(@Param("algoId") UUID algorithmId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM classic_algorithm_revisions WHERE rev = :revId AND id = :algoId", nativeQuery = true)
-    void deleteClassicAlgorithmRevision(@Param("revId") Integer revisionId, @Param("algoId") UUID algorithmId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM classic_algorithm_revisions WHERE id = :algoId", nativeQuery = true)
-    void deleteAllClassicAlgorithmRevisions(@Param("algoId") UUID algorithmId);
+    Page<Algorithm> findByIdIn(Collection<UUID> algorithmIds, Pageable pageable);
 
-    @Modifying()
-    @Query(value = "DELETE FROM quantum_algorithm_revisions WHERE rev = :revId AND id = :algoId", nativeQuery = true)
-    void deleteQuantumAlgorithmRevision(@Param("revId") Integer revisionId, @Param("algoId") UUID algorithmId);
+    default long estimateCount() {
+        return estimateCount(Algorithm.class);
+    }
 
-    @Modifying()
-    @Query(value = "DELETE FROM quantum_algorithm_revisions WHERE id = :algoId", nativeQuery = true)
-    void deleteAllQuantumAlgorithmRevisions(@Param("algoId") UUID algorithmId);
+    default Optional<Revision<Integer, Algorithm>> findRevisionAsOf(UUID algorithmId, Instant timestamp) {
+        return findRevisionAsOf(Algorithm.class, algorithmId, timestamp);
+    }
 
-    @Modifying()
-    @Query(value = "DELETE FROM knowledge_artifact_revisions WHERE rev = :revId AND id = :id", nativeQuery = true)
-    void deleteKnowledgeArtifactRevision(@Param("revId") Integer revisionId, @Param("id") UUID id);
+    default void restoreDeltaProperties(UUID algorithmId, Collection<Revision<Integer, Algorithm>> revisions) {
+        restoreDeltaProperties(Algorithm.class, algorithmId, revisions);
+    }
 
-    @Modifying()
-    @Query(value = "DELETE FROM knowledge_artifact_revisions WHERE id = :id", nativeQuery = true)
-    void deleteAllKnowledgeArtifactRevisions(@Param("id") UUID id);
+    @Query(value = "SELECT new org.planqk.atlas.core.repository.AlgorithmSummary(" +
+                   "algo.id, algo.name, algo.acronym, algo.intent, algo.computationModel, algo.creationDate, algo.lastModifiedAt) " +
+                   "FROM Algorithm algo",
+           countQuery = "SELECT COUNT(algo) FROM Algorithm algo")
+    Page<AlgorithmSummary> findAllSummaries(Pageable pageable);
 
-    @Modifying()
-    @Query(value = "DELETE FROM revinfo WHERE rev = :id", nativeQuery = true)
-    void deleteRevisionInfo(@Param("id") Integer id);
+    @Query("SELECT algo " +
+                   "FROM Algorithm algo " +
+                   "JOIN algo.publications pub " +
+                   "WHERE  pub.id = :pubId")
+    Page<Algorithm> findAlgorithmsByPublicationId(@Param("pubId") UUID publicationId, Pageable pageable);
 }
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.AlgorithmSearchResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Repository fragment providing a ranked full-text search over {@link Algorithm}s.
+ * <p>
+ * The search is executed against a weighted text search vector built from the name, acronym, intent, problem and
+ * solution of an algorithm. The vector expression is backed by the GIN index created in the database changelog.
+ */
+public interface AlgorithmSearchRepository {
+
+    /**
+     * Search for {@link Algorithm}s matching all terms of the given search string. Every term is treated as a prefix,
+     * so partial input (e.g. while typing) matches as well. Algorithms whose name, acronym or problem contains the
+     * search string (ignoring case) match in any case, even if the search string starts within a word.
+     * <p>
+     * If the {@link Pageable} is unsorted the results are ordered by relevance, otherwise the requested sort order is
+     * applied first and the relevance is only used to break ties. Sort orders by attributes of associated entities are
+     * supported as well, they are applied as for the unfiltered list of algorithms.
+     * <p>
+     * The highlighted snippet is HTML-escaped, the matching words are wrapped in {@code <b>} tags.
+     *
+     * @param search   The search string
+     * @param pageable The page information of the page we want to retrieve
+     * @return The page of matching {@link Algorithm}s together with their rank and a highlighted snippet
+     */
+    Page<AlgorithmSearchResult> search(String search, Pageable pageable);
+}
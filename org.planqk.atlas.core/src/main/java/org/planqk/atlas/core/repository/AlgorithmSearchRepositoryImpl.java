@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.AlgorithmSearchResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+/**
+ * Implementation of the {@link AlgorithmSearchRepository} fragment based on the PostgreSQL full-text search.
+ * <p>
+ * The weighted search vector is not stored in a separate column, instead the GIN index is built on the very same
+ * expression used in the queries below. Therefore, the index is maintained by the database on every write and the
+ * queries work (without index support) on schemas that were created by Hibernate as well. The substring matches on the
+ * name, acronym and problem are backed by trigram indexes, so the query planner can combine the index scans.
+ */
+public class AlgorithmSearchRepositoryImpl implements AlgorithmSearchRepository {
+
+    /**
+     * Has to match the expression of the algorithm_search_idx index in the database changelog, otherwise the index is
+     * not used by the query planner.
+     */
+    private static final String SEARCH_VECTOR = "(setweight(to_tsvector('english', coalesce(a.name, '')), 'A')" +
+            " || setweight(to_tsvector('english', coalesce(a.acronym, '')), 'A')" +
+            " || setweight(to_tsvector('english', coalesce(a.intent, '')), 'B')" +
+            " || setweight(to_tsvector('english', coalesce(a.problem, '')), 'B')" +
+            " || setweight(to_tsvector('english', coalesce(a.solution, '')), 'C'))";
+
+    /**
+     * The highlighted text is HTML-escaped before the matches are marked, so the only markup of the highlight are the
+     * inserted selection tags. The escaped characters are parsed as XML entities, which are never highlighted.
+     */
+    private static final String HIGHLIGHT_TEXT = "replace(replace(replace(concat_ws(' ', a.intent, a.problem, a.solution), " +
+            "'&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+
+    private static final String HIGHLIGHT_OPTIONS = "StartSel=<b>, StopSel=</b>, MaxWords=30, MinWords=10, MaxFragments=2";
+
+    private static final String FROM_CLAUSE = "FROM algorithm a " +
+            "JOIN knowledge_artifact ka ON ka.id = a.id, " +
+            "to_tsquery('english', :query) tsq " +
+            "WHERE (" + SEARCH_VECTOR + " @@ tsq " +
+            "OR a.name ILIKE :pattern OR a.acronym ILIKE :pattern OR a.problem ILIKE :pattern) ";
+
+    private static final String SEARCH_QUERY = "SELECT CAST(a.id AS varchar) AS id, " +
+            "ts_rank_cd(" + SEARCH_VECTOR + ", tsq) AS rank, " +
+            "ts_headline('english', " + HIGHLIGHT_TEXT + ", tsq, '" + HIGHLIGHT_OPTIONS + "') AS highlight " +
+            FROM_CLAUSE;
+
+    private static final String ID_QUERY = "SELECT CAST(a.id AS varchar) AS id " + FROM_CLAUSE;
+
+    private static final String COUNT_QUERY = "SELECT COUNT(*) " + FROM_CLAUSE;
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "name", "a.name",
+            "acronym", "a.acronym",
+            "creationDate", "ka.creation_date",
+            "lastModifiedAt", "ka.last_modified_at");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<AlgorithmSearchResult> search(String search, Pageable pageable) {
+        if (search == null || search.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        final String tsQuery = toPrefixQuery(search);
+
+        if (!pageable.getSort().stream().allMatch(order -> SORT_COLUMNS.containsKey(order.getProperty()))) {
+            return searchOrderedByEntities(search, tsQuery, pageable);
+        }
+
+        final Query query = entityManager.createNativeQuery(SEARCH_QUERY + getOrderClause(pageable.getSort()));
+        setSearchParameters(query, search, tsQuery);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        @SuppressWarnings("unchecked")
+        final List<Object[]> rows = query.getResultList();
+        return PageableExecutionUtils.getPage(toResults(rows), pageable, () -> count(search, tsQuery));
+    }
+
+    /**
+     * Applies a sort the native query cannot express (e.g. by associated entities) the same way it is applied to the
+     * unfiltered list of algorithms. The rank and highlight are only computed for the algorithms on the requested page.
+     */
+    private Page<AlgorithmSearchResult> searchOrderedByEntities(String search, String tsQuery, Pageable pageable) {
+        final Query idQuery = entityManager.createNativeQuery(ID_QUERY);
+        setSearchParameters(idQuery, search, tsQuery);
+        @SuppressWarnings("unchecked")
+        final List<UUID> matchingIds = ((List<String>) idQuery.getResultList()).stream()
+                .map(UUID::fromString)
+                .collect(Collectors.toList());
+        final List<Object> orderedIds = SearchResultOrdering.orderIds(entityManager, Algorithm.class, "id", matchingIds,
+                pageable.getSort());
+        final List<String> pageIds = SearchResultOrdering.getPage(orderedIds, pageable).stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, orderedIds.size());
+        }
+
+        final Query query = entityManager.createNativeQuery(SEARCH_QUERY + "AND CAST(a.id AS varchar) IN (:ids)");
+        setSearchParameters(query, search, tsQuery);
+        query.setParameter("ids", pageIds);
+        @SuppressWarnings("unchecked")
+        final Map<String, Object[]> rows = ((List<Object[]>) query.getResultList()).stream()
+                .collect(Collectors.toMap(row -> (String) row[0], Function.identity()));
+        final List<Object[]> orderedRows = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(toResults(orderedRows), pageable, orderedIds.size());
+    }
+
+    private List<AlgorithmSearchResult> toResults(List<Object[]> rows) {
+        final Map<UUID, Algorithm> algorithms = findAlgorithms(rows.stream()
+                .map(row -> UUID.fromString((String) row[0]))
+                .collect(Collectors.toList()));
+
+        final List<AlgorithmSearchResult> results = new ArrayList<>(rows.size());
+        for (final Object[] row : rows) {
+            final Algorithm algorithm = algorithms.get(UUID.fromString((String) row[0]));
+            // the algorithm may have been deleted in between both queries
+            if (algorithm != null) {
+                results.add(new AlgorithmSearchResult(algorithm, ((Number) row[1]).floatValue(), (String) row[2]));
+            }
+        }
+        return results;
+    }
+
+    private Map<UUID, Algorithm> findAlgorithms(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return entityManager.createQuery("SELECT a FROM Algorithm a WHERE a.id IN :ids", Algorithm.class)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(Algorithm::getId, Function.identity()));
+    }
+
+    private long count(String search, String tsQuery) {
+        final Query query = entityManager.createNativeQuery(COUNT_QUERY);
+        setSearchParameters(query, search, tsQuery);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static void setSearchParameters(Query query, String search, String tsQuery) {
+        query.setParameter("query", tsQuery);
+        query.setParameter("pattern", "%" + search.replaceAll("([\\\\%_])", "\\\\$1") + "%");
+    }
+
+    private static String getOrderClause(Sort sort) {
+        final StringBuilder orderClause = new StringBuilder("ORDER BY ");
+        for (final Sort.Order order : sort) {
+            orderClause.append(SORT_COLUMNS.get(order.getProperty())).append(order.isAscending() ? " ASC, " : " DESC, ");
+        }
+        // rank first if unsorted, id as last criterion to get a stable order across pages
+        return orderClause.append("rank DESC, a.id").toString();
+    }
+
+    /**
+     * Converts the user input into a tsquery that requires all terms to be present, each of them matched as a prefix.
+     * Only letters and digits are kept, so the result never contains tsquery syntax provided by the user. If no term is
+     * left the tsquery matches nothing, so only the substring matches apply.
+     */
+    static String toPrefixQuery(String search) {
+        if (search == null) {
+            return "";
+        }
+        return Arrays.stream(search.split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
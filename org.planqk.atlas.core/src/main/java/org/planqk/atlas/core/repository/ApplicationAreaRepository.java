@@ -19,13 +19,17 @@
 
 package org.planqk.atlas.core.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.UUID;
+import javax.persistence.QueryHint;
 
 import org.planqk.atlas.core.model.ApplicationArea;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
@@ -35,17 +39,19 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface ApplicationAreaRepository extends JpaRepository<ApplicationArea, UUID> {
+public interface ApplicationAreaRepository extends JpaRepository<ApplicationArea, UUID>, TrigramSearchRepository {
 
     default Page<ApplicationArea> findAll(String search, Pageable pageable) {
-        return findByNameContainingIgnoreCase(search, pageable);
+        return searchBySimilarity(ApplicationArea.class, search, pageable, "name");
     }
 
-    Page<ApplicationArea> findByNameContainingIgnoreCase(String name, Pageable pageable);
-
     @Query("SELECT aa " +
                    "FROM ApplicationArea aa " +
                    "JOIN aa.algorithms algos " +
                    "WHERE algos.id = :algoId")
     Page<ApplicationArea> findApplicationAreasByAlgorithmId(@Param("algoId") UUID algorithmId, Pageable pageable);
+
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Page<ApplicationArea> findAll(Pageable pageable);
 }
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Repository fragment deleting whole {@link org.planqk.atlas.core.model.Algorithm} and {@link
+ * org.planqk.atlas.core.model.Implementation} aggregates with set-based statements.
+ * <p>
+ * An aggregate consists of the artifact itself, all entities owned by it (implementations, implementation packages and
+ * their files, sketches and their images, compute resource properties, algorithm and pattern relations, discussion
+ * topics and comments), the rows of its join tables and all revisions of the artifact and the artifacts owned by it.
+ * The number of executed statements does not depend on the size of the aggregate. The statements bypass the
+ * persistence context, so entities of the deleted aggregates that are already loaded must not be used afterwards.
+ */
+public interface CascadingDeleteRepository {
+
+    /**
+     * Delete the given algorithms together with their implementations and everything else owned by them.
+     *
+     * @param algorithmIds The IDs of the algorithms to delete
+     */
+    void deleteAlgorithmsCascading(Collection<UUID> algorithmIds);
+
+    /**
+     * Delete the given implementations together with their packages and everything else owned by them.
+     *
+     * @param implementationIds The IDs of the implementations to delete
+     */
+    void deleteImplementationsCascading(Collection<UUID> implementationIds);
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.PostgresUUIDType;
+import org.hibernate.type.Type;
+import org.planqk.atlas.core.EnversConfiguration;
+
+/**
+ * Implementation of the {@link CascadingDeleteRepository} fragment based on native statements.
+ * <p>
+ * The IDs of the owned entities are selected up front, afterwards every table is cleaned by a single statement (per
+ * chunk of IDs) in the order required by the foreign keys. Every statement declares its table as query space, so only
+ * the affected second-level cache regions are evicted.
+ */
+public class CascadingDeleteRepositoryImpl implements CascadingDeleteRepository {
+
+    // stays below the limit of 32767 bind parameters of PostgreSQL, even if the IDs are used twice in a statement
+    private static final int CHUNK_SIZE = 10000;
+
+    private static final List<String> ALGORITHM_JOIN_TABLES = List.of("algorithm_publication", "algorithm_problem_type",
+            "algorithm_application_area", "algorithm_learning_method", "algorithm_tag");
+
+    private static final List<String> IMPLEMENTATION_JOIN_TABLES = List.of("implementation_publication",
+            "implementation_software_platforms", "implementation_tag", "pattern_uris");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void deleteAlgorithmsCascading(Collection<UUID> algorithmIds) {
+        if (algorithmIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+
+        deleteImplementationsCascading(selectIds("SELECT id FROM implementation WHERE implemented_algorithm_id IN (:ids)", algorithmIds));
+        // implementations of other algorithms may still reference the deleted algorithms by their typed association
+        executeUpdate("UPDATE classic_implementation SET algorithm_id = NULL WHERE algorithm_id IN (:ids)",
+                "classic_implementation", algorithmIds);
+        executeUpdate("UPDATE quantum_implementation SET algorithm_id = NULL WHERE algorithm_id IN (:ids)",
+                "quantum_implementation", algorithmIds);
+
+        final List<UUID> sketchIds = selectIds("SELECT id FROM sketch WHERE algorithm_id IN (:ids)", algorithmIds);
+        final List<UUID> imageIds = selectIds("SELECT id FROM image WHERE sketch_id IN (:ids)", sketchIds);
+        deleteKnowledgeArtifacts(imageIds, "image");
+        deleteRevisions(imageIds, "image_aud");
+        deleteKnowledgeArtifacts(sketchIds, "sketch");
+        deleteRevisions(sketchIds, "sketch_aud");
+
+        executeUpdate("DELETE FROM compute_resource_property WHERE algorithm_id IN (:ids)", "compute_resource_property", algorithmIds);
+        executeUpdate("DELETE FROM algorithm_relation WHERE source_algorithm IN (:ids) OR target_algorithm IN (:ids)",
+                "algorithm_relation", algorithmIds);
+        executeUpdate("DELETE FROM pattern_relation WHERE algorithm_id IN (:ids)", "pattern_relation", algorithmIds);
+        for (final String joinTable : ALGORITHM_JOIN_TABLES) {
+            executeUpdate("DELETE FROM " + joinTable + " WHERE algorithm_id IN (:ids)", joinTable, algorithmIds);
+        }
+
+        deleteKnowledgeArtifacts(algorithmIds, "classic_algorithm", "quantum_algorithm", "algorithm");
+        deleteRevisions(algorithmIds, "classic_algorithm_revisions", "quantum_algorithm_revisions", "algorithm_revisions");
+    }
+
+    @Override
+    public void deleteImplementationsCascading(Collection<UUID> implementationIds) {
+        if (implementationIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+
+        final List<UUID> fileIds = selectIds("SELECT pf.file_id AS id FROM implementation_package_file pf " +
+                "JOIN implementation_package p ON p.id = pf.implementation_package_id WHERE p.implementation_id IN (:ids)", implementationIds);
+        executeUpdate("DELETE FROM implementation_package_file WHERE implementation_package_id IN " +
+                "(SELECT id FROM implementation_package WHERE implementation_id IN (:ids))", "implementation_package_file", implementationIds);
+        executeUpdate("DELETE FROM implementation_package WHERE implementation_id IN (:ids)", "implementation_package", implementationIds);
+        // the contents no longer referenced are removed from the storage by FileService#deleteUnreferencedContents
+        executeUpdate("UPDATE file_content c SET reference_count = c.reference_count - r.file_count " +
+                "FROM (SELECT checksum, COUNT(*) AS file_count FROM file WHERE id IN (:ids) GROUP BY checksum) r " +
+                "WHERE c.checksum = r.checksum", "file_content", fileIds);
+        deleteKnowledgeArtifacts(fileIds, "file");
+        deleteRevisions(fileIds, "file_aud");
+
+        executeUpdate("DELETE FROM compute_resource_property WHERE implementation_id IN (:ids)", "compute_resource_property",
+                implementationIds);
+        for (final String joinTable : IMPLEMENTATION_JOIN_TABLES) {
+            executeUpdate("DELETE FROM " + joinTable + " WHERE implementation_id IN (:ids)", joinTable, implementationIds);
+        }
+
+        deleteKnowledgeArtifacts(implementationIds, "classic_implementation", "quantum_implementation", "implementation");
+        deleteRevisions(implementationIds, "classic_implementation_revisions", "quantum_implementation_revisions",
+                "implementation_revisions");
+    }
+
+    /**
+     * Deletes the rows of the given artifacts from the given tables of their inheritance hierarchy, ordered from the
+     * subclasses to the base class, and from the table of the common base class. Their discussions are deleted as well.
+     */
+    private void deleteKnowledgeArtifacts(Collection<UUID> ids, String... tables) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final List<UUID> topicIds = selectIds("SELECT id FROM discussion_topic WHERE knowledge_artifact_id IN (:ids)", ids);
+        if (!topicIds.isEmpty()) {
+            executeUpdate("DELETE FROM discussion_comment WHERE discussion_topic_id IN (:ids)", "discussion_comment", topicIds);
+            deleteKnowledgeArtifacts(topicIds, "discussion_topic");
+            deleteRevisions(topicIds, "discussion_topic_aud");
+        }
+
+        for (final String table : tables) {
+            executeUpdate("DELETE FROM " + table + " WHERE id IN (:ids)", table, ids);
+        }
+        executeUpdate("DELETE FROM knowledge_artifact WHERE id IN (:ids)", "knowledge_artifact", ids);
+    }
+
+    /**
+     * Deletes the audit rows of the given artifacts from the given revision tables of their inheritance hierarchy,
+     * ordered from the subclasses to the base class, and from the revision table of the common base class.
+     */
+    private void deleteRevisions(Collection<UUID> ids, String... revisionTables) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final List<Integer> revisionNumbers = select("SELECT DISTINCT rev FROM knowledge_artifact_revisions WHERE id IN (:ids)",
+                "rev", IntegerType.INSTANCE, ids);
+
+        for (final String revisionTable : revisionTables) {
+            executeUpdate("DELETE FROM " + revisionTable + " WHERE id IN (:ids)", revisionTable, ids);
+        }
+        executeUpdate("DELETE FROM knowledge_artifact_revisions WHERE id IN (:ids)", "knowledge_artifact_revisions", ids);
+
+        // revisions are shared by all entities changed in the same transaction, e.g. by a bulk import
+        executeUpdate("DELETE FROM revinfo r WHERE r.rev IN (:ids) AND " + EnversConfiguration.UNREFERENCED_REVISION_CONDITION,
+                "revinfo", revisionNumbers);
+    }
+
+    private List<UUID> selectIds(String sql, Collection<UUID> ids) {
+        return select(sql, "id", PostgresUUIDType.INSTANCE, ids);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> select(String sql, String column, Type columnType, Collection<?> ids) {
+        final List<T> result = new ArrayList<>();
+        for (final List<?> chunk : partition(ids)) {
+            result.addAll(entityManager.createNativeQuery(sql)
+                    .unwrap(NativeQuery.class)
+                    .addScalar(column, columnType)
+                    .setParameterList("ids", chunk)
+                    .getResultList());
+        }
+        return result;
+    }
+
+    private void executeUpdate(String sql, String table, Collection<?> ids) {
+        for (final List<?> chunk : partition(ids)) {
+            entityManager.createNativeQuery(sql)
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedQuerySpace(table)
+                    .setParameterList("ids", chunk)
+                    .executeUpdate();
+        }
+    }
+
+    private static List<List<?>> partition(Collection<?> ids) {
+        final List<?> list = new ArrayList<>(ids);
+        final List<List<?>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += CHUNK_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+}
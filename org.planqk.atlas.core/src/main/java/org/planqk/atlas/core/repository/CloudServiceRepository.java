@@ -35,8 +35,11 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface CloudServiceRepository extends JpaRepository<CloudService, UUID> {
-    Page<CloudService> findAllByNameContainingIgnoreCase(String name, Pageable p);
+public interface CloudServiceRepository extends JpaRepository<CloudService, UUID>, TrigramSearchRepository, LinkRepository {
+
+    default Page<CloudService> findAll(String search, Pageable pageable) {
+        return searchBySimilarity(CloudService.class, search, pageable, "name");
+    }
 
     boolean existsCloudServiceById(UUID id);
 
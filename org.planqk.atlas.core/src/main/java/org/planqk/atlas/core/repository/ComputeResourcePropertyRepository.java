@@ -19,12 +19,16 @@
 
 package org.planqk.atlas.core.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.ComputeResourceProperty;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
@@ -33,7 +37,7 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface ComputeResourcePropertyRepository extends JpaRepository<ComputeResourceProperty, UUID> {
+public interface ComputeResourcePropertyRepository extends JpaRepository<ComputeResourceProperty, UUID>, PropertyDocumentRepository {
 
     long countByComputeResourcePropertyTypeId(UUID computeResourcePropertyTypeId);
 
@@ -42,4 +46,28 @@ public interface ComputeResourcePropertyRepository extends JpaRepository<Compute
     Page<ComputeResourceProperty> findAllByImplementationId(UUID implementationId, Pageable pageable);
 
     Page<ComputeResourceProperty> findAllByComputeResourceId(UUID implementationId, Pageable pageable);
+
+    @Query("SELECT crp " +
+                   "FROM ComputeResourceProperty crp " +
+                   "JOIN FETCH crp.computeResourcePropertyType " +
+                   "WHERE crp.algorithm.id = :algoId")
+    List<ComputeResourceProperty> findAllWithTypeByAlgorithmId(@Param("algoId") UUID algorithmId);
+
+    @Query("SELECT crp " +
+                   "FROM ComputeResourceProperty crp " +
+                   "JOIN FETCH crp.computeResourcePropertyType " +
+                   "WHERE crp.implementation.id = :implId")
+    List<ComputeResourceProperty> findAllWithTypeByImplementationId(@Param("implId") UUID implementationId);
+
+    @Query("SELECT crp " +
+                   "FROM ComputeResourceProperty crp " +
+                   "JOIN FETCH crp.computeResourcePropertyType " +
+                   "WHERE crp.id IN :ids")
+    List<ComputeResourceProperty> findAllWithTypeByIdIn(@Param("ids") Collection<UUID> computeResourcePropertyIds);
+
+    @Query("SELECT new org.planqk.atlas.core.repository.ComputeResourcePropertyValue(cr.id, crpt.id, crpt.datatype, crp.value) " +
+                   "FROM ComputeResourceProperty crp " +
+                   "JOIN crp.computeResource cr " +
+                   "JOIN crp.computeResourcePropertyType crpt")
+    List<ComputeResourcePropertyValue> findAllProvidedValues();
 }
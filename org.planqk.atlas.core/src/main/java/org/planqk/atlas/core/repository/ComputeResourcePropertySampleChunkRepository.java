@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.ComputeResourcePropertySampleChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository to access the {@link ComputeResourcePropertySampleChunk}s of the compute resource property time series.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface ComputeResourcePropertySampleChunkRepository extends JpaRepository<ComputeResourcePropertySampleChunk, UUID> {
+
+    /**
+     * Find all chunks of a property containing samples that may lie within [from, to).
+     */
+    List<ComputeResourcePropertySampleChunk> findByComputeResourcePropertyIdAndStartTimeLessThanAndEndTimeGreaterThanEqual(
+            UUID computeResourcePropertyId, Instant to, Instant from);
+
+    Optional<ComputeResourcePropertySampleChunk> findFirstByComputeResourcePropertyIdOrderByEndTimeDesc(UUID computeResourcePropertyId);
+
+    void deleteByComputeResourcePropertyId(UUID computeResourcePropertyId);
+}
@@ -19,10 +19,16 @@
 
 package org.planqk.atlas.core.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.UUID;
+import javax.persistence.QueryHint;
 
 import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
@@ -33,4 +39,7 @@ import org.springframework.stereotype.Repository;
 @RepositoryRestResource(exported = false)
 public interface ComputeResourcePropertyTypeRepository extends JpaRepository<ComputeResourcePropertyType, UUID> {
 
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Page<ComputeResourcePropertyType> findAll(Pageable pageable);
 }
@@ -19,12 +19,14 @@
 
 package org.planqk.atlas.core.repository;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.ComputeResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
@@ -35,9 +37,14 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface ComputeResourceRepository extends JpaRepository<ComputeResource, UUID> {
+public interface ComputeResourceRepository extends JpaRepository<ComputeResource, UUID>,
+        JpaSpecificationExecutor<ComputeResource>, TrigramSearchRepository, PropertyDocumentRepository {
 
-    Page<ComputeResource> findAllByNameContainingIgnoreCase(String name, Pageable p);
+    default Page<ComputeResource> findAll(String search, Pageable pageable) {
+        return searchBySimilarity(ComputeResource.class, search, pageable, "name");
+    }
+
+    Page<ComputeResource> findByIdIn(Collection<UUID> computeResourceIds, Pageable pageable);
 
     @Query("SELECT cr " +
                    "FROM ComputeResource cr " +
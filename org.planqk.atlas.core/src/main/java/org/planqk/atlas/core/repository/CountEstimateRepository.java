@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+/**
+ * Repository fragment providing an approximate number of entities for tables that are too large to be counted on
+ * every request.
+ */
+public interface CountEstimateRepository {
+
+    /**
+     * Estimate the number of entities of the given class based on the statistics PostgreSQL maintains for the query
+     * planner. The estimate is refreshed by (auto) vacuum and analyze, so it may deviate from the exact number of
+     * entities, especially shortly after bulk changes.
+     * <p>
+     * If the table has not been analyzed yet, the entities are counted exactly.
+     *
+     * @param domainClass The class of the entities to count
+     * @return The estimated number of entities
+     */
+    long estimateCount(Class<?> domainClass);
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+/**
+ * Implementation of the {@link CountEstimateRepository} fragment reading the row estimate ({@code reltuples}) of the
+ * table of an entity from the {@code pg_class} catalog.
+ * <p>
+ * For entities of a joined inheritance hierarchy the table of the given class itself is used, which contains a row
+ * for every entity of this class including its subclasses.
+ */
+public class CountEstimateRepositoryImpl implements CountEstimateRepository {
+
+    private static final String ESTIMATE_QUERY = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = to_regclass(:table)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long estimateCount(Class<?> domainClass) {
+        final AbstractEntityPersister persister = (AbstractEntityPersister) entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMetamodel()
+                .entityPersister(domainClass);
+        final Number estimate = (Number) entityManager.createNativeQuery(ESTIMATE_QUERY)
+                .setParameter("table", persister.getTableName())
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+
+        // tables that were never analyzed report 0 (-1 as of PostgreSQL 14), these are counted instead
+        if (estimate != null && estimate.longValue() > 0) {
+            return estimate.longValue();
+        }
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entityManager.getMetamodel().entity(domainClass).getName() + " e", Long.class)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.planqk.atlas.core.model.FileContent;
+
+/**
+ * Repository fragment counting the references of files to their {@link FileContent}.
+ * <p>
+ * All methods update the row of the content with a single statement, so concurrent changes of the references of the
+ * same content are serialized by the row lock: a reference is either added before the content is deleted, or the
+ * content is deleted and has to be stored again.
+ */
+public interface FileContentReferenceRepository {
+
+    /**
+     * Adds a reference to the content with the given checksum, if such a content is stored.
+     *
+     * @param checksum The checksum of the content
+     * @return Whether the content is stored and has been referenced
+     */
+    boolean addReference(String checksum);
+
+    /**
+     * Adds a reference to the content with the checksum of the given content. If no such content is stored yet, the
+     * given content is inserted with a single reference.
+     *
+     * @param content The content that has just been stored
+     * @return The referenced content, which is not the given one if the same content was stored by a concurrent upload
+     */
+    FileContent insertOrAddReference(FileContent content);
+
+    /**
+     * Inserts a content with the given checksum without references, if no such content is stored. The row stays locked
+     * until the transaction ends, so no upload can reference the content in the meantime. The inserted content is
+     * deleted again by {@link #deleteIfUnreferenced(String)}.
+     *
+     * @param checksum The checksum of the content
+     * @return Whether the content has been inserted, i.e. was not stored before
+     */
+    boolean insertUnreferenced(String checksum);
+
+    /**
+     * Removes a reference from the content with the given checksum, if such a content is stored. The content is kept
+     * even if it is no longer referenced, see {@link #deleteIfUnreferenced(String)}.
+     *
+     * @param checksum The checksum of the content
+     * @return Whether the content is stored and a reference has been removed
+     */
+    boolean removeReference(String checksum);
+
+    /**
+     * Deletes the content with the given checksum if it is no longer referenced.
+     *
+     * @param checksum The checksum of the content
+     * @return The deleted content, which has to be removed from the storage as well
+     */
+    Optional<FileContent> deleteIfUnreferenced(String checksum);
+
+    /**
+     * @return The checksums of all contents no longer referenced, e.g. because the files referencing them were deleted
+     * together with their implementations
+     */
+    List<String> findUnreferencedChecksums();
+}
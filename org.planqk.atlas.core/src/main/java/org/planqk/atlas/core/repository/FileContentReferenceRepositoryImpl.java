@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Optional;
+
+import org.planqk.atlas.core.model.FileContent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementation of the {@link FileContentReferenceRepository} fragment based on native statements, which return the
+ * affected rows and thereby tell whether the reference or the content was changed.
+ */
+@RequiredArgsConstructor
+public class FileContentReferenceRepositoryImpl implements FileContentReferenceRepository {
+
+    private static final RowMapper<FileContent> ROW_MAPPER = (resultSet, rowNumber) -> new FileContent(
+            resultSet.getString("checksum"),
+            resultSet.getLong("size"),
+            resultSet.getObject("content_id", Long.class),
+            resultSet.getLong("reference_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean addReference(String checksum) {
+        return jdbcTemplate.update("UPDATE file_content SET reference_count = reference_count + 1 WHERE checksum = ?", checksum) > 0;
+    }
+
+    @Override
+    public FileContent insertOrAddReference(FileContent content) {
+        return jdbcTemplate.queryForObject("INSERT INTO file_content (checksum, size, content_id, reference_count) " +
+                        "VALUES (?, ?, CAST(? AS oid), 1) " +
+                        "ON CONFLICT (checksum) DO UPDATE SET reference_count = file_content.reference_count + 1 " +
+                        "RETURNING checksum, size, content_id, reference_count",
+                ROW_MAPPER, content.getChecksum(), content.getSize(), new SqlParameterValue(Types.BIGINT, content.getContentId()));
+    }
+
+    @Override
+    public boolean insertUnreferenced(String checksum) {
+        return jdbcTemplate.update("INSERT INTO file_content (checksum, size, content_id, reference_count) VALUES (?, 0, NULL, 0) " +
+                "ON CONFLICT (checksum) DO NOTHING", checksum) > 0;
+    }
+
+    @Override
+    public boolean removeReference(String checksum) {
+        return jdbcTemplate.update("UPDATE file_content SET reference_count = reference_count - 1 WHERE checksum = ?", checksum) > 0;
+    }
+
+    @Override
+    public Optional<FileContent> deleteIfUnreferenced(String checksum) {
+        return jdbcTemplate.query("DELETE FROM file_content WHERE checksum = ? AND reference_count <= 0 " +
+                "RETURNING checksum, size, content_id, reference_count", ROW_MAPPER, checksum).stream().findFirst();
+    }
+
+    @Override
+    public List<String> findUnreferencedChecksums() {
+        return jdbcTemplate.queryForList("SELECT checksum FROM file_content WHERE reference_count <= 0", String.class);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 the qc-atlas contributors.
+ * Copyright (c) 2022 the qc-atlas contributors.
  *
  * See the NOTICE file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -19,19 +19,17 @@
 
 package org.planqk.atlas.core.repository;
 
-import org.planqk.atlas.core.model.File;
-import org.planqk.atlas.core.model.FileData;
+import org.planqk.atlas.core.model.FileContent;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
 /**
- * Repository to access {@link FileData}s available in the data base with different queries.
+ * Repository to access the {@link FileContent}s available in the data base, their references and, if they are stored
+ * as large objects, their data.
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface FileDataRepository extends JpaRepository<FileData, String> {
-
-    FileData findByFile(File file);
-
+public interface FileContentRepository extends JpaRepository<FileContent, String>, FileContentReferenceRepository,
+        LargeObjectRepository {
 }
@@ -20,13 +20,21 @@
 package org.planqk.atlas.core.repository;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.history.Revision;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.history.RevisionRepository;
 import org.springframework.data.repository.query.Param;
@@ -38,7 +46,43 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface ImplementationRepository extends RevisionRepository<Implementation, UUID, Integer>, JpaRepository<Implementation, UUID> {
+public interface ImplementationRepository extends RevisionRepository<Implementation, UUID, Integer>, JpaRepository<Implementation, UUID>,
+        JpaSpecificationExecutor<Implementation>, KeysetRepository, CountEstimateRepository, LinkRepository,
+        CascadingDeleteRepository, RevisionAsOfRepository, RevisionDeltaRepository, PropertyDocumentRepository {
+
+    default KeysetSlice<Implementation> findAllAfter(String cursor, Pageable pageable) {
+        return findAllAfter(Implementation.class, cursor, pageable);
+    }
+
+    @Override
+    @EntityGraph(attributePaths = "implementedAlgorithm")
+    Page<Implementation> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "implementedAlgorithm")
+    Slice<Implementation> findAllBy(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "implementedAlgorithm")
+    Page<Implementation> findAll(Specification<Implementation> specification, Pageable pageable);
+
+    default long estimateCount() {
+        return estimateCount(Implementation.class);
+    }
+
+    default Optional<Revision<Integer, Implementation>> findRevisionAsOf(UUID implementationId, Instant timestamp) {
+        return findRevisionAsOf(Implementation.class, implementationId, timestamp);
+    }
+
+    default void restoreDeltaProperties(UUID implementationId, Collection<Revision<Integer, Implementation>> revisions) {
+        restoreDeltaProperties(Implementation.class, implementationId, revisions);
+    }
+
+    @Query(value = "SELECT new org.planqk.atlas.core.repository.ImplementationSummary(" +
+                   "impl.id, impl.implementedAlgorithm.id, impl.name, impl.description, impl.version, impl.license, " +
+                   "impl.technology, impl.creationDate, impl.lastModifiedAt) " +
+                   "FROM Implementation impl",
+           countQuery = "SELECT COUNT(impl) FROM Implementation impl")
+    Page<ImplementationSummary> findAllSummaries(Pageable pageable);
 
     Page<Implementation> findByImplementedAlgorithmId(UUID implementedAlgorithmId, Pageable pageable);
 
@@ -46,41 +90,20 @@ public interface ImplementationRepository extends RevisionRepository<Implementat
                    "FROM Implementation impl " +
                    "JOIN impl.publications pub " +
                    "WHERE  pub.id = :pubId")
+    @EntityGraph(attributePaths = "implementedAlgorithm")
     Page<Implementation> findImplementationsByPublicationId(@Param("pubId") UUID publicationId, Pageable pageable);
 
     @Query("SELECT i " +
                    "FROM Implementation i " +
                    "JOIN i.softwarePlatforms sp " +
                    "WHERE sp.id = :spId")
+    @EntityGraph(attributePaths = "implementedAlgorithm")
     Page<Implementation> findImplementationsBySoftwarePlatformId(@Param("spId") UUID softwarePlatformId, Pageable pageable);
 
     @Query("SELECT impl " +
             "FROM Implementation impl " +
             "JOIN impl.patterns uri " +
             "WHERE  uri = :patternURI")
+    @EntityGraph(attributePaths = "implementedAlgorithm")
     Page<Implementation> findImplementationsByPatterns(@Param("patternURI") String patternURI, Pageable pageable);
-
-    @Modifying()
-    @Query(value = "DELETE FROM implementation_revisions WHERE id = :implId", nativeQuery = true)
-    void deleteAllImplementationRevisions(@Param("implId") UUID implementationId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM implementation_revisions WHERE rev = :revId AND id = :implId", nativeQuery = true)
-    void deleteImplementationRevision(@Param("revId") Integer revisionId, @Param("implId") UUID implementationId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM classic_implementation_revisions WHERE rev = :revId AND id = :implId", nativeQuery = true)
-    void deleteClassicImplementationRevision(@Param("revId") Integer revisionId, @Param("implId") UUID implementationId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM classic_implementation_revisions WHERE id = :implId", nativeQuery = true)
-    void deleteAllClassicImplementationRevisions(@Param("implId") UUID implementationId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM quantum_implementation_revisions WHERE rev = :revId AND id = :implId", nativeQuery = true)
-    void deleteQuantumImplementationRevision(@Param("revId") Integer revisionId, @Param("implId") UUID implementationId);
-
-    @Modifying()
-    @Query(value = "DELETE FROM quantum_implementation_revisions WHERE id = :implId", nativeQuery = true)
-    void deleteAllQuantumImplementationRevisions(@Param("implId") UUID implementationId);
 }
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.Implementation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-only projection of the scalar attributes of an {@link Implementation} needed by list views.
+ * <p>
+ * Summaries are created by constructor expressions in the queries of the {@link ImplementationRepository}. The id of
+ * the implemented algorithm is read from the foreign key column, so the algorithm itself is not loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImplementationSummary {
+
+    private UUID id;
+
+    private UUID implementedAlgorithmId;
+
+    private String name;
+
+    private String description;
+
+    private String version;
+
+    private String license;
+
+    private String technology;
+
+    private Date creationDate;
+
+    private Date lastModifiedAt;
+}
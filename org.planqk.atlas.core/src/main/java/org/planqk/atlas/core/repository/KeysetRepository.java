@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.planqk.atlas.core.repository;
+
+import org.planqk.atlas.core.model.HasId;
+import org.planqk.atlas.core.model.KeysetSlice;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Repository fragment providing keyset (seek) pagination.
+ * <p>
+ * Instead of skipping the rows of all previous pages by an offset, the query continues right after the sort key and
+ * id of the last element returned before. Therefore, the cost of retrieving a slice does not depend on its position
+ * and no count query is needed.
+ */
+public interface KeysetRepository {
+
+    /**
+     * Retrieve the slice of entities following the position encoded by the given cursor.
+     * <p>
+     * The entities are ordered by the sort of the given {@link Pageable} followed by their id, the page number of the
+     * {@link Pageable} is ignored. A cursor is only valid for the sort it was created with.
+     *
+     * @param domainClass The class of the entities to retrieve
+     * @param cursor      The cursor returned with the previous slice, null or empty to retrieve the first slice
+     * @param pageable    The size and sort of the slice we want to retrieve
+     * @param <T>         The type of the entities to retrieve
+     * @return The slice of entities together with the cursor of the following slice
+     */
+    <T extends HasId> KeysetSlice<T> findAllAfter(Class<T> domainClass, String cursor, Pageable pageable);
+}
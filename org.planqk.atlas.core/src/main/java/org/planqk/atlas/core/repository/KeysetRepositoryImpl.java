@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.planqk.atlas.core.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+
+import org.planqk.atlas.core.model.HasId;
+import org.planqk.atlas.core.model.KeysetSlice;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Implementation of the {@link KeysetRepository} fragment based on the JPA Criteria API.
+ * <p>
+ * A cursor consists of the sort it was created for followed by the values of all sort keys of the last element, each
+ * of them Base64 encoded and separated by dots. The id is always the last sort key, so the order is total and no
+ * element is skipped or returned twice even if the sort keys are not unique.
+ */
+public class KeysetRepositoryImpl implements KeysetRepository {
+
+    private static final String ID = "id";
+
+    private static final String SEPARATOR = ".";
+
+    private static final String NULL_VALUE = "~";
+
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <T extends HasId> KeysetSlice<T> findAllAfter(Class<T> domainClass, String cursor, Pageable pageable) {
+        final EntityType<T> entityType = entityManager.getMetamodel().entity(domainClass);
+        final List<Sort.Order> orders = getOrders(entityType, pageable.getSort());
+
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = cb.createQuery(domainClass);
+        final Root<T> root = query.from(domainClass);
+        if (cursor != null && !cursor.isEmpty()) {
+            query.where(getSeekPredicate(cb, root, orders, decode(entityType, orders, cursor)));
+        }
+        query.orderBy(orders.stream()
+                .map(order -> order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())))
+                .collect(Collectors.toList()));
+
+        final TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new KeysetSlice<>(typedQuery.getResultList(), pageable, null);
+        }
+
+        // fetch one additional element to find out whether there is a following slice
+        final List<T> content = new ArrayList<>(typedQuery.setMaxResults(pageable.getPageSize() + 1).getResultList());
+        String nextCursor = null;
+        if (content.size() > pageable.getPageSize()) {
+            content.remove(content.size() - 1);
+            nextCursor = encode(orders, content.get(content.size() - 1));
+        }
+        return new KeysetSlice<>(content, PageRequest.of(0, pageable.getPageSize(), pageable.getSort()), nextCursor);
+    }
+
+    /**
+     * Validates the requested sort and appends the id as last sort key. Only single valued basic attributes of a
+     * comparable type can be used as keys.
+     */
+    private static List<Sort.Order> getOrders(EntityType<?> entityType, Sort sort) {
+        final List<Sort.Order> orders = new ArrayList<>();
+        for (final Sort.Order order : sort) {
+            if (ID.equals(order.getProperty())) {
+                continue;
+            }
+            final Attribute<?, ?> attribute = entityType.getAttribute(order.getProperty());
+            if (attribute.isCollection() || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC ||
+                    !Comparable.class.isAssignableFrom(getJavaType(attribute))) {
+                throw new IllegalArgumentException(entityType.getName() + " cannot be sorted by \"" + order.getProperty() + "\"");
+            }
+            orders.add(order);
+        }
+        orders.add(Sort.Order.asc(ID));
+        return orders;
+    }
+
+    /**
+     * Builds the predicate selecting all elements after the given sort key values:
+     * {@code (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...}, taking into account that PostgreSQL sorts null values last
+     * in ascending and first in descending order.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate getSeekPredicate(CriteriaBuilder cb, Root<?> root, List<Sort.Order> orders, List<Object> values) {
+        final List<Predicate> alternatives = new ArrayList<>();
+        final List<Predicate> equalities = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            final Path<Comparable> path = root.get(orders.get(i).getProperty());
+            final Comparable value = (Comparable) values.get(i);
+
+            final Predicate after;
+            if (orders.get(i).isAscending()) {
+                after = value == null ? null : cb.or(cb.greaterThan(path, value), cb.isNull(path));
+            } else {
+                after = value == null ? cb.isNotNull(path) : cb.lessThan(path, value);
+            }
+            if (after != null) {
+                final List<Predicate> alternative = new ArrayList<>(equalities);
+                alternative.add(after);
+                alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+            }
+            equalities.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+        }
+        return cb.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    private static String encode(List<Sort.Order> orders, Object entity) {
+        final BeanWrapperImpl wrapper = new BeanWrapperImpl(entity);
+        final List<String> segments = new ArrayList<>();
+        segments.add(encodeSegment(getSortSpecification(orders)));
+        for (final Sort.Order order : orders) {
+            segments.add(encodeValue(wrapper.getPropertyValue(order.getProperty())));
+        }
+        return String.join(SEPARATOR, segments);
+    }
+
+    private static List<Object> decode(EntityType<?> entityType, List<Sort.Order> orders, String cursor) {
+        try {
+            final String[] segments = cursor.split("\\" + SEPARATOR, -1);
+            if (segments.length != orders.size() + 1 || !getSortSpecification(orders).equals(decodeSegment(segments[0]))) {
+                throw new IllegalArgumentException("The cursor does not match the requested sort");
+            }
+            final List<Object> values = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                values.add(decodeValue(segments[i + 1], getJavaType(entityType.getAttribute(orders.get(i).getProperty()))));
+            }
+            return values;
+        } catch (ConversionException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static String getSortSpecification(List<Sort.Order> orders) {
+        return orders.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+
+    private static String encodeValue(Object value) {
+        if (value == null) {
+            return NULL_VALUE;
+        }
+        if (value instanceof Date) {
+            // timestamps are stored with microsecond precision, which has to be kept to find the exact position
+            final Instant instant = value instanceof Timestamp ? ((Timestamp) value).toInstant() : Instant.ofEpochMilli(((Date) value).getTime());
+            return encodeSegment(instant.toString());
+        }
+        return encodeSegment(CONVERSION_SERVICE.convert(value, String.class));
+    }
+
+    private static Object decodeValue(String segment, Class<?> type) {
+        if (NULL_VALUE.equals(segment)) {
+            return null;
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return Timestamp.from(Instant.parse(decodeSegment(segment)));
+        }
+        return CONVERSION_SERVICE.convert(decodeSegment(segment), type);
+    }
+
+    private static String encodeSegment(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeSegment(String segment) {
+        return new String(Base64.getUrlDecoder().decode(segment), StandardCharsets.UTF_8);
+    }
+
+    private static Class<?> getJavaType(Attribute<?, ?> attribute) {
+        return ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType());
+    }
+}
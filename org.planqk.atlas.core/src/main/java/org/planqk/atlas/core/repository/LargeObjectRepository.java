@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Repository fragment storing file contents as PostgreSQL large objects, referenced by the
+ * {@link org.planqk.atlas.core.model.FileContent} of the files.
+ * <p>
+ * Contents are written and read in chunks of {@link org.planqk.atlas.core.util.FileContentUtils#CHUNK_SIZE} bytes using
+ * the server-side large object functions. Each chunk is a statement of its own, so outside of a transaction no
+ * transaction is held open while the content is transferred and the memory used does not depend on the file size.
+ */
+public interface LargeObjectRepository {
+
+    /**
+     * Writes the given content into a new large object. If the content cannot be read or written completely, the large
+     * object is removed again.
+     *
+     * @param content The content to write, read until its end but not closed
+     * @return The OID of the new large object
+     * @throws IOException If the content cannot be read
+     */
+    long writeContent(InputStream content) throws IOException;
+
+    /**
+     * Reads a part of the content of a large object.
+     *
+     * @param contentId The OID of the large object
+     * @param offset    The position of the first byte to read
+     * @param length    The maximum number of bytes to read
+     * @return The bytes read, fewer than requested if the end of the content is reached
+     */
+    byte[] readContent(long contentId, long offset, int length);
+
+    /**
+     * Removes a large object. Within a transaction, the removal is rolled back together with the transaction.
+     *
+     * @param contentId The OID of the large object
+     */
+    void deleteContent(long contentId);
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.planqk.atlas.core.util.FileContentUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementation of the {@link LargeObjectRepository} fragment based on the server-side large object functions of
+ * PostgreSQL, which (unlike the large object API of the JDBC driver) do not require a transaction spanning all chunks.
+ */
+@RequiredArgsConstructor
+public class LargeObjectRepositoryImpl implements LargeObjectRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long writeContent(InputStream content) throws IOException {
+        final Long contentId = jdbcTemplate.queryForObject("SELECT lo_create(0)", Long.class);
+        try {
+            final byte[] buffer = new byte[FileContentUtils.CHUNK_SIZE];
+            long offset = 0;
+            int length;
+            while ((length = content.readNBytes(buffer, 0, buffer.length)) > 0) {
+                final long chunkOffset = offset;
+                final int chunkLength = length;
+                jdbcTemplate.execute("SELECT lo_put(CAST(? AS oid), ?, ?)", (PreparedStatementCallback<Boolean>) statement -> {
+                    statement.setLong(1, contentId);
+                    statement.setLong(2, chunkOffset);
+                    statement.setBinaryStream(3, new ByteArrayInputStream(buffer, 0, chunkLength), chunkLength);
+                    return statement.execute();
+                });
+                offset += length;
+            }
+            return contentId;
+        } catch (IOException | RuntimeException e) {
+            deleteContent(contentId);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] readContent(long contentId, long offset, int length) {
+        return jdbcTemplate.queryForObject("SELECT lo_get(CAST(? AS oid), ?, ?)", byte[].class, contentId, offset, length);
+    }
+
+    @Override
+    public void deleteContent(long contentId) {
+        jdbcTemplate.queryForObject("SELECT lo_unlink(CAST(? AS oid))", Integer.class, contentId);
+    }
+}
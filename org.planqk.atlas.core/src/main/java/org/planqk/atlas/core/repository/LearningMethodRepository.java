@@ -19,13 +19,17 @@
 
 package org.planqk.atlas.core.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.UUID;
+import javax.persistence.QueryHint;
 
 import org.planqk.atlas.core.model.LearningMethod;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
@@ -35,13 +39,19 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface LearningMethodRepository extends JpaRepository<LearningMethod, UUID> {
+public interface LearningMethodRepository extends JpaRepository<LearningMethod, UUID>, TrigramSearchRepository {
 
-    Page<LearningMethod> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    default Page<LearningMethod> findAll(String search, Pageable pageable) {
+        return searchBySimilarity(LearningMethod.class, search, pageable, "name");
+    }
 
     @Query("SELECT lm " +
                    "FROM LearningMethod lm " +
                    "JOIN lm.algorithms algos " +
                    "WHERE algos.id = :algoId")
     Page<LearningMethod> findLearningMethodByAlgorithmId(@Param("algoId") UUID algorithmId, Pageable pageable);
+
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Page<LearningMethod> findAll(Pageable pageable);
 }
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Repository fragment providing set-based operations on the join tables of many-to-many associations.
+ * <p>
+ * The join table rows are written with a single statement per call instead of loading the owning collection, so the
+ * entities and collections currently loaded in the persistence context are not updated. Only the second-level cache
+ * region of the affected collection is invalidated.
+ */
+public interface LinkRepository {
+
+    /**
+     * Retrieve which of the given IDs belong to existing entities.
+     *
+     * @param domainClass The class of the entities to check
+     * @param ids         The IDs to check
+     * @return The subset of the given IDs for which an entity exists
+     */
+    Set<Object> findExistingIds(Class<?> domainClass, Collection<?> ids);
+
+    /**
+     * Link every given owner with every given element. Links that already exist are kept.
+     *
+     * @param ownerClass The class declaring the association
+     * @param role       The name of the collection attribute of the association
+     * @param ownerIds   The IDs of the entities owning the association
+     * @param elementIds The IDs of the entities to add to the collection of every owner
+     * @return The number of created links
+     */
+    int insertLinks(Class<?> ownerClass, String role, Collection<?> ownerIds, Collection<?> elementIds);
+
+    /**
+     * Unlink every given owner from every given element. Links that do not exist are ignored.
+     *
+     * @param ownerClass The class declaring the association
+     * @param role       The name of the collection attribute of the association
+     * @param ownerIds   The IDs of the entities owning the association
+     * @param elementIds The IDs of the entities to remove from the collection of every owner
+     * @return The number of removed links
+     */
+    int deleteLinks(Class<?> ownerClass, String role, Collection<?> ownerIds, Collection<?> elementIds);
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * Implementation of the {@link LinkRepository} fragment deriving the join table statements from the Hibernate mapping
+ * of the association.
+ * <p>
+ * The statements declare the join table as their only query space, so Hibernate evicts the second-level cache region
+ * of that collection instead of all regions as it does for native statements by default.
+ */
+public class LinkRepositoryImpl implements LinkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<Object> findExistingIds(Class<?> domainClass, Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        final String entityName = entityManager.getMetamodel().entity(domainClass).getName();
+        final String idAttribute = getEntityPersister(domainClass).getIdentifierPropertyName();
+        return new HashSet<>(entityManager.createQuery("SELECT e." + idAttribute + " FROM " + entityName + " e " +
+                "WHERE e." + idAttribute + " IN :ids", Object.class)
+                .setParameter("ids", ids)
+                .getResultList());
+    }
+
+    @Override
+    public int insertLinks(Class<?> ownerClass, String role, Collection<?> ownerIds, Collection<?> elementIds) {
+        if (ownerIds.isEmpty() || elementIds.isEmpty()) {
+            return 0;
+        }
+        final AbstractCollectionPersister persister = getCollectionPersister(ownerClass, role);
+        final AbstractEntityPersister ownerPersister = (AbstractEntityPersister) persister.getOwnerEntityPersister();
+        final AbstractEntityPersister elementPersister = (AbstractEntityPersister) persister.getElementPersister();
+        final String ownerIdColumn = ownerPersister.getIdentifierColumnNames()[0];
+        final String elementIdColumn = elementPersister.getIdentifierColumnNames()[0];
+
+        // joining the entity tables skips IDs that do not exist, the primary key of the join table skips existing links
+        final String sql = "INSERT INTO " + persister.getTableName() +
+                " (" + persister.getKeyColumnNames()[0] + ", " + persister.getElementColumnNames()[0] + ") " +
+                "SELECT o." + ownerIdColumn + ", e." + elementIdColumn + " " +
+                "FROM " + ownerPersister.getTableName() + " o CROSS JOIN " + elementPersister.getTableName() + " e " +
+                "WHERE o." + ownerIdColumn + " IN (:ownerIds) AND e." + elementIdColumn + " IN (:elementIds) " +
+                "ON CONFLICT DO NOTHING";
+        return executeUpdate(sql, persister.getTableName(), ownerIds, elementIds);
+    }
+
+    @Override
+    public int deleteLinks(Class<?> ownerClass, String role, Collection<?> ownerIds, Collection<?> elementIds) {
+        if (ownerIds.isEmpty() || elementIds.isEmpty()) {
+            return 0;
+        }
+        final AbstractCollectionPersister persister = getCollectionPersister(ownerClass, role);
+
+        final String sql = "DELETE FROM " + persister.getTableName() + " " +
+                "WHERE " + persister.getKeyColumnNames()[0] + " IN (:ownerIds) " +
+                "AND " + persister.getElementColumnNames()[0] + " IN (:elementIds)";
+        return executeUpdate(sql, persister.getTableName(), ownerIds, elementIds);
+    }
+
+    private int executeUpdate(String sql, String joinTable, Collection<?> ownerIds, Collection<?> elementIds) {
+        // the join table rows may reference entities that were created in the same transaction
+        entityManager.flush();
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(joinTable)
+                .setParameterList("ownerIds", ownerIds)
+                .setParameterList("elementIds", elementIds)
+                .executeUpdate();
+    }
+
+    private AbstractEntityPersister getEntityPersister(Class<?> domainClass) {
+        return (AbstractEntityPersister) getSessionFactory().getMetamodel().entityPersister(domainClass);
+    }
+
+    private AbstractCollectionPersister getCollectionPersister(Class<?> ownerClass, String role) {
+        return (AbstractCollectionPersister) getSessionFactory().getMetamodel().collectionPersister(ownerClass.getName() + "." + role);
+    }
+
+    private SessionFactoryImplementor getSessionFactory() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+    }
+}
@@ -19,14 +19,18 @@
 
 package org.planqk.atlas.core.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 import java.util.UUID;
+import javax.persistence.QueryHint;
 
 import org.planqk.atlas.core.model.ProblemType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
@@ -36,19 +40,26 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface ProblemTypeRepository extends JpaRepository<ProblemType, UUID> {
+public interface ProblemTypeRepository extends JpaRepository<ProblemType, UUID>, TrigramSearchRepository {
 
     default Page<ProblemType> findAll(String search, Pageable pageable) {
-        return findByNameContainingIgnoreCase(search, pageable);
+        return searchBySimilarity(ProblemType.class, search, pageable, "name");
     }
 
-    Page<ProblemType> findByNameContainingIgnoreCase(String name, Pageable pageable);
-
     @Query("SELECT pt " +
                    "FROM ProblemType pt " +
                    "JOIN pt.algorithms algos " +
                    "WHERE algos.id = :algoid")
     Page<ProblemType> findProblemTypesByAlgorithmId(@Param("algoid") UUID algorithmId, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<ProblemType> findProblemTypesByParentProblemType(@Param("parentProblemTypeId") UUID parentProblemType);
+
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Page<ProblemType> findAll(Pageable pageable);
+
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<ProblemType> findAll();
 }
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.Implementation;
+
+/**
+ * Repository fragment maintaining the denormalized property documents of {@link ComputeResource}s,
+ * {@link Algorithm}s and {@link Implementation}s.
+ * <p>
+ * The property document is a JSONB column holding all {@link ComputeResourceProperty}s of its owner grouped by the
+ * name of their type, e.g. {@code {"qubitCount": [127], "vendor": ["IBM"]}}. Values of numeric types are stored as
+ * JSON numbers, all other values as JSON strings. The documents are backed by GIN indexes created in the database
+ * changelog, so filtering by several properties (see {@link PropertyFilterSpecification}) does not need one join per
+ * property.
+ */
+public interface PropertyDocumentRepository {
+
+    /**
+     * Rebuilds the property documents of the given owners from their current {@link ComputeResourceProperty}s.
+     *
+     * @param ownerClass The class of the owners, i.e. {@link ComputeResource}, {@link Algorithm} or {@link Implementation}
+     * @param ownerIds   The IDs of the owners whose properties changed
+     */
+    void refreshPropertyDocuments(Class<?> ownerClass, Collection<UUID> ownerIds);
+
+    /**
+     * Rebuilds the property documents of all owners having a property of the given type, e.g. after the type was renamed.
+     *
+     * @param computeResourcePropertyTypeId The ID of the changed compute resource property type
+     */
+    void refreshPropertyDocumentsOfType(UUID computeResourcePropertyTypeId);
+
+    /**
+     * Builds the property documents of all owners having properties but no document yet, i.e. of owners whose
+     * properties were stored before the documents were introduced.
+     *
+     * @return The number of owners whose property documents were built
+     */
+    int refreshMissingPropertyDocuments();
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.query.NativeQuery;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
+import org.planqk.atlas.core.model.Implementation;
+
+/**
+ * Implementation of the {@link PropertyDocumentRepository} fragment, rebuilding the property documents by native
+ * statements aggregating the compute resource properties of their owners.
+ */
+public class PropertyDocumentRepositoryImpl implements PropertyDocumentRepository {
+
+    /**
+     * Values of numeric types are only stored as JSON numbers if PostgreSQL is able to cast them to numeric, which
+     * excludes e.g. "NaN" or "Infinity" accepted by the validation of FLOAT values.
+     */
+    static final String NUMBER_PATTERN = "^[-+]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)([eE][-+]?[0-9]+)?$";
+
+    /**
+     * The owner tables, the foreign key column of the compute resource properties is named after them.
+     */
+    private static final Map<Class<?>, String> OWNER_TABLES = Map.of(
+            ComputeResource.class, "compute_resource",
+            Algorithm.class, "algorithm",
+            Implementation.class, "implementation");
+
+    /**
+     * Has to match the statement backfilling the documents in the database changelog. Databases managed by the schema
+     * update of Hibernate are backfilled on startup by {@link #refreshMissingPropertyDocuments()}.
+     */
+    private static final String UPDATE_STATEMENT = "UPDATE %1$s o SET property_document = (" +
+            "SELECT jsonb_object_agg(d.name, d.property_values) FROM (" +
+            "SELECT t.name, jsonb_agg(CASE WHEN t.datatype <> " + ComputeResourcePropertyDataType.STRING.ordinal() +
+            " AND p.value ~ :numberPattern THEN to_jsonb(CAST(p.value AS numeric)) ELSE to_jsonb(p.value) END) AS property_values " +
+            "FROM compute_resource_property p " +
+            "JOIN compute_resource_property_type t ON t.id = p.compute_resource_property_type_id " +
+            "WHERE p.%1$s_id = o.id AND t.name IS NOT NULL AND p.value IS NOT NULL " +
+            "GROUP BY t.name) d) ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void refreshPropertyDocuments(Class<?> ownerClass, Collection<UUID> ownerIds) {
+        if (ownerIds.isEmpty()) {
+            return;
+        }
+        createUpdate(ownerClass, "WHERE o.id IN (:ids)")
+                .setParameterList("ids", ownerIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public void refreshPropertyDocumentsOfType(UUID computeResourcePropertyTypeId) {
+        for (final Map.Entry<Class<?>, String> owner : OWNER_TABLES.entrySet()) {
+            createUpdate(owner.getKey(), "WHERE o.id IN (SELECT p." + owner.getValue() + "_id FROM compute_resource_property p " +
+                    "WHERE p.compute_resource_property_type_id = :typeId)")
+                    .setParameter("typeId", computeResourcePropertyTypeId)
+                    .executeUpdate();
+        }
+    }
+
+    @Override
+    public int refreshMissingPropertyDocuments() {
+        int refreshedDocuments = 0;
+        for (final Map.Entry<Class<?>, String> owner : OWNER_TABLES.entrySet()) {
+            refreshedDocuments += createUpdate(owner.getKey(), "WHERE o.property_document IS NULL " +
+                    "AND o.id IN (SELECT p." + owner.getValue() + "_id FROM compute_resource_property p)")
+                    .executeUpdate();
+        }
+        return refreshedDocuments;
+    }
+
+    private NativeQuery<?> createUpdate(Class<?> ownerClass, String whereClause) {
+        // the properties may have been changed in the same transaction
+        entityManager.flush();
+        return entityManager.createNativeQuery(String.format(UPDATE_STATEMENT, getTable(ownerClass)) + whereClause)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ownerClass)
+                .setParameter("numberPattern", NUMBER_PATTERN);
+    }
+
+    private static String getTable(Class<?> ownerClass) {
+        final String table = OWNER_TABLES.get(ownerClass);
+        if (table == null) {
+            throw new IllegalArgumentException(ownerClass.getSimpleName() + " has no property document");
+        }
+        return table;
+    }
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.BooleanType;
+import org.planqk.atlas.core.model.PropertyFilter;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link Specification} of the owners whose property documents (see {@link PropertyDocumentRepository}) match all of
+ * the given {@link PropertyFilter}s.
+ * <p>
+ * Equality filters are compiled to JSONB containment ({@code @>}), range filters to jsonpath predicates ({@code @@}) on
+ * the same column, both are answered by the GIN index of the property document. JPQL has no such operators, hence they
+ * are registered as SQL functions by {@link #registerFunctions(MetadataBuilder)}. As part of the criteria query, the
+ * filters are evaluated by the database together with the paging and the count query of a page.
+ */
+public class PropertyFilterSpecification<T> implements Specification<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String CONTAINS_FUNCTION = "property_document_contains";
+
+    private static final String MATCHES_FUNCTION = "property_document_matches";
+
+    private static final Map<PropertyFilter.Operator, String> COMPARISON_OPERATORS = Map.of(
+            PropertyFilter.Operator.GREATER, ">",
+            PropertyFilter.Operator.GREATER_OR_EQUAL, ">=",
+            PropertyFilter.Operator.LESS, "<",
+            PropertyFilter.Operator.LESS_OR_EQUAL, "<=");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // the alternative conditions per filter, a filter is matched if one of its conditions is matched
+    private final List<List<Condition>> conditions = new ArrayList<>();
+
+    /**
+     * @param propertyFilters The filters that have to be matched, all owners match if empty
+     * @throws IllegalArgumentException if a range filter is not compared with a number
+     */
+    public PropertyFilterSpecification(List<PropertyFilter> propertyFilters) {
+        for (final PropertyFilter filter : propertyFilters) {
+            conditions.add(filter.getOperator() == PropertyFilter.Operator.EQUAL
+                    ? getContainmentConditions(filter)
+                    : List.of(new Condition(MATCHES_FUNCTION, getJsonPath(filter))));
+        }
+    }
+
+    /**
+     * Registers the SQL functions used by the specifications, has to be applied to the metadata of the persistence unit.
+     */
+    public static void registerFunctions(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(CONTAINS_FUNCTION, new SQLFunctionTemplate(BooleanType.INSTANCE, "(?1 @> CAST(?2 AS jsonb))"));
+        metadataBuilder.applySqlFunction(MATCHES_FUNCTION, new SQLFunctionTemplate(BooleanType.INSTANCE, "(?1 @@ CAST(?2 AS jsonpath))"));
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        final Expression<Object> document = root.get("propertyDocument");
+        final List<Predicate> predicates = new ArrayList<>();
+        for (final List<Condition> alternatives : conditions) {
+            predicates.add(builder.or(alternatives.stream()
+                    .map(condition -> builder.isTrue(builder.function(condition.function, Boolean.class, document,
+                            builder.literal(condition.argument))))
+                    .toArray(Predicate[]::new)));
+        }
+        return builder.and(predicates.toArray(new Predicate[0]));
+    }
+
+    /**
+     * A numeric value may belong to a property of type STRING as well, so it is looked up both as string and as number.
+     */
+    private static List<Condition> getContainmentConditions(PropertyFilter filter) {
+        final ObjectNode document = OBJECT_MAPPER.createObjectNode();
+        final ArrayNode values = document.putArray(filter.getName());
+        values.add(filter.getValue());
+        final Condition stringCondition = new Condition(CONTAINS_FUNCTION, document.toString());
+
+        final BigDecimal number = toNumber(filter.getValue());
+        if (number == null) {
+            return List.of(stringCondition);
+        }
+        values.removeAll().add(number);
+        return List.of(stringCondition, new Condition(CONTAINS_FUNCTION, document.toString()));
+    }
+
+    private static String getJsonPath(PropertyFilter filter) {
+        final BigDecimal number = toNumber(filter.getValue());
+        if (number == null) {
+            throw new IllegalArgumentException("Property \"" + filter.getName() + "\" can only be compared with a number");
+        }
+        try {
+            return "$." + OBJECT_MAPPER.writeValueAsString(filter.getName()) + "[*] " +
+                    COMPARISON_OPERATORS.get(filter.getOperator()) + " " + number.toPlainString();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static BigDecimal toNumber(String value) {
+        if (value == null || !value.matches(PropertyDocumentRepositoryImpl.NUMBER_PATTERN)) {
+            return null;
+        }
+        return new BigDecimal(value);
+    }
+
+    @RequiredArgsConstructor
+    private static final class Condition implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String function;
+
+        private final String argument;
+    }
+}
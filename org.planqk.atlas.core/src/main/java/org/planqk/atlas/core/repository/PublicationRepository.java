@@ -22,9 +22,11 @@ package org.planqk.atlas.core.repository;
 import java.util.Set;
 import java.util.UUID;
 
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.planqk.atlas.core.model.Publication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -36,7 +38,24 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface PublicationRepository extends JpaRepository<Publication, UUID> {
+public interface PublicationRepository extends JpaRepository<Publication, UUID>, KeysetRepository,
+        CountEstimateRepository {
+
+    default KeysetSlice<Publication> findAllAfter(String cursor, Pageable pageable) {
+        return findAllAfter(Publication.class, cursor, pageable);
+    }
+
+    Slice<Publication> findAllBy(Pageable pageable);
+
+    default long estimateCount() {
+        return estimateCount(Publication.class);
+    }
+
+    @Query(value = "SELECT new org.planqk.atlas.core.repository.PublicationSummary(" +
+                   "pub.id, pub.title, pub.doi, pub.url, pub.creationDate, pub.lastModifiedAt) " +
+                   "FROM Publication pub",
+           countQuery = "SELECT COUNT(pub) FROM Publication pub")
+    Page<PublicationSummary> findAllSummaries(Pageable pageable);
 
     default Page<Publication> findAll(String search, Pageable pageable) {
         return findByTitleContainingIgnoreCaseOrDoiContainingIgnoreCaseOrUrlContainingIgnoreCaseOrAuthorsContainingIgnoreCase(search, search, search,
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.Publication;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-only projection of the scalar attributes of a {@link Publication} needed by list views.
+ * <p>
+ * Summaries are created by constructor expressions in the queries of the {@link PublicationRepository}. The authors
+ * are stored in a separate collection table and are therefore not part of a summary.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationSummary {
+
+    private UUID id;
+
+    private String title;
+
+    private String doi;
+
+    private String url;
+
+    private Date creationDate;
+
+    private Date lastModifiedAt;
+}
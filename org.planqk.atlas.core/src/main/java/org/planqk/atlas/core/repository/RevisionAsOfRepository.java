@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.history.Revision;
+
+/**
+ * Repository fragment providing point-in-time reads of audited entities.
+ * <p>
+ * The audit tables store the validity range of every revision (see {@link org.planqk.atlas.core.EnversConfiguration}),
+ * so the revision that was current at a given point in time is found by an index range scan instead of reconstructing
+ * the state from the whole revision history.
+ */
+public interface RevisionAsOfRepository {
+
+    /**
+     * Retrieve the revision of an entity that was current at the given point in time, i.e. the latest revision created
+     * at or before it.
+     *
+     * @param domainClass The audited entity type
+     * @param id          The ID of the entity
+     * @param timestamp   The point in time
+     * @param <T>         The audited entity type
+     * @return The revision, or an empty {@link Optional} if the entity did not exist at that point in time
+     */
+    <T> Optional<Revision<Integer, T>> findRevisionAsOf(Class<T> domainClass, Object id, Instant timestamp);
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.query.AuditEntity;
+import org.springframework.data.envers.repository.support.DefaultRevisionMetadata;
+import org.springframework.data.history.Revision;
+
+/**
+ * Implementation of the {@link RevisionAsOfRepository} fragment based on the Envers query API.
+ * <p>
+ * The query is restricted to the revisions of a single entity whose timestamp is not after the requested point in
+ * time and only the newest of them is fetched, so it is answered from the primary key of the audit table and the
+ * timestamp of the revision info without loading the remaining history.
+ */
+public class RevisionAsOfRepositoryImpl implements RevisionAsOfRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <T> Optional<Revision<Integer, T>> findRevisionAsOf(Class<T> domainClass, Object id, Instant timestamp) {
+        final List<?> rows = AuditReaderFactory.get(entityManager).createQuery()
+                .forRevisionsOfEntity(domainClass, false, false)
+                .add(AuditEntity.id().eq(id))
+                .add(AuditEntity.revisionProperty("timestamp").le(timestamp.toEpochMilli()))
+                .addOrder(AuditEntity.revisionNumber().desc())
+                .setMaxResults(1)
+                .getResultList();
+        return rows.stream()
+                .map(Object[].class::cast)
+                .findFirst()
+                .map(row -> Revision.of(new DefaultRevisionMetadata((DefaultRevisionEntity) row[1]), domainClass.cast(row[0])));
+    }
+}
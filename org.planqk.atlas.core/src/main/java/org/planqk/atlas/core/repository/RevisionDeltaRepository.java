@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.history.Revision;
+
+/**
+ * Repository fragment restoring the delta properties of audited entities read from their revisions.
+ * <p>
+ * Large text properties are only stored by the audit rows of the revisions changing them (see {@link
+ * org.planqk.atlas.core.DeltaAuditStrategy}), so the entities of all other revisions lack them until restored.
+ */
+public interface RevisionDeltaRepository {
+
+    /**
+     * Restore the delta properties of the entities of the given revisions in place. The values of all revisions are
+     * read by a single query, which searches the latest audit row storing a value backwards from every revision.
+     *
+     * @param domainClass The audited entity type
+     * @param id          The ID of the entity
+     * @param revisions   The revisions of the entity
+     * @param <T>         The audited entity type
+     */
+    <T> void restoreDeltaProperties(Class<T> domainClass, Object id, Collection<Revision<Integer, T>> revisions);
+}
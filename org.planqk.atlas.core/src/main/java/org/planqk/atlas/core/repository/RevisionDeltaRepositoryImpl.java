@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.query.NativeQuery;
+import org.planqk.atlas.core.EnversConfiguration;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.Implementation;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.history.Revision;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * Implementation of the {@link RevisionDeltaRepository} fragment based on native queries.
+ * <p>
+ * The value of a delta property at a revision is the one of the latest audit row up to this revision whose modified
+ * flag is not {@code false}, i.e. which stores the value. Every value is found by a backward scan of the primary key of
+ * the revision table, which is bounded by the number of revisions kept for the entity.
+ */
+public class RevisionDeltaRepositoryImpl implements RevisionDeltaRepository {
+
+    private static final Map<Class<?>, String> REVISION_TABLES = Map.of(
+            Algorithm.class, "algorithm_revisions",
+            Implementation.class, "implementation_revisions");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <T> void restoreDeltaProperties(Class<T> domainClass, Object id, Collection<Revision<Integer, T>> revisions) {
+        final String table = REVISION_TABLES.get(domainClass);
+        if (table == null) {
+            throw new IllegalArgumentException(domainClass.getSimpleName() + " has no delta properties");
+        }
+        if (revisions.isEmpty()) {
+            return;
+        }
+
+        final List<String> columns = EnversConfiguration.DELTA_COLUMNS.get(table);
+        final String values = columns.stream()
+                .map(column -> EnversConfiguration.deltaValue(table, column))
+                .collect(Collectors.joining(", "));
+        @SuppressWarnings("unchecked")
+        final List<Object[]> rows = entityManager.createNativeQuery("SELECT t.rev, " + values + " FROM " + table + " t " +
+                "WHERE t.id = :id AND t.rev IN (:revs)")
+                .unwrap(NativeQuery.class)
+                .setParameter("id", id)
+                .setParameterList("revs", revisions.stream().map(Revision::getRequiredRevisionNumber).collect(Collectors.toList()))
+                .getResultList();
+
+        final Map<Integer, Object[]> rowsByRevision = new HashMap<>();
+        rows.forEach(row -> rowsByRevision.put(((Number) row[0]).intValue(), row));
+        for (final Revision<Integer, T> revision : revisions) {
+            final Object[] row = rowsByRevision.get(revision.getRequiredRevisionNumber());
+            if (row == null) {
+                continue;
+            }
+            final BeanWrapper entity = PropertyAccessorFactory.forBeanPropertyAccess(revision.getEntity());
+            for (int i = 0; i < columns.size(); i++) {
+                entity.setPropertyValue(JdbcUtils.convertUnderscoreNameToPropertyName(columns.get(i)), row[i + 1]);
+            }
+        }
+    }
+}
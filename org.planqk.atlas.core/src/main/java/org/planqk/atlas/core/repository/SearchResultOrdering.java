@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Orders the IDs found by a native search query by a {@link Sort} the search query cannot apply itself, e.g. by
+ * attributes of associated entities.
+ * <p>
+ * The sort is applied by a criteria query selecting the matching IDs, just like Spring Data JPA applies it to derived
+ * queries. Thereby every sort accepted by the list endpoints is accepted by the searches as well. The matching IDs are
+ * passed as query parameters as long as they stay below the limit of bind parameters of PostgreSQL. More matching IDs
+ * cover a considerable part of the entities anyway, so the IDs of all entities are ordered and the others are skipped.
+ */
+final class SearchResultOrdering {
+
+    // stays below the limit of 32767 bind parameters of PostgreSQL
+    static final int MAX_RESTRICTED_IDS = 10000;
+
+    private SearchResultOrdering() {
+    }
+
+    /**
+     * @param entityManager The entity manager
+     * @param domainClass   The searched entity type
+     * @param idAttribute   The name of the ID attribute of the entity type
+     * @param matchingIds   The IDs of the entities matching the search
+     * @param sort          The requested sort
+     * @return The matching IDs, in the requested order and then ordered by ID
+     */
+    static <T> List<Object> orderIds(EntityManager entityManager, Class<T> domainClass, String idAttribute,
+                                     Collection<?> matchingIds, Sort sort) {
+        if (matchingIds.isEmpty()) {
+            return List.of();
+        }
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Object> query = builder.createQuery(Object.class);
+        final Root<T> root = query.from(domainClass);
+        final Path<Object> id = root.get(idAttribute);
+        final List<Order> orders = new ArrayList<>(QueryUtils.toOrders(sort, root, builder));
+        orders.add(builder.asc(id));
+        query.select(id).orderBy(orders);
+        if (matchingIds.size() <= MAX_RESTRICTED_IDS) {
+            query.where(id.in(matchingIds));
+        }
+
+        // entities sorted by a collection are listed once per element, their first position counts
+        final Set<Object> matching = new HashSet<>(matchingIds);
+        return entityManager.createQuery(query).getResultStream()
+                .filter(matching::contains)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The part of the given list on the requested page
+     */
+    static <T> List<T> getPage(List<T> list, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return list;
+        }
+        final int from = (int) Math.min(pageable.getOffset(), list.size());
+        return list.subList(from, Math.min(from + pageable.getPageSize(), list.size()));
+    }
+}
@@ -35,9 +35,11 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface SoftwarePlatformRepository extends JpaRepository<SoftwarePlatform, UUID> {
+public interface SoftwarePlatformRepository extends JpaRepository<SoftwarePlatform, UUID>, TrigramSearchRepository, LinkRepository {
 
-    Page<SoftwarePlatform> findAllByNameContainingIgnoreCase(String name, Pageable p);
+    default Page<SoftwarePlatform> findAll(String search, Pageable pageable) {
+        return searchBySimilarity(SoftwarePlatform.class, search, pageable, "name");
+    }
 
     boolean existsSoftwarePlatformById(UUID id);
 
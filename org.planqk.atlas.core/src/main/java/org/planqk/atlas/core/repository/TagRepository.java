@@ -19,10 +19,15 @@
 
 package org.planqk.atlas.core.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
+import javax.persistence.QueryHint;
+
 import org.planqk.atlas.core.model.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
@@ -31,13 +36,19 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @RepositoryRestResource(exported = false)
-public interface TagRepository extends JpaRepository<Tag, String> {
+public interface TagRepository extends JpaRepository<Tag, String>, TrigramSearchRepository {
 
     Tag findByValue(String value);
 
     Page<Tag> findByCategory(String category, Pageable pageable);
 
-    Page<Tag> findByValueContainingIgnoreCaseOrCategoryContainingIgnoreCase(String value, String key, Pageable pageable);
+    default Page<Tag> findAll(String search, Pageable pageable) {
+        return searchBySimilarity(Tag.class, search, pageable, "value", "category");
+    }
 
     boolean existsTagByValue(String value);
+
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Page<Tag> findAll(Pageable pageable);
 }
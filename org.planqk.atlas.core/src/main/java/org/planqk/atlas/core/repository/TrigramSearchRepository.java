@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Repository fragment providing a typo tolerant search based on the trigram similarity of the PostgreSQL pg_trgm
+ * extension.
+ * <p>
+ * Repositories mixing in this fragment expose the search for their own entity type by a default method, the searched
+ * attributes have to be backed by a GIN trigram index created in the database changelog.
+ */
+public interface TrigramSearchRepository {
+
+    /**
+     * Search for entities whose attributes contain the given search string or a word similar to it.
+     * <p>
+     * If the {@link Pageable} is unsorted the results are ordered by their best similarity over all given attributes,
+     * otherwise the requested sort order is applied first. Sort orders by associated entities are supported as well,
+     * they are applied as for the unfiltered list of entities. If the search string is empty all entities are returned.
+     *
+     * @param domainClass The class of the entities to search for
+     * @param search      The search string
+     * @param pageable    The page information of the page we want to retrieve
+     * @param attributes  The names of the string attributes to search in
+     * @param <T>         The type of the entities to search for
+     * @return The page of matching entities
+     */
+    <T> Page<T> searchBySimilarity(Class<T> domainClass, String search, Pageable pageable, String... attributes);
+}
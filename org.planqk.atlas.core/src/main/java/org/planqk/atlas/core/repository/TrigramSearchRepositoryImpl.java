@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.repository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+/**
+ * Implementation of the {@link TrigramSearchRepository} fragment.
+ * <p>
+ * An entity matches if one of the searched columns either contains the search string ({@code ILIKE}) or contains a
+ * word similar to it ({@code <%}). Both operators are supported by GIN indexes using the {@code gin_trgm_ops} operator
+ * class, so the query planner can combine the index scans instead of scanning the whole table.
+ */
+public class TrigramSearchRepositoryImpl implements TrigramSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <T> Page<T> searchBySimilarity(Class<T> domainClass, String search, Pageable pageable, String... attributes) {
+        final AbstractEntityPersister persister = getPersister(domainClass);
+        final String idColumn = "e." + persister.getIdentifierColumnNames()[0];
+        final List<String> columns = Arrays.stream(attributes)
+                .map(attribute -> getColumn(persister, attribute))
+                .collect(Collectors.toList());
+        final boolean filtered = search != null && !search.isBlank();
+        final boolean sortedByColumns = pageable.getSort().stream()
+                .allMatch(order -> findColumn(persister, order.getProperty()) != null);
+
+        final StringBuilder fromClause = new StringBuilder("FROM ").append(persister.getTableName()).append(" e ");
+        final String similarity;
+        if (filtered) {
+            fromClause.append("WHERE ").append(columns.stream()
+                    .map(column -> "(:search <% " + column + " OR " + column + " ILIKE :pattern)")
+                    .collect(Collectors.joining(" OR ")));
+            similarity = columns.stream()
+                    .map(column -> "word_similarity(:search, " + column + ")")
+                    .collect(Collectors.joining(", ", "GREATEST(", ")"));
+        } else {
+            similarity = "0";
+        }
+
+        final Query query = entityManager.createNativeQuery("SELECT CAST(" + idColumn + " AS varchar) AS id, " +
+                similarity + " AS similarity " + fromClause +
+                (sortedByColumns ? getOrderClause(persister, pageable.getSort(), idColumn) : ""));
+        if (filtered) {
+            setSearchParameters(query, search.strip());
+        }
+        if (pageable.isPaged() && sortedByColumns) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        @SuppressWarnings("unchecked")
+        final List<Object[]> rows = query.getResultList();
+        final Function<String, Object> idConverter = UUID.class.equals(persister.getIdentifierType().getReturnedClass())
+                ? UUID::fromString : id -> id;
+        final List<Object> ids = rows.stream()
+                .map(row -> idConverter.apply((String) row[0]))
+                .collect(Collectors.toList());
+        if (!sortedByColumns) {
+            // sorted by associated entities, which is applied (or rejected if unknown) as for the unfiltered list of entities
+            final List<Object> orderedIds = SearchResultOrdering.orderIds(entityManager, domainClass,
+                    persister.getIdentifierPropertyName(), ids, pageable.getSort());
+            final List<Object> pageIds = SearchResultOrdering.getPage(orderedIds, pageable);
+            final Map<Object, T> entities = findByIds(domainClass, persister.getIdentifierPropertyName(), pageIds);
+            return new PageImpl<>(pageIds.stream()
+                    .map(entities::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()), pageable, orderedIds.size());
+        }
+        final Map<Object, T> entities = findByIds(domainClass, persister.getIdentifierPropertyName(), ids);
+
+        // keep the order of the native query, entities deleted in between both queries are skipped
+        final List<T> content = ids.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            final Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) " + fromClause);
+            if (filtered) {
+                setSearchParameters(countQuery, search.strip());
+            }
+            return ((Number) countQuery.getSingleResult()).longValue();
+        });
+    }
+
+    private <T> Map<Object, T> findByIds(Class<T> domainClass, String idAttribute, List<Object> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        final String entityName = entityManager.getMetamodel().entity(domainClass).getName();
+        return entityManager.createQuery("SELECT e FROM " + entityName + " e WHERE e." + idAttribute + " IN :ids", domainClass)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(
+                        entity -> entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity),
+                        Function.identity()));
+    }
+
+    private AbstractEntityPersister getPersister(Class<?> domainClass) {
+        return (AbstractEntityPersister) entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMetamodel()
+                .entityPersister(domainClass);
+    }
+
+    private static void setSearchParameters(Query query, String search) {
+        query.setParameter("search", search);
+        query.setParameter("pattern", "%" + search.replaceAll("([\\\\%_])", "\\\\$1") + "%");
+    }
+
+    private static String getOrderClause(AbstractEntityPersister persister, Sort sort, String idColumn) {
+        final StringBuilder orderClause = new StringBuilder(" ORDER BY ");
+        for (final Sort.Order order : sort) {
+            orderClause.append(findColumn(persister, order.getProperty())).append(order.isAscending() ? " ASC, " : " DESC, ");
+        }
+        // most similar first if unsorted, id as last criterion to get a stable order across pages
+        return orderClause.append("similarity DESC, ").append(idColumn).toString();
+    }
+
+    private static String getColumn(AbstractEntityPersister persister, String attribute) {
+        final String column = findColumn(persister, attribute);
+        if (column == null) {
+            throw new IllegalArgumentException(persister.getEntityName() + " cannot be searched by \"" + attribute + "\"");
+        }
+        return column;
+    }
+
+    /**
+     * Resolves the column of a single valued attribute, which also ensures that only mapped column names and never
+     * user input end up in the native queries.
+     *
+     * @return The column or null, if the attribute is unknown or an association
+     */
+    private static String findColumn(AbstractEntityPersister persister, String attribute) {
+        try {
+            if (persister.getPropertyType(attribute).isAssociationType()) {
+                return null;
+            }
+            return "e." + persister.getPropertyColumnNames(attribute)[0];
+        } catch (HibernateException e) {
+            return null;
+        }
+    }
+}
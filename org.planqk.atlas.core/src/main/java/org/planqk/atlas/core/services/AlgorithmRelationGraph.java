@@ -0,0 +1,469 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.planqk.atlas.core.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.planqk.atlas.core.model.AlgorithmRelation;
+import org.planqk.atlas.core.repository.AlgorithmRelationEdge;
+import org.planqk.atlas.core.repository.AlgorithmRelationRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index of the graph formed by all {@link AlgorithmRelation}s, answering traversals over several relations
+ * without a query per hop.
+ * <p>
+ * Algorithms and relations are interned to int indexes and every algorithm keeps an array of the relations it takes
+ * part in, so traversals only touch primitive arrays. The graph is built from a single projection query at startup
+ * (or on first use) and afterwards maintained incrementally: writes of the {@link AlgorithmRelationService} and
+ * deletions of algorithms are applied once their transaction has been committed. Like the {@link ProblemTypeHierarchy}
+ * the graph is rebuilt after a while, which bounds the staleness if several instances share one database.
+ * <p>
+ * All operations accept a set of relation type IDs to follow, an empty set follows relations of every type.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlgorithmRelationGraph {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(30);
+
+    private static final int[] NO_EDGES = new int[0];
+
+    private final AlgorithmRelationRepository algorithmRelationRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // guarded by lock
+    private Graph graph;
+
+    /**
+     * Rebuilds the graph from the relations currently stored in the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            graph = load();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the relations reachable from the algorithm with the given ID within the given number of hops, following
+     * relations in both directions. Relations are ordered by their distance to the algorithm.
+     *
+     * @param algorithmId              The ID of the algorithm to start from
+     * @param depth                    The maximum number of hops
+     * @param algorithmRelationTypeIds The IDs of the relation types to follow
+     * @return The IDs of the relations in the neighborhood of the algorithm
+     */
+    public List<UUID> getNeighborhood(UUID algorithmId, int depth, Set<UUID> algorithmRelationTypeIds) {
+        return read(current -> current.getNeighborhood(algorithmId, depth, algorithmRelationTypeIds));
+    }
+
+    /**
+     * Returns a path with the fewest relations between two algorithms, following relations in both directions.
+     *
+     * @param sourceAlgorithmId        The ID of the algorithm the path starts at
+     * @param targetAlgorithmId        The ID of the algorithm the path ends at
+     * @param algorithmRelationTypeIds The IDs of the relation types to follow
+     * @return The IDs of the relations along the path, empty if both algorithms are the same, or an empty optional if
+     * there is no path between both algorithms
+     */
+    public Optional<List<UUID>> getShortestPath(UUID sourceAlgorithmId, UUID targetAlgorithmId, Set<UUID> algorithmRelationTypeIds) {
+        return read(current -> current.getShortestPath(sourceAlgorithmId, targetAlgorithmId, algorithmRelationTypeIds));
+    }
+
+    /**
+     * Returns all algorithms reachable from the algorithm with the given ID, following relations from their source to
+     * their target algorithm only. Algorithms are ordered by their distance to the algorithm.
+     *
+     * @param algorithmId              The ID of the algorithm to start from
+     * @param algorithmRelationTypeIds The IDs of the relation types to follow
+     * @return The IDs of the reachable algorithms, excluding the algorithm itself
+     */
+    public List<UUID> getReachableAlgorithms(UUID algorithmId, Set<UUID> algorithmRelationTypeIds) {
+        return read(current -> current.getReachableAlgorithms(algorithmId, algorithmRelationTypeIds));
+    }
+
+    /**
+     * Adds the given relation to the graph or replaces it, once the current transaction has been committed.
+     *
+     * @param algorithmRelation The created or updated relation
+     */
+    public void addRelation(AlgorithmRelation algorithmRelation) {
+        final AlgorithmRelationEdge edge = new AlgorithmRelationEdge(algorithmRelation.getId(),
+                algorithmRelation.getSourceAlgorithm().getId(), algorithmRelation.getTargetAlgorithm().getId(),
+                algorithmRelation.getAlgorithmRelationType().getId());
+        afterCommit(current -> current.add(edge));
+    }
+
+    /**
+     * Removes the relation with the given ID from the graph, once the current transaction has been committed.
+     *
+     * @param algorithmRelationId The ID of the deleted relation
+     */
+    public void removeRelation(UUID algorithmRelationId) {
+        afterCommit(current -> current.remove(algorithmRelationId));
+    }
+
+    /**
+     * Removes all relations of the algorithms with the given IDs from the graph, once the current transaction has been
+     * committed.
+     *
+     * @param algorithmIds The IDs of the deleted algorithms
+     */
+    public void removeAlgorithms(Collection<UUID> algorithmIds) {
+        final List<UUID> ids = List.copyOf(algorithmIds);
+        afterCommit(current -> ids.forEach(current::removeNode));
+    }
+
+    private <R> R read(Function<Graph, R> operation) {
+        lock.readLock().lock();
+        try {
+            if (graph != null && !graph.isExpired()) {
+                return operation.apply(graph);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (graph == null || graph.isExpired()) {
+                graph = load();
+            }
+            return operation.apply(graph);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // updates are idempotent, so it does not matter whether a concurrent load already saw the committed changes
+    private void afterCommit(Consumer<Graph> update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    update(update);
+                }
+            });
+        } else {
+            update(update);
+        }
+    }
+
+    private void update(Consumer<Graph> update) {
+        lock.writeLock().lock();
+        try {
+            // a missing graph is loaded including the change on the next read
+            if (graph != null) {
+                update.accept(graph);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Graph load() {
+        final List<AlgorithmRelationEdge> edges = algorithmRelationRepository.findAllEdges();
+        final Graph loadedGraph = new Graph();
+        edges.forEach(loadedGraph::add);
+        log.debug("Loaded graph of {} algorithm relations", edges.size());
+        return loadedGraph;
+    }
+
+    private static int[] grow(int[] array, int minLength) {
+        return Arrays.copyOf(array, Math.max(minLength, array.length * 2));
+    }
+
+    /**
+     * Adjacency index of the relations. Slots of removed relations are reused, algorithms stay interned until the graph
+     * is rebuilt.
+     */
+    private static class Graph {
+
+        private final long loadedAt = System.nanoTime();
+
+        private final Map<UUID, Integer> nodeIndexes = new HashMap<>();
+
+        private final List<UUID> nodeIds = new ArrayList<>();
+
+        // slots of the edges each node takes part in, the first degrees[node] entries are used
+        private int[][] incidentEdges = new int[0][];
+
+        private int[] degrees = new int[0];
+
+        private final Map<UUID, Integer> typeIndexes = new HashMap<>();
+
+        private final Map<UUID, Integer> edgeSlots = new HashMap<>();
+
+        private UUID[] edgeIds = new UUID[0];
+
+        private int[] sources = new int[0];
+
+        private int[] targets = new int[0];
+
+        private int[] types = new int[0];
+
+        private int usedEdgeSlots;
+
+        private int[] freeEdgeSlots = new int[0];
+
+        private int freeEdgeSlotCount;
+
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TIME_TO_LIVE.toNanos();
+        }
+
+        void add(AlgorithmRelationEdge edge) {
+            remove(edge.getId());
+            final int slot;
+            if (freeEdgeSlotCount > 0) {
+                slot = freeEdgeSlots[--freeEdgeSlotCount];
+            } else {
+                slot = usedEdgeSlots++;
+                if (slot >= edgeIds.length) {
+                    edgeIds = Arrays.copyOf(edgeIds, Math.max(slot + 1, edgeIds.length * 2));
+                    sources = grow(sources, edgeIds.length);
+                    targets = grow(targets, edgeIds.length);
+                    types = grow(types, edgeIds.length);
+                }
+            }
+            edgeIds[slot] = edge.getId();
+            sources[slot] = internNode(edge.getSourceAlgorithmId());
+            targets[slot] = internNode(edge.getTargetAlgorithmId());
+            types[slot] = internType(edge.getAlgorithmRelationTypeId());
+            edgeSlots.put(edge.getId(), slot);
+            attach(sources[slot], slot);
+            if (targets[slot] != sources[slot]) {
+                attach(targets[slot], slot);
+            }
+        }
+
+        void remove(UUID edgeId) {
+            final Integer slot = edgeSlots.remove(edgeId);
+            if (slot == null) {
+                return;
+            }
+            detach(sources[slot], slot);
+            detach(targets[slot], slot);
+            edgeIds[slot] = null;
+            if (freeEdgeSlotCount == freeEdgeSlots.length) {
+                freeEdgeSlots = grow(freeEdgeSlots, 1);
+            }
+            freeEdgeSlots[freeEdgeSlotCount++] = slot;
+        }
+
+        void removeNode(UUID nodeId) {
+            final Integer node = nodeIndexes.get(nodeId);
+            if (node != null) {
+                while (degrees[node] > 0) {
+                    remove(edgeIds[incidentEdges[node][degrees[node] - 1]]);
+                }
+            }
+        }
+
+        List<UUID> getNeighborhood(UUID nodeId, int depth, Set<UUID> typeIds) {
+            final List<UUID> neighborhood = new ArrayList<>();
+            final Integer start = nodeIndexes.get(nodeId);
+            if (start == null) {
+                return neighborhood;
+            }
+            final boolean[] followedTypes = getFollowedTypes(typeIds);
+            final boolean[] visitedEdges = new boolean[usedEdgeSlots];
+            final int[] distances = new int[nodeIds.size()];
+            Arrays.fill(distances, -1);
+            final int[] queue = new int[nodeIds.size()];
+            int head = 0;
+            int tail = 0;
+            distances[start] = 0;
+            queue[tail++] = start;
+            while (head < tail) {
+                final int node = queue[head++];
+                if (distances[node] == depth) {
+                    continue;
+                }
+                for (int i = 0; i < degrees[node]; i++) {
+                    final int edge = incidentEdges[node][i];
+                    if (visitedEdges[edge] || !isFollowed(edge, followedTypes)) {
+                        continue;
+                    }
+                    visitedEdges[edge] = true;
+                    neighborhood.add(edgeIds[edge]);
+                    final int neighbor = getOpposite(edge, node);
+                    if (distances[neighbor] < 0) {
+                        distances[neighbor] = distances[node] + 1;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+            return neighborhood;
+        }
+
+        Optional<List<UUID>> getShortestPath(UUID sourceId, UUID targetId, Set<UUID> typeIds) {
+            if (sourceId.equals(targetId)) {
+                return Optional.of(List.of());
+            }
+            final Integer source = nodeIndexes.get(sourceId);
+            final Integer target = nodeIndexes.get(targetId);
+            if (source == null || target == null) {
+                return Optional.empty();
+            }
+            final boolean[] followedTypes = getFollowedTypes(typeIds);
+            final int[] parentEdges = new int[nodeIds.size()];
+            Arrays.fill(parentEdges, -1);
+            final boolean[] visited = new boolean[nodeIds.size()];
+            final int[] queue = new int[nodeIds.size()];
+            int head = 0;
+            int tail = 0;
+            visited[source] = true;
+            queue[tail++] = source;
+            while (head < tail && !visited[target]) {
+                final int node = queue[head++];
+                for (int i = 0; i < degrees[node]; i++) {
+                    final int edge = incidentEdges[node][i];
+                    final int neighbor = getOpposite(edge, node);
+                    if (!visited[neighbor] && isFollowed(edge, followedTypes)) {
+                        visited[neighbor] = true;
+                        parentEdges[neighbor] = edge;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+            if (!visited[target]) {
+                return Optional.empty();
+            }
+            final LinkedList<UUID> path = new LinkedList<>();
+            for (int node = target; node != source; node = getOpposite(parentEdges[node], node)) {
+                path.addFirst(edgeIds[parentEdges[node]]);
+            }
+            return Optional.of(path);
+        }
+
+        List<UUID> getReachableAlgorithms(UUID nodeId, Set<UUID> typeIds) {
+            final List<UUID> reachable = new ArrayList<>();
+            final Integer start = nodeIndexes.get(nodeId);
+            if (start == null) {
+                return reachable;
+            }
+            final boolean[] followedTypes = getFollowedTypes(typeIds);
+            final boolean[] visited = new boolean[nodeIds.size()];
+            final int[] queue = new int[nodeIds.size()];
+            int head = 0;
+            int tail = 0;
+            visited[start] = true;
+            queue[tail++] = start;
+            while (head < tail) {
+                final int node = queue[head++];
+                for (int i = 0; i < degrees[node]; i++) {
+                    final int edge = incidentEdges[node][i];
+                    if (sources[edge] == node && !visited[targets[edge]] && isFollowed(edge, followedTypes)) {
+                        visited[targets[edge]] = true;
+                        reachable.add(nodeIds.get(targets[edge]));
+                        queue[tail++] = targets[edge];
+                    }
+                }
+            }
+            return reachable;
+        }
+
+        private int internNode(UUID nodeId) {
+            Integer node = nodeIndexes.get(nodeId);
+            if (node == null) {
+                node = nodeIds.size();
+                nodeIds.add(nodeId);
+                nodeIndexes.put(nodeId, node);
+                if (node >= degrees.length) {
+                    degrees = grow(degrees, node + 1);
+                    incidentEdges = Arrays.copyOf(incidentEdges, degrees.length);
+                }
+                incidentEdges[node] = NO_EDGES;
+            }
+            return node;
+        }
+
+        private int internType(UUID typeId) {
+            Integer type = typeIndexes.get(typeId);
+            if (type == null) {
+                type = typeIndexes.size();
+                typeIndexes.put(typeId, type);
+            }
+            return type;
+        }
+
+        private void attach(int node, int edge) {
+            if (degrees[node] == incidentEdges[node].length) {
+                incidentEdges[node] = grow(incidentEdges[node], 4);
+            }
+            incidentEdges[node][degrees[node]++] = edge;
+        }
+
+        private void detach(int node, int edge) {
+            final int[] edges = incidentEdges[node];
+            for (int i = 0; i < degrees[node]; i++) {
+                if (edges[i] == edge) {
+                    edges[i] = edges[--degrees[node]];
+                    return;
+                }
+            }
+        }
+
+        private int getOpposite(int edge, int node) {
+            return sources[edge] == node ? targets[edge] : sources[edge];
+        }
+
+        // null if all types are followed
+        private boolean[] getFollowedTypes(Set<UUID> typeIds) {
+            if (typeIds == null || typeIds.isEmpty()) {
+                return null;
+            }
+            final boolean[] followedTypes = new boolean[typeIndexes.size()];
+            typeIds.stream().map(typeIndexes::get).filter(Objects::nonNull).forEach(type -> followedTypes[type] = true);
+            return followedTypes;
+        }
+
+        private boolean isFollowed(int edge, boolean[] followedTypes) {
+            return followedTypes == null || followedTypes[types[edge]];
+        }
+    }
+}
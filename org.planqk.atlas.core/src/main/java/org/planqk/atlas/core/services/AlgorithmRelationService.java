@@ -19,9 +19,14 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.AlgorithmRelation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -29,6 +34,8 @@ import org.springframework.transaction.annotation.Transactional;
  */
 public interface AlgorithmRelationService {
 
+    int MAX_NEIGHBORHOOD_DEPTH = 10;
+
     /**
      * Creates a new database entry for a given {@link AlgorithmRelation} and save it to the database.
      * <p>
@@ -115,4 +122,52 @@ public interface AlgorithmRelationService {
      * @param algorithmRelationId The ID of the {@link AlgorithmRelation} we want to check
      */
     void checkIfAlgorithmIsInAlgorithmRelation(UUID algorithmId, UUID algorithmRelationId);
+
+    /**
+     * Retrieve all {@link AlgorithmRelation}s that can be reached from an {@link org.planqk.atlas.core.model.Algorithm}
+     * within the given number of hops, regardless of the direction of the relations. The relations are ordered by their
+     * distance to the algorithm, so the result can be used to draw the relation graph around an algorithm at once.
+     * <p>
+     * If there is no {@link org.planqk.atlas.core.model.Algorithm} with the given ID a {@link
+     * java.util.NoSuchElementException} is thrown. If the depth is less than one or greater than {@link
+     * #MAX_NEIGHBORHOOD_DEPTH} an {@link IllegalArgumentException} is thrown.
+     *
+     * @param algorithmId              The ID of the {@link org.planqk.atlas.core.model.Algorithm} to start from
+     * @param depth                    The maximum number of hops
+     * @param algorithmRelationTypeIds The IDs of the {@link org.planqk.atlas.core.model.AlgorithmRelationType}s to
+     *                                 follow, all types are followed if empty
+     * @return The {@link AlgorithmRelation}s in the neighborhood of the algorithm
+     */
+    List<AlgorithmRelation> findNeighborhood(UUID algorithmId, int depth, Set<UUID> algorithmRelationTypeIds);
+
+    /**
+     * Retrieve a path with the fewest {@link AlgorithmRelation}s between two {@link
+     * org.planqk.atlas.core.model.Algorithm}s, regardless of the direction of the relations. The path is empty if both
+     * algorithms are the same.
+     * <p>
+     * If either of the {@link org.planqk.atlas.core.model.Algorithm}s doesn't exist or if there is no path between them
+     * a {@link java.util.NoSuchElementException} is thrown.
+     *
+     * @param sourceAlgorithmId        The ID of the {@link org.planqk.atlas.core.model.Algorithm} the path starts at
+     * @param targetAlgorithmId        The ID of the {@link org.planqk.atlas.core.model.Algorithm} the path ends at
+     * @param algorithmRelationTypeIds The IDs of the {@link org.planqk.atlas.core.model.AlgorithmRelationType}s to
+     *                                 follow, all types are followed if empty
+     * @return The {@link AlgorithmRelation}s along the path in the order they are traversed
+     */
+    List<AlgorithmRelation> findShortestPath(UUID sourceAlgorithmId, UUID targetAlgorithmId, Set<UUID> algorithmRelationTypeIds);
+
+    /**
+     * Retrieve all {@link Algorithm}s that can be reached from an {@link Algorithm} by following {@link
+     * AlgorithmRelation}s from their source to their target algorithm, e.g. all algorithms that are transitively based
+     * on a given algorithm.
+     * <p>
+     * If there is no {@link Algorithm} with the given ID a {@link java.util.NoSuchElementException} is thrown.
+     *
+     * @param algorithmId              The ID of the {@link Algorithm} to start from
+     * @param algorithmRelationTypeIds The IDs of the {@link org.planqk.atlas.core.model.AlgorithmRelationType}s to
+     *                                 follow, all types are followed if empty
+     * @param pageable                 The page information of the page we want to retrieve
+     * @return The page of reachable {@link Algorithm}s, excluding the algorithm itself
+     */
+    Page<Algorithm> findReachableAlgorithms(UUID algorithmId, Set<UUID> algorithmRelationTypeIds, Pageable pageable);
 }
@@ -19,14 +19,22 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.AlgorithmRelation;
 import org.planqk.atlas.core.repository.AlgorithmRelationRepository;
 import org.planqk.atlas.core.repository.AlgorithmRepository;
 import org.planqk.atlas.core.util.ServiceUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +53,8 @@ public class AlgorithmRelationServiceImpl implements AlgorithmRelationService {
 
     private final AlgorithmRepository algorithmRepository;
 
+    private final AlgorithmRelationGraph algorithmRelationGraph;
+
     @Override
     @Transactional
     public AlgorithmRelation create(@NonNull AlgorithmRelation algorithmRelation) {
@@ -54,7 +64,9 @@ public class AlgorithmRelationServiceImpl implements AlgorithmRelationService {
         algorithmRelation.setSourceAlgorithm(findAlgorithmById(algorithmRelation.getSourceAlgorithm().getId()));
         algorithmRelation.setTargetAlgorithm(findAlgorithmById(algorithmRelation.getTargetAlgorithm().getId()));
 
-        return algorithmRelationRepository.save(algorithmRelation);
+        final AlgorithmRelation savedAlgorithmRelation = algorithmRelationRepository.save(algorithmRelation);
+        algorithmRelationGraph.addRelation(savedAlgorithmRelation);
+        return savedAlgorithmRelation;
     }
 
     @Override
@@ -71,7 +83,9 @@ public class AlgorithmRelationServiceImpl implements AlgorithmRelationService {
                 algorithmRelationTypeService.findById(algorithmRelation.getAlgorithmRelationType().getId()));
         persistedAlgorithmRelation.setDescription(algorithmRelation.getDescription());
 
-        return algorithmRelationRepository.save(persistedAlgorithmRelation);
+        final AlgorithmRelation savedAlgorithmRelation = algorithmRelationRepository.save(persistedAlgorithmRelation);
+        algorithmRelationGraph.addRelation(savedAlgorithmRelation);
+        return savedAlgorithmRelation;
     }
 
     @Override
@@ -79,6 +93,7 @@ public class AlgorithmRelationServiceImpl implements AlgorithmRelationService {
     public void delete(@NonNull UUID algorithmRelationId) {
         ServiceUtils.throwIfNotExists(algorithmRelationId, AlgorithmRelation.class, algorithmRelationRepository);
         algorithmRelationRepository.deleteById(algorithmRelationId);
+        algorithmRelationGraph.removeRelation(algorithmRelationId);
     }
 
     @Override
@@ -92,6 +107,49 @@ public class AlgorithmRelationServiceImpl implements AlgorithmRelationService {
         }
     }
 
+    @Override
+    public List<AlgorithmRelation> findNeighborhood(@NonNull UUID algorithmId, int depth, @NonNull Set<UUID> algorithmRelationTypeIds) {
+        if (depth < 1 || depth > MAX_NEIGHBORHOOD_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + MAX_NEIGHBORHOOD_DEPTH);
+        }
+        ServiceUtils.throwIfNotExists(algorithmId, Algorithm.class, algorithmRepository);
+
+        return findAllById(algorithmRelationGraph.getNeighborhood(algorithmId, depth, algorithmRelationTypeIds));
+    }
+
+    @Override
+    public List<AlgorithmRelation> findShortestPath(@NonNull UUID sourceAlgorithmId, @NonNull UUID targetAlgorithmId,
+                                                    @NonNull Set<UUID> algorithmRelationTypeIds) {
+        ServiceUtils.throwIfNotExists(sourceAlgorithmId, Algorithm.class, algorithmRepository);
+        ServiceUtils.throwIfNotExists(targetAlgorithmId, Algorithm.class, algorithmRepository);
+
+        return findAllById(algorithmRelationGraph.getShortestPath(sourceAlgorithmId, targetAlgorithmId, algorithmRelationTypeIds)
+                .orElseThrow(() -> new NoSuchElementException("There is no path between the Algorithms with ID \""
+                        + sourceAlgorithmId + "\" and \"" + targetAlgorithmId + "\"")));
+    }
+
+    @Override
+    public Page<Algorithm> findReachableAlgorithms(@NonNull UUID algorithmId, @NonNull Set<UUID> algorithmRelationTypeIds,
+                                                   @NonNull Pageable pageable) {
+        ServiceUtils.throwIfNotExists(algorithmId, Algorithm.class, algorithmRepository);
+
+        final List<UUID> algorithmIds = algorithmRelationGraph.getReachableAlgorithms(algorithmId, algorithmRelationTypeIds);
+        if (algorithmIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return algorithmRepository.findByIdIn(algorithmIds, pageable);
+    }
+
+    // loads the relations in one query, keeping the order of the given IDs
+    private List<AlgorithmRelation> findAllById(List<UUID> algorithmRelationIds) {
+        final Map<UUID, AlgorithmRelation> algorithmRelations = algorithmRelationRepository.findAllById(algorithmRelationIds).stream()
+                .collect(Collectors.toMap(AlgorithmRelation::getId, Function.identity()));
+        return algorithmRelationIds.stream()
+                .map(algorithmRelations::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     private Algorithm findAlgorithmById(@NonNull UUID algorithmId) {
         return ServiceUtils.findById(algorithmId, Algorithm.class, algorithmRepository);
     }
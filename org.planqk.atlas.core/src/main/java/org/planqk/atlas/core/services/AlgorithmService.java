@@ -19,17 +19,24 @@
 
 package org.planqk.atlas.core.services;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.AlgorithmRelation;
+import org.planqk.atlas.core.model.AlgorithmSearchResult;
 import org.planqk.atlas.core.model.ApplicationArea;
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.planqk.atlas.core.model.LearningMethod;
 import org.planqk.atlas.core.model.PatternRelation;
 import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.repository.AlgorithmSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.history.Revision;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -58,7 +65,8 @@ public interface AlgorithmService {
      * The amount of entries is based on the given {@link Pageable} parameter. If the {@link Pageable} is unpaged a
      * {@link Page} with all entries is queried.
      * <p>
-     * If no search should be executed the search parameter can be left null or empty.
+     * If no search should be executed the search parameter can be left null or empty. Otherwise a full-text search is
+     * executed and, if the {@link Pageable} is unsorted, the entries are ordered by their relevance.
      *
      * @param pageable The page information, namely page size and page number, of the page we want to retrieve
      * @param search   The string based on which a search will be executed
@@ -66,6 +74,81 @@ public interface AlgorithmService {
      */
     Page<Algorithm> findAll(Pageable pageable, String search);
 
+    /**
+     * Retrieve all {@link Algorithm} entries whose required compute resource properties match all of the given filters,
+     * e.g. {@code qubitCount >= 127}. The filters are evaluated on the property document of each {@link Algorithm}.
+     *
+     * @param propertyFilters The filters on the compute resource properties, all {@link Algorithm}s are returned if empty
+     * @param pageable        The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of queried {@link Algorithm} entries matching the filters
+     * @throws IllegalArgumentException if a range filter is not compared with a number
+     */
+    Page<Algorithm> findAllByPropertyFilters(List<PropertyFilter> propertyFilters, Pageable pageable);
+
+    /**
+     * Retrieve the {@link Algorithm} entries following the position encoded by the given cursor.
+     * <p>
+     * In contrast to offset based pages, the cost of retrieving a slice does not depend on its position and no count
+     * query is executed. The entries are ordered by the sort of the given {@link Pageable} and their id, the page
+     * number is ignored.
+     *
+     * @param pageable The size and sort of the slice we want to retrieve
+     * @param cursor   The cursor returned with the previous slice, null or empty to retrieve the first slice
+     * @return The slice of queried {@link Algorithm} entries together with the cursor of the following slice
+     */
+    KeysetSlice<Algorithm> findAllAfter(Pageable pageable, String cursor);
+
+    /**
+     * Retrieve multiple {@link Algorithm} entries from the database without counting the total number of entries.
+     * <p>
+     * Only the entries of the requested page and one additional entry, to find out whether another page follows, are
+     * queried.
+     *
+     * @param pageable The page information, namely page size and page number, of the slice we want to retrieve
+     * @return The slice of queried {@link Algorithm} entries
+     */
+    Slice<Algorithm> findAllWithoutCount(Pageable pageable);
+
+    /**
+     * Retrieve multiple {@link Algorithm} entries from the database together with an estimated total number of entries.
+     * <p>
+     * Instead of counting all entries, the total is estimated based on the statistics of the database. This is
+     * considerably cheaper for large tables, but the total may deviate from the exact number of entries.
+     *
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of queried {@link Algorithm} entries
+     */
+    Page<Algorithm> findAllWithEstimatedCount(Pageable pageable);
+
+    /**
+     * Retrieve summaries of multiple {@link Algorithm} entries from the database.
+     * <p>
+     * In contrast to {@link #findAll}, only the scalar attributes needed by list views are queried and no entities are
+     * loaded, so this is the cheapest way to retrieve a page of algorithms for read-only purposes.
+     *
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of queried {@link AlgorithmSummary} entries
+     */
+    Page<AlgorithmSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Execute a ranked full-text search over the name, acronym, intent, problem and solution of all {@link Algorithm}s.
+     * Every term of the search string is matched as a prefix and all terms have to be present in an {@link Algorithm}
+     * for it to be part of the result. {@link Algorithm}s whose name, acronym or problem contains the search string are
+     * part of the result as well.
+     * <p>
+     * The amount of entries is based on the given {@link Pageable} parameter. If the {@link Pageable} is unsorted the
+     * entries are ordered by their relevance, otherwise the relevance is only used to order entries that are equal
+     * according to the given sort. Every sort accepted by {@link #findAll} can be used, including attributes of
+     * associated entities.
+     *
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @param search   The string based on which the search will be executed
+     * @return The page of {@link AlgorithmSearchResult}s containing the matched {@link Algorithm}s, their rank and a
+     * highlighted snippet of the matching text
+     */
+    Page<AlgorithmSearchResult> search(Pageable pageable, String search);
+
     /**
      * Find a database entry of a {@link Algorithm} that is already saved in the database. This search is based on the
      * ID the database has given the {@link Algorithm} object when it was created and first saved to the database.
@@ -281,4 +364,16 @@ public interface AlgorithmService {
      *
      */
     Revision<Integer, Algorithm> findAlgorithmRevision(UUID algorithmId, Integer revisionId);
+
+    /**
+     * Retrieve the {@link Algorithm} revision that was current at the given point in time, i.e. the latest revision created at or
+     * before it.
+     * <p>
+     * If the {@link Algorithm} with the given ID did not exist at that point in time a {@link java.util.NoSuchElementException} is thrown.
+     *
+     * @param algorithmId The ID of the {@link Algorithm}
+     * @param timestamp   The point in time
+     * @return The {@link Revision} that was current at the given point in time
+     */
+    Revision<Integer, Algorithm> findAlgorithmRevisionAsOf(UUID algorithmId, Instant timestamp);
 }
@@ -19,34 +19,37 @@
 
 package org.planqk.atlas.core.services;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.AlgorithmRelation;
+import org.planqk.atlas.core.model.AlgorithmSearchResult;
 import org.planqk.atlas.core.model.ApplicationArea;
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.planqk.atlas.core.model.LearningMethod;
-import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.model.PatternRelation;
 import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.core.model.Publication;
 import org.planqk.atlas.core.model.QuantumAlgorithm;
 import org.planqk.atlas.core.repository.AlgorithmRelationRepository;
 import org.planqk.atlas.core.repository.AlgorithmRepository;
+import org.planqk.atlas.core.repository.AlgorithmSummary;
 import org.planqk.atlas.core.repository.ApplicationAreaRepository;
-import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
 import org.planqk.atlas.core.repository.LearningMethodRepository;
 import org.planqk.atlas.core.repository.PatternRelationRepository;
 import org.planqk.atlas.core.repository.ProblemTypeRepository;
+import org.planqk.atlas.core.repository.PropertyFilterSpecification;
 import org.planqk.atlas.core.repository.PublicationRepository;
-import org.planqk.atlas.core.util.CollectionUtils;
-import org.planqk.atlas.core.util.Constants;
 import org.planqk.atlas.core.util.ServiceUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.history.Revision;
-import org.springframework.data.history.Revisions;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -63,8 +66,6 @@ public class AlgorithmServiceImpl implements AlgorithmService {
 
     private final AlgorithmRelationRepository algorithmRelationRepository;
 
-    private final ImplementationService implementationService;
-
     private final PublicationRepository publicationRepository;
 
     private final ProblemTypeRepository problemTypeRepository;
@@ -73,12 +74,10 @@ public class AlgorithmServiceImpl implements AlgorithmService {
 
     private final LearningMethodRepository learningMethodRepository;
 
-    private final ComputeResourcePropertyRepository computeResourcePropertyRepository;
-
-    private final PatternRelationService patternRelationService;
-
     private final PatternRelationRepository patternRelationRepository;
 
+    private final AlgorithmRelationGraph algorithmRelationGraph;
+
     @Override
     @Transactional
     public Algorithm create(Algorithm algorithm) {
@@ -88,11 +87,41 @@ public class AlgorithmServiceImpl implements AlgorithmService {
     @Override
     public Page<Algorithm> findAll(@NonNull Pageable pageable, String search) {
         if (!Objects.isNull(search) && !search.isEmpty()) {
-            return algorithmRepository.findAll(search, pageable);
+            return algorithmRepository.search(search, pageable).map(AlgorithmSearchResult::getAlgorithm);
         }
         return algorithmRepository.findAll(pageable);
     }
 
+    @Override
+    public Page<Algorithm> findAllByPropertyFilters(@NonNull List<PropertyFilter> propertyFilters, @NonNull Pageable pageable) {
+        return algorithmRepository.findAll(new PropertyFilterSpecification<>(propertyFilters), pageable);
+    }
+
+    @Override
+    public KeysetSlice<Algorithm> findAllAfter(@NonNull Pageable pageable, String cursor) {
+        return algorithmRepository.findAllAfter(cursor, pageable);
+    }
+
+    @Override
+    public Slice<Algorithm> findAllWithoutCount(@NonNull Pageable pageable) {
+        return algorithmRepository.findAllBy(pageable);
+    }
+
+    @Override
+    public Page<Algorithm> findAllWithEstimatedCount(@NonNull Pageable pageable) {
+        return ServiceUtils.toEstimatedPage(algorithmRepository.findAllBy(pageable), algorithmRepository::estimateCount);
+    }
+
+    @Override
+    public Page<AlgorithmSummary> findAllSummaries(@NonNull Pageable pageable) {
+        return algorithmRepository.findAllSummaries(pageable);
+    }
+
+    @Override
+    public Page<AlgorithmSearchResult> search(@NonNull Pageable pageable, String search) {
+        return algorithmRepository.search(search, pageable);
+    }
+
     @Override
     public Algorithm findById(@NonNull UUID algorithmId) {
         return ServiceUtils.findById(algorithmId, Algorithm.class, algorithmRepository);
@@ -114,8 +143,6 @@ public class AlgorithmServiceImpl implements AlgorithmService {
         persistedAlgorithm.setAssumptions(algorithm.getAssumptions());
         persistedAlgorithm.setComputationModel(algorithm.getComputationModel());
 
-        updateRevisions(persistedAlgorithm);
-
         if (algorithm instanceof QuantumAlgorithm) {
             final QuantumAlgorithm quantumAlgorithm = (QuantumAlgorithm) algorithm;
             final QuantumAlgorithm persistedQuantumAlgorithm = (QuantumAlgorithm) persistedAlgorithm;
@@ -133,85 +160,11 @@ public class AlgorithmServiceImpl implements AlgorithmService {
     @Override
     @Transactional
     public void delete(@NonNull UUID algorithmId) {
-        final Algorithm algorithm = findById(algorithmId);
-
-        removeReferences(algorithm);
-
-        algorithmRepository.deleteById(algorithmId);
-
-        removeRevisions(algorithm);
-    }
-
-    /*
-     * drop older revisions if the amount of saved revisions is reached
-     */
-    private void updateRevisions(@NonNull Algorithm algorithm) {
-        final Revisions<Integer, Algorithm> revisions = algorithmRepository.findRevisions(algorithm.getId());
-        if (revisions.getContent().size() == Constants.REVISIONS_COUNT) {
-
-            // get oldest revision (first table entry)
-            final Revision<Integer, Algorithm> oldestRevision = revisions.getContent().get(0);
-            final int revisionId = oldestRevision.getRevisionNumber().orElseThrow();
-            final UUID algorithmId = oldestRevision.getEntity().getId();
-
-            // delete oldest revision related to the algorithm
-            if (algorithm instanceof ClassicAlgorithm) {
-                algorithmRepository.deleteClassicAlgorithmRevision(revisionId, algorithmId);
-            }
-            if (algorithm instanceof QuantumAlgorithm) {
-                algorithmRepository.deleteQuantumAlgorithmRevision(revisionId, algorithmId);
-            }
-            algorithmRepository.deleteAlgorithmRevision(revisionId, algorithmId);
-            algorithmRepository.deleteKnowledgeArtifactRevision(revisionId, algorithmId);
-            algorithmRepository.deleteRevisionInfo(revisionId);
-        }
-    }
-
-    private void removeRevisions(@NonNull Algorithm algorithm) {
-
-            final Revisions<Integer, Algorithm> revisions = algorithmRepository.findRevisions(algorithm.getId());
-
-            // delete all related revisions
-            if (algorithm instanceof ClassicAlgorithm) {
-                algorithmRepository.deleteAllClassicAlgorithmRevisions(algorithm.getId());
-            }
-            if (algorithm instanceof QuantumAlgorithm) {
-                algorithmRepository.deleteAllQuantumAlgorithmRevisions(algorithm.getId());
-            }
-            algorithmRepository.deleteAllAlgorithmRevisions(algorithm.getId());
-            algorithmRepository.deleteAllKnowledgeArtifactRevisions(algorithm.getId());
-            revisions.forEach(revision -> algorithmRepository.deleteRevisionInfo(revision.getRevisionNumber().orElseThrow()));
-    }
-
-    private void removeReferences(@NonNull Algorithm algorithm) {
-        // delete related implementations
-        algorithm.getImplementations().forEach(
-                implementation -> implementationService.delete(implementation.getId()));
-
-        // delete compute resource property
-        algorithm.getRequiredComputeResourceProperties().forEach(computeResourcePropertyRepository::delete);
-
-        // delete algorithm relations
-        algorithm.getAlgorithmRelations().forEach(algorithmRelationRepository::delete);
-
-        // delete related pattern relations
-        algorithm.getRelatedPatterns().forEach(
-                patternRelation -> patternRelationService.delete(patternRelation.getId()));
-
-        // remove links to publications
-        CollectionUtils.forEachOnCopy(algorithm.getPublications(),
-                publication -> publication.removeAlgorithm(algorithm));
-
-        // remove links to application areas
-        CollectionUtils.forEachOnCopy(algorithm.getApplicationAreas(),
-                applicationArea -> applicationArea.removeAlgorithm(algorithm));
-
-        // remove links to problem types
-        CollectionUtils.forEachOnCopy(algorithm.getProblemTypes(),
-                problemType -> problemType.removeAlgorithm(algorithm));
+        ServiceUtils.throwIfNotExists(algorithmId, Algorithm.class, algorithmRepository);
 
-        // remove link to tag
-        CollectionUtils.forEachOnCopy(algorithm.getTags(), tag -> tag.removeAlgorithm(algorithm));
+        // deletes the implementations, relations, sketches, links and revisions of the algorithm as well
+        algorithmRepository.deleteAlgorithmsCascading(List.of(algorithmId));
+        algorithmRelationGraph.removeAlgorithms(List.of(algorithmId));
     }
 
     @Override
@@ -303,13 +256,25 @@ public class AlgorithmServiceImpl implements AlgorithmService {
     @Override
     public Page<Revision<Integer, Algorithm>> findAlgorithmRevisions(@NonNull UUID algorithmId, @NonNull Pageable pageable) {
         ServiceUtils.throwIfNotExists(algorithmId, Algorithm.class, algorithmRepository);
-        return algorithmRepository.findRevisions(algorithmId, pageable);
+        final Page<Revision<Integer, Algorithm>> revisions = algorithmRepository.findRevisions(algorithmId, pageable);
+        algorithmRepository.restoreDeltaProperties(algorithmId, revisions.getContent());
+        return revisions;
     }
 
     @Override
     public Revision<Integer, Algorithm> findAlgorithmRevision(@NonNull UUID algorithmId, @NonNull Integer revisionId) {
-        return algorithmRepository.findRevision(algorithmId, revisionId).orElseThrow(()
+        final Revision<Integer, Algorithm> revision = algorithmRepository.findRevision(algorithmId, revisionId).orElseThrow(()
         -> new NoSuchElementException("Algorithm revision with Algorithm ID: " + algorithmId + "and Revision ID " + revisionId + "does not exist"));
+        algorithmRepository.restoreDeltaProperties(algorithmId, List.of(revision));
+        return revision;
+    }
+
+    @Override
+    public Revision<Integer, Algorithm> findAlgorithmRevisionAsOf(@NonNull UUID algorithmId, @NonNull Instant timestamp) {
+        final Revision<Integer, Algorithm> revision = algorithmRepository.findRevisionAsOf(algorithmId, timestamp).orElseThrow(()
+        -> new NoSuchElementException("Algorithm with ID: " + algorithmId + " did not exist at " + timestamp));
+        algorithmRepository.restoreDeltaProperties(algorithmId, List.of(revision));
+        return revision;
     }
 
     private Page<AlgorithmRelation> getAlgorithmRelations(@NonNull UUID algorithmId, @NonNull Pageable pageable) {
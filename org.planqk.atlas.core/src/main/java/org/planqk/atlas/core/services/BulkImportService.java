@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.AlgorithmRecord;
+import org.planqk.atlas.core.model.BulkImportJob;
+
+/**
+ * Service class for importing large numbers of {@link org.planqk.atlas.core.model.Algorithm}s together with their
+ * implementations and references at once.
+ */
+public interface BulkImportService {
+
+    /**
+     * Start the import of the given NDJSON document, i.e. one {@link AlgorithmRecord} per line. The document may be
+     * gzip-compressed.
+     * <p>
+     * The input stream is consumed completely (but not closed) before this method returns, afterwards the records are
+     * imported in the background. The records are persisted in chunks, each chunk in its own transaction, so a failure
+     * only discards the records of the affected chunk. Records that cannot be parsed or reference non-existing
+     * entities are skipped. All of them are reported by the returned {@link BulkImportJob}, which is updated while the
+     * import is running.
+     *
+     * @param records The NDJSON document containing the records to import
+     * @return The {@link BulkImportJob} reporting the progress of the import
+     */
+    BulkImportJob startImport(InputStream records);
+
+    /**
+     * Find a {@link BulkImportJob} that was started before.
+     * <p>
+     * Finished jobs are only kept for a limited time. If there is no job with the given ID this method will throw a
+     * {@link java.util.NoSuchElementException}.
+     *
+     * @param jobId The ID of the {@link BulkImportJob} we want to find
+     * @return The {@link BulkImportJob} with the given ID
+     */
+    BulkImportJob findJobById(UUID jobId);
+}
@@ -0,0 +1,502 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.AlgorithmRecord;
+import org.planqk.atlas.core.model.AlgorithmRecord.ImplementationRecord;
+import org.planqk.atlas.core.model.AlgorithmRecord.ProblemTypeRecord;
+import org.planqk.atlas.core.model.AlgorithmRecord.PublicationRecord;
+import org.planqk.atlas.core.model.AlgorithmRecord.TagRecord;
+import org.planqk.atlas.core.model.BulkImportJob;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.ComputationModel;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.model.QuantumAlgorithm;
+import org.planqk.atlas.core.model.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports {@link AlgorithmRecord}s without going through the single-entity services.
+ * <p>
+ * The records are read line by line from a temporary copy of the input and persisted in chunks of a configurable size,
+ * so neither the input nor the persistence context grow with the number of records. Problem types and tags are
+ * resolved against ids and names loaded once per import, publications against one query per chunk. Existing entities
+ * are only referenced from the owning side of the associations, which avoids loading their (large) inverse
+ * collections. Together with JDBC batching this keeps the number of statements per record constant.
+ */
+@Slf4j
+@Service
+public class BulkImportServiceImpl implements BulkImportService {
+
+    private static final Duration JOB_RETENTION = Duration.ofDays(1);
+
+    private final Map<UUID, BulkImportJob> jobs = new ConcurrentHashMap<>();
+
+    // imports run one after another, so they do not compete for the same new problem types, tags and publications
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("bulk-import-"));
+
+    private final ObjectReader recordReader = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(AlgorithmRecord.class);
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ProblemTypeHierarchy problemTypeHierarchy;
+
+    private final int chunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BulkImportServiceImpl(
+            PlatformTransactionManager transactionManager,
+            ProblemTypeHierarchy problemTypeHierarchy,
+            @Value("${org.planqk.atlas.bulk-import.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size of bulk imports must be positive");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.problemTypeHierarchy = problemTypeHierarchy;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkImportJob startImport(@NonNull InputStream records) {
+        removeExpiredJobs();
+        final Path file = copyToTemporaryFile(records);
+
+        final BulkImportJob job = new BulkImportJob(UUID.randomUUID());
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job, file));
+        return job;
+    }
+
+    @Override
+    public BulkImportJob findJobById(@NonNull UUID jobId) {
+        final BulkImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new NoSuchElementException("BulkImportJob with ID \"" + jobId + "\" does not exist");
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void removeExpiredJobs() {
+        final Date expiry = Date.from(Instant.now().minus(JOB_RETENTION));
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().before(expiry));
+    }
+
+    private static Path copyToTemporaryFile(InputStream records) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("atlas-bulk-import-", ".ndjson");
+            Files.copy(records, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            deleteTemporaryFile(file);
+            throw new UncheckedIOException("Could not buffer the records to import", e);
+        }
+    }
+
+    private static void deleteTemporaryFile(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", file, e);
+        }
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        final InputStream inputStream = new BufferedInputStream(Files.newInputStream(file));
+        inputStream.mark(2);
+        final int magic = inputStream.read() | (inputStream.read() << 8);
+        inputStream.reset();
+        return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(inputStream) : inputStream;
+    }
+
+    private void run(BulkImportJob job, Path file) {
+        job.setState(BulkImportJob.State.RUNNING);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(file), StandardCharsets.UTF_8))) {
+            final References references = transactionTemplate.execute(status -> loadReferences());
+            final List<NumberedRecord> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    chunk.add(new NumberedRecord(lineNumber, recordReader.readValue(line)));
+                } catch (JsonProcessingException e) {
+                    job.addError(lineNumber, e.getOriginalMessage());
+                    job.setFailedRecords(job.getFailedRecords() + 1);
+                    job.setProcessedRecords(job.getProcessedRecords() + 1);
+                }
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, references);
+                    chunk.clear();
+                }
+            }
+            importChunk(job, chunk, references);
+            job.setState(BulkImportJob.State.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            log.error("Bulk import {} failed", job.getId(), e);
+            job.addError(e.getMessage());
+            job.setState(BulkImportJob.State.FAILED);
+        } finally {
+            job.setFinishedAt(new Date());
+            deleteTemporaryFile(file);
+        }
+        log.info("Bulk import {} finished: {} algorithms and {} implementations imported, {} records failed", job.getId(),
+                job.getImportedAlgorithms(), job.getImportedImplementations(), job.getFailedRecords());
+    }
+
+    private References loadReferences() {
+        final References references = new References();
+        entityManager.createQuery("SELECT pt.id, pt.name FROM ProblemType pt", Object[].class).getResultStream()
+                .forEach(row -> references.addProblemType((UUID) row[0], (String) row[1]));
+        references.tagValues.addAll(entityManager.createQuery("SELECT t.value FROM Tag t", String.class).getResultList());
+        return references;
+    }
+
+    private void importChunk(BulkImportJob job, List<NumberedRecord> chunk, References references) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        final Chunk state = new Chunk(references);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                loadPublications(chunk, state);
+                chunk.forEach(numberedRecord -> importRecord(numberedRecord, state));
+            });
+            references.merge(state);
+            job.setImportedAlgorithms(job.getImportedAlgorithms() + state.algorithms);
+            job.setImportedImplementations(job.getImportedImplementations() + state.implementations);
+            job.setFailedRecords(job.getFailedRecords() + chunk.size() - state.algorithms);
+        } catch (RuntimeException e) {
+            log.warn("Chunk of bulk import {} failed", job.getId(), e);
+            job.addError("Lines " + chunk.get(0).lineNumber + " to " + chunk.get(chunk.size() - 1).lineNumber
+                    + " were not imported: " + e.getMessage());
+            job.setFailedRecords(job.getFailedRecords() + chunk.size());
+        }
+        state.errors.forEach(job::addError);
+        job.setProcessedRecords(job.getProcessedRecords() + chunk.size());
+    }
+
+    private void loadPublications(List<NumberedRecord> chunk, Chunk state) {
+        final List<PublicationRecord> publicationRecords = chunk.stream()
+                .flatMap(numberedRecord -> Stream.concat(Stream.of(numberedRecord.record.getPublications()),
+                        numberedRecord.record.getImplementations().stream().map(ImplementationRecord::getPublications)))
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+        final Set<UUID> ids = publicationRecords.stream().map(PublicationRecord::getId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        final Set<String> dois = publicationRecords.stream().map(PublicationRecord::getDoi)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+
+        if (!ids.isEmpty()) {
+            entityManager.createQuery("SELECT DISTINCT p FROM Publication p LEFT JOIN FETCH p.authors WHERE p.id IN :ids",
+                    Publication.class)
+                    .setParameter("ids", ids)
+                    .getResultStream()
+                    .forEach(publication -> state.publicationsById.put(publication.getId(), publication));
+        }
+        if (!dois.isEmpty()) {
+            entityManager.createQuery("SELECT DISTINCT p FROM Publication p LEFT JOIN FETCH p.authors WHERE p.doi IN :dois",
+                    Publication.class)
+                    .setParameter("dois", dois)
+                    .getResultStream()
+                    .forEach(publication -> state.publicationsByDoi.putIfAbsent(publication.getDoi(), publication));
+        }
+    }
+
+    private void importRecord(NumberedRecord numberedRecord, Chunk state) {
+        final AlgorithmRecord record = numberedRecord.record;
+        try {
+            // validate first, so an invalid record does not leave any new entities behind
+            validate(record, state);
+        } catch (IllegalArgumentException e) {
+            state.errors.add("Line " + numberedRecord.lineNumber + ": " + e.getMessage());
+            return;
+        }
+
+        final Algorithm algorithm = toAlgorithm(record);
+        record.getProblemTypes().forEach(problemType -> algorithm.getProblemTypes().add(resolveProblemType(problemType, state)));
+        record.getTags().forEach(tag -> algorithm.getTags().add(resolveTag(tag, state)));
+        record.getPublications().forEach(publication -> algorithm.getPublications().add(resolvePublication(publication, state)));
+        entityManager.persist(algorithm);
+
+        for (final ImplementationRecord implementationRecord : record.getImplementations()) {
+            final Implementation implementation = toImplementation(implementationRecord);
+            implementation.setImplementedAlgorithm(algorithm);
+            implementationRecord.getTags().forEach(tag -> implementation.getTags().add(resolveTag(tag, state)));
+            implementationRecord.getPublications()
+                    .forEach(publication -> implementation.getPublications().add(resolvePublication(publication, state)));
+            entityManager.persist(implementation);
+            state.implementations++;
+        }
+        state.algorithms++;
+    }
+
+    private static void validate(AlgorithmRecord record, Chunk state) {
+        if (record.getComputationModel() == null) {
+            throw new IllegalArgumentException("The computation model of the algorithm must not be null");
+        }
+        requireText(record.getName(), "The name of the algorithm must not be empty");
+        for (final ProblemTypeRecord problemType : record.getProblemTypes()) {
+            if (problemType.getId() != null) {
+                if (!state.references.problemTypeIds.contains(problemType.getId())) {
+                    throw new IllegalArgumentException("ProblemType with ID \"" + problemType.getId() + "\" does not exist");
+                }
+            } else {
+                requireText(problemType.getName(), "A problem type needs an ID or a name");
+            }
+        }
+        validateTagsAndPublications(record.getTags(), record.getPublications(), state);
+        for (final ImplementationRecord implementation : record.getImplementations()) {
+            requireText(implementation.getName(), "The name of an implementation must not be empty");
+            validateTagsAndPublications(implementation.getTags(), implementation.getPublications(), state);
+        }
+    }
+
+    private static void validateTagsAndPublications(List<TagRecord> tags, List<PublicationRecord> publications, Chunk state) {
+        tags.forEach(tag -> requireText(tag.getValue(), "The value of a tag must not be empty"));
+        for (final PublicationRecord publication : publications) {
+            if (publication.getId() != null) {
+                if (!state.publicationsById.containsKey(publication.getId())) {
+                    throw new IllegalArgumentException("Publication with ID \"" + publication.getId() + "\" does not exist");
+                }
+            } else if (publication.getDoi() == null || !state.publicationsByDoi.containsKey(publication.getDoi())) {
+                requireText(publication.getTitle(), "The title of a new publication must not be empty");
+            }
+        }
+    }
+
+    private static void requireText(String value, String message) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private ProblemType resolveProblemType(ProblemTypeRecord record, Chunk state) {
+        if (record.getId() != null) {
+            return entityManager.getReference(ProblemType.class, record.getId());
+        }
+        final UUID existingId = state.references.problemTypeIdsByName.get(record.getName());
+        if (existingId != null) {
+            return entityManager.getReference(ProblemType.class, existingId);
+        }
+        return state.newProblemTypes.computeIfAbsent(record.getName(), name -> {
+            final ProblemType problemType = new ProblemType();
+            problemType.setName(name);
+            entityManager.persist(problemType);
+            problemTypeHierarchy.invalidate();
+            return problemType;
+        });
+    }
+
+    private Tag resolveTag(TagRecord record, Chunk state) {
+        if (state.references.tagValues.contains(record.getValue())) {
+            return entityManager.getReference(Tag.class, record.getValue());
+        }
+        return state.newTags.computeIfAbsent(record.getValue(), value -> {
+            final Tag tag = new Tag();
+            tag.setValue(value);
+            tag.setCategory(record.getCategory());
+            entityManager.persist(tag);
+            return tag;
+        });
+    }
+
+    private Publication resolvePublication(PublicationRecord record, Chunk state) {
+        if (record.getId() != null) {
+            return state.publicationsById.get(record.getId());
+        }
+        if (record.getDoi() != null && state.publicationsByDoi.containsKey(record.getDoi())) {
+            return state.publicationsByDoi.get(record.getDoi());
+        }
+        final Publication publication = new Publication();
+        publication.setTitle(record.getTitle());
+        publication.setDoi(record.getDoi());
+        publication.setUrl(record.getUrl());
+        publication.setAuthors(new ArrayList<>(record.getAuthors()));
+        entityManager.persist(publication);
+        if (record.getDoi() != null) {
+            state.publicationsByDoi.put(record.getDoi(), publication);
+        }
+        return publication;
+    }
+
+    private static Algorithm toAlgorithm(AlgorithmRecord record) {
+        final Algorithm algorithm;
+        if (record.getComputationModel() == ComputationModel.CLASSIC) {
+            algorithm = new ClassicAlgorithm();
+        } else {
+            final QuantumAlgorithm quantumAlgorithm = new QuantumAlgorithm();
+            quantumAlgorithm.setNisqReady(record.isNisqReady());
+            quantumAlgorithm.setQuantumComputationModel(record.getQuantumComputationModel());
+            quantumAlgorithm.setSpeedUp(record.getSpeedUp());
+            algorithm = quantumAlgorithm;
+        }
+        algorithm.setComputationModel(record.getComputationModel());
+        algorithm.setName(record.getName());
+        algorithm.setAcronym(record.getAcronym());
+        algorithm.setIntent(record.getIntent());
+        algorithm.setProblem(record.getProblem());
+        algorithm.setInputFormat(record.getInputFormat());
+        algorithm.setOutputFormat(record.getOutputFormat());
+        algorithm.setAlgoParameter(record.getAlgoParameter());
+        algorithm.setSolution(record.getSolution());
+        algorithm.setAssumptions(record.getAssumptions());
+        return algorithm;
+    }
+
+    private static Implementation toImplementation(ImplementationRecord record) {
+        final Implementation implementation = new Implementation();
+        implementation.setName(record.getName());
+        implementation.setDescription(record.getDescription());
+        implementation.setContributors(record.getContributors());
+        implementation.setAssumptions(record.getAssumptions());
+        implementation.setParameter(record.getParameter());
+        implementation.setDependencies(record.getDependencies());
+        implementation.setVersion(record.getVersion());
+        implementation.setLicense(record.getLicense());
+        implementation.setTechnology(record.getTechnology());
+        implementation.setProblemStatement(record.getProblemStatement());
+        implementation.setInputFormat(record.getInputFormat());
+        implementation.setOutputFormat(record.getOutputFormat());
+        return implementation;
+    }
+
+    @RequiredArgsConstructor
+    private static class NumberedRecord {
+
+        private final long lineNumber;
+
+        private final AlgorithmRecord record;
+    }
+
+    /**
+     * Problem types and tags known to exist, valid for the whole import.
+     */
+    private static class References {
+
+        private final Set<UUID> problemTypeIds = new HashSet<>();
+
+        private final Map<String, UUID> problemTypeIdsByName = new HashMap<>();
+
+        private final Set<String> tagValues = new HashSet<>();
+
+        private void addProblemType(UUID id, String name) {
+            problemTypeIds.add(id);
+            if (name != null) {
+                problemTypeIdsByName.putIfAbsent(name, id);
+            }
+        }
+
+        /**
+         * Adds the entities created by a chunk, once it has been committed successfully.
+         */
+        private void merge(Chunk chunk) {
+            chunk.newProblemTypes.values().forEach(problemType -> addProblemType(problemType.getId(), problemType.getName()));
+            tagValues.addAll(chunk.newTags.keySet());
+        }
+    }
+
+    /**
+     * State of the chunk currently being imported, valid for a single transaction.
+     */
+    @RequiredArgsConstructor
+    private static class Chunk {
+
+        private final References references;
+
+        private final Map<UUID, Publication> publicationsById = new HashMap<>();
+
+        private final Map<String, Publication> publicationsByDoi = new HashMap<>();
+
+        private final Map<String, ProblemType> newProblemTypes = new HashMap<>();
+
+        private final Map<String, Tag> newTags = new HashMap<>();
+
+        private final List<String> errors = new ArrayList<>();
+
+        private long algorithms;
+
+        private long implementations;
+    }
+}
@@ -37,6 +37,9 @@ public interface CloudServiceService {
      * Retrieve multiple {@link CloudService} entries from the database where their name matches the name search
      * parameter. If there are no matches found an empty {@link Page} will be returned.
      * <p>
+     * A name matches if it contains the search string or a word similar to it, so the search tolerates typos. Unless
+     * a sort order is requested, the entries are ordered by their similarity to the search string.
+     * <p>
      * The amount of entries is based on the given {@link Pageable} parameter. If the {@link Pageable} is unpaged a
      * {@link Page} with all entries is queried.
      *
@@ -51,7 +51,7 @@ public class CloudServiceServiceImpl implements CloudServiceService {
 
     @Override
     public Page<CloudService> searchAllByName(String name, @NonNull Pageable pageable) {
-        return cloudServiceRepository.findAllByNameContainingIgnoreCase(name, pageable);
+        return cloudServiceRepository.findAll(name, pageable);
     }
 
     @Override
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.planqk.atlas.core.util.FileContentUtils;
+import org.springframework.core.io.AbstractResource;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.Blob;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Content of a file stored in a bucket, read chunk by chunk through a {@link ReadChannel} while it is consumed.
+ * Skipping bytes seeks the channel instead of reading them.
+ */
+@RequiredArgsConstructor
+class CloudStorageResource extends AbstractResource {
+
+    private final Blob blob;
+
+    private final String filename;
+
+    @Override
+    public String getDescription() {
+        return "Blob [" + blob.getBlobId() + "]";
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return blob.getSize();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        final ReadChannel reader = blob.reader();
+        reader.setChunkSize(FileContentUtils.CHUNK_SIZE);
+        return new ReadChannelInputStream(reader, contentLength());
+    }
+
+    @RequiredArgsConstructor
+    private static class ReadChannelInputStream extends InputStream {
+
+        private final ReadChannel reader;
+
+        private final long size;
+
+        private long position;
+
+        @Override
+        public int read() throws IOException {
+            final byte[] buffer = new byte[1];
+            return read(buffer, 0, 1) < 0 ? -1 : buffer[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= size) {
+                return -1;
+            }
+            int count;
+            do {
+                count = reader.read(ByteBuffer.wrap(buffer, offset, length));
+            } while (count == 0);
+            if (count > 0) {
+                position += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long skipped = Math.max(0, Math.min(n, size - position));
+            if (skipped > 0) {
+                position += skipped;
+                reader.seek(position);
+            }
+            return skipped;
+        }
+
+        @Override
+        public void close() {
+            reader.close();
+        }
+    }
+}
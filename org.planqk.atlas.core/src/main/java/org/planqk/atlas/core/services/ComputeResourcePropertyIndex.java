@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package org.planqk.atlas.core.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
+import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
+import org.planqk.atlas.core.repository.ComputeResourcePropertyValue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory index of the {@link ComputeResourceProperty}s provided by all compute resources, used to find the compute
+ * resources satisfying the properties required by an algorithm or implementation.
+ * <p>
+ * The values of {@link ComputeResourcePropertyDataType#INTEGER} and {@link ComputeResourcePropertyDataType#FLOAT}
+ * properties are kept as sorted arrays per property type, so the compute resources providing at least a required value
+ * are found by a binary search. {@link ComputeResourcePropertyDataType#STRING} properties are indexed by their exact
+ * value. The matches of all required properties are intersected as bit sets over the interned compute resources.
+ * <p>
+ * Like the {@link ProblemTypeHierarchy} the index is loaded by a single query, invalidated by the writes of the
+ * {@link ComputeResourcePropertyService} when their transaction completes and expires after a while.
+ */
+@Component
+@RequiredArgsConstructor
+public class ComputeResourcePropertyIndex {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(30);
+
+    private final ComputeResourcePropertyRepository computeResourcePropertyRepository;
+
+    private volatile Index index;
+
+    // incremented by every invalidation, guarded by this
+    private long generation;
+
+    /**
+     * Returns the compute resources satisfying all of the given required properties. A numeric property is satisfied
+     * by a provided property of the same type with a value greater than or equal to the required value, a string
+     * property by a provided property of the same type with the same value.
+     *
+     * @param requiredProperties The required properties with their types, must not be empty
+     * @return The IDs of the compute resources satisfying all required properties
+     */
+    public List<UUID> findComputeResourcesSatisfying(Collection<ComputeResourceProperty> requiredProperties) {
+        final Index currentIndex = getIndex();
+        BitSet satisfying = null;
+        for (final ComputeResourceProperty requiredProperty : requiredProperties) {
+            final BitSet satisfyingProperty = currentIndex.findSatisfying(requiredProperty);
+            if (satisfying == null) {
+                satisfying = satisfyingProperty;
+            } else {
+                satisfying.and(satisfyingProperty);
+            }
+        }
+        if (satisfying == null) {
+            throw new IllegalArgumentException("At least one required property has to be given");
+        }
+        return satisfying.stream().mapToObj(currentIndex.computeResourceIds::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Invalidates the index, it is invalidated again when the current transaction completes so that the next read sees
+     * the changes of the transaction.
+     */
+    public void invalidate() {
+        discardIndex();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    discardIndex();
+                }
+            });
+        }
+    }
+
+    private Index getIndex() {
+        Index currentIndex = index;
+        if (currentIndex == null || currentIndex.isExpired()) {
+            final long loadedGeneration = getGeneration();
+            currentIndex = new Index(computeResourcePropertyRepository.findAllProvidedValues());
+            publishIndex(currentIndex, loadedGeneration);
+        }
+        return currentIndex;
+    }
+
+    private synchronized long getGeneration() {
+        return generation;
+    }
+
+    private synchronized void discardIndex() {
+        generation++;
+        index = null;
+    }
+
+    // only keeps an index not invalidated during its load, which may have read the state before the invalidating write
+    private synchronized void publishIndex(Index loadedIndex, long loadedGeneration) {
+        if (generation == loadedGeneration) {
+            index = loadedIndex;
+        }
+    }
+
+    private static Double parseNumber(ComputeResourcePropertyDataType datatype, String value) {
+        if (!datatype.isValid(value)) {
+            return null;
+        }
+        return datatype == ComputeResourcePropertyDataType.INTEGER ? (double) Long.parseLong(value) : Double.parseDouble(value);
+    }
+
+    private static class Index {
+
+        private final long loadedAt = System.nanoTime();
+
+        private final List<UUID> computeResourceIds = new ArrayList<>();
+
+        private final Map<UUID, NumericValues> numericValues = new HashMap<>();
+
+        private final Map<UUID, Map<String, BitSet>> stringValues = new HashMap<>();
+
+        Index(List<ComputeResourcePropertyValue> providedValues) {
+            final Map<UUID, Integer> computeResourceIndexes = new HashMap<>();
+            final Map<UUID, List<ComputeResourcePropertyValue>> numericValuesByType = new HashMap<>();
+            for (final ComputeResourcePropertyValue providedValue : providedValues) {
+                if (computeResourceIndexes.putIfAbsent(providedValue.getComputeResourceId(), computeResourceIds.size()) == null) {
+                    computeResourceIds.add(providedValue.getComputeResourceId());
+                }
+                if (providedValue.getDatatype() == ComputeResourcePropertyDataType.STRING) {
+                    stringValues.computeIfAbsent(providedValue.getComputeResourcePropertyTypeId(), typeId -> new HashMap<>())
+                            .computeIfAbsent(providedValue.getValue(), value -> new BitSet())
+                            .set(computeResourceIndexes.get(providedValue.getComputeResourceId()));
+                } else if (providedValue.getDatatype() != null) {
+                    numericValuesByType.computeIfAbsent(providedValue.getComputeResourcePropertyTypeId(), typeId -> new ArrayList<>())
+                            .add(providedValue);
+                }
+            }
+            numericValuesByType.forEach((typeId, values) -> numericValues.put(typeId, new NumericValues(values, computeResourceIndexes)));
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TIME_TO_LIVE.toNanos();
+        }
+
+        BitSet findSatisfying(ComputeResourceProperty requiredProperty) {
+            final BitSet satisfying = new BitSet(computeResourceIds.size());
+            final ComputeResourcePropertyType type = requiredProperty.getComputeResourcePropertyType();
+            if (type.getDatatype() == ComputeResourcePropertyDataType.STRING) {
+                final BitSet providing = stringValues.getOrDefault(type.getId(), Map.of()).get(requiredProperty.getValue());
+                if (providing != null) {
+                    satisfying.or(providing);
+                }
+            } else if (type.getDatatype() != null) {
+                final NumericValues values = numericValues.get(type.getId());
+                final Double requiredValue = parseNumber(type.getDatatype(), requiredProperty.getValue());
+                if (values != null && requiredValue != null) {
+                    for (int i = values.findFirstAtLeast(requiredValue); i < values.values.length; i++) {
+                        satisfying.set(values.computeResources[i]);
+                    }
+                }
+            }
+            return satisfying;
+        }
+    }
+
+    // the provided values of one property type in ascending order with the indexes of the providing compute resources
+    private static class NumericValues {
+
+        private final double[] values;
+
+        private final int[] computeResources;
+
+        NumericValues(List<ComputeResourcePropertyValue> providedValues, Map<UUID, Integer> computeResourceIndexes) {
+            final double[] parsedValues = new double[providedValues.size()];
+            final int[] providingComputeResources = new int[providedValues.size()];
+            int count = 0;
+            for (final ComputeResourcePropertyValue providedValue : providedValues) {
+                final Double value = parseNumber(providedValue.getDatatype(), providedValue.getValue());
+                if (value != null) {
+                    parsedValues[count] = value;
+                    providingComputeResources[count] = computeResourceIndexes.get(providedValue.getComputeResourceId());
+                    count++;
+                }
+            }
+            final Integer[] order = new Integer[count];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparingDouble(i -> parsedValues[i]));
+            values = new double[count];
+            computeResources = new int[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = parsedValues[order[i]];
+                computeResources[i] = providingComputeResources[order[i]];
+            }
+        }
+
+        int findFirstAtLeast(double value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (values[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
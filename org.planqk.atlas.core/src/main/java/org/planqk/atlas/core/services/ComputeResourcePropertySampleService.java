@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.ComputeResourcePropertySample;
+import org.planqk.atlas.core.model.ComputeResourcePropertySampleBucket;
+
+/**
+ * Service class for the time series of numeric {@link ComputeResourceProperty}s, e.g. the calibration data of a QPU.
+ * <p>
+ * Samples are append-only: they are validated on arrival, buffered and written in batches (write-behind), so an
+ * ingestion neither loads nor saves the properties one by one. The value of a property follows its latest sample,
+ * until the next batch is written the latest samples are served from memory.
+ */
+public interface ComputeResourcePropertySampleService {
+
+    /**
+     * Adds samples of properties provided by the given {@link ComputeResource}. The samples are visible to all queries
+     * right away, but are persisted asynchronously by {@link #flush()}.
+     *
+     * @param computeResourceId The ID of the {@link ComputeResource} providing the sampled properties
+     * @param samples           The samples to add, in any order
+     * @throws java.util.NoSuchElementException if a property does not exist or is not provided by the compute resource
+     * @throws org.planqk.atlas.core.exceptions.InvalidResourceTypeValueException if a value does not match the data type
+     *                                                                            of its property or the property is not numeric
+     */
+    void addSamples(UUID computeResourceId, List<ComputeResourcePropertySample> samples);
+
+    /**
+     * Retrieve all samples of a property taken within [from, to), ordered by their timestamp.
+     *
+     * @param computeResourcePropertyId The ID of the sampled {@link ComputeResourceProperty}
+     * @param from                      The inclusive start of the time range
+     * @param to                        The exclusive end of the time range
+     * @return The samples within the time range
+     */
+    List<ComputeResourcePropertySample> findSamples(UUID computeResourcePropertyId, Instant from, Instant to);
+
+    /**
+     * Downsamples the samples of a property taken within [from, to) into buckets of the given interval, starting at
+     * from. Buckets without samples are omitted.
+     *
+     * @param computeResourcePropertyId The ID of the sampled {@link ComputeResourceProperty}
+     * @param from                      The inclusive start of the time range
+     * @param to                        The exclusive end of the time range
+     * @param interval                  The length of a bucket
+     * @return The non-empty buckets, ordered by their start
+     * @throws IllegalArgumentException if the time range or interval is empty or results in too many buckets
+     */
+    List<ComputeResourcePropertySampleBucket> findAggregatedSamples(UUID computeResourcePropertyId, Instant from, Instant to,
+                                                                    Duration interval);
+
+    /**
+     * Applies the latest buffered sample of the given property to its value, so reads reflect samples that were not
+     * flushed yet. The given property is not changed, so it may be a managed entity.
+     *
+     * @param computeResourceProperty The property to show the latest value of
+     * @return A detached copy of the property holding the latest sample as value, or the given property if it has no
+     * buffered sample
+     */
+    ComputeResourceProperty applyLatestSample(ComputeResourceProperty computeResourceProperty);
+
+    /**
+     * Deletes all samples of a property, e.g. because the property itself is deleted.
+     *
+     * @param computeResourcePropertyId The ID of the sampled {@link ComputeResourceProperty}
+     */
+    void deleteSamples(UUID computeResourcePropertyId);
+
+    /**
+     * Persists all buffered samples and updates the values of the sampled properties. Called periodically, samples
+     * of properties deleted in between are dropped.
+     */
+    void flush();
+}
@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+
+import org.planqk.atlas.core.exceptions.InvalidResourceTypeValueException;
+import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
+import org.planqk.atlas.core.model.ComputeResourcePropertySample;
+import org.planqk.atlas.core.model.ComputeResourcePropertySampleBucket;
+import org.planqk.atlas.core.model.ComputeResourcePropertySampleChunk;
+import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
+import org.planqk.atlas.core.repository.ComputeResourcePropertySampleChunkRepository;
+import org.planqk.atlas.core.util.SampleCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers the samples per property and appends them to the latest {@link ComputeResourcePropertySampleChunk} of the
+ * property when flushed, so a daily calibration of a QPU results in one chunk update per property instead of one row
+ * per sample.
+ * <p>
+ * While a batch is written its samples stay visible to queries. As buffered samples are read before the chunks, a
+ * sample written in between is read twice rather than not at all, duplicates are removed again.
+ */
+@Slf4j
+@Service
+public class ComputeResourcePropertySampleServiceImpl implements ComputeResourcePropertySampleService {
+
+    static final int MAX_CHUNK_SIZE = 1024;
+
+    private static final int MAX_BUCKETS = 10_000;
+
+    private final ComputeResourcePropertyRepository computeResourcePropertyRepository;
+
+    private final ComputeResourcePropertySampleChunkRepository computeResourcePropertySampleChunkRepository;
+
+    private final ComputeResourcePropertyIndex computeResourcePropertyIndex;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxPendingSamples;
+
+    private final Map<UUID, List<ComputeResourcePropertySample>> pendingSamples = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pendingSampleCount = new AtomicInteger();
+
+    private final Map<UUID, ComputeResourcePropertySample> latestSamples = new ConcurrentHashMap<>();
+
+    private volatile Map<UUID, List<ComputeResourcePropertySample>> flushingSamples = Map.of();
+
+    public ComputeResourcePropertySampleServiceImpl(
+            ComputeResourcePropertyRepository computeResourcePropertyRepository,
+            ComputeResourcePropertySampleChunkRepository computeResourcePropertySampleChunkRepository,
+            ComputeResourcePropertyIndex computeResourcePropertyIndex,
+            PlatformTransactionManager transactionManager,
+            @Value("${org.planqk.atlas.compute-resource-property-samples.max-pending:10000}") int maxPendingSamples) {
+        if (maxPendingSamples < 1) {
+            throw new IllegalArgumentException("The maximum number of pending samples must be positive");
+        }
+        this.computeResourcePropertyRepository = computeResourcePropertyRepository;
+        this.computeResourcePropertySampleChunkRepository = computeResourcePropertySampleChunkRepository;
+        this.computeResourcePropertyIndex = computeResourcePropertyIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPendingSamples = maxPendingSamples;
+    }
+
+    @Override
+    public void addSamples(@NonNull UUID computeResourceId, @NonNull List<ComputeResourcePropertySample> samples) {
+        final Map<UUID, ComputeResourceProperty> properties = findProperties(samples.stream()
+                .map(ComputeResourcePropertySample::getComputeResourcePropertyId)
+                .collect(Collectors.toSet()));
+        for (final ComputeResourcePropertySample sample : samples) {
+            final ComputeResourceProperty property = properties.get(sample.getComputeResourcePropertyId());
+            if (property == null || property.getComputeResource() == null || !property.getComputeResource().getId().equals(computeResourceId)) {
+                throw new NoSuchElementException("ComputeResourceProperty with ID \"" + sample.getComputeResourcePropertyId()
+                        + "\" of ComputeResource with ID \"" + computeResourceId + "\" does not exist");
+            }
+            validateSample(property, sample);
+        }
+
+        for (final ComputeResourcePropertySample sample : samples) {
+            pendingSamples.compute(sample.getComputeResourcePropertyId(), (id, pending) -> {
+                final List<ComputeResourcePropertySample> propertySamples = pending == null ? new ArrayList<>() : pending;
+                propertySamples.add(sample);
+                return propertySamples;
+            });
+            latestSamples.merge(sample.getComputeResourcePropertyId(), sample, ComputeResourcePropertySampleServiceImpl::later);
+        }
+        if (pendingSampleCount.addAndGet(samples.size()) >= maxPendingSamples) {
+            // the buffer is bounded, producers outpacing the periodic flush write the batch themselves
+            flush();
+        }
+    }
+
+    @Override
+    public List<ComputeResourcePropertySample> findSamples(@NonNull UUID computeResourcePropertyId, @NonNull Instant from,
+                                                           @NonNull Instant to) {
+        validateRange(from, to);
+        final List<ComputeResourcePropertySample> samples = new ArrayList<>();
+        pendingSamples.computeIfPresent(computeResourcePropertyId, (id, pending) -> {
+            samples.addAll(pending);
+            return pending;
+        });
+        samples.addAll(flushingSamples.getOrDefault(computeResourcePropertyId, List.of()));
+        for (final ComputeResourcePropertySampleChunk chunk : computeResourcePropertySampleChunkRepository
+                .findByComputeResourcePropertyIdAndStartTimeLessThanAndEndTimeGreaterThanEqual(computeResourcePropertyId, to, from)) {
+            samples.addAll(SampleCodec.decode(computeResourcePropertyId, chunk.getData(), chunk.getSampleCount()));
+        }
+
+        return samples.stream()
+                .filter(sample -> !sample.getTimestamp().isBefore(from) && sample.getTimestamp().isBefore(to))
+                .distinct()
+                .sorted(Comparator.comparing(ComputeResourcePropertySample::getTimestamp))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ComputeResourcePropertySampleBucket> findAggregatedSamples(@NonNull UUID computeResourcePropertyId, @NonNull Instant from,
+                                                                           @NonNull Instant to, @NonNull Duration interval) {
+        validateRange(from, to);
+        final long intervalMillis = interval.toMillis();
+        if (intervalMillis < 1) {
+            throw new IllegalArgumentException("The interval of the buckets must be at least one millisecond");
+        }
+        final long rangeMillis = Duration.between(from, to).toMillis();
+        if (rangeMillis / intervalMillis >= MAX_BUCKETS) {
+            throw new IllegalArgumentException("The time range is split into more than " + MAX_BUCKETS + " buckets, choose a larger interval");
+        }
+
+        final List<ComputeResourcePropertySampleBucket> buckets = new ArrayList<>();
+        ComputeResourcePropertySampleBucket bucket = null;
+        for (final ComputeResourcePropertySample sample : findSamples(computeResourcePropertyId, from, to)) {
+            final Instant start = from.plusMillis(Duration.between(from, sample.getTimestamp()).toMillis() / intervalMillis * intervalMillis);
+            if (bucket == null || !bucket.getStart().equals(start)) {
+                final Instant end = start.plusMillis(intervalMillis).isAfter(to) ? to : start.plusMillis(intervalMillis);
+                bucket = new ComputeResourcePropertySampleBucket(start, end, 0, sample.getValue(), sample.getValue(), 0);
+                buckets.add(bucket);
+            }
+            bucket.setCount(bucket.getCount() + 1);
+            bucket.setMin(Math.min(bucket.getMin(), sample.getValue()));
+            bucket.setMax(Math.max(bucket.getMax(), sample.getValue()));
+            bucket.setMean(bucket.getMean() + (sample.getValue() - bucket.getMean()) / bucket.getCount());
+        }
+        return buckets;
+    }
+
+    @Override
+    public ComputeResourceProperty applyLatestSample(@NonNull ComputeResourceProperty computeResourceProperty) {
+        final ComputeResourcePropertySample latestSample = latestSamples.get(computeResourceProperty.getId());
+        if (latestSample == null) {
+            return computeResourceProperty;
+        }
+        // a copy, as changing the value of a managed property would write the sample back to the property
+        final ComputeResourceProperty sampledProperty = new ComputeResourceProperty();
+        sampledProperty.setId(computeResourceProperty.getId());
+        sampledProperty.setComputeResourcePropertyType(computeResourceProperty.getComputeResourcePropertyType());
+        sampledProperty.setAlgorithm(computeResourceProperty.getAlgorithm());
+        sampledProperty.setImplementation(computeResourceProperty.getImplementation());
+        sampledProperty.setComputeResource(computeResourceProperty.getComputeResource());
+        sampledProperty.setValue(formatValue(computeResourceProperty.getComputeResourcePropertyType().getDatatype(), latestSample.getValue()));
+        return sampledProperty;
+    }
+
+    @Override
+    @Transactional
+    public void deleteSamples(@NonNull UUID computeResourcePropertyId) {
+        final List<ComputeResourcePropertySample> pending = pendingSamples.remove(computeResourcePropertyId);
+        if (pending != null) {
+            pendingSampleCount.addAndGet(-pending.size());
+        }
+        latestSamples.remove(computeResourcePropertyId);
+        computeResourcePropertySampleChunkRepository.deleteByComputeResourcePropertyId(computeResourcePropertyId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${org.planqk.atlas.compute-resource-property-samples.flush-interval:5000}")
+    public synchronized void flush() {
+        final Map<UUID, List<ComputeResourcePropertySample>> batch = new ConcurrentHashMap<>();
+        flushingSamples = batch;
+        for (final UUID computeResourcePropertyId : new ArrayList<>(pendingSamples.keySet())) {
+            // moved atomically, so queries find the samples in either of both maps
+            pendingSamples.computeIfPresent(computeResourcePropertyId, (id, pending) -> {
+                batch.put(id, pending);
+                return null;
+            });
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        final int sampleCount = batch.values().stream().mapToInt(List::size).sum();
+        pendingSampleCount.addAndGet(-sampleCount);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            log.debug("Wrote {} samples of {} compute resource properties", sampleCount, batch.size());
+            // from now on the values of the properties are up to date
+            batch.forEach((id, samples) -> latestSamples.remove(id, samples.stream().reduce(ComputeResourcePropertySampleServiceImpl::later).get()));
+        } catch (RuntimeException e) {
+            log.error("Could not write {} samples, retrying with the next flush", sampleCount, e);
+            batch.forEach((id, samples) -> pendingSamples.merge(id, new ArrayList<>(samples), (pending, failed) -> {
+                pending.addAll(failed);
+                return pending;
+            }));
+            pendingSampleCount.addAndGet(sampleCount);
+        } finally {
+            flushingSamples = Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void write(Map<UUID, List<ComputeResourcePropertySample>> batch) {
+        final Map<UUID, ComputeResourceProperty> properties = findProperties(batch.keySet());
+        final Set<UUID> computeResourceIds = new HashSet<>();
+        batch.forEach((id, batchSamples) -> {
+            final ComputeResourceProperty property = properties.get(id);
+            // the property may have been deleted in between
+            if (property == null) {
+                return;
+            }
+            // sorted in a copy, as the batch is read by queries concurrently
+            final List<ComputeResourcePropertySample> samples = new ArrayList<>(batchSamples);
+            samples.sort(Comparator.comparing(ComputeResourcePropertySample::getTimestamp));
+            if (append(id, samples)) {
+                property.setValue(formatValue(property.getComputeResourcePropertyType().getDatatype(),
+                        samples.get(samples.size() - 1).getValue()));
+                computeResourceIds.add(property.getComputeResource().getId());
+            }
+        });
+        if (!computeResourceIds.isEmpty()) {
+            computeResourcePropertyRepository.refreshPropertyDocuments(ComputeResource.class, computeResourceIds);
+            computeResourcePropertyIndex.invalidate();
+        }
+    }
+
+    /**
+     * Appends the given samples, ordered by their timestamp, to the latest chunk of the property as long as it has room
+     * for them and they follow its samples. Otherwise, new chunks are created, so late samples never rewrite history.
+     *
+     * @return Whether the samples are the latest of the property, i.e. its value has to be updated
+     */
+    private boolean append(UUID computeResourcePropertyId, List<ComputeResourcePropertySample> samples) {
+        final Optional<ComputeResourcePropertySampleChunk> latestChunk = computeResourcePropertySampleChunkRepository
+                .findFirstByComputeResourcePropertyIdOrderByEndTimeDesc(computeResourcePropertyId);
+        int appended = 0;
+        if (latestChunk.isPresent() && latestChunk.get().getSampleCount() < MAX_CHUNK_SIZE
+                && !samples.get(0).getTimestamp().isBefore(latestChunk.get().getEndTime())) {
+            final ComputeResourcePropertySampleChunk chunk = latestChunk.get();
+            appended = Math.min(MAX_CHUNK_SIZE - chunk.getSampleCount(), samples.size());
+            final List<ComputeResourcePropertySample> chunkSamples =
+                    SampleCodec.decode(computeResourcePropertyId, chunk.getData(), chunk.getSampleCount());
+            chunkSamples.addAll(samples.subList(0, appended));
+            setSamples(chunk, chunkSamples);
+        }
+        for (int i = appended; i < samples.size(); i += MAX_CHUNK_SIZE) {
+            final ComputeResourcePropertySampleChunk chunk = new ComputeResourcePropertySampleChunk();
+            chunk.setComputeResourcePropertyId(computeResourcePropertyId);
+            setSamples(chunk, samples.subList(i, Math.min(i + MAX_CHUNK_SIZE, samples.size())));
+            computeResourcePropertySampleChunkRepository.save(chunk);
+        }
+
+        final Instant latestTimestamp = samples.get(samples.size() - 1).getTimestamp();
+        return latestChunk.map(chunk -> !latestTimestamp.isBefore(chunk.getEndTime())).orElse(true);
+    }
+
+    private Map<UUID, ComputeResourceProperty> findProperties(Collection<UUID> computeResourcePropertyIds) {
+        if (computeResourcePropertyIds.isEmpty()) {
+            return Map.of();
+        }
+        return computeResourcePropertyRepository.findAllWithTypeByIdIn(computeResourcePropertyIds).stream()
+                .collect(Collectors.toMap(ComputeResourceProperty::getId, Function.identity()));
+    }
+
+    private static void setSamples(ComputeResourcePropertySampleChunk chunk, List<ComputeResourcePropertySample> samples) {
+        chunk.setData(SampleCodec.encode(samples));
+        chunk.setSampleCount(samples.size());
+        chunk.setStartTime(samples.get(0).getTimestamp());
+        chunk.setEndTime(samples.get(samples.size() - 1).getTimestamp());
+    }
+
+    private static void validateSample(ComputeResourceProperty property, ComputeResourcePropertySample sample) {
+        if (sample.getTimestamp() == null) {
+            throw new IllegalArgumentException("The samples of ComputeResourceProperty with ID \"" + property.getId() + "\" require a timestamp");
+        }
+        final ComputeResourcePropertyDataType datatype = property.getComputeResourcePropertyType().getDatatype();
+        if (datatype == ComputeResourcePropertyDataType.STRING) {
+            throw new InvalidResourceTypeValueException("Samples can only be added to compute resource properties of a numeric Type");
+        }
+        if (!Double.isFinite(sample.getValue())
+                || (datatype == ComputeResourcePropertyDataType.INTEGER && sample.getValue() != Math.rint(sample.getValue()))) {
+            throw new InvalidResourceTypeValueException("The value \"" + sample.getValue() + "\" is not valid for the Type " + datatype.name());
+        }
+    }
+
+    private static void validateRange(Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("The start of the time range has to be before its end");
+        }
+    }
+
+    private static ComputeResourcePropertySample later(ComputeResourcePropertySample sample, ComputeResourcePropertySample other) {
+        // the sample added last wins a tie, just like it does when the samples are sorted by their timestamp
+        return other.getTimestamp().isBefore(sample.getTimestamp()) ? sample : other;
+    }
+
+    private static String formatValue(ComputeResourcePropertyDataType datatype, double value) {
+        return datatype == ComputeResourcePropertyDataType.INTEGER ? Long.toString((long) value) : Double.toString(value);
+    }
+}
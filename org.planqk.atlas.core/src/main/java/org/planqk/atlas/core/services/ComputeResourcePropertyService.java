@@ -22,6 +22,7 @@ package org.planqk.atlas.core.services;
 import java.util.UUID;
 import javax.transaction.Transactional;
 
+import org.planqk.atlas.core.model.ComputeResource;
 import org.planqk.atlas.core.model.ComputeResourceProperty;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -162,6 +163,37 @@ public interface ComputeResourcePropertyService {
      */
     Page<ComputeResourceProperty> findComputeResourcePropertiesOfComputeResource(UUID computeResourceId, Pageable pageable);
 
+    /**
+     * Retrieve all {@link ComputeResource}s satisfying the {@link ComputeResourceProperty}s required by an {@link
+     * org.planqk.atlas.core.model.Algorithm}. A required property is satisfied by a provided property of the same
+     * type, which has at least the required value for numeric types and the same value for string types. If the
+     * algorithm requires no properties all compute resources are returned.
+     * <p>
+     * If no {@link org.planqk.atlas.core.model.Algorithm} with the given ID can be found a {@link
+     * java.util.NoSuchElementException} is thrown.
+     *
+     * @param algorithmId The ID of the {@link org.planqk.atlas.core.model.Algorithm} we want to find compute resources
+     *                    for
+     * @param pageable    The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of {@link ComputeResource}s satisfying all properties required by the algorithm
+     */
+    Page<ComputeResource> findComputeResourcesMatchingAlgorithm(UUID algorithmId, Pageable pageable);
+
+    /**
+     * Retrieve all {@link ComputeResource}s satisfying the {@link ComputeResourceProperty}s required by an {@link
+     * org.planqk.atlas.core.model.Implementation}. The properties are matched like in {@link
+     * #findComputeResourcesMatchingAlgorithm(UUID, Pageable)}.
+     * <p>
+     * If no {@link org.planqk.atlas.core.model.Implementation} with the given ID can be found a {@link
+     * java.util.NoSuchElementException} is thrown.
+     *
+     * @param implementationId The ID of the {@link org.planqk.atlas.core.model.Implementation} we want to find compute
+     *                         resources for
+     * @param pageable         The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of {@link ComputeResource}s satisfying all properties required by the implementation
+     */
+    Page<ComputeResource> findComputeResourcesMatchingImplementation(UUID implementationId, Pageable pageable);
+
     /**
      * Adds a {@link ComputeResourceProperty} to an existing {@link org.planqk.atlas.core.model.Algorithm}.
      * <p>
@@ -19,12 +19,18 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.ComputeResource;
 import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.HasId;
 import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.repository.AlgorithmRepository;
 import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
@@ -56,6 +62,10 @@ public class ComputeResourcePropertyServiceImpl implements ComputeResourceProper
 
     private final ComputeResourceRepository computeResourceRepository;
 
+    private final ComputeResourcePropertyIndex computeResourcePropertyIndex;
+
+    private final ComputeResourcePropertySampleService computeResourcePropertySampleService;
+
     @Override
     @Transactional
     public ComputeResourceProperty create(@NonNull ComputeResourceProperty computeResourceProperty) {
@@ -63,13 +73,20 @@ public class ComputeResourcePropertyServiceImpl implements ComputeResourceProper
                 computeResourcePropertyTypeService.findById(
                         computeResourceProperty.getComputeResourcePropertyType().getId()));
 
-        return computeResourcePropertyRepository.save(computeResourceProperty);
+        computeResourcePropertyIndex.invalidate();
+        final var savedComputeResourceProperty = computeResourcePropertyRepository.save(computeResourceProperty);
+        refreshPropertyDocuments(savedComputeResourceProperty);
+        return savedComputeResourceProperty;
     }
 
     @Override
     public ComputeResourceProperty findById(@NonNull UUID computeResourcePropertyId) {
-        return ServiceUtils.findById(computeResourcePropertyId, ComputeResourceProperty.class,
-                computeResourcePropertyRepository);
+        return computeResourcePropertySampleService.applyLatestSample(findPersistedById(computeResourcePropertyId));
+    }
+
+    // the persisted property without its latest sample, which has to be used for changes
+    private ComputeResourceProperty findPersistedById(UUID computeResourcePropertyId) {
+        return ServiceUtils.findById(computeResourcePropertyId, ComputeResourceProperty.class, computeResourcePropertyRepository);
     }
 
     @Override
@@ -77,43 +94,75 @@ public class ComputeResourcePropertyServiceImpl implements ComputeResourceProper
     public ComputeResourceProperty update(@NonNull ComputeResourceProperty computeResourceProperty) {
         final var computeResourcePropertyWithType = validateComputeResourceProperty(computeResourceProperty);
 
-        final var persistedComputeResourceProperty = findById(computeResourcePropertyWithType.getId());
+        final var persistedComputeResourceProperty = findPersistedById(computeResourcePropertyWithType.getId());
 
         persistedComputeResourceProperty.setValue(computeResourcePropertyWithType.getValue());
         persistedComputeResourceProperty.setComputeResourcePropertyType(
                 computeResourcePropertyWithType.getComputeResourcePropertyType());
 
-        return computeResourcePropertyRepository.save(persistedComputeResourceProperty);
+        computeResourcePropertyIndex.invalidate();
+        final var savedComputeResourceProperty = computeResourcePropertyRepository.save(persistedComputeResourceProperty);
+        refreshPropertyDocuments(savedComputeResourceProperty);
+        return savedComputeResourceProperty;
     }
 
     @Override
     @Transactional
     public void delete(@NonNull UUID computeResourcePropertyId) {
-        ServiceUtils.throwIfNotExists(computeResourcePropertyId, ComputeResourceProperty.class,
-                computeResourcePropertyRepository);
+        final ComputeResourceProperty computeResourceProperty = findPersistedById(computeResourcePropertyId);
 
         computeResourcePropertyRepository.deleteById(computeResourcePropertyId);
+        computeResourcePropertySampleService.deleteSamples(computeResourcePropertyId);
+        computeResourcePropertyIndex.invalidate();
+        refreshPropertyDocuments(computeResourceProperty);
     }
 
     @Override
     public Page<ComputeResourceProperty> findComputeResourcePropertiesOfAlgorithm(
             @NonNull UUID algorithmId, @NonNull Pageable pageable) {
         ServiceUtils.throwIfNotExists(algorithmId, Algorithm.class, algorithmRepository);
-        return computeResourcePropertyRepository.findAllByAlgorithmId(algorithmId, pageable);
+        return computeResourcePropertyRepository.findAllByAlgorithmId(algorithmId, pageable)
+                .map(computeResourcePropertySampleService::applyLatestSample);
     }
 
     @Override
     public Page<ComputeResourceProperty> findComputeResourcePropertiesOfImplementation(
             @NonNull UUID implementationId, @NonNull Pageable pageable) {
         ServiceUtils.throwIfNotExists(implementationId, Implementation.class, implementationRepository);
-        return computeResourcePropertyRepository.findAllByImplementationId(implementationId, pageable);
+        return computeResourcePropertyRepository.findAllByImplementationId(implementationId, pageable)
+                .map(computeResourcePropertySampleService::applyLatestSample);
     }
 
     @Override
     public Page<ComputeResourceProperty> findComputeResourcePropertiesOfComputeResource(
             @NonNull UUID computeResourceId, @NonNull Pageable pageable) {
         ServiceUtils.throwIfNotExists(computeResourceId, ComputeResource.class, computeResourceRepository);
-        return computeResourcePropertyRepository.findAllByComputeResourceId(computeResourceId, pageable);
+        return computeResourcePropertyRepository.findAllByComputeResourceId(computeResourceId, pageable)
+                .map(computeResourcePropertySampleService::applyLatestSample);
+    }
+
+    @Override
+    public Page<ComputeResource> findComputeResourcesMatchingAlgorithm(@NonNull UUID algorithmId, @NonNull Pageable pageable) {
+        ServiceUtils.throwIfNotExists(algorithmId, Algorithm.class, algorithmRepository);
+        return findMatchingComputeResources(computeResourcePropertyRepository.findAllWithTypeByAlgorithmId(algorithmId), pageable);
+    }
+
+    @Override
+    public Page<ComputeResource> findComputeResourcesMatchingImplementation(@NonNull UUID implementationId, @NonNull Pageable pageable) {
+        ServiceUtils.throwIfNotExists(implementationId, Implementation.class, implementationRepository);
+        return findMatchingComputeResources(
+                computeResourcePropertyRepository.findAllWithTypeByImplementationId(implementationId), pageable);
+    }
+
+    private Page<ComputeResource> findMatchingComputeResources(List<ComputeResourceProperty> requiredProperties, Pageable pageable) {
+        if (requiredProperties.isEmpty()) {
+            return computeResourceRepository.findAll(pageable);
+        }
+        final List<UUID> computeResourceIds = computeResourcePropertyIndex.findComputeResourcesSatisfying(requiredProperties);
+        if (computeResourceIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return computeResourceRepository.findByIdIn(computeResourceIds, pageable);
     }
 
     @Override
@@ -128,11 +177,14 @@ public class ComputeResourcePropertyServiceImpl implements ComputeResourceProper
         if (computeResourcePropertyWithType.getId() == null) {
             persistedComputeResourceProperty = this.create(computeResourcePropertyWithType);
         } else {
-            persistedComputeResourceProperty = findById(computeResourcePropertyWithType.getId());
+            persistedComputeResourceProperty = findPersistedById(computeResourcePropertyWithType.getId());
         }
 
+        final Algorithm previousAlgorithm = persistedComputeResourceProperty.getAlgorithm();
         persistedComputeResourceProperty.setAlgorithm(algorithm);
-        return this.computeResourcePropertyRepository.save(persistedComputeResourceProperty);
+        final var savedComputeResourceProperty = this.computeResourcePropertyRepository.save(persistedComputeResourceProperty);
+        refreshPropertyDocuments(Algorithm.class, previousAlgorithm, algorithm);
+        return savedComputeResourceProperty;
     }
 
     @Override
@@ -148,11 +200,14 @@ public class ComputeResourcePropertyServiceImpl implements ComputeResourceProper
         if (computeResourcePropertyWithType.getId() == null) {
             persistedComputeResourceProperty = this.create(computeResourcePropertyWithType);
         } else {
-            persistedComputeResourceProperty = findById(computeResourcePropertyWithType.getId());
+            persistedComputeResourceProperty = findPersistedById(computeResourcePropertyWithType.getId());
         }
 
+        final Implementation previousImplementation = persistedComputeResourceProperty.getImplementation();
         persistedComputeResourceProperty.setImplementation(implementation);
-        return this.computeResourcePropertyRepository.save(persistedComputeResourceProperty);
+        final var savedComputeResourceProperty = this.computeResourcePropertyRepository.save(persistedComputeResourceProperty);
+        refreshPropertyDocuments(Implementation.class, previousImplementation, implementation);
+        return savedComputeResourceProperty;
     }
 
     @Override
@@ -168,16 +223,20 @@ public class ComputeResourcePropertyServiceImpl implements ComputeResourceProper
         if (computeResourcePropertyWithType.getId() == null) {
             persistedComputeResourceProperty = this.create(computeResourcePropertyWithType);
         } else {
-            persistedComputeResourceProperty = findById(computeResourcePropertyWithType.getId());
+            persistedComputeResourceProperty = findPersistedById(computeResourcePropertyWithType.getId());
         }
 
+        final ComputeResource previousComputeResource = persistedComputeResourceProperty.getComputeResource();
         persistedComputeResourceProperty.setComputeResource(computeResource);
-        return this.computeResourcePropertyRepository.save(persistedComputeResourceProperty);
+        computeResourcePropertyIndex.invalidate();
+        final var savedComputeResourceProperty = this.computeResourcePropertyRepository.save(persistedComputeResourceProperty);
+        refreshPropertyDocuments(ComputeResource.class, previousComputeResource, computeResource);
+        return savedComputeResourceProperty;
     }
 
     @Override
     public void checkIfComputeResourcePropertyIsOfAlgorithm(UUID algorithmId, UUID computeResourcePropertyId) {
-        final ComputeResourceProperty computeResourceProperty = findById(computeResourcePropertyId);
+        final ComputeResourceProperty computeResourceProperty = findPersistedById(computeResourcePropertyId);
 
         if (computeResourceProperty.getAlgorithm() == null
                 || !computeResourceProperty.getAlgorithm().getId().equals(algorithmId)) {
@@ -188,7 +247,7 @@ public class ComputeResourcePropertyServiceImpl implements ComputeResourceProper
 
     @Override
     public void checkIfComputeResourcePropertyIsOfImplementation(UUID implementationId, UUID computeResourcePropertyId) {
-        final ComputeResourceProperty computeResourceProperty = findById(computeResourcePropertyId);
+        final ComputeResourceProperty computeResourceProperty = findPersistedById(computeResourcePropertyId);
 
         if (computeResourceProperty.getImplementation() == null
                 || !computeResourceProperty.getImplementation().getId().equals(implementationId)) {
@@ -199,7 +258,7 @@ public class ComputeResourcePropertyServiceImpl implements ComputeResourceProper
 
     @Override
     public void checkIfComputeResourcePropertyIsOfComputeResource(UUID computeResourceId, UUID computeResourcePropertyId) {
-        final ComputeResourceProperty computeResourceProperty = findById(computeResourcePropertyId);
+        final ComputeResourceProperty computeResourceProperty = findPersistedById(computeResourcePropertyId);
 
         if (computeResourceProperty.getComputeResource() == null ||
                 !computeResourceProperty.getComputeResource().getId().equals(computeResourceId)) {
@@ -208,6 +267,20 @@ public class ComputeResourcePropertyServiceImpl implements ComputeResourceProper
         }
     }
 
+    private void refreshPropertyDocuments(ComputeResourceProperty computeResourceProperty) {
+        refreshPropertyDocuments(Algorithm.class, computeResourceProperty.getAlgorithm());
+        refreshPropertyDocuments(Implementation.class, computeResourceProperty.getImplementation());
+        refreshPropertyDocuments(ComputeResource.class, computeResourceProperty.getComputeResource());
+    }
+
+    private void refreshPropertyDocuments(Class<? extends HasId> ownerClass, HasId... owners) {
+        final Set<UUID> ownerIds = Arrays.stream(owners)
+                .filter(Objects::nonNull)
+                .map(HasId::getId)
+                .collect(Collectors.toSet());
+        computeResourcePropertyRepository.refreshPropertyDocuments(ownerClass, ownerIds);
+    }
+
     private ComputeResourceProperty validateComputeResourceProperty(ComputeResourceProperty computeResourceProperty) {
         computeResourceProperty.setComputeResourcePropertyType(computeResourcePropertyTypeService
                 .findById(computeResourceProperty.getComputeResourcePropertyType().getId()));
@@ -44,6 +44,8 @@ public class ComputeResourcePropertyTypeServiceImpl implements ComputeResourcePr
 
     private final ComputeResourcePropertyRepository computeResourcePropertyRepository;
 
+    private final ComputeResourcePropertyIndex computeResourcePropertyIndex;
+
     @Override
     @Transactional
     public ComputeResourcePropertyType create(@NonNull ComputeResourcePropertyType computeResourcePropertyType) {
@@ -72,7 +74,11 @@ public class ComputeResourcePropertyTypeServiceImpl implements ComputeResourcePr
         persistedComputeResourcePropertyType.setDescription(computeResourcePropertyType.getDescription());
         persistedComputeResourcePropertyType.setDatatype(computeResourcePropertyType.getDatatype());
 
-        return computeResourcePropertyTypeRepository.save(persistedComputeResourcePropertyType);
+        // the data type decides how the properties of this type are matched, the name is the key in the property documents
+        computeResourcePropertyIndex.invalidate();
+        final var savedComputeResourcePropertyType = computeResourcePropertyTypeRepository.save(persistedComputeResourcePropertyType);
+        computeResourcePropertyRepository.refreshPropertyDocumentsOfType(savedComputeResourcePropertyType.getId());
+        return savedComputeResourcePropertyType;
     }
 
     @Override
@@ -19,10 +19,12 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.CloudService;
 import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.core.model.SoftwarePlatform;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +39,9 @@ public interface ComputeResourceService {
      * Retrieve multiple {@link ComputeResource} entries from the database where their name matches the name search
      * parameter. If there are no matches found an empty {@link Page} will be returned.
      * <p>
+     * A name matches if it contains the search string or a word similar to it, so the search tolerates typos. Unless
+     * a sort order is requested, the entries are ordered by their similarity to the search string.
+     * <p>
      * The amount of entries is based on the given {@link Pageable} parameter. If the {@link Pageable} is unpaged a
      * {@link Page} with all entries is queried.
      *
@@ -71,6 +76,17 @@ public interface ComputeResourceService {
      */
     Page<ComputeResource> findAll(Pageable pageable);
 
+    /**
+     * Retrieve all {@link ComputeResource} entries whose provided compute resource properties match all of the given filters,
+     * e.g. {@code qubitCount >= 127}. The filters are evaluated on the property document of each {@link ComputeResource}.
+     *
+     * @param propertyFilters The filters on the compute resource properties, all {@link ComputeResource}s are returned if empty
+     * @param pageable        The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of queried {@link ComputeResource} entries matching the filters
+     * @throws IllegalArgumentException if a range filter is not compared with a number
+     */
+    Page<ComputeResource> findAllByPropertyFilters(List<PropertyFilter> propertyFilters, Pageable pageable);
+
     /**
      * Find a database entry of a {@link ComputeResource} that is already saved in the database. This search is based on
      * the ID the database has given the {@link ComputeResource} object when it was created and first saved to the
@@ -19,14 +19,17 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.exceptions.EntityReferenceConstraintViolationException;
 import org.planqk.atlas.core.model.CloudService;
 import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.core.model.SoftwarePlatform;
 import org.planqk.atlas.core.repository.CloudServiceRepository;
 import org.planqk.atlas.core.repository.ComputeResourceRepository;
+import org.planqk.atlas.core.repository.PropertyFilterSpecification;
 import org.planqk.atlas.core.repository.SoftwarePlatformRepository;
 import org.planqk.atlas.core.util.CollectionUtils;
 import org.planqk.atlas.core.util.ServiceUtils;
@@ -54,7 +57,7 @@ public class ComputeResourceServiceImpl implements ComputeResourceService {
 
     @Override
     public Page<ComputeResource> searchAllByName(String name, @NonNull Pageable pageable) {
-        return computeResourceRepository.findAllByNameContainingIgnoreCase(name, pageable);
+        return computeResourceRepository.findAll(name, pageable);
     }
 
     @Override
@@ -68,6 +71,11 @@ public class ComputeResourceServiceImpl implements ComputeResourceService {
         return computeResourceRepository.findAll(pageable);
     }
 
+    @Override
+    public Page<ComputeResource> findAllByPropertyFilters(@NonNull List<PropertyFilter> propertyFilters, @NonNull Pageable pageable) {
+        return computeResourceRepository.findAll(new PropertyFilterSpecification<>(propertyFilters), pageable);
+    }
+
     @Override
     public ComputeResource findById(@NonNull UUID computeResourceId) {
         return ServiceUtils.findById(computeResourceId, ComputeResource.class, computeResourceRepository);
@@ -100,8 +100,14 @@ public class ConcreteSolutionServiceImpl implements ConcreteSolutionService {
     }
 
     @Override
+    @Transactional
     public void delete(UUID concreteSolutionId) {
-        this.concreteSolutionRepository.deleteById(concreteSolutionId);
+        final ConcreteSolution concreteSolution = findById(concreteSolutionId);
+        if (concreteSolution.getFile() != null) {
+            fileService.releaseContent(concreteSolution.getFile());
+        }
+        // the file is removed as orphan of the concrete solution
+        this.concreteSolutionRepository.delete(concreteSolution);
     }
 
 
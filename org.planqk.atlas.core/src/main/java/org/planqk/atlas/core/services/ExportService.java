@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service class for exporting the whole catalog, e.g. for backups or migrations.
+ */
+public interface ExportService {
+
+    /**
+     * Write all knowledge artifacts, their reference data and the links between them to the given output stream.
+     * <p>
+     * The export is an NDJSON document. Every line is a flat JSON object whose "type" property denotes the kind of
+     * entity or link, e.g. "algorithm" or "algorithm-tag". Entities are exported with their own properties only, their
+     * associations are exported as IDs or as separate link lines.
+     * <p>
+     * The entities are streamed from the database using a server-side cursor, so the memory needed does not depend on
+     * the size of the catalog. The output stream is flushed but not closed.
+     *
+     * @param outputStream The stream to write the export to
+     * @throws IOException If writing to the output stream fails
+     */
+    void exportCatalog(OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exports the catalog by streaming flat projections of all entities through a stateless, read-only session.
+ * <p>
+ * Only the exported columns are selected, so no entities are instantiated and there is no persistence context that
+ * would have to be cleared while streaming. Associations are exported as IDs, which are available without joins, or as
+ * link lines read directly from the join tables. Sketches, discussions and files are not part of the export.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    // rows transferred from the database per round trip
+    private static final int FETCH_SIZE = 1000;
+
+    // rows written between two flushes of the output, so the client receives the export continuously
+    private static final int FLUSH_INTERVAL = 1000;
+
+    // reference data first, then the artifacts and finally the links between them, so the export can be imported in order
+    private static final List<ExportQuery> EXPORT_QUERIES = List.of(
+            new ExportQuery("problem-type", "ProblemType pt",
+                    "pt.id id", "pt.name name", "pt.parentProblemType parentProblemTypeId"),
+            new ExportQuery("application-area", "ApplicationArea aa", "aa.id id", "aa.name name"),
+            new ExportQuery("learning-method", "LearningMethod lm", "lm.id id", "lm.name name"),
+            new ExportQuery("tag", "Tag t", "t.value value", "t.category category"),
+            new ExportQuery("algorithm-relation-type", "AlgorithmRelationType art",
+                    "art.id id", "art.name name", "art.inverseTypeName inverseTypeName"),
+            new ExportQuery("pattern-relation-type", "PatternRelationType prt", "prt.id id", "prt.name name"),
+            new ExportQuery("compute-resource-property-type", "ComputeResourcePropertyType crpt",
+                    "crpt.id id", "crpt.name name", "crpt.datatype datatype", "crpt.description description"),
+            new ExportQuery("algorithm", "Algorithm a LEFT JOIN QuantumAlgorithm qa ON qa.id = a.id",
+                    "a.id id", "a.computationModel computationModel", "a.name name", "a.acronym acronym",
+                    "a.intent intent", "a.problem problem", "a.inputFormat inputFormat", "a.outputFormat outputFormat",
+                    "a.algoParameter algoParameter", "a.solution solution", "a.assumptions assumptions",
+                    "qa.nisqReady nisqReady", "qa.quantumComputationModel quantumComputationModel", "qa.speedUp speedUp",
+                    "a.creationDate creationDate", "a.lastModifiedAt lastModifiedAt"),
+            new ExportQuery("implementation", "Implementation i",
+                    "i.id id", "i.implementedAlgorithm.id implementedAlgorithmId", "i.name name",
+                    "i.description description", "i.contributors contributors", "i.assumptions assumptions",
+                    "i.parameter parameter", "i.dependencies dependencies", "i.version version", "i.license license",
+                    "i.technology technology", "i.problemStatement problemStatement", "i.inputFormat inputFormat",
+                    "i.outputFormat outputFormat", "i.creationDate creationDate", "i.lastModifiedAt lastModifiedAt"),
+            new ExportQuery("publication", "Publication p",
+                    "p.id id", "p.title title", "p.doi doi", "p.url url",
+                    "p.creationDate creationDate", "p.lastModifiedAt lastModifiedAt"),
+            new ExportQuery("publication-author", "Publication p JOIN p.authors author",
+                    "p.id publicationId", "author author"),
+            new ExportQuery("software-platform", "SoftwarePlatform sp",
+                    "sp.id id", "sp.name name", "sp.link link", "sp.licence licence", "sp.version version"),
+            new ExportQuery("cloud-service", "CloudService cs",
+                    "cs.id id", "cs.name name", "cs.provider provider", "cs.url url", "cs.description description",
+                    "cs.costModel costModel"),
+            new ExportQuery("compute-resource", "ComputeResource cr",
+                    "cr.id id", "TYPE(cr) resourceType", "cr.name name", "cr.vendor vendor", "cr.technology technology",
+                    "cr.quantumComputationModel quantumComputationModel", "cr.qprovOrigin qprovOrigin"),
+            new ExportQuery("compute-resource-property", "ComputeResourceProperty crp",
+                    "crp.id id", "crp.computeResourcePropertyType.id computeResourcePropertyTypeId", "crp.value value",
+                    "crp.algorithm.id algorithmId", "crp.implementation.id implementationId",
+                    "crp.computeResource.id computeResourceId"),
+            new ExportQuery("algorithm-relation", "AlgorithmRelation ar",
+                    "ar.id id", "ar.sourceAlgorithm.id sourceAlgorithmId", "ar.targetAlgorithm.id targetAlgorithmId",
+                    "ar.algorithmRelationType.id algorithmRelationTypeId", "ar.description description"),
+            new ExportQuery("pattern-relation", "PatternRelation pr",
+                    "pr.id id", "pr.algorithm.id algorithmId", "pr.pattern pattern",
+                    "pr.patternRelationType.id patternRelationTypeId", "pr.description description"),
+            new ExportQuery("algorithm-problem-type", "Algorithm a JOIN a.problemTypes pt",
+                    "a.id algorithmId", "pt.id problemTypeId"),
+            new ExportQuery("algorithm-application-area", "Algorithm a JOIN a.applicationAreas aa",
+                    "a.id algorithmId", "aa.id applicationAreaId"),
+            new ExportQuery("algorithm-learning-method", "Algorithm a JOIN a.learningMethods lm",
+                    "a.id algorithmId", "lm.id learningMethodId"),
+            new ExportQuery("algorithm-tag", "Algorithm a JOIN a.tags t", "a.id algorithmId", "t.value tagValue"),
+            new ExportQuery("algorithm-publication", "Algorithm a JOIN a.publications p",
+                    "a.id algorithmId", "p.id publicationId"),
+            new ExportQuery("implementation-tag", "Implementation i JOIN i.tags t",
+                    "i.id implementationId", "t.value tagValue"),
+            new ExportQuery("implementation-publication", "Implementation i JOIN i.publications p",
+                    "i.id implementationId", "p.id publicationId"),
+            new ExportQuery("implementation-software-platform", "Implementation i JOIN i.softwarePlatforms sp",
+                    "i.id implementationId", "sp.id softwarePlatformId"),
+            new ExportQuery("software-platform-compute-resource", "SoftwarePlatform sp JOIN sp.supportedComputeResources cr",
+                    "sp.id softwarePlatformId", "cr.id computeResourceId"),
+            new ExportQuery("software-platform-cloud-service", "SoftwarePlatform sp JOIN sp.supportedCloudServices cs",
+                    "sp.id softwarePlatformId", "cs.id cloudServiceId"),
+            new ExportQuery("cloud-service-compute-resource", "CloudService cs JOIN cs.providedComputeResources cr",
+                    "cs.id cloudServiceId", "cr.id computeResourceId"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void exportCatalog(@NonNull OutputStream outputStream) throws IOException {
+        final SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        try (StatelessSession session = sessionFactory.openStatelessSession();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            // PostgreSQL only uses a cursor, i.e. respects the fetch size, within a transaction;
+            // all queries of the export read the same snapshot, so the exported relations are consistent
+            final Transaction transaction = session.beginTransaction();
+            session.createNativeQuery("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY").executeUpdate();
+            try {
+                for (final ExportQuery query : EXPORT_QUERIES) {
+                    export(session, query, generator);
+                }
+            } finally {
+                transaction.rollback();
+            }
+        }
+    }
+
+    private void export(StatelessSession session, ExportQuery query, JsonGenerator generator) throws IOException {
+        long rows = 0;
+        try (ScrollableResults results = session.createQuery(query.hql)
+                .setFetchSize(FETCH_SIZE)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                writeRow(query, results.get(), generator);
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        generator.flush();
+        log.debug("Exported {} rows of type {}", rows, query.type);
+    }
+
+    private static void writeRow(ExportQuery query, Object[] row, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", query.type);
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] != null) {
+                generator.writeFieldName(query.properties.get(i));
+                // the entity class is selected for the subtypes of compute resources
+                generator.writeObject(row[i] instanceof Class ? ((Class<?>) row[i]).getSimpleName() : row[i]);
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Query selecting the given "expression property" pairs for all rows of the from clause.
+     */
+    private static class ExportQuery {
+
+        private final String type;
+
+        private final String hql;
+
+        private final List<String> properties;
+
+        ExportQuery(String type, String fromClause, String... selections) {
+            this.type = type;
+            this.hql = Arrays.stream(selections)
+                    .map(selection -> selection.substring(0, selection.lastIndexOf(' ')))
+                    .collect(Collectors.joining(", ", "SELECT ", " FROM " + fromClause));
+            this.properties = Arrays.stream(selections)
+                    .map(selection -> selection.substring(selection.lastIndexOf(' ') + 1))
+                    .collect(Collectors.toList());
+        }
+    }
+}
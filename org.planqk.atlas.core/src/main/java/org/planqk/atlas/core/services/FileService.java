@@ -22,6 +22,7 @@ package org.planqk.atlas.core.services;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.File;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileService {
@@ -32,5 +33,33 @@ public interface FileService {
 
     void delete(UUID id);
 
-    byte[] getFileContent(UUID id);
+    /**
+     * Releases the reference of a file to its content, for files that are deleted together with the implementation
+     * package or concrete solution they belong to instead of by {@link #delete(UUID)}. The content is removed from the
+     * storage if no other file references it.
+     *
+     * @param file The deleted file
+     */
+    void releaseContent(File file);
+
+    /**
+     * Removes the contents that are no longer referenced by any file from the storage, e.g. because the files
+     * referencing them were deleted together with their implementations by bulk statements.
+     */
+    void deleteUnreferencedContents();
+
+    /**
+     * Removes the contents that were stored by uploads whose file could not be saved, e.g. because the database was
+     * unavailable, from the storage. Only storages addressing the contents by their checksum keep such contents.
+     */
+    void deleteOrphanedContents();
+
+    /**
+     * Returns the content of a file as resource, which is read from the storage while it is consumed. Skipping bytes
+     * of its input streams does not read them, so ranges of large files are served without reading the whole file.
+     *
+     * @param id The ID of the file
+     * @return The content of the file, its length is known in advance
+     */
+    Resource getFileContent(UUID id);
 }
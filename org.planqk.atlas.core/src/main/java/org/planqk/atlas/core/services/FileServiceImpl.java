@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 the qc-atlas contributors.
+ * Copyright (c) 2022 the qc-atlas contributors.
  *
  * See the NOTICE file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -21,54 +21,111 @@ package org.planqk.atlas.core.services;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.planqk.atlas.core.model.File;
-import org.planqk.atlas.core.model.FileData;
-import org.planqk.atlas.core.repository.FileDataRepository;
+import org.planqk.atlas.core.model.FileContent;
+import org.planqk.atlas.core.repository.FileContentRepository;
 import org.planqk.atlas.core.repository.FileRepository;
+import org.planqk.atlas.core.util.FileContentUtils;
 import org.planqk.atlas.core.util.ServiceUtils;
-import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Stores every content only once in the {@link FileStorage} of the active profile, addressed by its SHA-256 checksum.
+ * <p>
+ * The checksum of an upload is computed before its content is stored. If a content with this checksum is stored
+ * already, the upload only adds a reference to it and saves the new file, without transferring the content again.
+ * Otherwise, the content is stored and inserted with a single reference. The references are counted by the
+ * {@link FileContent}, a content is removed from the storage together with its last reference.
+ */
 @Slf4j
 @Service
-@Profile("!google-cloud")
-@AllArgsConstructor
 public class FileServiceImpl implements FileService {
 
+    // age of the contents deleted as orphaned, far beyond the time an upload takes from storing to referencing its content
+    private static final Duration ORPHANED_CONTENT_AGE = Duration.ofHours(1);
+
+    private static final int ORPHANED_CONTENT_BATCH_SIZE = 1000;
+
     private final FileRepository fileRepository;
 
-    private final FileDataRepository fileDataRepository;
+    private final FileContentRepository fileContentRepository;
+
+    private final FileStorage fileStorage;
 
+    private final TransactionTemplate transactionTemplate;
+
+    public FileServiceImpl(FileRepository fileRepository, FileContentRepository fileContentRepository, FileStorage fileStorage,
+                           PlatformTransactionManager transactionManager) {
+        this.fileRepository = fileRepository;
+        this.fileContentRepository = fileContentRepository;
+        this.fileStorage = fileStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * The content is stored before the file is saved, so the transaction saving the file does not span the transfer of
+     * the content.
+     */
     @Override
     public File create(MultipartFile file) {
-        final InputStream inputStream;
-        try {
-            inputStream = file.getInputStream();
+        final File createdFile = new File();
+        createdFile.setName(file.getOriginalFilename());
+        createdFile.setMimeType(file.getContentType());
+        createdFile.setFileURL(file.getOriginalFilename());
+        createdFile.setSize(file.getSize());
+        createdFile.setChecksum(computeChecksum(file));
 
-            final File createdFile = new File();
-            createdFile.setName(file.getOriginalFilename());
-            createdFile.setMimeType(file.getContentType());
-            createdFile.setFileURL(file.getOriginalFilename());
-
-            final FileData fileData = new FileData();
-            fileData.setData(inputStream.readAllBytes());
-            fileData.setFile(createdFile);
+        final File referencingFile = transactionTemplate.execute(status ->
+                fileContentRepository.addReference(createdFile.getChecksum()) ? fileRepository.save(createdFile) : null);
+        if (referencingFile != null) {
+            return referencingFile;
+        }
 
-            final File savedFile = fileRepository.save(createdFile);
-            fileDataRepository.save(fileData);
-            return savedFile;
+        final FileContent content = new FileContent(createdFile.getChecksum(), file.getSize(), null, 1);
+        try (InputStream data = file.getInputStream()) {
+            fileStorage.write(content, data);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new IllegalArgumentException("Cannot read contents of multipart file");
         }
 
-        return null;
+        final FileContent referencedContent;
+        try {
+            referencedContent = transactionTemplate.execute(status -> {
+                fileRepository.save(createdFile);
+                return fileContentRepository.insertOrAddReference(content);
+            });
+        } catch (RuntimeException e) {
+            deleteCopy(content);
+            throw e;
+        }
+        if (!Objects.equals(referencedContent.getContentId(), content.getContentId())) {
+            // the same content was stored by a concurrent upload, which is referenced instead
+            deleteCopy(content);
+        }
+        return createdFile;
     }
 
     @Override
@@ -80,15 +137,110 @@ public class FileServiceImpl implements FileService {
     @Transactional
     public void delete(UUID id) {
         final File file = findById(id);
-        final FileData fileData = fileDataRepository.findByFile(file);
-        fileRepository.deleteById(id);
-        fileDataRepository.delete(fileData);
+        fileRepository.delete(file);
+        releaseContent(file);
+    }
+
+    @Override
+    @Transactional
+    public void releaseContent(File file) {
+        if (file.getChecksum() == null || !fileContentRepository.removeReference(file.getChecksum())) {
+            fileStorage.deleteByFileURL(file);
+            return;
+        }
+        // the row of the content stays locked until the content is removed from the storage and the transaction is
+        // committed, so a concurrent upload of the same content cannot reference it and stores it again instead
+        fileContentRepository.deleteIfUnreferenced(file.getChecksum()).ifPresent(fileStorage::delete);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${org.planqk.atlas.files.content-cleanup-interval:600000}")
+    public void deleteUnreferencedContents() {
+        int deletedContents = 0;
+        for (final String checksum : fileContentRepository.findUnreferencedChecksums()) {
+            final Optional<FileContent> deletedContent = transactionTemplate.execute(status -> {
+                final Optional<FileContent> content = fileContentRepository.deleteIfUnreferenced(checksum);
+                content.ifPresent(fileStorage::delete);
+                return content;
+            });
+            if (deletedContent.isPresent()) {
+                deletedContents++;
+            }
+        }
+        if (deletedContents > 0) {
+            log.info("Deleted {} file contents no longer referenced by any file", deletedContents);
+        }
+    }
+
+    /**
+     * The stored contents are compared with the rows of the contents in batches, only contents without row are deleted.
+     * Each of them is deleted in a transaction that inserts its row without references in the meantime, so concurrent
+     * uploads of the same content cannot reference it until it is deleted and store it again instead.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${org.planqk.atlas.files.orphaned-content-cleanup-interval:86400000}")
+    public void deleteOrphanedContents() {
+        final Instant storedBefore = Instant.now().minus(ORPHANED_CONTENT_AGE);
+        int deletedContents = 0;
+        try (Stream<String> checksums = fileStorage.findChecksumsStoredBefore(storedBefore)) {
+            final Iterator<String> iterator = checksums.iterator();
+            while (iterator.hasNext()) {
+                final List<String> batch = new ArrayList<>(ORPHANED_CONTENT_BATCH_SIZE);
+                while (iterator.hasNext() && batch.size() < ORPHANED_CONTENT_BATCH_SIZE) {
+                    batch.add(iterator.next());
+                }
+                final Set<String> referencedChecksums = fileContentRepository.findAllById(batch).stream()
+                        .map(FileContent::getChecksum).collect(Collectors.toSet());
+                for (final String checksum : batch) {
+                    if (!referencedChecksums.contains(checksum) && deleteOrphanedContent(checksum, storedBefore)) {
+                        deletedContents++;
+                    }
+                }
+            }
+        }
+        if (deletedContents > 0) {
+            log.info("Deleted {} file contents stored by uploads whose file could not be saved", deletedContents);
+        }
     }
 
     @Override
-    public byte[] getFileContent(UUID id) {
+    public Resource getFileContent(UUID id) {
         final File file = findById(id);
-        final FileData fileData = fileDataRepository.findByFile(file);
-        return fileData.getData();
+        return Optional.ofNullable(file.getChecksum())
+                .flatMap(fileContentRepository::findById)
+                .map(content -> fileStorage.read(content, file.getName()))
+                .orElseGet(() -> fileStorage.readByFileURL(file));
+    }
+
+    /**
+     * A copy of a content that is identified by its content ID is not shared with other uploads, copies addressed by
+     * the checksum are kept for the next upload of the same content or deleted by {@link #deleteOrphanedContents()}.
+     */
+    private void deleteCopy(FileContent content) {
+        if (content.getContentId() != null) {
+            fileStorage.delete(content);
+        }
+    }
+
+    private boolean deleteOrphanedContent(String checksum, Instant storedBefore) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!fileContentRepository.insertUnreferenced(checksum)) {
+                // referenced by an upload in the meantime
+                return false;
+            }
+            final boolean deleted = fileStorage.deleteIfStoredBefore(new FileContent(checksum, 0, null, 0), storedBefore);
+            fileContentRepository.deleteIfUnreferenced(checksum);
+            return deleted;
+        }));
+    }
+
+    private static String computeChecksum(MultipartFile file) {
+        final MessageDigest digest = FileContentUtils.newDigest();
+        try (InputStream content = new DigestInputStream(file.getInputStream(), digest)) {
+            content.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read contents of multipart file");
+        }
+        return FileContentUtils.toChecksum(digest);
     }
 }
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.model.FileContent;
+import org.springframework.core.io.Resource;
+
+/**
+ * Storage of the {@link FileContent}s, one implementation of which is active per profile. The {@link FileService}
+ * stores every content only once and counts its references, so a content is written only if no file references it yet
+ * and deleted once no file references it anymore.
+ */
+public interface FileStorage {
+
+    /**
+     * Stores a content that is not referenced by any file. A storage addressing the content by its checksum may find it
+     * stored already, e.g. by a concurrent upload of the same content, and keeps it. Other storages store a new copy of
+     * the content and set its content ID.
+     *
+     * @param content The content, its checksum and size are set
+     * @param data    The data of the content, read until its end but not closed
+     * @throws IOException If the data cannot be read, in which case no content is stored
+     */
+    void write(FileContent content, InputStream data) throws IOException;
+
+    /**
+     * @param content  The stored content
+     * @param filename The name of the file the content is read for
+     * @return The content as resource, which is read from the storage while it is consumed and supports skipping bytes
+     * without reading them
+     */
+    Resource read(FileContent content, String filename);
+
+    /**
+     * @param content The stored content, which is no longer referenced
+     */
+    void delete(FileContent content);
+
+    /**
+     * Lists the contents stored before the given instant. A storage addressing the contents by their checksum keeps the
+     * contents of uploads whose file could not be saved, which are found among them, see {@link #write}.
+     *
+     * @param instant The instant, contents stored or found stored by {@link #write} since then are not listed
+     * @return The checksums of the contents, the stream has to be closed
+     */
+    default Stream<String> findChecksumsStoredBefore(Instant instant) {
+        return Stream.empty();
+    }
+
+    /**
+     * Deletes a content not referenced by any file, unless {@link #write} stored it or found it stored since the given
+     * instant. In that case, an upload of the same content is about to reference it.
+     *
+     * @param content The content, its checksum is set
+     * @param instant The instant
+     * @return Whether the content has been deleted
+     */
+    default boolean deleteIfStoredBefore(FileContent content, Instant instant) {
+        return false;
+    }
+
+    /**
+     * Reads the content of a file stored before contents were addressed by their checksum, which is stored under the URL
+     * of the file instead.
+     *
+     * @param file The file
+     * @return The content as resource, see {@link #read(FileContent, String)}
+     */
+    default Resource readByFileURL(File file) {
+        throw new NoSuchElementException("Content of File with ID \"" + file.getId() + "\" does not exist");
+    }
+
+    /**
+     * Deletes the content of a file stored before contents were addressed by their checksum, see
+     * {@link #readByFileURL(File)}.
+     *
+     * @param file The file
+     */
+    default void deleteByFileURL(File file) {
+    }
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import org.planqk.atlas.core.exceptions.CloudStorageException;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.model.FileContent;
+import org.planqk.atlas.core.util.FileContentUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stores every content as blob named by its checksum. The blob is only created if it does not exist yet, so concurrent
+ * uploads of the same content keep the blob that was written first.
+ */
+@Service
+@Profile("google-cloud")
+@RequiredArgsConstructor
+public class FileStorageCloudStorageImpl implements FileStorage {
+
+    private static final String CONTENT_PREFIX = "sha256/";
+
+    private final Storage storage;
+
+    @Value("${cloud.storage.implementation-files-bucket-name}")
+    private String implementationFilesBucketName;
+
+    /**
+     * The content is streamed to the bucket in chunks, so at most one chunk of it is held in memory. The upload is only
+     * completed if the whole data has been read, a blob is never created with a part of the content.
+     */
+    @Override
+    public void write(FileContent content, InputStream data) throws IOException {
+        final BlobInfo blobInfo = BlobInfo.newBuilder(getBlobId(content)).build();
+        try {
+            final WriteChannel writer = storage.writer(blobInfo, Storage.BlobWriteOption.doesNotExist());
+            writer.setChunkSize(FileContentUtils.CHUNK_SIZE);
+            final byte[] buffer = new byte[FileContentUtils.CHUNK_SIZE];
+            int length;
+            while ((length = data.readNBytes(buffer, 0, buffer.length)) > 0) {
+                final ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, length);
+                while (chunk.hasRemaining()) {
+                    writer.write(chunk);
+                }
+            }
+            writer.close();
+        } catch (StorageException e) {
+            if (e.getCode() != HttpURLConnection.HTTP_PRECON_FAILED) {
+                throw new CloudStorageException("Could not create file in storage");
+            }
+            // the blob exists already, its name guarantees that it has the same content
+        }
+    }
+
+    @Override
+    public Resource read(FileContent content, String filename) {
+        return read(getBlobId(content), filename);
+    }
+
+    @Override
+    public void delete(FileContent content) {
+        delete(getBlobId(content));
+    }
+
+    @Override
+    public Resource readByFileURL(File file) {
+        return read(BlobId.of(implementationFilesBucketName, file.getFileURL()), file.getName());
+    }
+
+    @Override
+    public void deleteByFileURL(File file) {
+        delete(BlobId.of(implementationFilesBucketName, file.getFileURL()));
+    }
+
+    private Resource read(BlobId blobId, String filename) {
+        try {
+            final Blob blob = this.storage.get(blobId);
+            if (blob == null) {
+                throw new NoSuchElementException("File with URL \"" + blobId.getName() + "\" does not exist");
+            }
+            return new CloudStorageResource(blob, filename);
+        } catch (StorageException e) {
+            throw new CloudStorageException("Could not get file from storage");
+        }
+    }
+
+    private void delete(BlobId blobId) {
+        try {
+            storage.delete(blobId);
+        } catch (StorageException e) {
+            throw new CloudStorageException("Could not delete file from storage");
+        }
+    }
+
+    private BlobId getBlobId(FileContent content) {
+        return BlobId.of(implementationFilesBucketName, CONTENT_PREFIX + content.getChecksum());
+    }
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.planqk.atlas.core.model.FileContent;
+import org.planqk.atlas.core.repository.FileContentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stores every content as PostgreSQL large object, written and read in chunks. As every write creates a new large
+ * object, the large object of a content is referenced by its content ID.
+ */
+@Service
+@Profile("!google-cloud & !local-filesystem")
+@RequiredArgsConstructor
+public class FileStorageLargeObjectImpl implements FileStorage {
+
+    private final FileContentRepository fileContentRepository;
+
+    @Override
+    public void write(FileContent content, InputStream data) throws IOException {
+        content.setContentId(fileContentRepository.writeContent(data));
+    }
+
+    @Override
+    public Resource read(FileContent content, String filename) {
+        return new LargeObjectResource(fileContentRepository, content.getContentId(), content.getSize(), filename);
+    }
+
+    @Override
+    public void delete(FileContent content) {
+        fileContentRepository.deleteContent(content.getContentId());
+    }
+}
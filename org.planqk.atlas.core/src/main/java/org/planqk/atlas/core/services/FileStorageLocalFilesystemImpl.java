@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.planqk.atlas.core.model.FileContent;
+import org.planqk.atlas.core.util.FileContentUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stores every content as file in a local (or mounted network) directory, at a path derived from its checksum. The
+ * files are spread over two levels of subdirectories named by the first characters of the checksum, so a directory
+ * holds at most a few thousand entries even for millions of contents.
+ * <p>
+ * A content is written to a temporary file first, which is moved to the path of the content once it is complete, so
+ * the file at the path of a content always holds the whole content. The contents are read as
+ * {@link FileSystemResource}s, which the web layer sends by the container directly from the file (sendfile) instead of
+ * copying them through the heap.
+ * <p>
+ * The modification time of a file tells when its content was stored or found stored by the last upload, so the
+ * contents of uploads whose file could not be saved are told apart from the contents of running uploads by their age.
+ */
+@Service
+@Profile("local-filesystem")
+public class FileStorageLocalFilesystemImpl implements FileStorage {
+
+    private final Path contentDirectory;
+
+    private final Path temporaryDirectory;
+
+    public FileStorageLocalFilesystemImpl(@Value("${org.planqk.atlas.files.local-directory}") String directory) throws IOException {
+        final Path root = Paths.get(directory).toAbsolutePath();
+        // the temporary files have to be on the same file system for the move to be atomic
+        this.contentDirectory = Files.createDirectories(root.resolve("sha256"));
+        this.temporaryDirectory = Files.createDirectories(root.resolve("tmp"));
+    }
+
+    @Override
+    public void write(FileContent content, InputStream data) throws IOException {
+        final Path path = getPath(content);
+        try {
+            // stored by an upload whose file could not be saved, its path guarantees that it has the same content. It is
+            // made recent, so it is not deleted as orphaned content before the file of this upload is saved
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return;
+        } catch (NoSuchFileException e) {
+            // not stored yet, or deleted as orphaned content in the meantime
+        }
+        final Path temporaryFile = Files.createTempFile(temporaryDirectory, content.getChecksum(), ".tmp");
+        try {
+            // the data is not closed by this method, so neither is its channel
+            final ReadableByteChannel source = Channels.newChannel(data);
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = channel.transferFrom(source, position, FileContentUtils.CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+                channel.force(true);
+            }
+            Files.createDirectories(path.getParent());
+            Files.move(temporaryFile, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // stored by a concurrent upload of the same content
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    @Override
+    public Resource read(FileContent content, String filename) {
+        final Path path = getPath(content);
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchElementException("File with path \"" + path + "\" does not exist");
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public void delete(FileContent content) {
+        try {
+            Files.deleteIfExists(getPath(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete file from storage", e);
+        }
+    }
+
+    @Override
+    public Stream<String> findChecksumsStoredBefore(Instant instant) {
+        try {
+            return Files.find(contentDirectory, 3, (path, attributes) -> attributes.isRegularFile()
+                    && attributes.lastModifiedTime().toInstant().isBefore(instant)).map(path -> path.getFileName().toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list files of storage", e);
+        }
+    }
+
+    /**
+     * The file is moved away before its age is checked, so a concurrent {@link #write} of the same content either finds
+     * it and makes it recent before, in which case it is moved back, or does not find it and stores the content again.
+     */
+    @Override
+    public boolean deleteIfStoredBefore(FileContent content, Instant instant) {
+        final Path path = getPath(content);
+        final Path removedFile = temporaryDirectory.resolve(content.getChecksum() + "-" + UUID.randomUUID() + ".tmp");
+        try {
+            try {
+                Files.move(path, removedFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+            try {
+                if (Files.getLastModifiedTime(removedFile).toInstant().isBefore(instant)) {
+                    return true;
+                }
+                Files.move(removedFile, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // stored again by a concurrent upload of the same content
+            } finally {
+                Files.deleteIfExists(removedFile);
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete file from storage", e);
+        }
+    }
+
+    private Path getPath(FileContent content) {
+        final String checksum = content.getChecksum();
+        return contentDirectory.resolve(checksum.substring(0, 2)).resolve(checksum.substring(2, 4)).resolve(checksum);
+    }
+}
@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageThumbnail;
+import org.planqk.atlas.core.repository.ImageRepository;
+import org.planqk.atlas.core.repository.ImageThumbnailRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates the {@link ImageThumbnail}s of uploaded {@link Image}s in the background, so uploads do not wait for the
+ * images to be decoded and scaled.
+ * <p>
+ * The generation runs on a fixed number of threads with a bounded queue, which bounds the memory held by decoded
+ * images. If the queue is full the thumbnails of an image are skipped, its original is served in every size instead.
+ * Thumbnails are only generated for sizes smaller than the image, and only for raster formats supported by ImageIO.
+ */
+@Slf4j
+@Component
+public class ImageThumbnailGenerator {
+
+    private static final int MAX_SIZE = ImageThumbnail.SIZES.stream().mapToInt(Integer::intValue).max().orElseThrow();
+
+    private final ImageRepository imageRepository;
+
+    private final ImageThumbnailRepository imageThumbnailRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolExecutor executor;
+
+    public ImageThumbnailGenerator(
+            ImageRepository imageRepository,
+            ImageThumbnailRepository imageThumbnailRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${org.planqk.atlas.sketches.thumbnail-threads:2}") int threads,
+            @Value("${org.planqk.atlas.sketches.thumbnail-queue-capacity:100}") int queueCapacity) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("The thumbnail generation requires at least one thread and one queued image");
+        }
+        this.imageRepository = imageRepository;
+        this.imageThumbnailRepository = imageThumbnailRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-thumbnails-"),
+                (task, executor) -> log.warn("Skipping thumbnails of an image, {} images are already waiting", queueCapacity));
+    }
+
+    /**
+     * Queues the generation of the thumbnails of the given image once the current transaction has been committed, so
+     * the image exists when its thumbnails are saved.
+     *
+     * @param imageId The ID of the {@link Image}
+     * @param data    The content of the image
+     */
+    public void generateAfterCommit(UUID imageId, byte[] data) {
+        final Runnable task = () -> generate(imageId, data);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(task);
+                }
+            });
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void generate(UUID imageId, byte[] data) {
+        try {
+            final List<ImageThumbnail> thumbnails = createThumbnails(data);
+            if (thumbnails.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                // the sketch may have been deleted in the meantime
+                if (imageRepository.existsById(imageId)) {
+                    final Image image = imageRepository.getOne(imageId);
+                    thumbnails.forEach(thumbnail -> thumbnail.setImage(image));
+                    imageThumbnailRepository.saveAll(thumbnails);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not generate the thumbnails of image {}", imageId, e);
+        }
+    }
+
+    /**
+     * Scales the given image down to every standard size smaller than the image. JPEG images are scaled to JPEG
+     * thumbnails, all others to PNG thumbnails, which keeps transparency and the sharp lines of drawings.
+     *
+     * @return The thumbnails, without image, or an empty list if the format is not supported
+     */
+    static List<ImageThumbnail> createThumbnails(byte[] data) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(data))) {
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return List.of();
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                final boolean jpeg = "jpeg".equalsIgnoreCase(reader.getFormatName());
+                return createThumbnails(read(reader), jpeg);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Huge images are decoded with subsampling (only every n-th pixel), so they are not held in full resolution.
+     */
+    private static BufferedImage read(ImageReader reader) throws IOException {
+        final int longerEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+        final ImageReadParam param = reader.getDefaultReadParam();
+        final int subsampling = Math.max(1, longerEdge / (2 * MAX_SIZE));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+    }
+
+    private static List<ImageThumbnail> createThumbnails(BufferedImage image, boolean jpeg) throws IOException {
+        final int longerEdge = Math.max(image.getWidth(), image.getHeight());
+        final int type = jpeg ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        final List<ImageThumbnail> thumbnails = new ArrayList<>();
+        // largest size first, as every thumbnail is scaled from the previous one
+        BufferedImage source = image;
+        for (int i = ImageThumbnail.SIZES.size() - 1; i >= 0; i--) {
+            final int size = ImageThumbnail.SIZES.get(i);
+            if (longerEdge <= size) {
+                continue;
+            }
+            final int width = Math.max(1, Math.round((float) image.getWidth() * size / longerEdge));
+            final int height = Math.max(1, Math.round((float) image.getHeight() * size / longerEdge));
+            source = scale(source, width, height, type);
+
+            final ImageThumbnail thumbnail = new ImageThumbnail();
+            thumbnail.setSize(size);
+            thumbnail.setMimeType(jpeg ? "image/jpeg" : "image/png");
+            thumbnail.setData(encode(source, jpeg ? "jpeg" : "png"));
+            thumbnails.add(thumbnail);
+        }
+        return thumbnails;
+    }
+
+    /**
+     * Bilinear interpolation only considers the neighbouring pixels, so the image is halved in several steps to avoid
+     * aliasing when scaling it down by a large factor.
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height, int type) {
+        BufferedImage current = source;
+        do {
+            final int stepWidth = Math.max(width, current.getWidth() / 2);
+            final int stepHeight = Math.max(height, current.getHeight() / 2);
+            final BufferedImage next = new BufferedImage(stepWidth, stepHeight, type);
+            final Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, stepWidth, stepHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (current.getWidth() != width || current.getHeight() != height);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
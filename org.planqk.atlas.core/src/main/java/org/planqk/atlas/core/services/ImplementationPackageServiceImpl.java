@@ -79,11 +79,12 @@ public class ImplementationPackageServiceImpl implements ImplementationPackageSe
     @Override
     @Transactional
     public void delete(UUID implementationPackageId) {
-        // final ImplementationPackage implementationPackage = findById(implementationPackageId);
-
-        // removeReferences(implementationPackage);
-
-        implementationPackageRepository.deleteById(implementationPackageId);
+        final ImplementationPackage implementationPackage = findById(implementationPackageId);
+        if (implementationPackage.getFile() != null) {
+            fileService.releaseContent(implementationPackage.getFile());
+        }
+        // the file is removed as orphan of the implementation package
+        implementationPackageRepository.delete(implementationPackage);
     }
 
     @Override
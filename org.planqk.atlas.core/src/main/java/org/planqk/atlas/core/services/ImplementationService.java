@@ -20,14 +20,20 @@
 package org.planqk.atlas.core.services;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.KeysetSlice;
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.core.model.Publication;
 import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.planqk.atlas.core.repository.ImplementationSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.history.Revision;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -67,6 +73,63 @@ public interface ImplementationService {
      */
     Page<Implementation> findAll(Pageable pageable);
 
+    /**
+     * Retrieve all {@link Implementation} entries whose required compute resource properties match all of the given filters,
+     * e.g. {@code qubitCount >= 127}. The filters are evaluated on the property document of each {@link Implementation}.
+     *
+     * @param propertyFilters The filters on the compute resource properties, all {@link Implementation}s are returned if empty
+     * @param pageable        The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of queried {@link Implementation} entries matching the filters
+     * @throws IllegalArgumentException if a range filter is not compared with a number
+     */
+    Page<Implementation> findAllByPropertyFilters(List<PropertyFilter> propertyFilters, Pageable pageable);
+
+    /**
+     * Retrieve the {@link Implementation} entries following the position encoded by the given cursor.
+     * <p>
+     * In contrast to offset based pages, the cost of retrieving a slice does not depend on its position and no count
+     * query is executed. The entries are ordered by the sort of the given {@link Pageable} and their id, the page
+     * number is ignored.
+     *
+     * @param pageable The size and sort of the slice we want to retrieve
+     * @param cursor   The cursor returned with the previous slice, null or empty to retrieve the first slice
+     * @return The slice of queried {@link Implementation} entries together with the cursor of the following slice
+     */
+    KeysetSlice<Implementation> findAllAfter(Pageable pageable, String cursor);
+
+    /**
+     * Retrieve multiple {@link Implementation} entries from the database without counting the total number of entries.
+     * <p>
+     * Only the entries of the requested page and one additional entry, to find out whether another page follows, are
+     * queried.
+     *
+     * @param pageable The page information, namely page size and page number, of the slice we want to retrieve
+     * @return The slice of queried {@link Implementation} entries
+     */
+    Slice<Implementation> findAllWithoutCount(Pageable pageable);
+
+    /**
+     * Retrieve multiple {@link Implementation} entries from the database together with an estimated total number of entries.
+     * <p>
+     * Instead of counting all entries, the total is estimated based on the statistics of the database. This is
+     * considerably cheaper for large tables, but the total may deviate from the exact number of entries.
+     *
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of queried {@link Implementation} entries
+     */
+    Page<Implementation> findAllWithEstimatedCount(Pageable pageable);
+
+    /**
+     * Retrieve summaries of multiple {@link Implementation} entries from the database.
+     * <p>
+     * In contrast to {@link #findAll}, only the scalar attributes needed by list views are queried and no entities are
+     * loaded, so this is the cheapest way to retrieve a page of implementations for read-only purposes.
+     *
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of queried {@link ImplementationSummary} entries
+     */
+    Page<ImplementationSummary> findAllSummaries(Pageable pageable);
+
     /**
      * Find a database entry of a {@link Implementation} that is already saved in the database. This search is based on
      * the ID the database has given the {@link Implementation} object when it was created and first saved to the
@@ -199,6 +262,19 @@ public interface ImplementationService {
      */
     Revision<Integer, Implementation> findImplementationRevision(UUID implementationId, Integer revisionNumber);
 
+    /**
+     * Retrieve the {@link Implementation} revision that was current at the given point in time, i.e. the latest revision created at
+     * or before it.
+     * <p>
+     * If the {@link Implementation} with the given ID did not exist at that point in time a {@link java.util.NoSuchElementException} is
+     * thrown.
+     *
+     * @param implementationId The ID of the {@link Implementation}
+     * @param timestamp        The point in time
+     * @return The {@link Revision} that was current at the given point in time
+     */
+    Revision<Integer, Implementation> findImplementationRevisionAsOf(UUID implementationId, Instant timestamp);
+
     /**
      * Retrieve multiple {@link Implementation}s entries from the database which implement a given Pattern. If
      * no entries are found an empty page is returned.
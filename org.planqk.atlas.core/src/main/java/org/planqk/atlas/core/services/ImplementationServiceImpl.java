@@ -20,28 +20,29 @@
 package org.planqk.atlas.core.services;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
-import org.planqk.atlas.core.model.ClassicImplementation;
 import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.KeysetSlice;
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.core.model.Publication;
-import org.planqk.atlas.core.model.QuantumImplementation;
 import org.planqk.atlas.core.model.SoftwarePlatform;
 import org.planqk.atlas.core.repository.AlgorithmRepository;
-import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
 import org.planqk.atlas.core.repository.FileRepository;
 import org.planqk.atlas.core.repository.ImplementationRepository;
+import org.planqk.atlas.core.repository.ImplementationSummary;
+import org.planqk.atlas.core.repository.PropertyFilterSpecification;
 import org.planqk.atlas.core.repository.PublicationRepository;
 import org.planqk.atlas.core.repository.SoftwarePlatformRepository;
-import org.planqk.atlas.core.util.CollectionUtils;
-import org.planqk.atlas.core.util.Constants;
 import org.planqk.atlas.core.util.ServiceUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.history.Revision;
-import org.springframework.data.history.Revisions;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -62,8 +63,6 @@ public class ImplementationServiceImpl implements ImplementationService {
 
     private final AlgorithmRepository algorithmRepository;
 
-    private final ComputeResourcePropertyRepository computeResourcePropertyRepository;
-
     private final FileRepository fileRepository;
 
     private final FileService fileService;
@@ -83,6 +82,31 @@ public class ImplementationServiceImpl implements ImplementationService {
         return this.implementationRepository.findAll(pageable);
     }
 
+    @Override
+    public Page<Implementation> findAllByPropertyFilters(@NonNull List<PropertyFilter> propertyFilters, @NonNull Pageable pageable) {
+        return implementationRepository.findAll(new PropertyFilterSpecification<>(propertyFilters), pageable);
+    }
+
+    @Override
+    public KeysetSlice<Implementation> findAllAfter(@NonNull Pageable pageable, String cursor) {
+        return implementationRepository.findAllAfter(cursor, pageable);
+    }
+
+    @Override
+    public Slice<Implementation> findAllWithoutCount(@NonNull Pageable pageable) {
+        return implementationRepository.findAllBy(pageable);
+    }
+
+    @Override
+    public Page<Implementation> findAllWithEstimatedCount(@NonNull Pageable pageable) {
+        return ServiceUtils.toEstimatedPage(implementationRepository.findAllBy(pageable), implementationRepository::estimateCount);
+    }
+
+    @Override
+    public Page<ImplementationSummary> findAllSummaries(@NonNull Pageable pageable) {
+        return implementationRepository.findAllSummaries(pageable);
+    }
+
     @Override
     public Implementation findById(@NonNull UUID implementationId) {
         return ServiceUtils.findById(implementationId, Implementation.class, implementationRepository);
@@ -107,80 +131,16 @@ public class ImplementationServiceImpl implements ImplementationService {
         persistedImplementation.setTechnology(implementation.getTechnology());
         persistedImplementation.setPatterns(implementation.getPatterns());
 
-        updateRevisions(persistedImplementation);
-
         return implementationRepository.save(persistedImplementation);
     }
 
     @Override
     @Transactional
     public void delete(@NonNull UUID implementationId) {
-        final Implementation implementation = findById(implementationId);
-
-        removeReferences(implementation);
-
-        implementationRepository.deleteById(implementationId);
-
-        removeRevisions(implementation);
-    }
-
-    /*
-     * drop older revisions if the amount of saved revisions is reached
-     */
-    private void updateRevisions(@NonNull Implementation implementation) {
-        final Revisions<Integer, Implementation> revisions = implementationRepository.findRevisions(implementation.getId());
-        if (revisions.getContent().size() == Constants.REVISIONS_COUNT) {
-
-            // get oldest revision (first table entry)
-            final Revision<Integer, Implementation> oldestRevision = revisions.getContent().get(0);
-            final int revisionId = oldestRevision.getRevisionNumber().orElseThrow();
-            final UUID implementationId = oldestRevision.getEntity().getId();
-
-            // delete oldest revision related to the implementation
-            if (implementation instanceof ClassicImplementation) {
-                implementationRepository.deleteClassicImplementationRevision(revisionId, implementationId);
-            }
-            if (implementation instanceof QuantumImplementation) {
-                implementationRepository.deleteQuantumImplementationRevision(revisionId, implementationId);
-            }
-            implementationRepository.deleteImplementationRevision(revisionId, implementationId);
-            algorithmRepository.deleteKnowledgeArtifactRevision(revisionId, implementationId);
-            algorithmRepository.deleteRevisionInfo(revisionId);
-        }
-    }
-
-    private void removeRevisions(@NonNull Implementation implementation) {
-
-        final Revisions<Integer, Implementation> revisions = implementationRepository.findRevisions(implementation.getId());
-
-        // delete all related revisions
-        if (implementation instanceof ClassicImplementation) {
-            implementationRepository.deleteAllClassicImplementationRevisions(implementation.getId());
-        }
-        if (implementation instanceof QuantumImplementation) {
-            implementationRepository.deleteAllQuantumImplementationRevisions(implementation.getId());
-        }
-
-        // delete all related revisions
-        implementationRepository.deleteAllImplementationRevisions(implementation.getId());
-        algorithmRepository.deleteAllKnowledgeArtifactRevisions(implementation.getId());
-        revisions.forEach(revision -> algorithmRepository.deleteRevisionInfo(revision.getRevisionNumber().orElseThrow()));
-    }
-
-    private void removeReferences(@NonNull Implementation implementation) {
-        // Remove reference from algorithm
-        implementation.setImplementedAlgorithm(null);
-
-        // Delete compute resource property
-        implementation.getRequiredComputeResourceProperties().forEach(computeResourcePropertyRepository::delete);
-
-        // Remove links to publications
-        CollectionUtils.forEachOnCopy(implementation.getPublications(),
-                publication -> publication.removeImplementation(implementation));
+        ServiceUtils.throwIfNotExists(implementationId, Implementation.class, implementationRepository);
 
-        // Remove links to software platforms
-        CollectionUtils.forEachOnCopy(implementation.getSoftwarePlatforms(),
-                softwarePlatform -> softwarePlatform.removeImplementation(implementation));
+        // deletes the packages, compute resource properties, links and revisions of the implementation as well
+        implementationRepository.deleteImplementationsCascading(List.of(implementationId));
     }
 
     @Override
@@ -216,9 +176,19 @@ public class ImplementationServiceImpl implements ImplementationService {
 
     @Override
     public Revision<Integer, Implementation> findImplementationRevision(@NonNull UUID implementationId, @NonNull Integer revisionId) {
-        return implementationRepository.findRevision(implementationId, revisionId).orElseThrow(()
+        final Revision<Integer, Implementation> revision = implementationRepository.findRevision(implementationId, revisionId).orElseThrow(()
                 -> new NoSuchElementException("Implementation revision with Implementation ID: "
                 + implementationId + "and Revision ID " + revisionId + "does not exist"));
+        implementationRepository.restoreDeltaProperties(implementationId, List.of(revision));
+        return revision;
+    }
+
+    @Override
+    public Revision<Integer, Implementation> findImplementationRevisionAsOf(@NonNull UUID implementationId, @NonNull Instant timestamp) {
+        final Revision<Integer, Implementation> revision = implementationRepository.findRevisionAsOf(implementationId, timestamp).orElseThrow(()
+                -> new NoSuchElementException("Implementation with ID: " + implementationId + " did not exist at " + timestamp));
+        implementationRepository.restoreDeltaProperties(implementationId, List.of(revision));
+        return revision;
     }
 
     @Override
@@ -230,6 +200,8 @@ public class ImplementationServiceImpl implements ImplementationService {
     public Page<Revision<Integer, Implementation>> findImplementationRevisions(@NonNull UUID implementationId, @NonNull Pageable pageable) {
         ServiceUtils.throwIfNotExists(implementationId, Implementation.class, implementationRepository);
 
-        return implementationRepository.findRevisions(implementationId, pageable);
+        final Page<Revision<Integer, Implementation>> revisions = implementationRepository.findRevisions(implementationId, pageable);
+        implementationRepository.restoreDeltaProperties(implementationId, revisions.getContent());
+        return revisions;
     }
 }
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.io.InputStream;
+
+import org.planqk.atlas.core.repository.LargeObjectRepository;
+import org.planqk.atlas.core.util.FileContentUtils;
+import org.springframework.core.io.AbstractResource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Content of a file stored as large object, read chunk by chunk by the {@link LargeObjectRepository} while it is
+ * consumed. Skipping bytes only moves the position the next chunk is read from.
+ */
+@RequiredArgsConstructor
+class LargeObjectResource extends AbstractResource {
+
+    private final LargeObjectRepository largeObjectRepository;
+
+    private final long contentId;
+
+    private final long size;
+
+    private final String filename;
+
+    @Override
+    public String getDescription() {
+        return "Large object [" + contentId + "]";
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return size;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new LargeObjectInputStream();
+    }
+
+    private class LargeObjectInputStream extends InputStream {
+
+        private byte[] chunk = new byte[0];
+
+        private long chunkOffset;
+
+        private long position;
+
+        @Override
+        public int read() {
+            final byte[] buffer = new byte[1];
+            return read(buffer, 0, 1) < 0 ? -1 : buffer[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= size) {
+                return -1;
+            }
+            if (position < chunkOffset || position >= chunkOffset + chunk.length) {
+                chunk = largeObjectRepository.readContent(contentId, position, FileContentUtils.CHUNK_SIZE);
+                chunkOffset = position;
+                if (chunk.length == 0) {
+                    return -1;
+                }
+            }
+            final int count = (int) Math.min(length, chunkOffset + chunk.length - position);
+            System.arraycopy(chunk, (int) (position - chunkOffset), buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            final long skipped = Math.max(0, Math.min(n, size - position));
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.max(0, chunkOffset + chunk.length - position);
+        }
+    }
+}
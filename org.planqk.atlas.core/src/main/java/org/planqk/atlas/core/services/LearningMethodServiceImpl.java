@@ -49,7 +49,7 @@ public class LearningMethodServiceImpl implements LearningMethodService {
     @Override
     public Page<LearningMethod> findAll(Pageable pageable, String search) {
         if (!Objects.isNull(search) && !search.isEmpty()) {
-            return learningMethodRepository.findByNameContainingIgnoreCase(search, pageable);
+            return learningMethodRepository.findAll(search, pageable);
         }
         return learningMethodRepository.findAll(pageable);
     }
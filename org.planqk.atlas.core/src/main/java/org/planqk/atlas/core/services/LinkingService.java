@@ -19,6 +19,7 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import org.planqk.atlas.core.exceptions.EntityReferenceConstraintViolationException;
@@ -326,4 +327,238 @@ public interface LinkingService {
      */
     @Transactional
     void unlinkAlgorithmAndLearningMethod(UUID algorithmId, UUID learningMethodId);
+
+    /**
+     * Links every given {@link org.planqk.atlas.core.model.Algorithm} with every given {@link
+     * org.planqk.atlas.core.model.Publication}. Pairs that are already linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are created.
+     *
+     * @param algorithmIds   The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to link
+     * @param publicationIds The IDs of the {@link org.planqk.atlas.core.model.Publication}s we want to link
+     */
+    @Transactional
+    void linkAlgorithmsAndPublications(Collection<UUID> algorithmIds, Collection<UUID> publicationIds);
+
+    /**
+     * Unlinks every given {@link org.planqk.atlas.core.model.Algorithm} from every given {@link
+     * org.planqk.atlas.core.model.Publication}. Pairs that are not linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are removed.
+     *
+     * @param algorithmIds   The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to unlink
+     * @param publicationIds The IDs of the {@link org.planqk.atlas.core.model.Publication}s we want to unlink
+     */
+    @Transactional
+    void unlinkAlgorithmsAndPublications(Collection<UUID> algorithmIds, Collection<UUID> publicationIds);
+
+    /**
+     * Links every given {@link org.planqk.atlas.core.model.Algorithm} with every given {@link
+     * org.planqk.atlas.core.model.ProblemType}. Pairs that are already linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are created.
+     *
+     * @param algorithmIds   The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to link
+     * @param problemTypeIds The IDs of the {@link org.planqk.atlas.core.model.ProblemType}s we want to link
+     */
+    @Transactional
+    void linkAlgorithmsAndProblemTypes(Collection<UUID> algorithmIds, Collection<UUID> problemTypeIds);
+
+    /**
+     * Unlinks every given {@link org.planqk.atlas.core.model.Algorithm} from every given {@link
+     * org.planqk.atlas.core.model.ProblemType}. Pairs that are not linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are removed.
+     *
+     * @param algorithmIds   The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to unlink
+     * @param problemTypeIds The IDs of the {@link org.planqk.atlas.core.model.ProblemType}s we want to unlink
+     */
+    @Transactional
+    void unlinkAlgorithmsAndProblemTypes(Collection<UUID> algorithmIds, Collection<UUID> problemTypeIds);
+
+    /**
+     * Links every given {@link org.planqk.atlas.core.model.Algorithm} with every given {@link
+     * org.planqk.atlas.core.model.ApplicationArea}. Pairs that are already linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are created.
+     *
+     * @param algorithmIds       The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to link
+     * @param applicationAreaIds The IDs of the {@link org.planqk.atlas.core.model.ApplicationArea}s we want to link
+     */
+    @Transactional
+    void linkAlgorithmsAndApplicationAreas(Collection<UUID> algorithmIds, Collection<UUID> applicationAreaIds);
+
+    /**
+     * Unlinks every given {@link org.planqk.atlas.core.model.Algorithm} from every given {@link
+     * org.planqk.atlas.core.model.ApplicationArea}. Pairs that are not linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are removed.
+     *
+     * @param algorithmIds       The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to unlink
+     * @param applicationAreaIds The IDs of the {@link org.planqk.atlas.core.model.ApplicationArea}s we want to unlink
+     */
+    @Transactional
+    void unlinkAlgorithmsAndApplicationAreas(Collection<UUID> algorithmIds, Collection<UUID> applicationAreaIds);
+
+    /**
+     * Links every given {@link org.planqk.atlas.core.model.Algorithm} with every given {@link
+     * org.planqk.atlas.core.model.LearningMethod}. Pairs that are already linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are created.
+     *
+     * @param algorithmIds      The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to link
+     * @param learningMethodIds The IDs of the {@link org.planqk.atlas.core.model.LearningMethod}s we want to link
+     */
+    @Transactional
+    void linkAlgorithmsAndLearningMethods(Collection<UUID> algorithmIds, Collection<UUID> learningMethodIds);
+
+    /**
+     * Unlinks every given {@link org.planqk.atlas.core.model.Algorithm} from every given {@link
+     * org.planqk.atlas.core.model.LearningMethod}. Pairs that are not linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are removed.
+     *
+     * @param algorithmIds      The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to unlink
+     * @param learningMethodIds The IDs of the {@link org.planqk.atlas.core.model.LearningMethod}s we want to unlink
+     */
+    @Transactional
+    void unlinkAlgorithmsAndLearningMethods(Collection<UUID> algorithmIds, Collection<UUID> learningMethodIds);
+
+    /**
+     * Links every given {@link org.planqk.atlas.core.model.Implementation} with every given {@link
+     * org.planqk.atlas.core.model.Publication}. Pairs that are already linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are created.
+     *
+     * @param implementationIds The IDs of the {@link org.planqk.atlas.core.model.Implementation}s we want to link
+     * @param publicationIds    The IDs of the {@link org.planqk.atlas.core.model.Publication}s we want to link
+     */
+    @Transactional
+    void linkImplementationsAndPublications(Collection<UUID> implementationIds, Collection<UUID> publicationIds);
+
+    /**
+     * Unlinks every given {@link org.planqk.atlas.core.model.Implementation} from every given {@link
+     * org.planqk.atlas.core.model.Publication}. Pairs that are not linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are removed.
+     *
+     * @param implementationIds The IDs of the {@link org.planqk.atlas.core.model.Implementation}s we want to unlink
+     * @param publicationIds    The IDs of the {@link org.planqk.atlas.core.model.Publication}s we want to unlink
+     */
+    @Transactional
+    void unlinkImplementationsAndPublications(Collection<UUID> implementationIds, Collection<UUID> publicationIds);
+
+    /**
+     * Links every given {@link org.planqk.atlas.core.model.Implementation} with every given {@link
+     * org.planqk.atlas.core.model.SoftwarePlatform}. Pairs that are already linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are created.
+     *
+     * @param implementationIds   The IDs of the {@link org.planqk.atlas.core.model.Implementation}s we want to link
+     * @param softwarePlatformIds The IDs of the {@link org.planqk.atlas.core.model.SoftwarePlatform}s we want to link
+     */
+    @Transactional
+    void linkImplementationsAndSoftwarePlatforms(Collection<UUID> implementationIds, Collection<UUID> softwarePlatformIds);
+
+    /**
+     * Unlinks every given {@link org.planqk.atlas.core.model.Implementation} from every given {@link
+     * org.planqk.atlas.core.model.SoftwarePlatform}. Pairs that are not linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are removed.
+     *
+     * @param implementationIds   The IDs of the {@link org.planqk.atlas.core.model.Implementation}s we want to unlink
+     * @param softwarePlatformIds The IDs of the {@link org.planqk.atlas.core.model.SoftwarePlatform}s we want to unlink
+     */
+    @Transactional
+    void unlinkImplementationsAndSoftwarePlatforms(Collection<UUID> implementationIds, Collection<UUID> softwarePlatformIds);
+
+    /**
+     * Links every given {@link org.planqk.atlas.core.model.SoftwarePlatform} with every given {@link
+     * org.planqk.atlas.core.model.CloudService}. Pairs that are already linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are created.
+     *
+     * @param softwarePlatformIds The IDs of the {@link org.planqk.atlas.core.model.SoftwarePlatform}s we want to link
+     * @param cloudServiceIds     The IDs of the {@link org.planqk.atlas.core.model.CloudService}s we want to link
+     */
+    @Transactional
+    void linkSoftwarePlatformsAndCloudServices(Collection<UUID> softwarePlatformIds, Collection<UUID> cloudServiceIds);
+
+    /**
+     * Unlinks every given {@link org.planqk.atlas.core.model.SoftwarePlatform} from every given {@link
+     * org.planqk.atlas.core.model.CloudService}. Pairs that are not linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are removed.
+     *
+     * @param softwarePlatformIds The IDs of the {@link org.planqk.atlas.core.model.SoftwarePlatform}s we want to unlink
+     * @param cloudServiceIds     The IDs of the {@link org.planqk.atlas.core.model.CloudService}s we want to unlink
+     */
+    @Transactional
+    void unlinkSoftwarePlatformsAndCloudServices(Collection<UUID> softwarePlatformIds, Collection<UUID> cloudServiceIds);
+
+    /**
+     * Links every given {@link org.planqk.atlas.core.model.SoftwarePlatform} with every given {@link
+     * org.planqk.atlas.core.model.ComputeResource}. Pairs that are already linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are created.
+     *
+     * @param softwarePlatformIds The IDs of the {@link org.planqk.atlas.core.model.SoftwarePlatform}s we want to link
+     * @param computeResourceIds  The IDs of the {@link org.planqk.atlas.core.model.ComputeResource}s we want to link
+     */
+    @Transactional
+    void linkSoftwarePlatformsAndComputeResources(Collection<UUID> softwarePlatformIds, Collection<UUID> computeResourceIds);
+
+    /**
+     * Unlinks every given {@link org.planqk.atlas.core.model.SoftwarePlatform} from every given {@link
+     * org.planqk.atlas.core.model.ComputeResource}. Pairs that are not linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are removed.
+     *
+     * @param softwarePlatformIds The IDs of the {@link org.planqk.atlas.core.model.SoftwarePlatform}s we want to unlink
+     * @param computeResourceIds  The IDs of the {@link org.planqk.atlas.core.model.ComputeResource}s we want to unlink
+     */
+    @Transactional
+    void unlinkSoftwarePlatformsAndComputeResources(Collection<UUID> softwarePlatformIds, Collection<UUID> computeResourceIds);
+
+    /**
+     * Links every given {@link org.planqk.atlas.core.model.CloudService} with every given {@link
+     * org.planqk.atlas.core.model.ComputeResource}. Pairs that are already linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are created.
+     *
+     * @param cloudServiceIds    The IDs of the {@link org.planqk.atlas.core.model.CloudService}s we want to link
+     * @param computeResourceIds The IDs of the {@link org.planqk.atlas.core.model.ComputeResource}s we want to link
+     */
+    @Transactional
+    void linkCloudServicesAndComputeResources(Collection<UUID> cloudServiceIds, Collection<UUID> computeResourceIds);
+
+    /**
+     * Unlinks every given {@link org.planqk.atlas.core.model.CloudService} from every given {@link
+     * org.planqk.atlas.core.model.ComputeResource}. Pairs that are not linked are skipped.
+     * <p>
+     * If any of the entities with given IDs could not be found a {@link java.util.NoSuchElementException} is thrown
+     * and no links are removed.
+     *
+     * @param cloudServiceIds    The IDs of the {@link org.planqk.atlas.core.model.CloudService}s we want to unlink
+     * @param computeResourceIds The IDs of the {@link org.planqk.atlas.core.model.ComputeResource}s we want to unlink
+     */
+    @Transactional
+    void unlinkCloudServicesAndComputeResources(Collection<UUID> cloudServiceIds, Collection<UUID> computeResourceIds);
 }
@@ -19,6 +19,7 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import org.planqk.atlas.core.exceptions.EntityReferenceConstraintViolationException;
@@ -31,6 +32,12 @@ import org.planqk.atlas.core.model.LearningMethod;
 import org.planqk.atlas.core.model.ProblemType;
 import org.planqk.atlas.core.model.Publication;
 import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.planqk.atlas.core.repository.AlgorithmRepository;
+import org.planqk.atlas.core.repository.CloudServiceRepository;
+import org.planqk.atlas.core.repository.ImplementationRepository;
+import org.planqk.atlas.core.repository.LinkRepository;
+import org.planqk.atlas.core.repository.SoftwarePlatformRepository;
+import org.planqk.atlas.core.util.ServiceUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -61,6 +68,14 @@ public class LinkingServiceImpl implements LinkingService {
 
     private final LearningMethodService learningMethodService;
 
+    private final AlgorithmRepository algorithmRepository;
+
+    private final ImplementationRepository implementationRepository;
+
+    private final SoftwarePlatformRepository softwarePlatformRepository;
+
+    private final CloudServiceRepository cloudServiceRepository;
+
     @Override
     @Transactional
     public void linkAlgorithmAndPublication(@NonNull UUID algorithmId, @NonNull UUID publicationId) {
@@ -304,4 +319,136 @@ public class LinkingServiceImpl implements LinkingService {
 
         algorithm.removeLearningMethod(learningMethod);
     }
+
+    @Override
+    @Transactional
+    public void linkAlgorithmsAndPublications(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<UUID> publicationIds) {
+        linkAll(algorithmRepository, Algorithm.class, "publications", algorithmIds, Publication.class, publicationIds);
+    }
+
+    @Override
+    @Transactional
+    public void unlinkAlgorithmsAndPublications(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<UUID> publicationIds) {
+        unlinkAll(algorithmRepository, Algorithm.class, "publications", algorithmIds, Publication.class, publicationIds);
+    }
+
+    @Override
+    @Transactional
+    public void linkAlgorithmsAndProblemTypes(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<UUID> problemTypeIds) {
+        linkAll(algorithmRepository, Algorithm.class, "problemTypes", algorithmIds, ProblemType.class, problemTypeIds);
+    }
+
+    @Override
+    @Transactional
+    public void unlinkAlgorithmsAndProblemTypes(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<UUID> problemTypeIds) {
+        unlinkAll(algorithmRepository, Algorithm.class, "problemTypes", algorithmIds, ProblemType.class, problemTypeIds);
+    }
+
+    @Override
+    @Transactional
+    public void linkAlgorithmsAndApplicationAreas(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<UUID> applicationAreaIds) {
+        linkAll(algorithmRepository, Algorithm.class, "applicationAreas", algorithmIds, ApplicationArea.class, applicationAreaIds);
+    }
+
+    @Override
+    @Transactional
+    public void unlinkAlgorithmsAndApplicationAreas(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<UUID> applicationAreaIds) {
+        unlinkAll(algorithmRepository, Algorithm.class, "applicationAreas", algorithmIds, ApplicationArea.class, applicationAreaIds);
+    }
+
+    @Override
+    @Transactional
+    public void linkAlgorithmsAndLearningMethods(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<UUID> learningMethodIds) {
+        linkAll(algorithmRepository, Algorithm.class, "learningMethods", algorithmIds, LearningMethod.class, learningMethodIds);
+    }
+
+    @Override
+    @Transactional
+    public void unlinkAlgorithmsAndLearningMethods(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<UUID> learningMethodIds) {
+        unlinkAll(algorithmRepository, Algorithm.class, "learningMethods", algorithmIds, LearningMethod.class, learningMethodIds);
+    }
+
+    @Override
+    @Transactional
+    public void linkImplementationsAndPublications(@NonNull Collection<UUID> implementationIds, @NonNull Collection<UUID> publicationIds) {
+        linkAll(implementationRepository, Implementation.class, "publications", implementationIds, Publication.class, publicationIds);
+    }
+
+    @Override
+    @Transactional
+    public void unlinkImplementationsAndPublications(@NonNull Collection<UUID> implementationIds, @NonNull Collection<UUID> publicationIds) {
+        unlinkAll(implementationRepository, Implementation.class, "publications", implementationIds, Publication.class, publicationIds);
+    }
+
+    @Override
+    @Transactional
+    public void linkImplementationsAndSoftwarePlatforms(@NonNull Collection<UUID> implementationIds, @NonNull Collection<UUID> softwarePlatformIds) {
+        linkAll(implementationRepository, Implementation.class, "softwarePlatforms", implementationIds, SoftwarePlatform.class, softwarePlatformIds);
+    }
+
+    @Override
+    @Transactional
+    public void unlinkImplementationsAndSoftwarePlatforms(@NonNull Collection<UUID> implementationIds,
+                                                          @NonNull Collection<UUID> softwarePlatformIds) {
+        unlinkAll(implementationRepository, Implementation.class, "softwarePlatforms", implementationIds,
+                  SoftwarePlatform.class, softwarePlatformIds);
+    }
+
+    @Override
+    @Transactional
+    public void linkSoftwarePlatformsAndCloudServices(@NonNull Collection<UUID> softwarePlatformIds, @NonNull Collection<UUID> cloudServiceIds) {
+        linkAll(softwarePlatformRepository, SoftwarePlatform.class, "supportedCloudServices", softwarePlatformIds,
+                CloudService.class, cloudServiceIds);
+    }
+
+    @Override
+    @Transactional
+    public void unlinkSoftwarePlatformsAndCloudServices(@NonNull Collection<UUID> softwarePlatformIds, @NonNull Collection<UUID> cloudServiceIds) {
+        unlinkAll(softwarePlatformRepository, SoftwarePlatform.class, "supportedCloudServices", softwarePlatformIds,
+                  CloudService.class, cloudServiceIds);
+    }
+
+    @Override
+    @Transactional
+    public void linkSoftwarePlatformsAndComputeResources(@NonNull Collection<UUID> softwarePlatformIds,
+                                                         @NonNull Collection<UUID> computeResourceIds) {
+        linkAll(softwarePlatformRepository, SoftwarePlatform.class, "supportedComputeResources", softwarePlatformIds,
+                ComputeResource.class, computeResourceIds);
+    }
+
+    @Override
+    @Transactional
+    public void unlinkSoftwarePlatformsAndComputeResources(@NonNull Collection<UUID> softwarePlatformIds,
+                                                           @NonNull Collection<UUID> computeResourceIds) {
+        unlinkAll(softwarePlatformRepository, SoftwarePlatform.class, "supportedComputeResources", softwarePlatformIds,
+                  ComputeResource.class, computeResourceIds);
+    }
+
+    @Override
+    @Transactional
+    public void linkCloudServicesAndComputeResources(@NonNull Collection<UUID> cloudServiceIds, @NonNull Collection<UUID> computeResourceIds) {
+        linkAll(cloudServiceRepository, CloudService.class, "providedComputeResources", cloudServiceIds, ComputeResource.class, computeResourceIds);
+    }
+
+    @Override
+    @Transactional
+    public void unlinkCloudServicesAndComputeResources(@NonNull Collection<UUID> cloudServiceIds, @NonNull Collection<UUID> computeResourceIds) {
+        unlinkAll(cloudServiceRepository, CloudService.class, "providedComputeResources", cloudServiceIds, ComputeResource.class, computeResourceIds);
+    }
+
+    private static void linkAll(LinkRepository repository, Class<?> ownerClass, String role, Collection<UUID> ownerIds,
+                                Class<?> elementClass, Collection<UUID> elementIds) {
+        ServiceUtils.throwIfAnyNotExists(ownerIds, ownerClass, repository);
+        ServiceUtils.throwIfAnyNotExists(elementIds, elementClass, repository);
+
+        repository.insertLinks(ownerClass, role, ownerIds, elementIds);
+    }
+
+    private static void unlinkAll(LinkRepository repository, Class<?> ownerClass, String role, Collection<UUID> ownerIds,
+                                  Class<?> elementClass, Collection<UUID> elementIds) {
+        ServiceUtils.throwIfAnyNotExists(ownerIds, ownerClass, repository);
+        ServiceUtils.throwIfAnyNotExists(elementIds, elementClass, repository);
+
+        repository.deleteLinks(ownerClass, role, ownerIds, elementIds);
+    }
 }
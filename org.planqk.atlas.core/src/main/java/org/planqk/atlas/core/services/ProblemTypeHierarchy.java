@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.repository.ProblemTypeRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory index of the problem type hierarchy formed by the parent references of all {@link ProblemType}s.
+ * <p>
+ * The whole hierarchy is loaded by a single (cacheable) query and kept as an immutable tree, so walking it upwards or
+ * downwards and sorting by it needs no further queries. Writes of the {@link ProblemTypeService} invalidate the tree
+ * when their transaction completes and the next read loads it again. Like the cached problem types themselves, the
+ * tree expires after a while, which bounds the staleness if several instances share one database.
+ * <p>
+ * The parent references are not constrained by the database, so references to missing problem types are treated like
+ * missing references and cycles are only walked once.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProblemTypeHierarchy {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(30);
+
+    private static final Comparator<String> NAME_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private static final Comparator<Node> BY_NAME = Comparator.comparing((Node node) -> node.name, NAME_ORDER)
+            .thenComparing(node -> node.id);
+
+    private final ProblemTypeRepository problemTypeRepository;
+
+    private volatile Tree tree;
+
+    // incremented by every invalidation, guarded by this
+    private long generation;
+
+    /**
+     * Returns the problem type with the given ID followed by its parent, the parent of its parent and so on up to the
+     * root of the hierarchy.
+     *
+     * @param problemTypeId The ID of the problem type
+     * @return The problem type and its ancestors, or an empty list if there is no problem type with the given ID
+     */
+    public List<ProblemType> getPath(UUID problemTypeId) {
+        final Map<UUID, Node> nodes = getTree().nodes;
+        final List<ProblemType> path = new ArrayList<>();
+        final Set<UUID> visited = new HashSet<>();
+        for (Node node = nodes.get(problemTypeId); node != null && visited.add(node.id); node = nodes.get(node.parentId)) {
+            path.add(node.toProblemType());
+        }
+        return path;
+    }
+
+    /**
+     * Returns all descendants of the problem type with the given ID in depth-first order, i.e. every problem type is
+     * followed by its subtree. Siblings are ordered by their names.
+     *
+     * @param problemTypeId The ID of the problem type
+     * @return The descendants of the problem type, excluding itself
+     */
+    public List<ProblemType> getDescendants(UUID problemTypeId) {
+        final Node root = getTree().nodes.get(problemTypeId);
+        final List<ProblemType> descendants = new ArrayList<>();
+        if (root == null) {
+            return descendants;
+        }
+        final Set<UUID> visited = new HashSet<>(Set.of(root.id));
+        final Deque<Node> stack = new ArrayDeque<>();
+        pushChildren(stack, root);
+        while (!stack.isEmpty()) {
+            final Node node = stack.pop();
+            if (visited.add(node.id)) {
+                descendants.add(node.toProblemType());
+                pushChildren(stack, node);
+            }
+        }
+        return descendants;
+    }
+
+    /**
+     * Returns all problem types ordered by the names of their parents, problem types without a parent first. Problem
+     * types with the same parent are ordered by their names.
+     *
+     * @return All problem types
+     */
+    public List<ProblemType> getSortedByParentName() {
+        return getTree().sortedByParentName.stream().map(Node::toProblemType).collect(Collectors.toList());
+    }
+
+    /**
+     * Invalidates the tree, it is invalidated again when the current transaction completes so that the next read sees
+     * the changes of the transaction.
+     */
+    public void invalidate() {
+        discardTree();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    discardTree();
+                }
+            });
+        }
+    }
+
+    private Tree getTree() {
+        Tree currentTree = tree;
+        if (currentTree == null || currentTree.isExpired()) {
+            final long loadedGeneration = getGeneration();
+            currentTree = new Tree(problemTypeRepository.findAll());
+            publishTree(currentTree, loadedGeneration);
+        }
+        return currentTree;
+    }
+
+    private synchronized long getGeneration() {
+        return generation;
+    }
+
+    private synchronized void discardTree() {
+        generation++;
+        tree = null;
+    }
+
+    // only keeps a tree not invalidated during its load, which may have read the state before the invalidating write
+    private synchronized void publishTree(Tree loadedTree, long loadedGeneration) {
+        if (generation == loadedGeneration) {
+            tree = loadedTree;
+        }
+    }
+
+    private static void pushChildren(Deque<Node> stack, Node node) {
+        for (int i = node.children.size() - 1; i >= 0; i--) {
+            stack.push(node.children.get(i));
+        }
+    }
+
+    private static class Tree {
+
+        private final Map<UUID, Node> nodes = new HashMap<>();
+
+        private final List<Node> sortedByParentName;
+
+        private final long loadedAt = System.nanoTime();
+
+        Tree(List<ProblemType> problemTypes) {
+            problemTypes.forEach(problemType -> nodes.put(problemType.getId(), new Node(problemType)));
+            for (final Node node : nodes.values()) {
+                final Node parent = nodes.get(node.parentId);
+                if (parent != null) {
+                    parent.children.add(node);
+                }
+            }
+            nodes.values().forEach(node -> node.children.sort(BY_NAME));
+            sortedByParentName = nodes.values().stream()
+                    .sorted(Comparator.comparing((Node node) -> getName(node.parentId), NAME_ORDER).thenComparing(BY_NAME))
+                    .collect(Collectors.toList());
+        }
+
+        private String getName(UUID problemTypeId) {
+            final Node node = nodes.get(problemTypeId);
+            return node == null ? null : node.name;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TIME_TO_LIVE.toNanos();
+        }
+    }
+
+    // the nodes are converted to new problem types on every read, so callers may modify them
+    private static class Node {
+
+        private final UUID id;
+
+        private final String name;
+
+        private final UUID parentId;
+
+        private final List<Node> children = new ArrayList<>();
+
+        Node(ProblemType problemType) {
+            this.id = problemType.getId();
+            this.name = problemType.getName();
+            this.parentId = problemType.getParentProblemType();
+        }
+
+        ProblemType toProblemType() {
+            final ProblemType problemType = new ProblemType();
+            problemType.setId(id);
+            problemType.setName(name);
+            problemType.setParentProblemType(parentId);
+            return problemType;
+        }
+    }
+}
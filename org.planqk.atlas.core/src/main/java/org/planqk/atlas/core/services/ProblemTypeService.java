@@ -80,6 +80,9 @@ public interface ProblemTypeService {
      * a given ID in its update path. This ID will be used to query the existing {@link ProblemType} entry we want to
      * update. If no {@link ProblemType} entry with the given ID is found this method will throw a {@link
      * java.util.NoSuchElementException}.
+     * <p>
+     * If the new parent of the {@link ProblemType} is the {@link ProblemType} itself or one of its descendants an
+     * {@link IllegalArgumentException} is thrown.
      *
      * @param problemType The {@link ProblemType} we want to update with its updated properties
      * @return the updated {@link ProblemType} object that represents the updated status of the database
@@ -111,4 +114,17 @@ public interface ProblemTypeService {
      * @return The list of all recursively findable parents for the given {@link ProblemType}
      */
     List<ProblemType> getParentList(UUID problemTypeId);
+
+    /**
+     * Retrieve all descendants of a given {@link ProblemType}, i.e. its children, their children and so on.
+     * <p>
+     * The descendants are ordered depth-first, so every {@link ProblemType} is followed by its own descendants.
+     * Children of the same parent are ordered by their names. If no {@link ProblemType} with the given ID exists a
+     * {@link java.util.NoSuchElementException} is thrown.
+     *
+     * @param problemTypeId The ID of the {@link ProblemType} we want to retrieve the descendants of
+     * @param pageable      The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of descendants of the given {@link ProblemType}
+     */
+    Page<ProblemType> findDescendants(UUID problemTypeId, Pageable pageable);
 }
@@ -21,12 +21,8 @@ package org.planqk.atlas.core.services;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.UUID;
 import javax.transaction.Transactional;
 
@@ -52,9 +48,12 @@ public class ProblemTypeServiceImpl implements ProblemTypeService {
 
     private final ProblemTypeRepository problemTypeRepository;
 
+    private final ProblemTypeHierarchy problemTypeHierarchy;
+
     @Override
     @Transactional
     public ProblemType create(@NonNull ProblemType problemType) {
+        problemTypeHierarchy.invalidate();
         return problemTypeRepository.save(problemType);
     }
 
@@ -79,34 +78,15 @@ public class ProblemTypeServiceImpl implements ProblemTypeService {
     }
 
     public List<ProblemType> getParentSortedProblemTypes() {
-        final List<ProblemType> unSortedlistOfProblemTypes = problemTypeRepository.findAll();
-        final Map<String, List<ProblemType>> parentProblemTypeMap =
-                new TreeMap<>(
-                        Comparator.nullsFirst(Comparator.naturalOrder()));
-        for (ProblemType problemType : unSortedlistOfProblemTypes) {
-            String name = null;
-            if (getParent(problemType) != null) {
-                name = getParent(problemType).getName();
-            }
-            if (parentProblemTypeMap.containsKey(name)) {
-                parentProblemTypeMap.get(name).add(problemType);
-            }
-            else if (!parentProblemTypeMap.containsKey(name)) {
-                parentProblemTypeMap.put(name, new ArrayList<>(
-                        Collections.singletonList(problemType)));
-            }
-        }
-        final List<ProblemType> sortedlistOfProblemTypes = new ArrayList<>();
-        for (Map.Entry<String, List<ProblemType>> entry : parentProblemTypeMap.entrySet()) {
-            sortedlistOfProblemTypes.addAll(entry.getValue());
-        }
-        return sortedlistOfProblemTypes;
+        return problemTypeHierarchy.getSortedByParentName();
     }
 
     public Page<ProblemType> convertListToPage(Pageable pageable, List<ProblemType> sortedlistOfProblemTypes) {
-        final int start = (pageable.getPageNumber()) * pageable.getPageSize();
-        final int end = (start + pageable.getPageSize()) >
-                sortedlistOfProblemTypes.size() ? sortedlistOfProblemTypes.size() : (pageable.getPageSize() * (pageable.getPageNumber() + 1));
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sortedlistOfProblemTypes, pageable, sortedlistOfProblemTypes.size());
+        }
+        final int start = (int) Math.min(pageable.getOffset(), sortedlistOfProblemTypes.size());
+        final int end = Math.min(start + pageable.getPageSize(), sortedlistOfProblemTypes.size());
         return new PageImpl<ProblemType>(sortedlistOfProblemTypes.subList(start, end), pageable,
                 sortedlistOfProblemTypes.size());
     }
@@ -121,6 +101,12 @@ public class ProblemTypeServiceImpl implements ProblemTypeService {
     public ProblemType update(@NonNull ProblemType problemType) {
         final ProblemType persistedProblemType = findById(problemType.getId());
 
+        if (problemType.getParentProblemType() != null && problemTypeHierarchy.getPath(problemType.getParentProblemType()).stream()
+                .anyMatch(ancestor -> ancestor.getId().equals(problemType.getId()))) {
+            throw new IllegalArgumentException("ProblemType with ID \"" + problemType.getId() +
+                    "\" cannot be a descendant of itself");
+        }
+
         persistedProblemType.setName(problemType.getName());
         persistedProblemType.setParentProblemType(problemType.getParentProblemType());
 
@@ -140,6 +126,7 @@ public class ProblemTypeServiceImpl implements ProblemTypeService {
         removeReferences(problemType);
 
         problemTypeRepository.deleteById(problemTypeId);
+        problemTypeHierarchy.invalidate();
     }
 
     private void removeReferences(@NonNull ProblemType problemType) {
@@ -162,21 +149,17 @@ public class ProblemTypeServiceImpl implements ProblemTypeService {
         final List<ProblemType> parentTree = new ArrayList<>();
         parentTree.add(requestedProblemType);
 
-        ProblemType parentProblemType = getParent(requestedProblemType);
-        while (parentProblemType != null) {
-            parentTree.add(parentProblemType);
-            parentProblemType = getParent(parentProblemType);
+        if (requestedProblemType.getParentProblemType() != null) {
+            problemTypeHierarchy.getPath(requestedProblemType.getParentProblemType()).stream()
+                    .takeWhile(parentProblemType -> !parentProblemType.getId().equals(problemTypeId))
+                    .forEach(parentTree::add);
         }
         return parentTree;
     }
 
-    private ProblemType getParent(@NonNull ProblemType child) {
-        try {
-            if (child.getParentProblemType() != null) {
-                return findById(child.getParentProblemType());
-            }
-        } catch (NoSuchElementException ignored) {
-        }
-        return null;
+    @Override
+    public Page<ProblemType> findDescendants(@NonNull UUID problemTypeId, @NonNull Pageable pageable) {
+        ServiceUtils.throwIfNotExists(problemTypeId, ProblemType.class, problemTypeRepository);
+        return convertListToPage(pageable, problemTypeHierarchy.getDescendants(problemTypeId));
     }
 }
@@ -24,9 +24,12 @@ import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.repository.PublicationSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -61,6 +64,52 @@ public interface PublicationService {
      */
     Page<Publication> findAll(Pageable pageable, String search);
 
+    /**
+     * Retrieve the {@link Publication} entries following the position encoded by the given cursor.
+     * <p>
+     * In contrast to offset based pages, the cost of retrieving a slice does not depend on its position and no count
+     * query is executed. The entries are ordered by the sort of the given {@link Pageable} and their id, the page
+     * number is ignored.
+     *
+     * @param pageable The size and sort of the slice we want to retrieve
+     * @param cursor   The cursor returned with the previous slice, null or empty to retrieve the first slice
+     * @return The slice of queried {@link Publication} entries together with the cursor of the following slice
+     */
+    KeysetSlice<Publication> findAllAfter(Pageable pageable, String cursor);
+
+    /**
+     * Retrieve multiple {@link Publication} entries from the database without counting the total number of entries.
+     * <p>
+     * Only the entries of the requested page and one additional entry, to find out whether another page follows, are
+     * queried.
+     *
+     * @param pageable The page information, namely page size and page number, of the slice we want to retrieve
+     * @return The slice of queried {@link Publication} entries
+     */
+    Slice<Publication> findAllWithoutCount(Pageable pageable);
+
+    /**
+     * Retrieve multiple {@link Publication} entries from the database together with an estimated total number of entries.
+     * <p>
+     * Instead of counting all entries, the total is estimated based on the statistics of the database. This is
+     * considerably cheaper for large tables, but the total may deviate from the exact number of entries.
+     *
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of queried {@link Publication} entries
+     */
+    Page<Publication> findAllWithEstimatedCount(Pageable pageable);
+
+    /**
+     * Retrieve summaries of multiple {@link Publication} entries from the database.
+     * <p>
+     * In contrast to {@link #findAll}, only the scalar attributes needed by list views are queried and no entities are
+     * loaded, so this is the cheapest way to retrieve a page of publications for read-only purposes.
+     *
+     * @param pageable The page information, namely page size and page number, of the page we want to retrieve
+     * @return The page of queried {@link PublicationSummary} entries
+     */
+    Page<PublicationSummary> findAllSummaries(Pageable pageable);
+
     /**
      * Find a database entry of a {@link Publication} that is already saved in the database. This search is based on the
      * ID the database has given the {@link Publication} object when it was created and first saved to the database.
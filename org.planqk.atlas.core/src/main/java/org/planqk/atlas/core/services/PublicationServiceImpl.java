@@ -25,14 +25,17 @@ import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.planqk.atlas.core.model.Publication;
 import org.planqk.atlas.core.repository.AlgorithmRepository;
 import org.planqk.atlas.core.repository.ImplementationRepository;
 import org.planqk.atlas.core.repository.PublicationRepository;
+import org.planqk.atlas.core.repository.PublicationSummary;
 import org.planqk.atlas.core.util.CollectionUtils;
 import org.planqk.atlas.core.util.ServiceUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -65,6 +68,26 @@ public class PublicationServiceImpl implements PublicationService {
         return publicationRepository.findAll(pageable);
     }
 
+    @Override
+    public KeysetSlice<Publication> findAllAfter(@NonNull Pageable pageable, String cursor) {
+        return publicationRepository.findAllAfter(cursor, pageable);
+    }
+
+    @Override
+    public Slice<Publication> findAllWithoutCount(@NonNull Pageable pageable) {
+        return publicationRepository.findAllBy(pageable);
+    }
+
+    @Override
+    public Page<Publication> findAllWithEstimatedCount(@NonNull Pageable pageable) {
+        return ServiceUtils.toEstimatedPage(publicationRepository.findAllBy(pageable), publicationRepository::estimateCount);
+    }
+
+    @Override
+    public Page<PublicationSummary> findAllSummaries(@NonNull Pageable pageable) {
+        return publicationRepository.findAllSummaries(pageable);
+    }
+
     @Override
     public Publication findById(@NonNull UUID publicationId) {
         return ServiceUtils.findById(publicationId, Publication.class, publicationRepository);
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import org.planqk.atlas.core.model.RevisionPruningReport;
+
+/**
+ * Service class deleting the revisions of audited entities that are no longer needed according to the {@link
+ * org.planqk.atlas.core.model.RevisionRetentionPolicy} of their type, see {@link
+ * org.planqk.atlas.core.RevisionRetentionProperties}.
+ * <p>
+ * Updates do not enforce the retention policies themselves, instead the revisions are pruned periodically in the
+ * background. Therefore, an entity may temporarily have more revisions than its policy allows.
+ */
+public interface RevisionPruningService {
+
+    /**
+     * Delete the revisions of all audited entities that are not kept by the retention policy of their type.
+     * <p>
+     * The entities are processed in batches, each batch in its own transaction. Entities that are pruned by another
+     * instance at the same time are skipped and pruned by the next run.
+     *
+     * @return The {@link RevisionPruningReport} stating the number of deleted rows
+     */
+    RevisionPruningReport pruneRevisions();
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.PostgresUUIDType;
+import org.planqk.atlas.core.EnversConfiguration;
+import org.planqk.atlas.core.RevisionRetentionProperties;
+import org.planqk.atlas.core.model.RevisionPruningReport;
+import org.planqk.atlas.core.model.RevisionRetentionPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prunes the revisions with native statements, so the audited snapshots are never loaded.
+ * <p>
+ * Only entities with more revisions than their policy keeps in any case can have surplus revisions. They are found by
+ * a single aggregate query per audited type. For every batch of them, the surplus revisions are deleted from all
+ * revision tables of the audited class hierarchy by one statement. As this statement works on a single snapshot,
+ * revisions committed by concurrent updates are neither considered nor deleted and the revision tables stay
+ * consistent with each other. The kept audit rows following deleted ones are extended to the next kept revision and
+ * store the values of all delta properties. Afterwards, the revision entries that are no longer referenced by any
+ * audited entity are deleted.
+ */
+@Slf4j
+@Service
+public class RevisionPruningServiceImpl implements RevisionPruningService {
+
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000;
+
+    private final List<AuditedHierarchy> hierarchies;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public RevisionPruningServiceImpl(
+            PlatformTransactionManager transactionManager,
+            RevisionRetentionProperties retentionProperties,
+            @Value("${org.planqk.atlas.revisions.pruning-batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size of the revision pruning must be positive");
+        }
+        this.hierarchies = List.of(
+                new AuditedHierarchy("algorithm", retentionProperties.getAlgorithm(), "algorithm_revisions",
+                        "classic_algorithm_revisions", "quantum_algorithm_revisions", "knowledge_artifact_revisions"),
+                new AuditedHierarchy("implementation", retentionProperties.getImplementation(), "implementation_revisions",
+                        "classic_implementation_revisions", "quantum_implementation_revisions", "knowledge_artifact_revisions"),
+                new AuditedHierarchy("tosca-application", retentionProperties.getToscaApplication(), "tosca_application_revisions"));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${org.planqk.atlas.revisions.pruning-interval:60000}")
+    public RevisionPruningReport pruneRevisions() {
+        final RevisionPruningReport report = new RevisionPruningReport();
+        final long now = Instant.now().toEpochMilli();
+        for (final AuditedHierarchy hierarchy : hierarchies) {
+            final List<UUID> ids = findCandidates(hierarchy);
+            for (int i = 0; i < ids.size(); i += batchSize) {
+                final List<UUID> batch = ids.subList(i, Math.min(i + batchSize, ids.size()));
+                transactionTemplate.executeWithoutResult(status -> pruneBatch(hierarchy, batch, now, report));
+            }
+        }
+        if (report.getDeletedRows() > 0) {
+            log.info("Pruned revisions, deleted {} revision rows {} and {} revision entries",
+                    report.getDeletedRows() - report.getDeletedRevisionInfoRows(), report.getDeletedRevisionRows(),
+                    report.getDeletedRevisionInfoRows());
+        }
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UUID> findCandidates(AuditedHierarchy hierarchy) {
+        return entityManager.createNativeQuery("SELECT id FROM " + hierarchy.getRootTable() + " GROUP BY id HAVING COUNT(*) > :keepLast")
+                .unwrap(NativeQuery.class)
+                .addScalar("id", PostgresUUIDType.INSTANCE)
+                .setParameter("keepLast", hierarchy.getPolicy().getKeepLast())
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pruneBatch(AuditedHierarchy hierarchy, List<UUID> ids, long now, RevisionPruningReport report) {
+        // serializes the pruning of an entity across instances, locked entities are pruned by the next run
+        final List<UUID> lockedIds = entityManager.createNativeQuery("SELECT id FROM (SELECT DISTINCT id FROM " + hierarchy.getRootTable() +
+                " WHERE id IN (:ids)) r WHERE pg_try_advisory_xact_lock(hashtext('revisions'), hashtext(CAST(id AS varchar)))")
+                .unwrap(NativeQuery.class)
+                .addScalar("id", PostgresUUIDType.INSTANCE)
+                .setParameterList("ids", ids)
+                .getResultList();
+        if (lockedIds.isEmpty()) {
+            return;
+        }
+
+        final RevisionRetentionPolicy policy = hierarchy.getPolicy();
+        final List<Object[]> deletedRevisions = entityManager.createNativeQuery(hierarchy.getPruneStatement())
+                .unwrap(NativeQuery.class)
+                .addScalar("rev", IntegerType.INSTANCE)
+                .addScalar("row_count", LongType.INSTANCE)
+                .setParameterList("ids", lockedIds)
+                .setParameter("keepLast", policy.getKeepLast())
+                .setParameter("newerThan", policy.getKeepNewerThan() == null ? Long.MAX_VALUE : now - policy.getKeepNewerThan().toMillis())
+                .setParameter("checkpointsSince", policy.getKeepDailyCheckpointsFor() == null
+                        ? Long.MAX_VALUE : now - policy.getKeepDailyCheckpointsFor().toMillis())
+                .getResultList();
+        if (deletedRevisions.isEmpty()) {
+            return;
+        }
+
+        final List<Integer> revisionNumbers = new ArrayList<>(deletedRevisions.size());
+        for (final Object[] deletedRevision : deletedRevisions) {
+            revisionNumbers.add((Integer) deletedRevision[0]);
+            report.addDeletedRevisionRows(hierarchy.getEntityType(), (Long) deletedRevision[1]);
+        }
+
+        // revisions are shared by all entities changed in the same transaction
+        report.addDeletedRevisionInfoRows(entityManager.createNativeQuery("DELETE FROM revinfo r WHERE r.rev IN (:revs) AND " +
+                EnversConfiguration.UNREFERENCED_REVISION_CONDITION)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("revinfo")
+                .setParameterList("revs", revisionNumbers)
+                .executeUpdate());
+    }
+
+    @Getter
+    private static class AuditedHierarchy {
+
+        private final String entityType;
+
+        private final RevisionRetentionPolicy policy;
+
+        private final String rootTable;
+
+        private final String pruneStatement;
+
+        // the root table belongs to the audited type itself and ranks the revisions, the related tables belong to its
+        // subclasses and superclasses, one of them stores the end revisions
+        AuditedHierarchy(String entityType, RevisionRetentionPolicy policy, String rootTable, String... relatedTables) {
+            policy.validate(entityType);
+            this.entityType = entityType;
+            this.policy = policy;
+            this.rootTable = rootTable;
+
+            // a revision is deleted if it is neither one of the newest, nor new enough, nor a daily checkpoint
+            final StringBuilder statement = new StringBuilder("WITH surplus AS (SELECT id, rev FROM (SELECT a.id, a.rev, i.revtstmp, " +
+                    "row_number() OVER (PARTITION BY a.id ORDER BY a.rev DESC) AS n, " +
+                    "row_number() OVER (PARTITION BY a.id, i.revtstmp / " + DAY_MILLIS + " ORDER BY a.rev DESC) AS n_of_day " +
+                    "FROM " + rootTable + " a JOIN revinfo i ON i.rev = a.rev WHERE a.id IN (:ids)) r " +
+                    "WHERE n > :keepLast AND revtstmp < :newerThan AND NOT (n_of_day = 1 AND revtstmp >= :checkpointsSince))");
+
+            // all parts of the statement see the same snapshot, so the order of the deletions does not matter
+            final List<String> tables = new ArrayList<>(List.of(relatedTables));
+            tables.add(rootTable);
+            final List<String> deletedRevisions = new ArrayList<>();
+            for (int i = 0; i < tables.size(); i++) {
+                statement.append(", deleted").append(i).append(" AS (DELETE FROM ").append(tables.get(i))
+                        .append(" t USING surplus s WHERE t.id = s.id AND t.rev = s.rev RETURNING t.rev)");
+                deletedRevisions.add("SELECT rev FROM deleted" + i);
+            }
+
+            // kept audit rows ending with a deleted revision are extended up to the next kept revision
+            final String validityTable = tables.stream().filter(EnversConfiguration.ROOT_REVISION_TABLES::contains).findFirst().orElseThrow();
+            statement.append(", relinked AS (UPDATE ").append(validityTable).append(" t SET revend = (SELECT MIN(k.rev) FROM ")
+                    .append(validityTable).append(" k WHERE k.id = t.id AND k.rev > t.rev ")
+                    .append("AND NOT EXISTS (SELECT 1 FROM surplus s WHERE s.id = k.id AND s.rev = k.rev)) ")
+                    .append("WHERE EXISTS (SELECT 1 FROM surplus s WHERE s.id = t.id AND s.rev = t.revend) ")
+                    .append("AND NOT EXISTS (SELECT 1 FROM surplus s WHERE s.id = t.id AND s.rev = t.rev))");
+
+            // the values of delta properties may only be stored by deleted audit rows, so the kept audit rows following
+            // deleted ones store all of them
+            tables.stream().filter(EnversConfiguration.DELTA_COLUMNS::containsKey).findFirst().ifPresent(deltaTable -> statement
+                    .append(", restored AS (UPDATE ").append(deltaTable).append(" t SET ")
+                    .append(EnversConfiguration.DELTA_COLUMNS.get(deltaTable).stream()
+                            .map(column -> column + " = " + EnversConfiguration.deltaValue(deltaTable, column) + ", " + column + "_mod = TRUE")
+                            .collect(Collectors.joining(", ")))
+                    .append(" WHERE NOT EXISTS (SELECT 1 FROM surplus s WHERE s.id = t.id AND s.rev = t.rev) ")
+                    .append("AND EXISTS (SELECT 1 FROM surplus s WHERE s.id = t.id AND s.rev = (SELECT MAX(p.rev) FROM ")
+                    .append(deltaTable).append(" p WHERE p.id = t.id AND p.rev < t.rev)))"));
+            this.pruneStatement = statement.append(" SELECT rev, COUNT(*) AS row_count FROM (")
+                    .append(String.join(" UNION ALL ", deletedRevisions))
+                    .append(") d GROUP BY rev").toString();
+        }
+    }
+}
@@ -20,9 +20,11 @@
 package org.planqk.atlas.core.services;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageThumbnail;
 import org.planqk.atlas.core.model.Sketch;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -59,6 +61,8 @@ public interface SketchService {
 
     /**
      * Add a {@link Sketch} to an already existing {@link org.planqk.atlas.core.model.Algorithm}.
+     * <p>
+     * The {@link ImageThumbnail}s of the image are generated in the background after the {@link Sketch} was created.
      *
      * @param algorithmId The ID of the {@link org.planqk.atlas.core.model.Algorithm} we want to add a {@link Sketch}
      *                    to
@@ -96,4 +100,17 @@ public interface SketchService {
      * @return @return The {@link Image} of the {@link Sketch} with the given ID
      */
     Image getImageBySketch(final UUID sketchId);
+
+    /**
+     * Retrieve the thumbnail of the image of a {@link Sketch} in one of the standard {@link ImageThumbnail#SIZES}.
+     * <p>
+     * No thumbnail is found if the image is not larger than the requested size, if its format is not supported or if
+     * the thumbnails are still being generated. In these cases the original image should be used instead. If the size is
+     * not a standard size this method will throw an {@link IllegalArgumentException}.
+     *
+     * @param sketchId The ID of the {@link Sketch} for which we want to find the thumbnail for
+     * @param size     The size of the thumbnail, which limits its longer edge in pixels
+     * @return The {@link ImageThumbnail} of the given size, if there is one
+     */
+    Optional<ImageThumbnail> findThumbnailBySketch(UUID sketchId, int size);
 }
@@ -20,14 +20,16 @@
 package org.planqk.atlas.core.services;
 
 import java.io.IOException;
-import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageThumbnail;
 import org.planqk.atlas.core.model.Sketch;
 import org.planqk.atlas.core.repository.ImageRepository;
+import org.planqk.atlas.core.repository.ImageThumbnailRepository;
 import org.planqk.atlas.core.repository.SketchRepository;
 import org.planqk.atlas.core.util.ServiceUtils;
 import org.springframework.stereotype.Service;
@@ -47,6 +49,10 @@ public class SketchServiceImpl implements SketchService {
 
     private final ImageRepository imageRepository;
 
+    private final ImageThumbnailRepository imageThumbnailRepository;
+
+    private final ImageThumbnailGenerator imageThumbnailGenerator;
+
     @Override
     @Transactional
     public Sketch update(@NonNull Sketch sketch) {
@@ -76,10 +82,11 @@ public class SketchServiceImpl implements SketchService {
             // image
             final Image image = new Image();
             image.setId(sketch.getId());
-            image.setImage(Base64.getEncoder().encode(file.getBytes()));
+            image.setImage(file.getBytes());
             image.setMimeType(file.getContentType());
             image.setSketch(persistedSketch2);
-            this.imageRepository.save(image);
+            final Image persistedImage = this.imageRepository.save(image);
+            imageThumbnailGenerator.generateAfterCommit(persistedImage.getId(), persistedImage.getImage());
 
             return persistedSketch2;
         } catch (IOException e) {
@@ -102,4 +109,12 @@ public class SketchServiceImpl implements SketchService {
     public Image getImageBySketch(@NonNull UUID sketchId) {
         return this.imageRepository.findImageBySketchId(sketchId);
     }
+
+    @Override
+    public Optional<ImageThumbnail> findThumbnailBySketch(@NonNull UUID sketchId, int size) {
+        if (!ImageThumbnail.SIZES.contains(size)) {
+            throw new IllegalArgumentException("Sketch images are only available in the sizes " + ImageThumbnail.SIZES);
+        }
+        return imageThumbnailRepository.findByImageSketchIdAndSize(sketchId, size);
+    }
 }
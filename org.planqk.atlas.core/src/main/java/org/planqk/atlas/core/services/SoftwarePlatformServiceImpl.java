@@ -56,11 +56,7 @@ public class SoftwarePlatformServiceImpl implements SoftwarePlatformService {
 
     @Override
     public Page<SoftwarePlatform> searchAllByName(String name, @NonNull Pageable pageable) {
-        String nameAsSearchString = name;
-        if (nameAsSearchString == null) {
-            nameAsSearchString = "";
-        }
-        return softwarePlatformRepository.findAllByNameContainingIgnoreCase(nameAsSearchString, pageable);
+        return softwarePlatformRepository.findAll(name, pageable);
     }
 
     @Override
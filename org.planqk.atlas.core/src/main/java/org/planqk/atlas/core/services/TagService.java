@@ -19,6 +19,7 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Tag;
@@ -58,6 +59,10 @@ public interface TagService {
     /**
      * Retrieve multiple {@link Tag} entries from the database based on if they match the search string parameter.
      * <p>
+     * A tag matches if its value or category contains the search string or a word similar to it, so the search
+     * tolerates typos. Unless a sort order is requested, the entries are ordered by their similarity to the search
+     * string.
+     * <p>
      * The amount of entries is based on the given {@link Pageable} parameter. If the {@link Pageable} is unpaged a
      * {@link Page} with all entries is queried.
      *
@@ -159,4 +164,64 @@ public interface TagService {
      */
     @Transactional
     void removeTagFromImplementation(UUID implementationId, Tag tag);
+
+    /**
+     * Add the given {@link Tag}s to every given {@link org.planqk.atlas.core.model.Algorithm}.
+     * <p>
+     * The Tags do not have to exist before adding them, missing Tags are created first. Tags that are already added
+     * to an {@link org.planqk.atlas.core.model.Algorithm} are skipped. All links are created with a single statement.
+     * <p>
+     * If any {@link org.planqk.atlas.core.model.Algorithm} with the given IDs can not be found a {@link
+     * java.util.NoSuchElementException} is thrown and no Tags are added.
+     *
+     * @param algorithmIds The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to add the {@link Tag}s to
+     * @param tags         The {@link Tag}s we want to add to the {@link org.planqk.atlas.core.model.Algorithm}s
+     */
+    @Transactional
+    void addTagsToAlgorithms(Collection<UUID> algorithmIds, Collection<Tag> tags);
+
+    /**
+     * Remove the given existing {@link Tag}s from every given {@link org.planqk.atlas.core.model.Algorithm}.
+     * <p>
+     * Tags that are not added to an {@link org.planqk.atlas.core.model.Algorithm} are skipped. If any of the {@link
+     * Tag}s or {@link org.planqk.atlas.core.model.Algorithm}s can not be found a {@link java.util.NoSuchElementException}
+     * is thrown and no Tags are removed.
+     *
+     * @param algorithmIds The IDs of the {@link org.planqk.atlas.core.model.Algorithm}s we want to remove the {@link
+     *                     Tag}s from
+     * @param tags         The {@link Tag}s we want to remove from the {@link org.planqk.atlas.core.model.Algorithm}s
+     */
+    @Transactional
+    void removeTagsFromAlgorithms(Collection<UUID> algorithmIds, Collection<Tag> tags);
+
+    /**
+     * Add the given {@link Tag}s to every given {@link org.planqk.atlas.core.model.Implementation}.
+     * <p>
+     * The Tags do not have to exist before adding them, missing Tags are created first. Tags that are already added
+     * to an {@link org.planqk.atlas.core.model.Implementation} are skipped. All links are created with a single
+     * statement.
+     * <p>
+     * If any {@link org.planqk.atlas.core.model.Implementation} with the given IDs can not be found a {@link
+     * java.util.NoSuchElementException} is thrown and no Tags are added.
+     *
+     * @param implementationIds The IDs of the {@link org.planqk.atlas.core.model.Implementation}s we want to add the
+     *                          {@link Tag}s to
+     * @param tags              The {@link Tag}s we want to add to the {@link org.planqk.atlas.core.model.Implementation}s
+     */
+    @Transactional
+    void addTagsToImplementations(Collection<UUID> implementationIds, Collection<Tag> tags);
+
+    /**
+     * Remove the given existing {@link Tag}s from every given {@link org.planqk.atlas.core.model.Implementation}.
+     * <p>
+     * Tags that are not added to an {@link org.planqk.atlas.core.model.Implementation} are skipped. If any of the
+     * {@link Tag}s or {@link org.planqk.atlas.core.model.Implementation}s can not be found a {@link
+     * java.util.NoSuchElementException} is thrown and no Tags are removed.
+     *
+     * @param implementationIds The IDs of the {@link org.planqk.atlas.core.model.Implementation}s we want to remove the
+     *                          {@link Tag}s from
+     * @param tags              The {@link Tag}s we want to remove from the {@link org.planqk.atlas.core.model.Implementation}s
+     */
+    @Transactional
+    void removeTagsFromImplementations(Collection<UUID> implementationIds, Collection<Tag> tags);
 }
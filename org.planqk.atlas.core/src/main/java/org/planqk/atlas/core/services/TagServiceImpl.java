@@ -19,12 +19,19 @@
 
 package org.planqk.atlas.core.services;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.repository.AlgorithmRepository;
+import org.planqk.atlas.core.repository.ImplementationRepository;
 import org.planqk.atlas.core.repository.TagRepository;
 import org.planqk.atlas.core.util.ServiceUtils;
 import org.springframework.data.domain.Page;
@@ -47,6 +54,10 @@ public class TagServiceImpl implements TagService {
 
     private final ImplementationService implementationService;
 
+    private final AlgorithmRepository algorithmRepository;
+
+    private final ImplementationRepository implementationRepository;
+
     @Override
     @Transactional
     public Tag create(@NonNull Tag tag) {
@@ -60,7 +71,7 @@ public class TagServiceImpl implements TagService {
 
     @Override
     public Page<Tag> findAllByContent(String search, @NonNull Pageable pageable) {
-        return tagRepository.findByValueContainingIgnoreCaseOrCategoryContainingIgnoreCase(search, search, pageable);
+        return tagRepository.findAll(search, pageable);
     }
 
     @Override
@@ -105,6 +116,58 @@ public class TagServiceImpl implements TagService {
         implementation.removeTag(findByValue(tag.getValue()));
     }
 
+    @Override
+    @Transactional
+    public void addTagsToAlgorithms(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<Tag> tags) {
+        ServiceUtils.throwIfAnyNotExists(algorithmIds, Algorithm.class, algorithmRepository);
+
+        algorithmRepository.insertLinks(Algorithm.class, "tags", algorithmIds, createTagsIfNotExist(tags));
+    }
+
+    @Override
+    @Transactional
+    public void removeTagsFromAlgorithms(@NonNull Collection<UUID> algorithmIds, @NonNull Collection<Tag> tags) {
+        final Set<String> values = getValues(tags);
+        ServiceUtils.throwIfAnyNotExists(algorithmIds, Algorithm.class, algorithmRepository);
+        ServiceUtils.throwIfAnyNotExists(values, Tag.class, algorithmRepository);
+
+        algorithmRepository.deleteLinks(Algorithm.class, "tags", algorithmIds, values);
+    }
+
+    @Override
+    @Transactional
+    public void addTagsToImplementations(@NonNull Collection<UUID> implementationIds, @NonNull Collection<Tag> tags) {
+        ServiceUtils.throwIfAnyNotExists(implementationIds, Implementation.class, implementationRepository);
+
+        implementationRepository.insertLinks(Implementation.class, "tags", implementationIds, createTagsIfNotExist(tags));
+    }
+
+    @Override
+    @Transactional
+    public void removeTagsFromImplementations(@NonNull Collection<UUID> implementationIds, @NonNull Collection<Tag> tags) {
+        final Set<String> values = getValues(tags);
+        ServiceUtils.throwIfAnyNotExists(implementationIds, Implementation.class, implementationRepository);
+        ServiceUtils.throwIfAnyNotExists(values, Tag.class, implementationRepository);
+
+        implementationRepository.deleteLinks(Implementation.class, "tags", implementationIds, values);
+    }
+
+    private Set<String> createTagsIfNotExist(@NonNull Collection<Tag> tags) {
+        final Set<Object> existingValues = algorithmRepository.findExistingIds(Tag.class, getValues(tags));
+        final Map<String, Tag> missingTags = new LinkedHashMap<>();
+        for (final Tag tag : tags) {
+            if (!existingValues.contains(tag.getValue())) {
+                missingTags.putIfAbsent(tag.getValue(), tag);
+            }
+        }
+        tagRepository.saveAll(missingTags.values());
+        return getValues(tags);
+    }
+
+    private static Set<String> getValues(Collection<Tag> tags) {
+        return tags.stream().map(Tag::getValue).collect(Collectors.toSet());
+    }
+
     private Tag createTagIfNotExists(@NonNull Tag tag) {
         try {
             ServiceUtils.throwIfNotExists(tag.getValue(), Tag.class, tagRepository);
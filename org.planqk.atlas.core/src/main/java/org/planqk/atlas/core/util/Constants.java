@@ -24,7 +24,7 @@ package org.planqk.atlas.core.util;
  */
 public final class Constants {
 
-    // amount of revisions to be saved for each artifact
+    // default amount of revisions to be kept for each artifact, see RevisionRetentionPolicy
     public static final int REVISIONS_COUNT = 20;
     public static final String PROPERTY_SORT = "parentProblemTypeName";
     private Constants() {
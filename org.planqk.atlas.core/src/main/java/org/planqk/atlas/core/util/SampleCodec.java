@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.util;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.ComputeResourcePropertySample;
+
+/**
+ * Compresses a series of {@link ComputeResourcePropertySample}s following the Gorilla time series encoding.
+ * <p>
+ * The first timestamp and value are stored as is. Every following timestamp is stored as the difference of its delta
+ * to the delta before (so a regular interval costs a single bit), every following value as the XOR with the value
+ * before, of which only the meaningful bits between the leading and trailing zeros are written. Values changing
+ * slowly, like calibration data, therefore need only a fraction of their 64 bits.
+ * <p>
+ * The number of samples is not part of the encoding and has to be stored next to it.
+ */
+public final class SampleCodec {
+
+    private SampleCodec() {
+    }
+
+    public static byte[] encode(List<ComputeResourcePropertySample> samples) {
+        final BitWriter writer = new BitWriter();
+        if (samples.isEmpty()) {
+            return writer.toByteArray();
+        }
+
+        long previousTimestamp = samples.get(0).getTimestamp().toEpochMilli();
+        long previousValue = Double.doubleToRawLongBits(samples.get(0).getValue());
+        writer.write(previousTimestamp, 64);
+        writer.write(previousValue, 64);
+
+        long previousDelta = 0;
+        int previousLeading = -1;
+        int previousTrailing = 0;
+        for (final ComputeResourcePropertySample sample : samples.subList(1, samples.size())) {
+            final long timestamp = sample.getTimestamp().toEpochMilli();
+            final long delta = timestamp - previousTimestamp;
+            writeDeltaOfDelta(writer, delta - previousDelta);
+            previousTimestamp = timestamp;
+            previousDelta = delta;
+
+            final long value = Double.doubleToRawLongBits(sample.getValue());
+            final long xor = value ^ previousValue;
+            previousValue = value;
+            if (xor == 0) {
+                writer.write(0, 1);
+                continue;
+            }
+            // the number of leading zeros has to fit into 5 bits
+            final int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            final int trailing = Long.numberOfTrailingZeros(xor);
+            if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+                // the meaningful bits fit into the window of the value before
+                writer.write(0b10, 2);
+                writer.write(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+            } else {
+                final int meaningful = 64 - leading - trailing;
+                writer.write(0b11, 2);
+                writer.write(leading, 5);
+                writer.write(meaningful - 1, 6);
+                writer.write(xor >>> trailing, meaningful);
+                previousLeading = leading;
+                previousTrailing = trailing;
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    public static List<ComputeResourcePropertySample> decode(UUID computeResourcePropertyId, byte[] data, int count) {
+        final List<ComputeResourcePropertySample> samples = new ArrayList<>(count);
+        if (count == 0) {
+            return samples;
+        }
+        final BitReader reader = new BitReader(data);
+
+        long timestamp = reader.read(64);
+        long value = reader.read(64);
+        samples.add(new ComputeResourcePropertySample(computeResourcePropertyId, Instant.ofEpochMilli(timestamp),
+                Double.longBitsToDouble(value)));
+
+        long delta = 0;
+        int leading = 0;
+        int trailing = 0;
+        for (int i = 1; i < count; i++) {
+            delta += readDeltaOfDelta(reader);
+            timestamp += delta;
+
+            if (reader.read(1) == 1) {
+                if (reader.read(1) == 1) {
+                    leading = (int) reader.read(5);
+                    trailing = 64 - leading - ((int) reader.read(6) + 1);
+                }
+                value ^= reader.read(64 - leading - trailing) << trailing;
+            }
+            samples.add(new ComputeResourcePropertySample(computeResourcePropertyId, Instant.ofEpochMilli(timestamp),
+                    Double.longBitsToDouble(value)));
+        }
+        return samples;
+    }
+
+    private static void writeDeltaOfDelta(BitWriter writer, long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            writer.write(0, 1);
+        } else if (fits(deltaOfDelta, 7)) {
+            writer.write(0b10, 2);
+            writer.write(deltaOfDelta, 7);
+        } else if (fits(deltaOfDelta, 9)) {
+            writer.write(0b110, 3);
+            writer.write(deltaOfDelta, 9);
+        } else if (fits(deltaOfDelta, 12)) {
+            writer.write(0b1110, 4);
+            writer.write(deltaOfDelta, 12);
+        } else if (fits(deltaOfDelta, 32)) {
+            // timestamps are stored in milliseconds, so slightly irregular intervals end up here
+            writer.write(0b11110, 5);
+            writer.write(deltaOfDelta, 32);
+        } else {
+            writer.write(0b11111, 5);
+            writer.write(deltaOfDelta, 64);
+        }
+    }
+
+    private static long readDeltaOfDelta(BitReader reader) {
+        int prefix = 0;
+        while (prefix < 5 && reader.read(1) == 1) {
+            prefix++;
+        }
+        switch (prefix) {
+            case 0:
+                return 0;
+            case 1:
+                return reader.readSigned(7);
+            case 2:
+                return reader.readSigned(9);
+            case 3:
+                return reader.readSigned(12);
+            case 4:
+                return reader.readSigned(32);
+            default:
+                return reader.read(64);
+        }
+    }
+
+    private static boolean fits(long value, int bits) {
+        final long bound = 1L << (bits - 1);
+        return value >= -bound && value < bound;
+    }
+
+    private static final class BitWriter {
+
+        private byte[] buffer = new byte[64];
+
+        private int bitCount;
+
+        /**
+         * Writes the lowest bits of the given value, most significant bit first.
+         */
+        void write(long value, int bits) {
+            for (int i = bits - 1; i >= 0; i--) {
+                if (bitCount == buffer.length * 8) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                if (((value >>> i) & 1) == 1) {
+                    buffer[bitCount >>> 3] |= 1 << (7 - (bitCount & 7));
+                }
+                bitCount++;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, (bitCount + 7) / 8);
+        }
+    }
+
+    private static final class BitReader {
+
+        private final byte[] data;
+
+        private int position;
+
+        BitReader(byte[] data) {
+            this.data = data;
+        }
+
+        long read(int bits) {
+            long value = 0;
+            for (int i = 0; i < bits; i++) {
+                value = (value << 1) | ((data[position >>> 3] >>> (7 - (position & 7))) & 1);
+                position++;
+            }
+            return value;
+        }
+
+        long readSigned(int bits) {
+            final long value = read(bits);
+            return value << (64 - bits) >> (64 - bits);
+        }
+    }
+}
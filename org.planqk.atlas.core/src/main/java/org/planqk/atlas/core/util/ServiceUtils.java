@@ -21,8 +21,15 @@ package org.planqk.atlas.core.util;
 
 import java.util.Collection;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.LongSupplier;
 
 import org.planqk.atlas.core.model.HasId;
+import org.planqk.atlas.core.repository.LinkRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.CrudRepository;
 
 /**
@@ -49,6 +56,25 @@ public final class ServiceUtils {
         }
     }
 
+    /**
+     * Checks if objects exist for all of the given IDs using a single query.
+     * <p>
+     * Should a object with one of the given IDs not exist a NoSuchElementException is thrown.
+     *
+     * @param ids           of the objects we want to check
+     * @param resourceClass the class of the objects
+     * @param repository    a repository providing the {@link LinkRepository} fragment
+     */
+    public static void throwIfAnyNotExists(Collection<?> ids, Class<?> resourceClass, LinkRepository repository) {
+        final Set<Object> existingIds = repository.findExistingIds(resourceClass, ids);
+        for (final Object id : ids) {
+            if (!existingIds.contains(id)) {
+                throw new NoSuchElementException(resourceClass.getName() +
+                        " with ID \"" + id.toString() + "\" does not exist");
+            }
+        }
+    }
+
     /**
      * Finds a object in the database based on its ID.
      * <p>
@@ -74,4 +100,32 @@ public final class ServiceUtils {
     public static <T extends HasId, ID> boolean containsElementWithId(Collection<T> collection, ID id) {
         return collection.stream().anyMatch(p -> p.getId().equals(id));
     }
+
+    /**
+     * Turns a slice into a page whose total number of elements is estimated instead of counted.
+     * <p>
+     * The estimate is only requested if the total can not be derived from the slice itself and is corrected if it
+     * contradicts the slice, so the resulting page is never marked as last page if further elements follow.
+     *
+     * @param slice          the slice queried without a count query
+     * @param estimatedTotal supplier of the estimated total number of elements
+     * @return page containing the elements of the slice and the (estimated) total number of elements
+     */
+    public static <T> Page<T> toEstimatedPage(Slice<T> slice, LongSupplier estimatedTotal) {
+        final Pageable pageable = slice.getPageable();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(slice.getContent(), pageable, slice.getNumberOfElements());
+        }
+        final long minimalTotal = pageable.getOffset() + slice.getNumberOfElements();
+        final long total;
+        if (slice.hasNext()) {
+            total = Math.max(estimatedTotal.getAsLong(), minimalTotal + 1);
+        } else if (slice.hasContent() || pageable.getOffset() == 0) {
+            total = minimalTotal;
+        } else {
+            // requested a page beyond the last one
+            total = Math.min(estimatedTotal.getAsLong(), pageable.getOffset());
+        }
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
 }
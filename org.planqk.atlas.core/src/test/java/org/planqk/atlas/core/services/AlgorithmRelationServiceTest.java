@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,7 @@ import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.planqk.atlas.core.util.ServiceTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -218,6 +220,91 @@ public class AlgorithmRelationServiceTest extends AtlasDatabaseTestBase {
                 .checkIfAlgorithmIsInAlgorithmRelation(checkAlgorithm.getId(), algorithmRelation.getId()));
     }
 
+    @Test
+    void findNeighborhood() {
+        Algorithm a = getCreatedAlgorithm("a");
+        Algorithm b = getCreatedAlgorithm("b");
+        Algorithm c = getCreatedAlgorithm("c");
+        Algorithm d = getCreatedAlgorithm("d");
+        Algorithm e = getCreatedAlgorithm("e");
+        // loads the graph, so the relations below are added incrementally
+        assertThat(algorithmRelationService.findNeighborhood(a.getId(), 1, Set.of())).isEmpty();
+
+        var basedOn = getCreatedAlgorithmRelationType("basedOn", "basisFor");
+        var similarTo = getCreatedAlgorithmRelationType("similarTo", "similarTo");
+        var ab = algorithmRelationService.create(buildAlgorithmRelation(a, b, basedOn, "ab"));
+        var bc = algorithmRelationService.create(buildAlgorithmRelation(b, c, basedOn, "bc"));
+        var cd = algorithmRelationService.create(buildAlgorithmRelation(c, d, basedOn, "cd"));
+        var ea = algorithmRelationService.create(buildAlgorithmRelation(e, a, similarTo, "ea"));
+
+        assertThat(algorithmRelationService.findNeighborhood(b.getId(), 1, Set.of()))
+                .extracting(AlgorithmRelation::getId).containsExactlyInAnyOrder(ab.getId(), bc.getId());
+        assertThat(algorithmRelationService.findNeighborhood(b.getId(), 2, Set.of()))
+                .extracting(AlgorithmRelation::getId).containsExactlyInAnyOrder(ab.getId(), bc.getId(), cd.getId(), ea.getId());
+        assertThat(algorithmRelationService.findNeighborhood(b.getId(), 2, Set.of(basedOn.getId())))
+                .extracting(AlgorithmRelation::getId).containsExactlyInAnyOrder(ab.getId(), bc.getId(), cd.getId());
+
+        algorithmRelationService.delete(bc.getId());
+
+        assertThat(algorithmRelationService.findNeighborhood(b.getId(), 2, Set.of()))
+                .extracting(AlgorithmRelation::getId).containsExactlyInAnyOrder(ab.getId(), ea.getId());
+        assertThrows(IllegalArgumentException.class, () -> algorithmRelationService.findNeighborhood(b.getId(), 0, Set.of()));
+        assertThrows(NoSuchElementException.class, () -> algorithmRelationService.findNeighborhood(UUID.randomUUID(), 1, Set.of()));
+    }
+
+    @Test
+    void findShortestPath() {
+        Algorithm a = getCreatedAlgorithm("a");
+        Algorithm b = getCreatedAlgorithm("b");
+        Algorithm c = getCreatedAlgorithm("c");
+        Algorithm d = getCreatedAlgorithm("d");
+
+        var basedOn = getCreatedAlgorithmRelationType("basedOn", "basisFor");
+        var similarTo = getCreatedAlgorithmRelationType("similarTo", "similarTo");
+        var ab = algorithmRelationService.create(buildAlgorithmRelation(a, b, basedOn, "ab"));
+        var bc = algorithmRelationService.create(buildAlgorithmRelation(b, c, basedOn, "bc"));
+        var dc = algorithmRelationService.create(buildAlgorithmRelation(d, c, basedOn, "dc"));
+        var ad = algorithmRelationService.create(buildAlgorithmRelation(a, d, similarTo, "ad"));
+
+        assertThat(algorithmRelationService.findShortestPath(a.getId(), c.getId(), Set.of(basedOn.getId())))
+                .extracting(AlgorithmRelation::getId).containsExactly(ab.getId(), bc.getId());
+        assertThat(algorithmRelationService.findShortestPath(d.getId(), a.getId(), Set.of()))
+                .extracting(AlgorithmRelation::getId).containsExactly(ad.getId());
+        assertThat(algorithmRelationService.findShortestPath(d.getId(), a.getId(), Set.of(basedOn.getId())))
+                .extracting(AlgorithmRelation::getId).containsExactly(dc.getId(), bc.getId(), ab.getId());
+        assertThat(algorithmRelationService.findShortestPath(a.getId(), a.getId(), Set.of())).isEmpty();
+
+        algorithmService.delete(b.getId());
+
+        assertThrows(NoSuchElementException.class,
+                () -> algorithmRelationService.findShortestPath(a.getId(), c.getId(), Set.of(basedOn.getId())));
+    }
+
+    @Test
+    void findReachableAlgorithms() {
+        Algorithm a = getCreatedAlgorithm("a");
+        Algorithm b = getCreatedAlgorithm("b");
+        Algorithm c = getCreatedAlgorithm("c");
+        Algorithm d = getCreatedAlgorithm("d");
+
+        var basedOn = getCreatedAlgorithmRelationType("basedOn", "basisFor");
+        var similarTo = getCreatedAlgorithmRelationType("similarTo", "similarTo");
+        algorithmRelationService.create(buildAlgorithmRelation(a, b, basedOn, "ab"));
+        algorithmRelationService.create(buildAlgorithmRelation(b, c, basedOn, "bc"));
+        algorithmRelationService.create(buildAlgorithmRelation(c, a, basedOn, "ca"));
+        var cd = algorithmRelationService.create(buildAlgorithmRelation(c, d, basedOn, "cd"));
+
+        assertThat(algorithmRelationService.findReachableAlgorithms(b.getId(), Set.of(), Pageable.unpaged()).getContent())
+                .extracting(Algorithm::getId).containsExactlyInAnyOrder(a.getId(), c.getId(), d.getId());
+        assertThat(algorithmRelationService.findReachableAlgorithms(d.getId(), Set.of(), Pageable.unpaged())).isEmpty();
+
+        cd.setAlgorithmRelationType(similarTo);
+        algorithmRelationService.update(cd);
+
+        assertThat(algorithmRelationService.findReachableAlgorithms(b.getId(), Set.of(basedOn.getId()), Pageable.unpaged()).getContent())
+                .extracting(Algorithm::getId).containsExactlyInAnyOrder(a.getId(), c.getId());
+    }
+
     private AlgorithmRelation buildAlgorithmRelation(
             Algorithm source, Algorithm target, AlgorithmRelationType type, String description) {
         AlgorithmRelation algorithmRelation = new AlgorithmRelation();
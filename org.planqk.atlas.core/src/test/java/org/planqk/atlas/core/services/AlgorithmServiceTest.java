@@ -25,10 +25,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.planqk.atlas.core.model.Algorithm;
@@ -44,13 +46,21 @@ import org.planqk.atlas.core.model.ProblemType;
 import org.planqk.atlas.core.model.Publication;
 import org.planqk.atlas.core.model.QuantumAlgorithm;
 import org.planqk.atlas.core.model.QuantumComputationModel;
+import org.planqk.atlas.core.model.Sketch;
 import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.repository.AlgorithmSummary;
+import org.planqk.atlas.core.repository.ImplementationRepository;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.planqk.atlas.core.util.Constants;
 import org.planqk.atlas.core.util.ServiceTestUtils;
+import org.planqk.atlas.core.util.StatementCounter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -90,6 +100,21 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
     @Autowired
     private PatternRelationTypeService patternRelationTypeService;
 
+    @Autowired
+    private ImplementationRepository implementationRepository;
+
+    @Autowired
+    private RevisionPruningService revisionPruningService;
+
+    @Autowired
+    private SketchService sketchService;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void createAlgorithm_Classic() {
         ClassicAlgorithm algorithm = (ClassicAlgorithm) getFullAlgorithm("classicAlgorithmName");
@@ -131,6 +156,7 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
 
         storedAlgorithm.setName("Shor");
         algorithmService.update(storedAlgorithm);
+        revisionPruningService.pruneRevisions();
 
         var revisions = algorithmService.findAlgorithmRevisions(storedAlgorithm.getId(), PageRequest.of(0,10));
         assertThat(revisions.getTotalElements()).isEqualTo(Constants.REVISIONS_COUNT);
@@ -160,6 +186,7 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
 
         storedAlgorithm.setName("Shor");
         algorithmService.update(storedAlgorithm);
+        revisionPruningService.pruneRevisions();
 
         var revisions = algorithmService.findAlgorithmRevisions(storedAlgorithm.getId(), PageRequest.of(0,Constants.REVISIONS_COUNT + 1));
         assertThat(revisions.getTotalElements()).isEqualTo(Constants.REVISIONS_COUNT);
@@ -180,6 +207,97 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
         assertThat(algorithms.size()).isEqualTo(2);
     }
 
+    @Test
+    void findAllAlgorithmSummaries() {
+        Algorithm algorithm = algorithmService.create(getFullAlgorithm("algorithmName1"));
+        algorithmService.create(getFullAlgorithm("algorithmName2"));
+
+        Page<AlgorithmSummary> summaries = algorithmService.findAllSummaries(PageRequest.of(0, 1, Sort.by("name")));
+
+        assertThat(summaries.getTotalElements()).isEqualTo(2);
+        assertThat(summaries.getContent()).hasSize(1);
+        AlgorithmSummary summary = summaries.getContent().get(0);
+        assertThat(summary.getId()).isEqualTo(algorithm.getId());
+        assertThat(summary.getName()).isEqualTo(algorithm.getName());
+        assertThat(summary.getAcronym()).isEqualTo(algorithm.getAcronym());
+        assertThat(summary.getComputationModel()).isEqualTo(ComputationModel.CLASSIC);
+    }
+
+    @Test
+    void findAllAlgorithms_WithSearch() {
+        Algorithm algorithm1 = getFullAlgorithm("Grover");
+        algorithm1.setIntent("Unstructured search over a database");
+        algorithmService.create(algorithm1);
+        Algorithm algorithm2 = getFullAlgorithm("Shor");
+        algorithm2.setIntent("Factorization of integers");
+        algorithmService.create(algorithm2);
+
+        List<Algorithm> algorithms = algorithmService.findAll(Pageable.unpaged(), "unstruct").getContent();
+
+        assertThat(algorithms.size()).isEqualTo(1);
+        assertThat(algorithms.get(0).getName()).isEqualTo("Grover");
+    }
+
+    @Test
+    void searchAlgorithms_RankedByRelevance() {
+        Algorithm algorithm1 = getFullAlgorithm("Variational Quantum Eigensolver");
+        algorithm1.setSolution("Uses a quantum eigensolver subroutine");
+        algorithmService.create(algorithm1);
+        Algorithm algorithm2 = getFullAlgorithm("Quantum Phase Estimation");
+        algorithm2.setSolution("Can be used as an eigensolver");
+        algorithmService.create(algorithm2);
+        Algorithm algorithm3 = getFullAlgorithm("Shor");
+        algorithmService.create(algorithm3);
+
+        var results = algorithmService.search(PageRequest.of(0, 10), "eigensolver").getContent();
+
+        assertThat(results.size()).isEqualTo(2);
+        assertThat(results.get(0).getAlgorithm().getName()).isEqualTo("Variational Quantum Eigensolver");
+        assertThat(results.get(0).getRank()).isGreaterThan(results.get(1).getRank());
+        assertThat(results.get(1).getHighlight()).contains("<b>eigensolver</b>");
+    }
+
+    @Test
+    void findAllAlgorithms_WithSearchWithinWord() {
+        Algorithm algorithm1 = getFullAlgorithm("Grover");
+        algorithmService.create(algorithm1);
+        Algorithm algorithm2 = getFullAlgorithm("Shor");
+        algorithmService.create(algorithm2);
+
+        List<Algorithm> algorithms = algorithmService.findAll(Pageable.unpaged(), "rov").getContent();
+
+        assertThat(algorithms.size()).isEqualTo(1);
+        assertThat(algorithms.get(0).getName()).isEqualTo("Grover");
+    }
+
+    @Test
+    void searchAlgorithms_SortedByOtherAttribute() {
+        for (String intent : List.of("b", "c", "a")) {
+            Algorithm algorithm = getFullAlgorithm("Eigensolver " + intent);
+            algorithm.setIntent(intent);
+            algorithmService.create(algorithm);
+        }
+
+        var results = algorithmService.search(PageRequest.of(1, 2, Sort.by("intent").descending()), "eigensolver");
+
+        assertThat(results.getTotalElements()).isEqualTo(3);
+        assertThat(results.getContent().size()).isEqualTo(1);
+        assertThat(results.getContent().get(0).getAlgorithm().getIntent()).isEqualTo("a");
+        assertThat(results.getContent().get(0).getHighlight()).isNotNull();
+    }
+
+    @Test
+    void searchAlgorithms_HighlightEscaped() {
+        Algorithm algorithm = getFullAlgorithm("Eigensolver");
+        algorithm.setIntent("<script>eigensolver</script> & more");
+        algorithmService.create(algorithm);
+
+        var results = algorithmService.search(PageRequest.of(0, 10), "eigensolver").getContent();
+
+        assertThat(results.size()).isEqualTo(1);
+        assertThat(results.get(0).getHighlight()).contains("<b>eigensolver</b>").doesNotContain("<script>", "</script>");
+    }
+
     @Test
     void findAlgorithmById_ElementNotFound() {
         assertThrows(NoSuchElementException.class, () ->
@@ -383,6 +501,54 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
         assertThrows(NoSuchElementException.class, () -> algorithmService.findAlgorithmRevisions(storedAlgorithm.getId(), Pageable.unpaged()));
     }
 
+    @Test
+    void deleteAlgorithm_SketchRevisionsDeleted() {
+        Algorithm storedAlgorithm = algorithmService.create(getFullAlgorithm("Shor"));
+        Sketch sketch = sketchService.addSketchToAlgorithm(storedAlgorithm.getId(),
+                new MockMultipartFile("image", new byte[] {1, 2, 3}), "description", "http://localhost:6626/atlas");
+        UUID imageId = sketchService.getImageBySketch(sketch.getId()).getId();
+
+        algorithmService.delete(storedAlgorithm.getId());
+
+        for (final UUID id : List.of(sketch.getId(), imageId)) {
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM knowledge_artifact_revisions WHERE id = ?", Long.class, id))
+                    .isEqualTo(0);
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sketch_aud WHERE id = ?", Long.class, sketch.getId())).isEqualTo(0);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM image_aud WHERE id = ?", Long.class, imageId)).isEqualTo(0);
+    }
+
+    @Test
+    void deleteAlgorithm_ManyImplementations_BoundedStatementCount() {
+        Algorithm algorithm = algorithmService.create(getFullAlgorithm("algorithmName"));
+        Publication publication = new Publication();
+        publication.setTitle("publicationTitle");
+        publication = publicationService.create(publication);
+
+        List<Implementation> implementations = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Implementation implementation = new Implementation();
+            implementation.setName("implementationName" + i);
+            implementation.setImplementedAlgorithm(algorithm);
+            implementations.add(implementation);
+        }
+        List<UUID> implementationIds = implementationRepository.saveAll(implementations).stream()
+                .map(Implementation::getId).collect(Collectors.toList());
+        linkingService.linkImplementationsAndPublications(implementationIds, List.of(publication.getId()));
+
+        long start = System.currentTimeMillis();
+        long statements = statementCounter.count(() -> algorithmService.delete(algorithm.getId()));
+        log.info("Deleted algorithm with {} implementations in {} ms using {} statements",
+                implementationIds.size(), System.currentTimeMillis() - start, statements);
+
+        // one statement per table of the aggregate, independent of the number of implementations
+        assertThat(statements).isLessThanOrEqualTo(60);
+        assertThat(implementationRepository.count()).isEqualTo(0);
+        assertThat(publicationService.findById(publication.getId()).getImplementations()).isEmpty();
+        assertThrows(NoSuchElementException.class, () ->
+                implementationService.findImplementationRevisions(implementationIds.get(0), Pageable.unpaged()));
+    }
+
     @Test
     void findAlgorithmRevision_ElementFound() {
         Algorithm algorithm = getFullAlgorithm("Shor");
@@ -402,6 +568,63 @@ public class AlgorithmServiceTest extends AtlasDatabaseTestBase {
         assertThat(algorithmRevision.getEntity().getOutputFormat()).isEqualTo(algorithm.getOutputFormat());
     }
 
+    @Test
+    void findAlgorithmRevisionAsOf_ReturnsRevisionCurrentAtTimestamp() {
+        Algorithm storedAlgorithm = algorithmService.create(getFullAlgorithm("Shor"));
+        storedAlgorithm.setName("Shor_Updated");
+        algorithmService.update(storedAlgorithm);
+
+        List<Integer> revisions = jdbcTemplate.queryForList(
+                "SELECT rev FROM algorithm_revisions WHERE id = ? ORDER BY rev", Integer.class, storedAlgorithm.getId());
+        assertThat(revisions).hasSize(2);
+        jdbcTemplate.update("UPDATE revinfo SET revtstmp = ? WHERE rev = ?",
+                Instant.parse("2022-01-01T00:00:00Z").toEpochMilli(), revisions.get(0));
+        jdbcTemplate.update("UPDATE revinfo SET revtstmp = ? WHERE rev = ?",
+                Instant.parse("2022-02-01T00:00:00Z").toEpochMilli(), revisions.get(1));
+
+        // the first revision is closed by the second one
+        assertThat(jdbcTemplate.queryForObject("SELECT revend FROM knowledge_artifact_revisions WHERE id = ? AND rev = ?",
+                Integer.class, storedAlgorithm.getId(), revisions.get(0))).isEqualTo(revisions.get(1));
+
+        assertThrows(NoSuchElementException.class, () ->
+                algorithmService.findAlgorithmRevisionAsOf(storedAlgorithm.getId(), Instant.parse("2021-12-31T23:59:59Z")));
+        var firstRevision = algorithmService.findAlgorithmRevisionAsOf(storedAlgorithm.getId(), Instant.parse("2022-01-15T00:00:00Z"));
+        assertThat(firstRevision.getRevisionNumber()).contains(revisions.get(0));
+        assertThat(firstRevision.getEntity().getName()).isEqualTo("Shor");
+        var secondRevision = algorithmService.findAlgorithmRevisionAsOf(storedAlgorithm.getId(), Instant.parse("2022-02-01T00:00:00Z"));
+        assertThat(secondRevision.getRevisionNumber()).contains(revisions.get(1));
+        assertThat(secondRevision.getEntity().getName()).isEqualTo("Shor_Updated");
+    }
+
+    @Test
+    void findAlgorithmRevisions_UnchangedTextsStoredAsDeltas() {
+        Algorithm storedAlgorithm = algorithmService.create(getFullAlgorithm("Shor"));
+        storedAlgorithm.setName("Shor_Updated");
+        algorithmService.update(storedAlgorithm);
+        storedAlgorithm.setIntent("updatedIntent");
+        algorithmService.update(storedAlgorithm);
+
+        // the texts are only stored by the revisions changing them
+        assertThat(jdbcTemplate.queryForList("SELECT intent FROM algorithm_revisions WHERE id = ? ORDER BY rev",
+                String.class, storedAlgorithm.getId())).containsExactly("testIntent", null, "updatedIntent");
+        assertThat(jdbcTemplate.queryForList("SELECT problem FROM algorithm_revisions WHERE id = ? ORDER BY rev",
+                String.class, storedAlgorithm.getId())).containsExactly("testProblem", null, null);
+
+        var revisions = algorithmService.findAlgorithmRevisions(storedAlgorithm.getId(), PageRequest.of(0, 10)).getContent();
+        assertThat(revisions).extracting(revision -> revision.getEntity().getIntent())
+                .containsExactly("testIntent", "testIntent", "updatedIntent");
+        assertThat(revisions).extracting(revision -> revision.getEntity().getProblem())
+                .containsExactly("testProblem", "testProblem", "testProblem");
+        assertThat(algorithmService.findAlgorithmRevision(storedAlgorithm.getId(), revisions.get(1).getRequiredRevisionNumber())
+                .getEntity().getSolution()).isEqualTo("testSolution");
+    }
+
+    @Test
+    void findAlgorithmRevisionAsOf_ElementNotFound() {
+        assertThrows(NoSuchElementException.class, () ->
+                algorithmService.findAlgorithmRevisionAsOf(UUID.randomUUID(), Instant.now()));
+    }
+
     @Test
     void findAlgorithmRevisions_ElementNotFound() {
         assertThrows(NoSuchElementException.class, () ->
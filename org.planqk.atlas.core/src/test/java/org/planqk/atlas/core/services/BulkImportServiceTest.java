@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.model.BulkImportJob;
+import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.repository.AlgorithmRepository;
+import org.planqk.atlas.core.repository.ImplementationRepository;
+import org.planqk.atlas.core.repository.ProblemTypeRepository;
+import org.planqk.atlas.core.repository.PublicationRepository;
+import org.planqk.atlas.core.repository.TagRepository;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+// one record per chunk, so references created by earlier chunks have to be resolved as well
+@TestPropertySource(properties = "org.planqk.atlas.bulk-import.chunk-size=1")
+public class BulkImportServiceTest extends AtlasDatabaseTestBase {
+
+    private static final String RECORDS = String.join("\n",
+            "{\"computationModel\": \"QUANTUM\", \"name\": \"Shor\", \"nisqReady\": true," +
+                    " \"problemTypes\": [{\"name\": \"Factorization\"}], \"tags\": [{\"value\": \"qft\"}]," +
+                    " \"publications\": [{\"doi\": \"10.1137/S0097539795293172\", \"title\": \"Polynomial-Time Algorithms\"}]," +
+                    " \"implementations\": [{\"name\": \"Shor Qiskit\", \"tags\": [{\"value\": \"qft\"}]," +
+                    " \"publications\": [{\"doi\": \"10.1137/S0097539795293172\"}]}]}",
+            "",
+            "{\"computationModel\": \"CLASSIC\", \"name\": \"GNFS\", \"problemTypes\": [{\"name\": \"Factorization\"}]," +
+                    " \"publications\": [{\"doi\": \"10.1137/S0097539795293172\"}]}",
+            "{\"computationModel\": \"QUANTUM\", \"name\": ",
+            "{\"computationModel\": \"QUANTUM\", \"tags\": [{\"value\": \"qft\"}]}");
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private AlgorithmRepository algorithmRepository;
+
+    @Autowired
+    private ImplementationRepository implementationRepository;
+
+    @Autowired
+    private ProblemTypeRepository problemTypeRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ProblemTypeHierarchy problemTypeHierarchy;
+
+    @Test
+    void importAlgorithms() throws InterruptedException {
+        BulkImportJob job = bulkImportService.startImport(new ByteArrayInputStream(RECORDS.getBytes(StandardCharsets.UTF_8)));
+        awaitCompletion(job);
+
+        assertThat(job.getState()).isEqualTo(BulkImportJob.State.COMPLETED);
+        assertThat(job.getProcessedRecords()).isEqualTo(4);
+        assertThat(job.getImportedAlgorithms()).isEqualTo(2);
+        assertThat(job.getImportedImplementations()).isEqualTo(1);
+        assertThat(job.getFailedRecords()).isEqualTo(2);
+        assertThat(job.getErrors()).hasSize(2);
+        assertThat(job.getErrors().get(0)).startsWith("Line 4:");
+        assertThat(job.getErrors().get(1)).startsWith("Line 5:");
+
+        assertThat(algorithmRepository.count()).isEqualTo(2);
+        assertThat(implementationRepository.count()).isEqualTo(1);
+        assertThat(publicationRepository.count()).isEqualTo(1);
+        assertThat(tagRepository.count()).isEqualTo(1);
+        assertThat(problemTypeRepository.findAll()).extracting(ProblemType::getName).containsExactly("Factorization");
+    }
+
+    @Test
+    void importAlgorithms_NewProblemTypesInHierarchy() throws InterruptedException {
+        assertThat(problemTypeHierarchy.getSortedByParentName()).isEmpty();
+
+        BulkImportJob job = bulkImportService.startImport(new ByteArrayInputStream(RECORDS.getBytes(StandardCharsets.UTF_8)));
+        awaitCompletion(job);
+
+        ProblemType problemType = problemTypeRepository.findAll().get(0);
+        assertThat(problemTypeHierarchy.getSortedByParentName()).extracting(ProblemType::getId).containsExactly(problemType.getId());
+        assertThat(problemTypeHierarchy.getPath(problemType.getId())).extracting(ProblemType::getId).containsExactly(problemType.getId());
+    }
+
+    @Test
+    void importAlgorithms_ExistingReferences() throws InterruptedException {
+        ProblemType problemType = new ProblemType();
+        problemType.setName("Factorization");
+        problemType = problemTypeRepository.save(problemType);
+        String records = "{\"computationModel\": \"CLASSIC\", \"name\": \"GNFS\", \"problemTypes\": [{\"id\": \"" +
+                problemType.getId() + "\"}]}\n" +
+                "{\"computationModel\": \"CLASSIC\", \"name\": \"Trial division\", \"problemTypes\": [{\"id\": \"" +
+                UUID.randomUUID() + "\"}]}\n";
+
+        BulkImportJob job = bulkImportService.startImport(new ByteArrayInputStream(records.getBytes(StandardCharsets.UTF_8)));
+        awaitCompletion(job);
+
+        assertThat(job.getImportedAlgorithms()).isEqualTo(1);
+        assertThat(job.getFailedRecords()).isEqualTo(1);
+        assertThat(job.getErrors().get(0)).contains("does not exist");
+        assertThat(problemTypeRepository.count()).isEqualTo(1);
+        assertThat(algorithmRepository.findAll().get(0).getProblemTypes()).containsExactly(problemType);
+    }
+
+    @Test
+    void importAlgorithms_GzipCompressed() throws IOException, InterruptedException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+            gzipOutputStream.write(RECORDS.getBytes(StandardCharsets.UTF_8));
+        }
+
+        BulkImportJob job = bulkImportService.startImport(new ByteArrayInputStream(compressed.toByteArray()));
+        awaitCompletion(job);
+
+        assertThat(job.getState()).isEqualTo(BulkImportJob.State.COMPLETED);
+        assertThat(job.getImportedAlgorithms()).isEqualTo(2);
+        assertThat(algorithmRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void findJobById() throws InterruptedException {
+        BulkImportJob job = bulkImportService.startImport(new ByteArrayInputStream(new byte[0]));
+        awaitCompletion(job);
+
+        assertThat(bulkImportService.findJobById(job.getId())).isSameAs(job);
+        assertThat(job.getProcessedRecords()).isZero();
+    }
+
+    @Test
+    void findJobById_ElementNotFound() {
+        assertThrows(NoSuchElementException.class, () -> bulkImportService.findJobById(UUID.randomUUID()));
+    }
+
+    private void awaitCompletion(BulkImportJob job) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 30_000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(job.isFinished()).isTrue();
+    }
+}
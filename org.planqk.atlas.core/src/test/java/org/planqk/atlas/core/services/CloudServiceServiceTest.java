@@ -38,7 +38,9 @@ import org.planqk.atlas.core.model.SoftwarePlatform;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.planqk.atlas.core.util.ServiceTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -84,6 +86,48 @@ public class CloudServiceServiceTest extends AtlasDatabaseTestBase {
         assertThat(cloudServices.size()).isEqualTo(1);
     }
 
+    @Test
+    void searchAllCloudServicesByName_Typo() {
+        cloudServiceService.create(getFullCloudService("Amazon Braket"));
+        cloudServiceService.create(getFullCloudService("Azure Quantum"));
+
+        List<CloudService> cloudServices = cloudServiceService.searchAllByName("Brakett", Pageable.unpaged()).getContent();
+
+        assertThat(cloudServices.size()).isEqualTo(1);
+        assertThat(cloudServices.get(0).getName()).isEqualTo("Amazon Braket");
+    }
+
+    @Test
+    void searchAllCloudServicesByName_OrderedBySimilarity() {
+        cloudServiceService.create(getFullCloudService("Quantum Cloud"));
+        cloudServiceService.create(getFullCloudService("Quantum"));
+        cloudServiceService.create(getFullCloudService("Quantim Inspire"));
+
+        List<CloudService> cloudServices = cloudServiceService.searchAllByName("Quantum", PageRequest.of(0, 10)).getContent();
+
+        assertThat(cloudServices.size()).isEqualTo(3);
+        assertThat(cloudServices.get(cloudServices.size() - 1).getName()).isEqualTo("Quantim Inspire");
+    }
+
+    @Test
+    void searchAllCloudServicesByName_SortedByAssociation() {
+        for (String name : List.of("b", "a")) {
+            CloudService cloudService = cloudServiceService.create(getFullCloudService("Quantum " + name));
+            SoftwarePlatform softwarePlatform = new SoftwarePlatform();
+            softwarePlatform.setName(name);
+            softwarePlatformService.create(softwarePlatform);
+            linkingService.linkSoftwarePlatformAndCloudService(softwarePlatform.getId(), cloudService.getId());
+        }
+        cloudServiceService.create(getFullCloudService("Other"));
+
+        List<CloudService> cloudServices = cloudServiceService.searchAllByName("Quantum",
+                PageRequest.of(0, 10, Sort.by("softwarePlatforms.name"))).getContent();
+
+        assertThat(cloudServices.size()).isEqualTo(2);
+        assertThat(cloudServices.get(0).getName()).isEqualTo("Quantum a");
+        assertThat(cloudServices.get(1).getName()).isEqualTo("Quantum b");
+    }
+
     @Test
     void findAllCloudServices() {
         CloudService cloudService1 = getFullCloudService("cloudServiceName1");
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
+import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
+import org.planqk.atlas.core.repository.ComputeResourcePropertyValue;
+
+@ExtendWith(MockitoExtension.class)
+class ComputeResourcePropertyIndexTest {
+
+    private final ComputeResourcePropertyType type = new ComputeResourcePropertyType();
+
+    @Mock
+    private ComputeResourcePropertyRepository computeResourcePropertyRepository;
+
+    private ComputeResourcePropertyIndex computeResourcePropertyIndex;
+
+    @BeforeEach
+    void init() {
+        type.setId(UUID.randomUUID());
+        type.setDatatype(ComputeResourcePropertyDataType.STRING);
+        computeResourcePropertyIndex = new ComputeResourcePropertyIndex(computeResourcePropertyRepository);
+    }
+
+    @Test
+    void findComputeResourcesSatisfying_InvalidatedDuringLoad() {
+        UUID previousComputeResourceId = UUID.randomUUID();
+        UUID currentComputeResourceId = UUID.randomUUID();
+        // the write invalidating the index completes while the first read loads the previous state
+        when(computeResourcePropertyRepository.findAllProvidedValues())
+                .thenAnswer(invocation -> {
+                    computeResourcePropertyIndex.invalidate();
+                    return List.of(getProvidedValue(previousComputeResourceId));
+                })
+                .thenReturn(List.of(getProvidedValue(currentComputeResourceId)));
+
+        assertThat(findSatisfying()).containsExactly(previousComputeResourceId);
+        assertThat(findSatisfying()).containsExactly(currentComputeResourceId);
+        assertThat(findSatisfying()).containsExactly(currentComputeResourceId);
+
+        verify(computeResourcePropertyRepository, times(2)).findAllProvidedValues();
+    }
+
+    private List<UUID> findSatisfying() {
+        final ComputeResourceProperty requiredProperty = new ComputeResourceProperty();
+        requiredProperty.setComputeResourcePropertyType(type);
+        requiredProperty.setValue("value");
+        return computeResourcePropertyIndex.findComputeResourcesSatisfying(List.of(requiredProperty));
+    }
+
+    private ComputeResourcePropertyValue getProvidedValue(UUID computeResourceId) {
+        return new ComputeResourcePropertyValue(computeResourceId, type.getId(), type.getDatatype(), "value");
+    }
+}
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.exceptions.InvalidResourceTypeValueException;
+import org.planqk.atlas.core.model.ComputeResource;
+import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
+import org.planqk.atlas.core.model.ComputeResourcePropertySample;
+import org.planqk.atlas.core.model.ComputeResourcePropertySampleBucket;
+import org.planqk.atlas.core.model.ComputeResourcePropertySampleChunk;
+import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.planqk.atlas.core.model.PropertyFilter;
+import org.planqk.atlas.core.model.QuantumComputationModel;
+import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
+import org.planqk.atlas.core.repository.ComputeResourcePropertySampleChunkRepository;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+
+public class ComputeResourcePropertySampleServiceTest extends AtlasDatabaseTestBase {
+
+    private static final Instant START = Instant.parse("2022-06-01T00:00:00Z");
+
+    @Autowired
+    private ComputeResourcePropertySampleService computeResourcePropertySampleService;
+
+    @Autowired
+    private ComputeResourcePropertyService computeResourcePropertyService;
+
+    @Autowired
+    private ComputeResourcePropertyTypeService computeResourcePropertyTypeService;
+
+    @Autowired
+    private ComputeResourceService computeResourceService;
+
+    @Autowired
+    private ComputeResourcePropertyRepository computeResourcePropertyRepository;
+
+    @Autowired
+    private ComputeResourcePropertySampleChunkRepository computeResourcePropertySampleChunkRepository;
+
+    @Test
+    void addSamples_FlushedAndFound() {
+        var computeResource = getCreatedComputeResource("computeResourceName");
+        var property = getCreatedComputeResourceProperty(computeResource, "t1", ComputeResourcePropertyDataType.FLOAT);
+
+        var random = new Random(42);
+        var samples = new ArrayList<ComputeResourcePropertySample>();
+        var timestamp = START;
+        for (int i = 0; i < 3000; i++) {
+            // irregular intervals and repeated values exercise all encodings of the codec
+            timestamp = timestamp.plusMillis(i % 7 == 0 ? 1 + random.nextInt(100_000_000) : 60_000);
+            var value = i % 5 == 0 && i > 0 ? samples.get(i - 1).getValue() : random.nextGaussian() * 100;
+            samples.add(new ComputeResourcePropertySample(property.getId(), timestamp, value));
+        }
+        computeResourcePropertySampleService.addSamples(computeResource.getId(), samples);
+        var end = timestamp.plusMillis(1);
+
+        assertThat(computeResourcePropertySampleService.findSamples(property.getId(), START, end)).isEqualTo(samples);
+
+        computeResourcePropertySampleService.flush();
+
+        assertThat(computeResourcePropertySampleService.findSamples(property.getId(), START, end)).isEqualTo(samples);
+        assertThat(computeResourcePropertySampleService.findSamples(property.getId(), samples.get(1000).getTimestamp(),
+                samples.get(2000).getTimestamp())).isEqualTo(samples.subList(1000, 2000));
+        assertThat(getChunks(property)).hasSize(3)
+                .allSatisfy(chunk -> assertThat(chunk.getSampleCount()).isLessThanOrEqualTo(ComputeResourcePropertySampleServiceImpl.MAX_CHUNK_SIZE));
+        assertThat(computeResourcePropertyService.findById(property.getId()).getValue())
+                .isEqualTo(Double.toString(samples.get(samples.size() - 1).getValue()));
+    }
+
+    @Test
+    void addSamples_AppendedToLatestChunk() {
+        var computeResource = getCreatedComputeResource("computeResourceName");
+        var property = getCreatedComputeResourceProperty(computeResource, "qubitCount", ComputeResourcePropertyDataType.INTEGER);
+
+        computeResourcePropertySampleService.addSamples(computeResource.getId(), List.of(
+                new ComputeResourcePropertySample(property.getId(), START, 27),
+                new ComputeResourcePropertySample(property.getId(), START.plusSeconds(60), 26)));
+        computeResourcePropertySampleService.flush();
+        computeResourcePropertySampleService.addSamples(computeResource.getId(), List.of(
+                new ComputeResourcePropertySample(property.getId(), START.plusSeconds(120), 25)));
+        computeResourcePropertySampleService.flush();
+
+        assertThat(getChunks(property)).hasSize(1).first()
+                .satisfies(chunk -> assertThat(chunk.getSampleCount()).isEqualTo(3));
+        assertThat(computeResourcePropertyService.findById(property.getId()).getValue()).isEqualTo("25");
+
+        // late samples are kept in a chunk of their own and do not change the value of the property
+        computeResourcePropertySampleService.addSamples(computeResource.getId(), List.of(
+                new ComputeResourcePropertySample(property.getId(), START.minusSeconds(60), 20)));
+        computeResourcePropertySampleService.flush();
+
+        assertThat(getChunks(property)).hasSize(2);
+        assertThat(computeResourcePropertyService.findById(property.getId()).getValue()).isEqualTo("25");
+        assertThat(computeResourcePropertySampleService.findSamples(property.getId(), START.minusSeconds(3600), START.plusSeconds(3600)))
+                .extracting(ComputeResourcePropertySample::getValue).containsExactly(20.0, 27.0, 26.0, 25.0);
+    }
+
+    @Test
+    void addSamples_LatestValueReadBeforeFlush() {
+        var computeResource = getCreatedComputeResource("computeResourceName");
+        var property = getCreatedComputeResourceProperty(computeResource, "t1", ComputeResourcePropertyDataType.FLOAT);
+
+        computeResourcePropertySampleService.addSamples(computeResource.getId(), List.of(
+                new ComputeResourcePropertySample(property.getId(), START.plusSeconds(60), 42.5),
+                new ComputeResourcePropertySample(property.getId(), START, 40.0)));
+
+        assertThat(computeResourcePropertyService.findById(property.getId()).getValue()).isEqualTo("42.5");
+        assertThat(computeResourcePropertyService.findComputeResourcePropertiesOfComputeResource(computeResource.getId(),
+                Pageable.unpaged())).extracting(ComputeResourceProperty::getValue).containsExactly("42.5");
+
+        computeResourcePropertySampleService.flush();
+
+        assertThat(computeResourcePropertyService.findById(property.getId()).getValue()).isEqualTo("42.5");
+        assertThat(computeResourceService.findAllByPropertyFilters(List.of(
+                new PropertyFilter("t1", PropertyFilter.Operator.GREATER, "42")), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactly(computeResource.getId());
+    }
+
+    @Test
+    void addSamples_PersistedPropertyNotChangedByRead() {
+        var computeResource = getCreatedComputeResource("computeResourceName");
+        var property = getCreatedComputeResourceProperty(computeResource, "t1", ComputeResourcePropertyDataType.FLOAT);
+
+        computeResourcePropertySampleService.addSamples(computeResource.getId(), List.of(
+                new ComputeResourcePropertySample(property.getId(), START, 42.5)));
+
+        assertThat(computeResourcePropertyService.findById(property.getId()).getValue()).isEqualTo("42.5");
+        assertThat(computeResourcePropertyService.findComputeResourcePropertiesOfComputeResource(computeResource.getId(),
+                Pageable.unpaged())).extracting(ComputeResourceProperty::getValue).containsExactly("42.5");
+        assertThat(computeResourcePropertyRepository.findById(property.getId()).orElseThrow().getValue()).isEqualTo("0");
+    }
+
+    @Test
+    void findAggregatedSamples() {
+        var computeResource = getCreatedComputeResource("computeResourceName");
+        var property = getCreatedComputeResourceProperty(computeResource, "t1", ComputeResourcePropertyDataType.FLOAT);
+
+        computeResourcePropertySampleService.addSamples(computeResource.getId(), List.of(
+                new ComputeResourcePropertySample(property.getId(), START, 1.0),
+                new ComputeResourcePropertySample(property.getId(), START.plusSeconds(1800), 3.0),
+                new ComputeResourcePropertySample(property.getId(), START.plusSeconds(3 * 3600), 5.0)));
+        computeResourcePropertySampleService.flush();
+
+        var buckets = computeResourcePropertySampleService.findAggregatedSamples(property.getId(), START,
+                START.plusSeconds(4 * 3600 - 600), Duration.ofHours(1));
+
+        assertThat(buckets).containsExactly(
+                new ComputeResourcePropertySampleBucket(START, START.plusSeconds(3600), 2, 1.0, 3.0, 2.0),
+                new ComputeResourcePropertySampleBucket(START.plusSeconds(3 * 3600), START.plusSeconds(4 * 3600 - 600), 1, 5.0, 5.0, 5.0));
+        assertThrows(IllegalArgumentException.class, () -> computeResourcePropertySampleService.findAggregatedSamples(property.getId(),
+                START, START.plusSeconds(3600), Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> computeResourcePropertySampleService.findAggregatedSamples(property.getId(),
+                START, START.plusSeconds(3600), Duration.ofMillis(1)));
+        assertThrows(IllegalArgumentException.class, () -> computeResourcePropertySampleService.findSamples(property.getId(),
+                START, START));
+    }
+
+    @Test
+    void addSamples_Invalid() {
+        var computeResource = getCreatedComputeResource("computeResourceName");
+        var otherComputeResource = getCreatedComputeResource("otherComputeResourceName");
+        var vendor = getCreatedComputeResourceProperty(computeResource, "vendor", ComputeResourcePropertyDataType.STRING);
+        var qubitCount = getCreatedComputeResourceProperty(computeResource, "qubitCount", ComputeResourcePropertyDataType.INTEGER);
+
+        assertThrows(InvalidResourceTypeValueException.class, () -> computeResourcePropertySampleService.addSamples(
+                computeResource.getId(), List.of(new ComputeResourcePropertySample(vendor.getId(), START, 1))));
+        assertThrows(InvalidResourceTypeValueException.class, () -> computeResourcePropertySampleService.addSamples(
+                computeResource.getId(), List.of(new ComputeResourcePropertySample(qubitCount.getId(), START, 1.5))));
+        assertThrows(InvalidResourceTypeValueException.class, () -> computeResourcePropertySampleService.addSamples(
+                computeResource.getId(), List.of(new ComputeResourcePropertySample(qubitCount.getId(), START, Double.NaN))));
+        assertThrows(NoSuchElementException.class, () -> computeResourcePropertySampleService.addSamples(
+                otherComputeResource.getId(), List.of(new ComputeResourcePropertySample(qubitCount.getId(), START, 1))));
+        assertThrows(NoSuchElementException.class, () -> computeResourcePropertySampleService.addSamples(
+                computeResource.getId(), List.of(new ComputeResourcePropertySample(UUID.randomUUID(), START, 1))));
+    }
+
+    @Test
+    void deleteComputeResourceProperty_SamplesDeleted() {
+        var computeResource = getCreatedComputeResource("computeResourceName");
+        var property = getCreatedComputeResourceProperty(computeResource, "t1", ComputeResourcePropertyDataType.FLOAT);
+
+        computeResourcePropertySampleService.addSamples(computeResource.getId(), List.of(
+                new ComputeResourcePropertySample(property.getId(), START, 1.0)));
+        computeResourcePropertySampleService.flush();
+        computeResourcePropertySampleService.addSamples(computeResource.getId(), List.of(
+                new ComputeResourcePropertySample(property.getId(), START.plusSeconds(60), 2.0)));
+
+        computeResourcePropertyService.delete(property.getId());
+        computeResourcePropertySampleService.flush();
+
+        assertThat(getChunks(property)).isEmpty();
+        assertThat(computeResourcePropertySampleService.findSamples(property.getId(), START, START.plusSeconds(3600))).isEmpty();
+    }
+
+    private List<ComputeResourcePropertySampleChunk> getChunks(ComputeResourceProperty property) {
+        return computeResourcePropertySampleChunkRepository.findByComputeResourcePropertyIdAndStartTimeLessThanAndEndTimeGreaterThanEqual(
+                property.getId(), START.plus(Duration.ofDays(36500)), START.minus(Duration.ofDays(36500)));
+    }
+
+    private ComputeResource getCreatedComputeResource(String name) {
+        ComputeResource computeResource = new ComputeResource();
+
+        computeResource.setName(name);
+        computeResource.setQuantumComputationModel(QuantumComputationModel.GATE_BASED);
+
+        return computeResourceService.create(computeResource);
+    }
+
+    private ComputeResourceProperty getCreatedComputeResourceProperty(ComputeResource computeResource, String name,
+                                                                      ComputeResourcePropertyDataType datatype) {
+        var computeResourcePropertyType = new ComputeResourcePropertyType();
+        computeResourcePropertyType.setName(name);
+        computeResourcePropertyType.setDatatype(datatype);
+
+        var computeResourceProperty = new ComputeResourceProperty();
+        computeResourceProperty.setComputeResourcePropertyType(computeResourcePropertyTypeService.create(computeResourcePropertyType));
+        computeResourceProperty.setValue(datatype == ComputeResourcePropertyDataType.STRING ? "ibm" : "0");
+
+        return computeResourcePropertyService.addComputeResourcePropertyToComputeResource(computeResource.getId(), computeResourceProperty);
+    }
+}
@@ -23,23 +23,30 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.planqk.atlas.core.exceptions.InvalidResourceTypeValueException;
+import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.ComputationModel;
 import org.planqk.atlas.core.model.ComputeResource;
 import org.planqk.atlas.core.model.ComputeResourceProperty;
 import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
 import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.core.model.QuantumAlgorithm;
 import org.planqk.atlas.core.model.QuantumComputationModel;
 import org.planqk.atlas.core.model.QuantumImplementation;
+import org.planqk.atlas.core.repository.ComputeResourcePropertyRepository;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.planqk.atlas.core.util.ServiceTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -61,6 +68,15 @@ public class ComputeResourcePropertyServiceTest extends AtlasDatabaseTestBase {
     @Autowired
     private ComputeResourceService computeResourceService;
 
+    @Autowired
+    private ComputeResourcePropertyRepository computeResourcePropertyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     void createComputeResourceProperty() {
         var resourceType = getCreatedComputeResourcePropertyType();
@@ -641,6 +657,142 @@ public class ComputeResourcePropertyServiceTest extends AtlasDatabaseTestBase {
                 .checkIfComputeResourcePropertyIsOfComputeResource(computeResource.getId(), storedResource.getId()));
     }
 
+    @Test
+    void findComputeResourcesMatchingAlgorithm() {
+        var qubitCount = getCreatedComputeResourcePropertyType("qubitCount", ComputeResourcePropertyDataType.INTEGER);
+        var provider = getCreatedComputeResourcePropertyType("provider", ComputeResourcePropertyDataType.STRING);
+        var smallComputeResource = getCreatedComputeResource("small", qubitCount, "5", provider, "ibm");
+        var mediumComputeResource = getCreatedComputeResource("medium", qubitCount, "27", provider, "ibm");
+        var largeComputeResource = getCreatedComputeResource("large", qubitCount, "65", provider, "google");
+        var computeResource = getCreatedComputeResource("computeResourceName");
+
+        var algorithm = getCreatedQuantumAlgorithm("quantumAlgorithmName");
+        assertThat(computeResourcePropertyService.findComputeResourcesMatchingAlgorithm(algorithm.getId(), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactlyInAnyOrder(smallComputeResource.getId(),
+                mediumComputeResource.getId(), largeComputeResource.getId(), computeResource.getId());
+
+        computeResourcePropertyService.addComputeResourcePropertyToAlgorithm(algorithm.getId(), getComputeResourceProperty(qubitCount, "20"));
+
+        assertThat(computeResourcePropertyService.findComputeResourcesMatchingAlgorithm(algorithm.getId(), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactlyInAnyOrder(mediumComputeResource.getId(), largeComputeResource.getId());
+        assertThrows(NoSuchElementException.class,
+                () -> computeResourcePropertyService.findComputeResourcesMatchingAlgorithm(UUID.randomUUID(), Pageable.unpaged()));
+    }
+
+    @Test
+    void findComputeResourcesMatchingImplementation() {
+        var qubitCount = getCreatedComputeResourcePropertyType("qubitCount", ComputeResourcePropertyDataType.INTEGER);
+        var provider = getCreatedComputeResourcePropertyType("provider", ComputeResourcePropertyDataType.STRING);
+        var smallComputeResource = getCreatedComputeResource("small", qubitCount, "5", provider, "ibm");
+        var mediumComputeResource = getCreatedComputeResource("medium", qubitCount, "27", provider, "ibm");
+        getCreatedComputeResource("large", qubitCount, "65", provider, "google");
+
+        var implementation = getCreatedQuantumImplementation("quantumImplementationName");
+        computeResourcePropertyService.addComputeResourcePropertyToImplementation(
+                implementation.getId(), getComputeResourceProperty(qubitCount, "20"));
+        computeResourcePropertyService.addComputeResourcePropertyToImplementation(
+                implementation.getId(), getComputeResourceProperty(provider, "ibm"));
+
+        assertThat(computeResourcePropertyService.findComputeResourcesMatchingImplementation(implementation.getId(), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactly(mediumComputeResource.getId());
+
+        // a second provided value of the same type satisfies the requirement as well
+        computeResourcePropertyService.addComputeResourcePropertyToComputeResource(
+                smallComputeResource.getId(), getComputeResourceProperty(qubitCount, "50"));
+
+        assertThat(computeResourcePropertyService.findComputeResourcesMatchingImplementation(implementation.getId(), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactlyInAnyOrder(smallComputeResource.getId(), mediumComputeResource.getId());
+    }
+
+    @Test
+    void findAllByPropertyFilters_ComputeResources() {
+        var qubitCount = getCreatedComputeResourcePropertyType("qubitCount", ComputeResourcePropertyDataType.INTEGER);
+        var vendor = getCreatedComputeResourcePropertyType("vendor", ComputeResourcePropertyDataType.STRING);
+        var smallComputeResource = getCreatedComputeResource("small", qubitCount, "5", vendor, "ibm");
+        var mediumComputeResource = getCreatedComputeResource("medium", qubitCount, "27", vendor, "ibm");
+        var largeComputeResource = getCreatedComputeResource("large", qubitCount, "127", vendor, "google");
+        getCreatedComputeResource("computeResourceName");
+
+        assertThat(computeResourceService.findAllByPropertyFilters(List.of(
+                new PropertyFilter("qubitCount", PropertyFilter.Operator.GREATER_OR_EQUAL, "27"),
+                new PropertyFilter("vendor", PropertyFilter.Operator.EQUAL, "ibm")), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactly(mediumComputeResource.getId());
+        assertThat(computeResourceService.findAllByPropertyFilters(List.of(
+                new PropertyFilter("qubitCount", PropertyFilter.Operator.GREATER, "27")), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactly(largeComputeResource.getId());
+        assertThat(computeResourceService.findAllByPropertyFilters(List.of(
+                new PropertyFilter("qubitCount", PropertyFilter.Operator.LESS_OR_EQUAL, "27.0")), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactlyInAnyOrder(smallComputeResource.getId(), mediumComputeResource.getId());
+        assertThat(computeResourceService.findAllByPropertyFilters(List.of(
+                new PropertyFilter("qubitCount", PropertyFilter.Operator.EQUAL, "5")), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactly(smallComputeResource.getId());
+        assertThat(computeResourceService.findAllByPropertyFilters(List.of(
+                new PropertyFilter("vendor", PropertyFilter.Operator.EQUAL, "rigetti")), Pageable.unpaged())).isEmpty();
+        assertThat(computeResourceService.findAllByPropertyFilters(List.of(), Pageable.unpaged())).hasSize(4);
+        assertThrows(IllegalArgumentException.class, () -> computeResourceService.findAllByPropertyFilters(List.of(
+                new PropertyFilter("vendor", PropertyFilter.Operator.LESS, "ibm")), Pageable.unpaged()));
+    }
+
+    @Test
+    void findAllByPropertyFilters_SyncedWithProperties() {
+        var qubitCount = getCreatedComputeResourcePropertyType("qubitCount", ComputeResourcePropertyDataType.INTEGER);
+        var vendor = getCreatedComputeResourcePropertyType("vendor", ComputeResourcePropertyDataType.STRING);
+        var computeResource = getCreatedComputeResource("computeResourceName", qubitCount, "5", vendor, "ibm");
+        var algorithm = getCreatedQuantumAlgorithm("quantumAlgorithmName");
+        var requiredProperty = computeResourcePropertyService.addComputeResourcePropertyToAlgorithm(
+                algorithm.getId(), getComputeResourceProperty(qubitCount, "20"));
+        final List<PropertyFilter> filters = List.of(new PropertyFilter("qubitCount", PropertyFilter.Operator.GREATER, "10"));
+
+        assertThat(algorithmService.findAllByPropertyFilters(filters, Pageable.unpaged()))
+                .extracting(Algorithm::getId).containsExactly(algorithm.getId());
+        assertThat(computeResourceService.findAllByPropertyFilters(filters, Pageable.unpaged())).isEmpty();
+
+        var providedProperty = computeResourcePropertyService.findComputeResourcePropertiesOfComputeResource(
+                computeResource.getId(), Pageable.unpaged()).stream()
+                .filter(property -> property.getComputeResourcePropertyType().getId().equals(qubitCount.getId()))
+                .findFirst().orElseThrow();
+        providedProperty.setValue("50");
+        computeResourcePropertyService.update(providedProperty);
+        computeResourcePropertyService.delete(requiredProperty.getId());
+
+        assertThat(computeResourceService.findAllByPropertyFilters(filters, Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactly(computeResource.getId());
+        assertThat(algorithmService.findAllByPropertyFilters(filters, Pageable.unpaged())).isEmpty();
+
+        // the type name is the key within the property documents
+        vendor.setName("provider");
+        computeResourcePropertyTypeService.update(vendor);
+
+        assertThat(computeResourceService.findAllByPropertyFilters(List.of(
+                new PropertyFilter("provider", PropertyFilter.Operator.EQUAL, "ibm")), Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactly(computeResource.getId());
+        assertThat(computeResourceService.findAllByPropertyFilters(List.of(
+                new PropertyFilter("vendor", PropertyFilter.Operator.EQUAL, "ibm")), Pageable.unpaged())).isEmpty();
+    }
+
+    @Test
+    void findAllByPropertyFilters_MissingPropertyDocuments() {
+        var qubitCount = getCreatedComputeResourcePropertyType("qubitCount", ComputeResourcePropertyDataType.INTEGER);
+        var computeResource = getCreatedComputeResource("computeResourceName", qubitCount, "5", qubitCount, "27");
+        getCreatedComputeResource("otherComputeResourceName");
+        final List<PropertyFilter> filters = List.of(new PropertyFilter("qubitCount", PropertyFilter.Operator.GREATER, "10"));
+
+        // compute resources stored before the property documents were introduced
+        jdbcTemplate.update("UPDATE compute_resource SET property_document = NULL");
+        assertThat(computeResourceService.findAllByPropertyFilters(filters, Pageable.unpaged())).isEmpty();
+
+        assertThat(refreshMissingPropertyDocuments()).isEqualTo(1);
+        assertThat(computeResourceService.findAllByPropertyFilters(filters, Pageable.unpaged()))
+                .extracting(ComputeResource::getId).containsExactly(computeResource.getId());
+        assertThat(refreshMissingPropertyDocuments()).isEqualTo(0);
+    }
+
+    private int refreshMissingPropertyDocuments() {
+        final Integer refreshedDocuments = new TransactionTemplate(transactionManager)
+                .execute(status -> computeResourcePropertyRepository.refreshMissingPropertyDocuments());
+        return refreshedDocuments;
+    }
+
     private ComputeResourceProperty getFullComputeResourceProperty(String value) {
         var computeResourceProperty = new ComputeResourceProperty();
 
@@ -665,6 +817,23 @@ public class ComputeResourcePropertyServiceTest extends AtlasDatabaseTestBase {
         return computeResourcePropertyTypeService.create(computeResourcePropertyType);
     }
 
+    private ComputeResourcePropertyType getCreatedComputeResourcePropertyType(String name, ComputeResourcePropertyDataType datatype) {
+        var computeResourcePropertyType = new ComputeResourcePropertyType();
+
+        computeResourcePropertyType.setName(name);
+        computeResourcePropertyType.setDatatype(datatype);
+
+        return computeResourcePropertyTypeService.create(computeResourcePropertyType);
+    }
+
+    private ComputeResourceProperty getComputeResourceProperty(ComputeResourcePropertyType type, String value) {
+        var computeResourceProperty = getFullComputeResourceProperty(value);
+
+        computeResourceProperty.setComputeResourcePropertyType(type);
+
+        return computeResourceProperty;
+    }
+
     private QuantumAlgorithm getCreatedQuantumAlgorithm(String name) {
         QuantumAlgorithm algorithm = new QuantumAlgorithm();
 
@@ -693,4 +862,16 @@ public class ComputeResourcePropertyServiceTest extends AtlasDatabaseTestBase {
 
         return computeResourceService.create(computeResource);
     }
+
+    private ComputeResource getCreatedComputeResource(String name, ComputeResourcePropertyType firstType, String firstValue,
+                                                      ComputeResourcePropertyType secondType, String secondValue) {
+        ComputeResource computeResource = getCreatedComputeResource(name);
+
+        computeResourcePropertyService.addComputeResourcePropertyToComputeResource(
+                computeResource.getId(), getComputeResourceProperty(firstType, firstValue));
+        computeResourcePropertyService.addComputeResourcePropertyToComputeResource(
+                computeResource.getId(), getComputeResourceProperty(secondType, secondValue));
+
+        return computeResource;
+    }
 }
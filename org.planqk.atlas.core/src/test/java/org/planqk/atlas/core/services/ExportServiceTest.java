@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.ComputationModel;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.model.Qpu;
+import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ExportServiceTest extends AtlasDatabaseTestBase {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private AlgorithmService algorithmService;
+
+    @Autowired
+    private ImplementationService implementationService;
+
+    @Autowired
+    private ProblemTypeService problemTypeService;
+
+    @Autowired
+    private PublicationService publicationService;
+
+    @Autowired
+    private ComputeResourceService computeResourceService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private LinkingService linkingService;
+
+    @Test
+    void exportCatalog() throws IOException {
+        Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName("GNFS");
+        algorithm.setComputationModel(ComputationModel.CLASSIC);
+        algorithm = algorithmService.create(algorithm);
+
+        Implementation implementation = new Implementation();
+        implementation.setName("GNFS Python");
+        implementation = implementationService.create(implementation, algorithm.getId());
+
+        ProblemType problemType = new ProblemType();
+        problemType.setName("Factorization");
+        problemType = problemTypeService.create(problemType);
+        linkingService.linkAlgorithmAndProblemType(algorithm.getId(), problemType.getId());
+
+        Publication publication = new Publication();
+        publication.setTitle("The Number Field Sieve");
+        publication.setAuthors(List.of("Lenstra", "Pomerance"));
+        publication = publicationService.create(publication);
+        linkingService.linkAlgorithmAndPublication(algorithm.getId(), publication.getId());
+
+        Tag tag = new Tag();
+        tag.setValue("factoring");
+        tagService.addTagToImplementation(implementation.getId(), tag);
+
+        Qpu qpu = new Qpu();
+        qpu.setName("ibmq_16_melbourne");
+        qpu = (Qpu) computeResourceService.create(qpu);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportService.exportCatalog(outputStream);
+
+        String export = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(export).endsWith("\n");
+        List<JsonNode> lines = export.lines().map(this::readLine).collect(Collectors.toList());
+        assertThat(lines).extracting(line -> line.get("type").asText()).containsExactly(
+                "problem-type", "tag", "algorithm", "implementation", "publication", "publication-author",
+                "publication-author", "compute-resource", "algorithm-problem-type", "algorithm-publication",
+                "implementation-tag");
+
+        JsonNode algorithmLine = lines.get(2);
+        assertThat(algorithmLine.get("id").asText()).isEqualTo(algorithm.getId().toString());
+        assertThat(algorithmLine.get("name").asText()).isEqualTo("GNFS");
+        assertThat(algorithmLine.get("computationModel").asText()).isEqualTo("CLASSIC");
+        // unset properties are omitted
+        assertThat(algorithmLine.has("acronym")).isFalse();
+
+        JsonNode implementationLine = lines.get(3);
+        assertThat(implementationLine.get("implementedAlgorithmId").asText()).isEqualTo(algorithm.getId().toString());
+
+        assertThat(lines.subList(5, 7)).extracting(line -> line.get("author").asText())
+                .containsExactlyInAnyOrder("Lenstra", "Pomerance");
+
+        JsonNode computeResourceLine = lines.get(7);
+        assertThat(computeResourceLine.get("id").asText()).isEqualTo(qpu.getId().toString());
+        assertThat(computeResourceLine.get("resourceType").asText()).isEqualTo("Qpu");
+
+        JsonNode problemTypeLinkLine = lines.get(8);
+        assertThat(problemTypeLinkLine.get("algorithmId").asText()).isEqualTo(algorithm.getId().toString());
+        assertThat(problemTypeLinkLine.get("problemTypeId").asText()).isEqualTo(problemType.getId().toString());
+
+        JsonNode tagLinkLine = lines.get(10);
+        assertThat(tagLinkLine.get("implementationId").asText()).isEqualTo(implementation.getId().toString());
+        assertThat(tagLinkLine.get("tagValue").asText()).isEqualTo("factoring");
+    }
+
+    @Test
+    void exportCatalog_Empty() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportService.exportCatalog(outputStream);
+
+        assertThat(outputStream.size()).isZero();
+    }
+
+    private JsonNode readLine(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -22,9 +22,14 @@ package org.planqk.atlas.core.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -39,10 +44,13 @@ import org.planqk.atlas.core.repository.FileRepository;
 import org.planqk.atlas.core.repository.ImplementationPackageRepository;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -61,6 +69,12 @@ public class FileServiceCloudStorageTest extends AtlasDatabaseTestBase {
     @Mock
     private Blob mockBlob;
 
+    @Mock
+    private WriteChannel mockWriteChannel;
+
+    @Mock
+    private ReadChannel mockReadChannel;
+
     @Autowired
     private FileRepository fileRepository;
 
@@ -68,9 +82,15 @@ public class FileServiceCloudStorageTest extends AtlasDatabaseTestBase {
     private ImplementationPackageRepository implementationPackageRepository;
 
     @Test
-    public void givenFileNotExists_WhenCreate_ThenShouldBeCreated() {
+    public void givenFileNotExists_WhenCreate_ThenShouldBeCreated() throws IOException {
         // Given
-        when(storage.create(Mockito.any(BlobInfo.class), Mockito.any(byte[].class))).thenReturn(mockBlob);
+        when(storage.writer(Mockito.any(BlobInfo.class), Mockito.any(Storage.BlobWriteOption.class))).thenReturn(mockWriteChannel);
+        when(mockWriteChannel.write(Mockito.any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer chunk = invocation.getArgument(0);
+            int length = chunk.remaining();
+            chunk.position(chunk.limit());
+            return length;
+        });
         ImplementationPackage persistedImplementationPackage = implementationPackageRepository.save(getDummyImplementationPackage());
         assertThat(fileRepository.findAll().size()).isEqualTo(0);
 
@@ -81,13 +101,58 @@ public class FileServiceCloudStorageTest extends AtlasDatabaseTestBase {
         //Then
         assertThat(fileRepository.findAll().size()).isEqualTo(1);
         assertThat(fileRepository.findById(createdFile.getId())).isPresent();
+        assertThat(createdFile.getSize()).isEqualTo(7);
+        assertThat(createdFile.getChecksum()).hasSize(64);
+        Mockito.verify(mockWriteChannel).close();
+    }
+
+    @Test
+    public void givenFileWithSameContentExists_WhenCreate_ThenContentShouldNotBeWrittenAgain() throws IOException {
+        // Given
+        when(storage.writer(Mockito.any(BlobInfo.class), Mockito.any(Storage.BlobWriteOption.class))).thenReturn(mockWriteChannel);
+        when(mockWriteChannel.write(Mockito.any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer chunk = invocation.getArgument(0);
+            int length = chunk.remaining();
+            chunk.position(chunk.limit());
+            return length;
+        });
+        MultipartFile multipartFile = getMultipartFile();
+        File persistedFile = fileServiceCloudStorage.create(multipartFile);
+
+        // When
+        File createdFile = fileServiceCloudStorage.create(multipartFile);
+
+        // Then
+        assertThat(fileRepository.findAll().size()).isEqualTo(2);
+        assertThat(createdFile.getId()).isNotEqualTo(persistedFile.getId());
+        assertThat(createdFile.getChecksum()).isEqualTo(persistedFile.getChecksum());
+        Mockito.verify(storage, Mockito.times(1)).writer(Mockito.any(BlobInfo.class), Mockito.any(Storage.BlobWriteOption.class));
+    }
+
+    @Test
+    public void givenBlobWithSameContentExists_WhenCreate_ThenShouldBeCreated() throws IOException {
+        // Given
+        when(storage.writer(Mockito.any(BlobInfo.class), Mockito.any(Storage.BlobWriteOption.class))).thenReturn(mockWriteChannel);
+        when(mockWriteChannel.write(Mockito.any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer chunk = invocation.getArgument(0);
+            int length = chunk.remaining();
+            chunk.position(chunk.limit());
+            return length;
+        });
+        Mockito.doThrow(new StorageException(412, "Precondition Failed")).when(mockWriteChannel).close();
+
+        // When
+        File createdFile = fileServiceCloudStorage.create(getMultipartFile());
+
+        // Then
+        assertThat(fileRepository.findById(createdFile.getId())).isPresent();
     }
 
     @Test
     public void givenNone_WhenCreateAndStorageExceptionIsThrown_ThenCatchAndThrowCloudStorageException() {
         // Given
         ImplementationPackage persistedImplementationPackage = implementationPackageRepository.save(getDummyImplementationPackage());
-        when(storage.create(Mockito.any(BlobInfo.class), Mockito.any(byte[].class))).thenThrow(StorageException.class);
+        when(storage.writer(Mockito.any(BlobInfo.class), Mockito.any(Storage.BlobWriteOption.class))).thenThrow(StorageException.class);
 
         // When
         Assertions.assertThrows(CloudStorageException.class,
@@ -116,6 +181,34 @@ public class FileServiceCloudStorageTest extends AtlasDatabaseTestBase {
         assertThat(fileRepository.findById(persistedFile.getId())).isNotPresent();
     }
 
+    @Test
+    public void delete_sharedContent_deletesBlobWithLastReference() throws IOException {
+        // Given
+        when(storage.writer(Mockito.any(BlobInfo.class), Mockito.any(Storage.BlobWriteOption.class))).thenReturn(mockWriteChannel);
+        when(mockWriteChannel.write(Mockito.any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer chunk = invocation.getArgument(0);
+            int length = chunk.remaining();
+            chunk.position(chunk.limit());
+            return length;
+        });
+        MultipartFile multipartFile = getMultipartFile();
+        File file = fileServiceCloudStorage.create(multipartFile);
+        File duplicate = fileServiceCloudStorage.create(multipartFile);
+
+        // When
+        fileServiceCloudStorage.delete(file.getId());
+
+        // Then
+        Mockito.verify(storage, Mockito.never()).delete(Mockito.any(BlobId.class));
+
+        // When
+        fileServiceCloudStorage.delete(duplicate.getId());
+
+        // Then
+        Mockito.verify(storage).delete(Mockito.argThat((BlobId blobId) -> blobId.getName().equals("sha256/" + file.getChecksum())));
+        assertThat(fileRepository.findAll()).isEmpty();
+    }
+
     @Test
     public void delete_cloudStorageExceptionWasThrown() {
         // Given
@@ -130,16 +223,41 @@ public class FileServiceCloudStorageTest extends AtlasDatabaseTestBase {
     }
 
     @Test
-    public void getFileContent_success() {
+    public void getFileContent_success() throws IOException {
         // Given
         File persistedFile = fileRepository.save(getDummyFile());
+        byte[] content = generateRandomByteArray();
+        AtomicInteger position = new AtomicInteger();
+        when(mockBlob.getSize()).thenReturn((long) content.length);
+        when(mockBlob.reader()).thenAnswer(invocation -> {
+            position.set(0);
+            return mockReadChannel;
+        });
+        when(mockReadChannel.read(Mockito.any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer buffer = invocation.getArgument(0);
+            if (position.get() >= content.length) {
+                return -1;
+            }
+            int length = Math.min(buffer.remaining(), content.length - position.get());
+            buffer.put(content, position.getAndAdd(length), length);
+            return length;
+        });
+        Mockito.doAnswer(invocation -> {
+            position.set(((Long) invocation.getArgument(0)).intValue());
+            return null;
+        }).when(mockReadChannel).seek(Mockito.anyLong());
 
         // When
         when(storage.get(Mockito.any(BlobId.class))).thenReturn(this.mockBlob);
-        byte[] result = fileServiceCloudStorage.getFileContent(persistedFile.getId());
+        Resource result = fileServiceCloudStorage.getFileContent(persistedFile.getId());
 
         //Then
-        assertThat(result).isEqualTo(this.mockBlob.getContent());
+        assertThat(result.contentLength()).isEqualTo(content.length);
+        assertThat(result.getInputStream().readAllBytes()).isEqualTo(content);
+        try (InputStream part = result.getInputStream()) {
+            assertThat(part.skip(2)).isEqualTo(2);
+            assertThat(part.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 2, content.length));
+        }
     }
 
     @Test
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.model.File;
+import org.planqk.atlas.core.repository.FileContentRepository;
+import org.planqk.atlas.core.repository.FileRepository;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@ActiveProfiles({"test", "local-filesystem"})
+@TestPropertySource(properties = "org.planqk.atlas.files.local-directory=${java.io.tmpdir}/atlas-files-${random.uuid}")
+public class FileServiceLocalFilesystemTest extends AtlasDatabaseTestBase {
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private FileContentRepository fileContentRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Test
+    public void createFile_StoresContentAtChecksumPath() throws IOException {
+        byte[] content = generateRandomByteArray();
+        File file = fileService.create(new MockMultipartFile("a.txt", "a.txt", "text/plain", content));
+
+        Resource resource = fileService.getFileContent(file.getId());
+        String checksum = file.getChecksum();
+        assertThat(resource.isFile()).isTrue();
+        assertThat(resource.getFile().toPath().endsWith(Paths.get("sha256", checksum.substring(0, 2), checksum.substring(2, 4), checksum)))
+                .isTrue();
+        assertThat(resource.contentLength()).isEqualTo(content.length);
+        try (InputStream stream = resource.getInputStream()) {
+            assertThat(stream.skip(10)).isEqualTo(10);
+            assertThat(stream.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 10, content.length));
+        }
+        // no content is stored in the database
+        assertThat(fileContentRepository.findById(checksum).orElseThrow().getContentId()).isNull();
+    }
+
+    @Test
+    public void createFile_SameContentTwice_StoresContentOnce() throws IOException {
+        byte[] content = generateRandomByteArray();
+        File file = fileService.create(new MockMultipartFile("a.txt", "a.txt", "text/plain", content));
+        File duplicate = fileService.create(new MockMultipartFile("b.txt", "b.txt", "text/plain", content));
+
+        Path path = fileService.getFileContent(file.getId()).getFile().toPath();
+        assertThat(fileService.getFileContent(duplicate.getId()).getFile().toPath()).isEqualTo(path);
+        assertThat(fileContentRepository.findById(file.getChecksum()).orElseThrow().getReferenceCount()).isEqualTo(2);
+        try (var files = Files.list(path.getParent())) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void deleteFile_LastReference_DeletesContent() throws IOException {
+        byte[] content = generateRandomByteArray();
+        File file = fileService.create(new MockMultipartFile("a.txt", "a.txt", "text/plain", content));
+        File duplicate = fileService.create(new MockMultipartFile("b.txt", "b.txt", "text/plain", content));
+        Path path = fileService.getFileContent(file.getId()).getFile().toPath();
+
+        fileService.delete(file.getId());
+        assertThat(Files.readAllBytes(path)).isEqualTo(content);
+
+        fileService.delete(duplicate.getId());
+        assertThat(Files.exists(path)).isFalse();
+        assertThat(fileContentRepository.findById(file.getChecksum())).isEmpty();
+        assertThat(fileRepository.findAll()).isEmpty();
+        assertThrows(NoSuchElementException.class, () -> fileService.getFileContent(duplicate.getId()));
+    }
+
+    @Test
+    public void deleteOrphanedContents_DeletesOldContentsWithoutFile() throws IOException {
+        File file = fileService.create(new MockMultipartFile("a.txt", "a.txt", "text/plain", generateRandomByteArray()));
+        File orphan = fileService.create(new MockMultipartFile("b.txt", "b.txt", "text/plain", generateRandomByteArray()));
+        File recentOrphan = fileService.create(new MockMultipartFile("c.txt", "c.txt", "text/plain", generateRandomByteArray()));
+        Path path = fileService.getFileContent(file.getId()).getFile().toPath();
+        Path orphanPath = fileService.getFileContent(orphan.getId()).getFile().toPath();
+        Path recentOrphanPath = fileService.getFileContent(recentOrphan.getId()).getFile().toPath();
+        // the rows of the orphans are removed as if their files could not be saved
+        fileRepository.deleteAll(List.of(fileRepository.findById(orphan.getId()).orElseThrow(),
+                fileRepository.findById(recentOrphan.getId()).orElseThrow()));
+        fileContentRepository.deleteAll(List.of(fileContentRepository.findById(orphan.getChecksum()).orElseThrow(),
+                fileContentRepository.findById(recentOrphan.getChecksum()).orElseThrow()));
+        FileTime storedBefore = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+        Files.setLastModifiedTime(path, storedBefore);
+        Files.setLastModifiedTime(orphanPath, storedBefore);
+
+        fileService.deleteOrphanedContents();
+
+        assertThat(Files.exists(path)).isTrue();
+        assertThat(Files.exists(orphanPath)).isFalse();
+        assertThat(Files.exists(recentOrphanPath)).isTrue();
+        assertThat(fileContentRepository.findById(orphan.getChecksum())).isEmpty();
+        assertThat(fileContentRepository.findById(file.getChecksum()).orElseThrow().getReferenceCount()).isEqualTo(1);
+    }
+
+    private byte[] generateRandomByteArray() {
+        Random rd = new Random();
+        byte[] arr = new byte[1024];
+        rd.nextBytes(arr);
+        return arr;
+    }
+}
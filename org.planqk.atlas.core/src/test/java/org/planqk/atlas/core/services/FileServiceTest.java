@@ -23,6 +23,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.UUID;
@@ -30,13 +35,17 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.planqk.atlas.core.model.File;
-import org.planqk.atlas.core.repository.FileDataRepository;
+import org.planqk.atlas.core.repository.FileContentRepository;
 import org.planqk.atlas.core.repository.FileRepository;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.planqk.atlas.core.util.FileContentUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import lombok.RequiredArgsConstructor;
+
 public class FileServiceTest extends AtlasDatabaseTestBase {
 
     private final int page = 0;
@@ -47,7 +56,7 @@ public class FileServiceTest extends AtlasDatabaseTestBase {
     private FileService fileService;
 
     @Autowired
-    private FileDataRepository fileDataRepository;
+    private FileContentRepository fileContentRepository;
 
     @Autowired
     private FileRepository fileRepository;
@@ -63,8 +72,85 @@ public class FileServiceTest extends AtlasDatabaseTestBase {
     public void createFile() throws IOException {
         File file = fileService.create(multipartFile);
         assertThat(fileRepository.findAll().size()).isEqualTo(1);
-        assertThat(fileDataRepository.findAll().size()).isEqualTo(1);
-        assertThat(fileDataRepository.findByFile(file).getData()).isEqualTo(multipartFile.getBytes());
+        assertThat(fileContentRepository.findAll().size()).isEqualTo(1);
+        assertThat(fileService.getFileContent(file.getId()).getInputStream().readAllBytes()).isEqualTo(multipartFile.getBytes());
+        assertThat(file.getSize()).isEqualTo(0);
+        assertThat(file.getChecksum()).isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+    }
+
+    @Test
+    public void createFile_LargerThanHeap() throws IOException {
+        // the content is generated while it is read, so it is never held in memory by the test either
+        long size = Runtime.getRuntime().maxMemory() + FileContentUtils.CHUNK_SIZE + 17;
+        MessageDigest digest = FileContentUtils.newDigest();
+        try (InputStream content = new DigestInputStream(new GeneratedInputStream(size), digest)) {
+            content.transferTo(OutputStream.nullOutputStream());
+        }
+
+        File file = fileService.create(new GeneratedMultipartFile("large.bin", size));
+
+        assertThat(file.getSize()).isEqualTo(size);
+        assertThat(file.getChecksum()).isEqualTo(FileContentUtils.toChecksum(digest));
+        var contentId = fileContentRepository.findById(file.getChecksum()).orElseThrow().getContentId();
+        var expectedEnd = new byte[17];
+        for (int i = 0; i < expectedEnd.length; i++) {
+            expectedEnd[i] = GeneratedInputStream.byteAt(size - 17 + i);
+        }
+        assertThat(fileContentRepository.readContent(contentId, size - 17, 100)).isEqualTo(expectedEnd);
+
+        // skipping to the end of the content does not read it
+        var resource = fileService.getFileContent(file.getId());
+        assertThat(resource.contentLength()).isEqualTo(size);
+        try (InputStream content = resource.getInputStream()) {
+            assertThat(content.skip(size - 17)).isEqualTo(size - 17);
+            assertThat(content.readAllBytes()).isEqualTo(expectedEnd);
+        }
+    }
+
+    @Test
+    public void createFile_SameContentTwice_StoresContentOnce() throws IOException {
+        byte[] content = generateRandomByteArray();
+        File file = fileService.create(new MockMultipartFile("a.txt", "a.txt", "text/plain", content));
+        File duplicate = fileService.create(new MockMultipartFile("b.txt", "b.txt", "text/plain", content));
+
+        assertThat(fileRepository.findAll().size()).isEqualTo(2);
+        assertThat(duplicate.getId()).isNotEqualTo(file.getId());
+        assertThat(duplicate.getName()).isEqualTo("b.txt");
+        assertThat(duplicate.getChecksum()).isEqualTo(file.getChecksum());
+        assertThat(fileContentRepository.findAll().size()).isEqualTo(1);
+        assertThat(fileContentRepository.findById(file.getChecksum()).orElseThrow().getReferenceCount()).isEqualTo(2);
+        assertThat(fileService.getFileContent(duplicate.getId()).getInputStream().readAllBytes()).isEqualTo(content);
+    }
+
+    @Test
+    public void deleteFile_SharedContent_DeletesContentWithLastReference() throws IOException {
+        byte[] content = generateRandomByteArray();
+        File file = fileService.create(new MockMultipartFile("a.txt", "a.txt", "text/plain", content));
+        File duplicate = fileService.create(new MockMultipartFile("a.txt", "a.txt", "text/plain", content));
+
+        fileService.delete(file.getId());
+
+        assertThat(fileContentRepository.findById(file.getChecksum()).orElseThrow().getReferenceCount()).isEqualTo(1);
+        assertThat(fileService.getFileContent(duplicate.getId()).getInputStream().readAllBytes()).isEqualTo(content);
+
+        fileService.delete(duplicate.getId());
+
+        assertThat(fileRepository.findAll()).isEmpty();
+        assertThat(fileContentRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    public void deleteUnreferencedContents() {
+        File file = fileService.create(multipartFile);
+        File otherFile = fileService.create(new MockMultipartFile("a.txt", "a.txt", "text/plain", generateRandomByteArray()));
+        // as if the file was deleted by a bulk statement
+        fileRepository.deleteById(file.getId());
+        fileContentRepository.removeReference(file.getChecksum());
+
+        fileService.deleteUnreferencedContents();
+
+        assertThat(fileContentRepository.findById(file.getChecksum())).isNotPresent();
+        assertThat(fileContentRepository.findById(otherFile.getChecksum())).isPresent();
     }
 
     @Test
@@ -91,7 +177,7 @@ public class FileServiceTest extends AtlasDatabaseTestBase {
     }
 
     @Test
-    public void getFileContent() {
+    public void getFileContent() throws IOException {
         String name = "file.txt";
         String originalFileName = "file.txt";
         String contentType = "text/plain";
@@ -100,9 +186,100 @@ public class FileServiceTest extends AtlasDatabaseTestBase {
         MultipartFile multipartFileWithContent = new MockMultipartFile(name,
                 originalFileName, contentType, content);
         File persistedFile = fileService.create(multipartFileWithContent);
-        byte[] result = fileService.getFileContent(persistedFile.getId());
+        Resource result = fileService.getFileContent(persistedFile.getId());
+
+        assertThat(result.contentLength()).isEqualTo(content.length);
+        assertThat(result.getInputStream().readAllBytes()).isEqualTo(content);
+        try (InputStream part = result.getInputStream()) {
+            assertThat(part.skip(2)).isEqualTo(2);
+            assertThat(part.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 2, content.length));
+        }
+    }
+
+    /**
+     * Stream of the given size, whose bytes are computed from their position.
+     */
+    private static class GeneratedInputStream extends InputStream {
+
+        private final long size;
+
+        private long position;
+
+        GeneratedInputStream(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            return position < size ? byteAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= size) {
+                return -1;
+            }
+            final int count = (int) Math.min(length, size - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = byteAt(position++);
+            }
+            return count;
+        }
+
+        static byte byteAt(long position) {
+            return (byte) (position * 31 + (position >>> 12));
+        }
+    }
+
+    /**
+     * Multipart file whose content is generated while it is read, its bytes are not available at once.
+     */
+    @RequiredArgsConstructor
+    private static class GeneratedMultipartFile implements MultipartFile {
+
+        private final String name;
+
+        private final long size;
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return name;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("The content is larger than the heap");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new GeneratedInputStream(size);
+        }
 
-        assertThat(result).isEqualTo(content);
+        @Override
+        public void transferTo(java.io.File dest) {
+            throw new UnsupportedOperationException("The content is larger than the heap");
+        }
     }
 
     private byte[] generateRandomByteArray() {
@@ -32,6 +32,7 @@ import org.planqk.atlas.core.model.File;
 import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.model.ImplementationPackage;
 import org.planqk.atlas.core.model.ImplementationPackageType;
+import org.planqk.atlas.core.repository.FileContentRepository;
 import org.planqk.atlas.core.repository.FileRepository;
 import org.planqk.atlas.core.repository.ImplementationPackageRepository;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
@@ -65,6 +66,9 @@ public class ImplementationPackageServiceTest extends AtlasDatabaseTestBase {
     @Autowired
     private FileRepository fileRepository;
 
+    @Autowired
+    private FileContentRepository fileContentRepository;
+
     @Autowired
     private ImplementationPackageRepository implementationPackageRepository;
 
@@ -169,6 +173,17 @@ public class ImplementationPackageServiceTest extends AtlasDatabaseTestBase {
         });
     }
 
+    @Test
+    void deleteImplementationPackage_WithFile_ReleasesContent() {
+        ImplementationPackage implementationPackage = implementationPackageService.create(this.implementationPackage, implementation.getId());
+        File file = implementationPackageService.addFileToImplementationPackage(implementationPackage.getId(), this.multipartFile);
+
+        implementationPackageService.delete(implementationPackage.getId());
+
+        assertThat(fileRepository.findById(file.getId())).isNotPresent();
+        assertThat(fileContentRepository.findById(file.getChecksum())).isNotPresent();
+    }
+
     @Test
     void checkIfImplementationPackageIsLinkedToImplementation() {
         var algo = new Algorithm();
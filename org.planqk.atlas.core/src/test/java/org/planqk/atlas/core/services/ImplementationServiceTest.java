@@ -39,6 +39,7 @@ import org.planqk.atlas.core.model.QuantumAlgorithm;
 import org.planqk.atlas.core.model.QuantumComputationModel;
 import org.planqk.atlas.core.model.QuantumImplementation;
 import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.planqk.atlas.core.repository.ImplementationSummary;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.planqk.atlas.core.util.Constants;
 import org.planqk.atlas.core.util.ServiceTestUtils;
@@ -66,6 +67,9 @@ public class ImplementationServiceTest extends AtlasDatabaseTestBase {
     @Autowired
     private LinkingService linkingService;
 
+    @Autowired
+    private RevisionPruningService revisionPruningService;
+
     @Test
     void createImplementation_Classic() {
         Algorithm algorithm = new ClassicAlgorithm();
@@ -120,6 +124,7 @@ public class ImplementationServiceTest extends AtlasDatabaseTestBase {
 
         implementation.setName("implementationName");
         implementationService.update(implementation);
+        revisionPruningService.pruneRevisions();
 
         var revisions = implementationService.findImplementationRevisions(implementation.getId(), PageRequest.of(0,10));
         assertThat(revisions.getTotalElements()).isEqualTo(Constants.REVISIONS_COUNT);
@@ -150,6 +155,7 @@ public class ImplementationServiceTest extends AtlasDatabaseTestBase {
 
         implementation.setName("implementationName");
         implementationService.update(implementation);
+        revisionPruningService.pruneRevisions();
 
         var revisions = implementationService.findImplementationRevisions(implementation.getId(), PageRequest.of(0,10));
         assertThat(revisions.getTotalElements()).isEqualTo(Constants.REVISIONS_COUNT);
@@ -178,6 +184,23 @@ public class ImplementationServiceTest extends AtlasDatabaseTestBase {
         assertThat(implementations.size()).isEqualTo(2);
     }
 
+    @Test
+    void findAllImplementationSummaries() {
+        Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName("algorithmName");
+        algorithm = algorithmService.create(algorithm);
+        Implementation implementation = implementationService.create(
+                getFullImplementation("implementationName", algorithm), algorithm.getId());
+
+        List<ImplementationSummary> summaries = implementationService.findAllSummaries(Pageable.unpaged()).getContent();
+
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getId()).isEqualTo(implementation.getId());
+        assertThat(summaries.get(0).getImplementedAlgorithmId()).isEqualTo(algorithm.getId());
+        assertThat(summaries.get(0).getName()).isEqualTo(implementation.getName());
+        assertThat(summaries.get(0).getVersion()).isEqualTo(implementation.getVersion());
+    }
+
     @Test
     void findImplementationById_ElementFound() {
         Algorithm algorithm = new ClassicAlgorithm();
@@ -23,7 +23,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.planqk.atlas.core.exceptions.EntityReferenceConstraintViolationException;
@@ -503,6 +506,73 @@ public class LinkingServiceTest extends AtlasDatabaseTestBase {
                         cloudService.getId(), computeResource.getId()));
     }
 
+    @Test
+    void linkAlgorithmsAndPublications() {
+        Algorithm algorithm1 = getCreatedAlgorithm();
+        Algorithm algorithm2 = getCreatedAlgorithm();
+        Publication publication1 = getCreatedPublication();
+        Publication publication2 = getCreatedPublication();
+        linkingService.linkAlgorithmAndPublication(algorithm1.getId(), publication1.getId());
+
+        linkingService.linkAlgorithmsAndPublications(List.of(algorithm1.getId(), algorithm2.getId()),
+                List.of(publication1.getId(), publication2.getId()));
+
+        for (Algorithm algorithm : List.of(algorithm1, algorithm2)) {
+            var publications = algorithmService.findLinkedPublications(algorithm.getId(), Pageable.unpaged()).toSet();
+            assertThat(publications).extracting(Publication::getId)
+                    .containsExactlyInAnyOrder(publication1.getId(), publication2.getId());
+        }
+    }
+
+    @Test
+    void linkAlgorithmsAndPublications_ElementNotFound() {
+        Algorithm algorithm = getCreatedAlgorithm();
+        Publication publication = getCreatedPublication();
+
+        assertThrows(NoSuchElementException.class, () -> linkingService.linkAlgorithmsAndPublications(
+                List.of(algorithm.getId()), List.of(publication.getId(), UUID.randomUUID())));
+
+        var publications = algorithmService.findLinkedPublications(algorithm.getId(), Pageable.unpaged());
+        assertThat(publications.getTotalElements()).isEqualTo(0);
+    }
+
+    @Test
+    void unlinkAlgorithmsAndPublications() {
+        Algorithm algorithm1 = getCreatedAlgorithm();
+        Algorithm algorithm2 = getCreatedAlgorithm();
+        Publication publication1 = getCreatedPublication();
+        Publication publication2 = getCreatedPublication();
+        linkingService.linkAlgorithmsAndPublications(List.of(algorithm1.getId(), algorithm2.getId()),
+                List.of(publication1.getId(), publication2.getId()));
+
+        linkingService.unlinkAlgorithmsAndPublications(List.of(algorithm1.getId(), algorithm2.getId()),
+                List.of(publication1.getId()));
+
+        for (Algorithm algorithm : List.of(algorithm1, algorithm2)) {
+            var publications = algorithmService.findLinkedPublications(algorithm.getId(), Pageable.unpaged()).toSet();
+            assertThat(publications).extracting(Publication::getId).containsExactly(publication2.getId());
+        }
+    }
+
+    @Test
+    void linkSoftwarePlatformsAndComputeResources() {
+        SoftwarePlatform softwarePlatform = getCreatedSoftwarePlatform();
+        ComputeResource computeResource1 = getCreatedComputeResource();
+        ComputeResource computeResource2 = getCreatedComputeResource();
+
+        linkingService.linkSoftwarePlatformsAndComputeResources(List.of(softwarePlatform.getId()),
+                List.of(computeResource1.getId(), computeResource2.getId()));
+
+        var computeResources = softwarePlatformService.findLinkedComputeResources(softwarePlatform.getId(), Pageable.unpaged());
+        assertThat(computeResources.getTotalElements()).isEqualTo(2);
+
+        linkingService.unlinkSoftwarePlatformsAndComputeResources(List.of(softwarePlatform.getId()),
+                List.of(computeResource1.getId(), computeResource2.getId()));
+
+        computeResources = softwarePlatformService.findLinkedComputeResources(softwarePlatform.getId(), Pageable.unpaged());
+        assertThat(computeResources.getTotalElements()).isEqualTo(0);
+    }
+
     private Algorithm getCreatedAlgorithm() {
         Algorithm algorithm = new ClassicAlgorithm();
         algorithm.setName("algorithmName");
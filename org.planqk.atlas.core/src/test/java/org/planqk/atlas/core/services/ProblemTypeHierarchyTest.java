@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planqk.atlas.core.model.ProblemType;
+import org.planqk.atlas.core.repository.ProblemTypeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProblemTypeHierarchyTest {
+
+    @Mock
+    private ProblemTypeRepository problemTypeRepository;
+
+    private ProblemTypeHierarchy problemTypeHierarchy;
+
+    @BeforeEach
+    void init() {
+        problemTypeHierarchy = new ProblemTypeHierarchy(problemTypeRepository);
+    }
+
+    @Test
+    void getSortedByParentName_LoadedOnce() {
+        when(problemTypeRepository.findAll()).thenReturn(List.of(getProblemType("problemTypeName")));
+
+        assertThat(getNames()).containsExactly("problemTypeName");
+        assertThat(getNames()).containsExactly("problemTypeName");
+
+        verify(problemTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void getSortedByParentName_InvalidatedDuringLoad() {
+        // the write invalidating the tree completes while the first read loads the previous state
+        when(problemTypeRepository.findAll())
+                .thenAnswer(invocation -> {
+                    problemTypeHierarchy.invalidate();
+                    return List.of(getProblemType("previousName"));
+                })
+                .thenReturn(List.of(getProblemType("currentName")));
+
+        assertThat(getNames()).containsExactly("previousName");
+        assertThat(getNames()).containsExactly("currentName");
+        assertThat(getNames()).containsExactly("currentName");
+
+        verify(problemTypeRepository, times(2)).findAll();
+    }
+
+    private List<String> getNames() {
+        return problemTypeHierarchy.getSortedByParentName().stream().map(ProblemType::getName).collect(Collectors.toList());
+    }
+
+    private static ProblemType getProblemType(String name) {
+        final ProblemType problemType = new ProblemType();
+        problemType.setId(UUID.randomUUID());
+        problemType.setName(name);
+        return problemType;
+    }
+}
@@ -39,6 +39,7 @@ import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.model.ComputationModel;
 import org.planqk.atlas.core.model.ProblemType;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.planqk.atlas.core.util.StatementCounter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -55,6 +56,9 @@ public class ProblemTypeServiceTest extends AtlasDatabaseTestBase {
     @Autowired
     private AlgorithmService algorithmService;
 
+    @Autowired
+    private StatementCounter statementCounter;
+
 
 
     @Test
@@ -151,6 +155,28 @@ public class ProblemTypeServiceTest extends AtlasDatabaseTestBase {
         assertThat(storedProblemType.getParentProblemType()).isEqualTo(problemType.getParentProblemType());
     }
 
+    @Test
+    void findProblemTypeById_FromSecondLevelCache() {
+        ProblemType storedProblemType = problemTypeService.create(getFullProblemType("problemTypeName"));
+
+        long statements = statementCounter.count(() -> problemTypeService.findById(storedProblemType.getId()));
+
+        assertThat(statements).isZero();
+    }
+
+    @Test
+    void updateProblemType_SecondLevelCacheUpdated() {
+        ProblemType storedProblemType = problemTypeService.create(getFullProblemType("problemTypeName"));
+        storedProblemType.setName("editedProblemTypeName");
+        problemTypeService.update(storedProblemType);
+
+        List<String> names = new ArrayList<>();
+        long statements = statementCounter.count(() -> names.add(problemTypeService.findById(storedProblemType.getId()).getName()));
+
+        assertThat(statements).isZero();
+        assertThat(names).containsExactly("editedProblemTypeName");
+    }
+
     @Test
     void deleteProblemType_WithLinks() {
         ProblemType problemType = getFullProblemType("problemTypeName");
@@ -227,6 +253,71 @@ public class ProblemTypeServiceTest extends AtlasDatabaseTestBase {
         assertThat(problemTypeList.size()).isEqualTo(3);
     }
 
+    @Test
+    void getParentTreeList_AfterUpdate() {
+        ProblemType parentProblemType = problemTypeService.create(getFullProblemType("parentProblemTypeName"));
+        ProblemType problemType = problemTypeService.create(getFullProblemType("problemTypeName"));
+        assertThat(problemTypeService.getParentList(problemType.getId())).hasSize(1);
+
+        problemType.setParentProblemType(parentProblemType.getId());
+        problemTypeService.update(problemType);
+
+        assertThat(problemTypeService.getParentList(problemType.getId())).extracting(ProblemType::getId)
+                .containsExactly(problemType.getId(), parentProblemType.getId());
+    }
+
+    @Test
+    void findAllSortedByParent_BoundedStatementCount() {
+        ProblemType rootProblemType = problemTypeService.create(getFullProblemType("rootProblemTypeName"));
+        for (int i = 0; i < 100; i++) {
+            ProblemType problemType = getFullProblemType("problemTypeName" + i);
+            problemType.setParentProblemType(rootProblemType.getId());
+            problemTypeService.create(problemType);
+        }
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(ASC, "parentProblemTypeName"));
+
+        List<ProblemType> problemTypes = new ArrayList<>();
+        long statements = statementCounter.count(() -> problemTypes.addAll(problemTypeService.findAll(pageable, null).getContent()));
+
+        // the hierarchy is loaded once instead of one query per problem type
+        assertThat(statements).isLessThanOrEqualTo(1);
+        assertThat(problemTypes).hasSize(10);
+        assertThat(problemTypes).allMatch(problemType -> rootProblemType.getId().equals(problemType.getParentProblemType()));
+    }
+
+    @Test
+    void findDescendants_DepthFirst() {
+        ProblemType rootProblemType = problemTypeService.create(getFullProblemType("root"));
+        ProblemType b = getFullProblemType("b");
+        b.setParentProblemType(rootProblemType.getId());
+        b = problemTypeService.create(b);
+        ProblemType a = getFullProblemType("a");
+        a.setParentProblemType(rootProblemType.getId());
+        a = problemTypeService.create(a);
+        ProblemType c = getFullProblemType("c");
+        c.setParentProblemType(a.getId());
+        c = problemTypeService.create(c);
+
+        assertThat(problemTypeService.findDescendants(rootProblemType.getId(), Pageable.unpaged()).getContent())
+                .extracting(ProblemType::getId).containsExactly(a.getId(), c.getId(), b.getId());
+        assertThat(problemTypeService.findDescendants(a.getId(), PageRequest.of(0, 10)).getContent())
+                .extracting(ProblemType::getId).containsExactly(c.getId());
+        assertThrows(NoSuchElementException.class, () -> problemTypeService.findDescendants(UUID.randomUUID(), Pageable.unpaged()));
+    }
+
+    @Test
+    void updateProblemType_ParentIsDescendant() {
+        ProblemType parentProblemType = problemTypeService.create(getFullProblemType("parentProblemTypeName"));
+        ProblemType problemType = getFullProblemType("problemTypeName");
+        problemType.setParentProblemType(parentProblemType.getId());
+        problemType = problemTypeService.create(problemType);
+
+        parentProblemType.setParentProblemType(problemType.getId());
+        assertThrows(IllegalArgumentException.class, () -> problemTypeService.update(parentProblemType));
+        parentProblemType.setParentProblemType(parentProblemType.getId());
+        assertThrows(IllegalArgumentException.class, () -> problemTypeService.update(parentProblemType));
+    }
+
     private ProblemType getFullProblemType(String name) {
         ProblemType problemType = new ProblemType();
 
@@ -36,11 +36,17 @@ import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.model.ClassicImplementation;
 import org.planqk.atlas.core.model.ComputationModel;
 import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.repository.PublicationSummary;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.planqk.atlas.core.util.ServiceTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -95,6 +101,110 @@ public class PublicationServiceTest extends AtlasDatabaseTestBase {
         });
     }
 
+    @Test
+    void findAllPublicationsAfter() {
+        List<String> titles = List.of("title3", "title1", "title2", "title1", "title5");
+        for (String title : titles) {
+            publicationService.create(getFullPublication(title));
+        }
+
+        List<Publication> publications = new ArrayList<>();
+        String cursor = "";
+        int slices = 0;
+        do {
+            KeysetSlice<Publication> slice = publicationService.findAllAfter(PageRequest.of(0, 2, Sort.by("title")), cursor);
+            publications.addAll(slice.getContent());
+            cursor = slice.getNextCursor();
+            slices++;
+        } while (cursor != null);
+
+        assertThat(slices).isEqualTo(3);
+        assertThat(publications.stream().map(Publication::getId).distinct().count()).isEqualTo(titles.size());
+        assertThat(publications.stream().map(Publication::getTitle)).containsExactly("title1", "title1", "title2", "title3", "title5");
+    }
+
+    @Test
+    void findAllPublicationsAfter_NullSortKey() {
+        for (int i = 0; i < 4; i++) {
+            Publication publication = getFullPublication("title" + i);
+            publication.setDoi(i % 2 == 0 ? null : "doi" + i);
+            publicationService.create(publication);
+        }
+
+        List<Publication> publications = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetSlice<Publication> slice = publicationService.findAllAfter(PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "doi")), cursor);
+            publications.addAll(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        // PostgreSQL sorts null values first in descending order
+        assertThat(publications.stream().map(Publication::getId).distinct().count()).isEqualTo(4);
+        assertThat(publications.stream().map(Publication::getDoi)).containsExactly(null, null, "doi3", "doi1");
+    }
+
+    @Test
+    void findAllPublicationsAfter_InvalidCursor() {
+        publicationService.create(getFullPublication("title1"));
+        publicationService.create(getFullPublication("title2"));
+        String cursor = publicationService.findAllAfter(PageRequest.of(0, 1, Sort.by("title")), null).getNextCursor();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                publicationService.findAllAfter(PageRequest.of(0, 1, Sort.by("doi")), cursor));
+        assertThrows(IllegalArgumentException.class, () ->
+                publicationService.findAllAfter(PageRequest.of(0, 1, Sort.by("title")), "invalid"));
+        assertThrows(IllegalArgumentException.class, () ->
+                publicationService.findAllAfter(PageRequest.of(0, 1, Sort.by("algorithms")), null));
+    }
+
+    @Test
+    void findAllPublicationSummaries() {
+        Publication publication = publicationService.create(getFullPublication("title1"));
+        publicationService.create(getFullPublication("title2"));
+
+        Page<PublicationSummary> summaries = publicationService.findAllSummaries(PageRequest.of(0, 10, Sort.by("title")));
+
+        assertThat(summaries.getTotalElements()).isEqualTo(2);
+        PublicationSummary summary = summaries.getContent().get(0);
+        assertThat(summary.getId()).isEqualTo(publication.getId());
+        assertThat(summary.getTitle()).isEqualTo(publication.getTitle());
+        assertThat(summary.getDoi()).isEqualTo(publication.getDoi());
+        assertThat(summary.getUrl()).isEqualTo(publication.getUrl());
+    }
+
+    @Test
+    void findAllPublicationsWithoutCount() {
+        for (int i = 0; i < 3; i++) {
+            publicationService.create(getFullPublication("title" + i));
+        }
+
+        Slice<Publication> firstSlice = publicationService.findAllWithoutCount(PageRequest.of(0, 2, Sort.by("title")));
+        Slice<Publication> lastSlice = publicationService.findAllWithoutCount(PageRequest.of(1, 2, Sort.by("title")));
+
+        assertThat(firstSlice.getContent().stream().map(Publication::getTitle)).containsExactly("title0", "title1");
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(lastSlice.getContent().stream().map(Publication::getTitle)).containsExactly("title2");
+        assertThat(lastSlice.hasNext()).isFalse();
+    }
+
+    @Test
+    void findAllPublicationsWithEstimatedCount() {
+        for (int i = 0; i < 5; i++) {
+            publicationService.create(getFullPublication("title" + i));
+        }
+
+        // the table has not been analyzed yet, so the estimate falls back to the exact count
+        Page<Publication> firstPage = publicationService.findAllWithEstimatedCount(PageRequest.of(0, 2));
+        Page<Publication> lastPage = publicationService.findAllWithEstimatedCount(PageRequest.of(2, 2));
+
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.getTotalElements()).isEqualTo(5);
+        assertThat(lastPage.getContent()).hasSize(1);
+        assertThat(lastPage.getTotalElements()).isEqualTo(5);
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
     @Test
     void findPublicationById_ElementNotFound() {
         assertThrows(NoSuchElementException.class, () ->
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.RevisionRetentionProperties;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.ComputationModel;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.RevisionPruningReport;
+import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
+import org.planqk.atlas.core.util.Constants;
+import org.planqk.atlas.core.util.StatementCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.history.Revision;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class RevisionPruningServiceTest extends AtlasDatabaseTestBase {
+
+    @Autowired
+    private RevisionPruningService revisionPruningService;
+
+    @Autowired
+    private AlgorithmService algorithmService;
+
+    @Autowired
+    private ImplementationService implementationService;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pruneRevisions_KeepNewestRevisions() {
+        List<Algorithm> algorithms = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Algorithm algorithm = createAlgorithm("algorithmName" + i, Constants.REVISIONS_COUNT + 6);
+            algorithms.add(algorithm);
+        }
+        Revision<Integer, Algorithm> newestRevision = findLastRevision(algorithms.get(0));
+
+        List<RevisionPruningReport> reports = new ArrayList<>();
+        long statements = statementCounter.count(() -> reports.add(revisionPruningService.pruneRevisions()));
+
+        // one aggregate query per audited type and three statements for the single batch of algorithms
+        assertThat(statements).isLessThanOrEqualTo(6);
+        // 6 surplus revisions of 3 algorithms, each in the classic algorithm, algorithm and knowledge artifact table
+        assertThat(reports.get(0).getDeletedRevisionRows()).containsEntry("algorithm", 3L * 6 * 3);
+        assertThat(reports.get(0).getDeletedRevisionInfoRows()).isEqualTo(3 * 6);
+        algorithms.forEach(algorithm -> assertThat(countRevisions(algorithm)).isEqualTo(Constants.REVISIONS_COUNT));
+        assertThat(findLastRevision(algorithms.get(0))).isEqualTo(newestRevision);
+        assertThat(algorithmService.findById(algorithms.get(0).getId()).getName()).isEqualTo(newestRevision.getEntity().getName());
+    }
+
+    @Test
+    void pruneRevisions_Implementations() {
+        Algorithm algorithm = createAlgorithm("algorithmName", 1);
+        Implementation implementation = new Implementation();
+        implementation.setName("implementationName");
+        implementation = implementationService.create(implementation, algorithm.getId());
+        for (int i = 0; i < Constants.REVISIONS_COUNT; i++) {
+            implementation.setName("implementationName " + i);
+            implementationService.update(implementation);
+        }
+
+        RevisionPruningReport report = revisionPruningService.pruneRevisions();
+
+        assertThat(report.getDeletedRevisionRows()).containsEntry("implementation", 2L);
+        assertThat(report.getDeletedRevisionInfoRows()).isEqualTo(1);
+        assertThat(implementationService.findImplementationRevisions(implementation.getId(), Pageable.unpaged())
+                .getTotalElements()).isEqualTo(Constants.REVISIONS_COUNT);
+        assertThat(countRevisions(algorithm)).isEqualTo(1);
+    }
+
+    @Test
+    void pruneRevisions_NothingToPrune() {
+        Algorithm algorithm = createAlgorithm("algorithmName", 2);
+
+        assertThat(revisionPruningService.pruneRevisions().getDeletedRows()).isEqualTo(0);
+
+        assertThat(countRevisions(algorithm)).isEqualTo(2);
+    }
+
+    @Test
+    void pruneRevisions_KeepNewerThan() {
+        Algorithm algorithm = createAlgorithm("algorithmName", 4);
+        List<Integer> revisions = findRevisionNumbers(algorithm);
+        setTimestamp(revisions.get(0), Instant.now().minus(10, ChronoUnit.DAYS));
+        setTimestamp(revisions.get(1), Instant.now().minus(10, ChronoUnit.DAYS));
+
+        RevisionRetentionProperties properties = new RevisionRetentionProperties();
+        properties.getAlgorithm().setKeepLast(1);
+        properties.getAlgorithm().setKeepNewerThan(Duration.ofDays(1));
+        createPruningService(properties).pruneRevisions();
+
+        assertThat(findRevisionNumbers(algorithm)).containsExactly(revisions.get(2), revisions.get(3));
+    }
+
+    @Test
+    void pruneRevisions_KeepDailyCheckpoints() {
+        Algorithm algorithm = createAlgorithm("algorithmName", 5);
+        List<Integer> revisions = findRevisionNumbers(algorithm);
+        Instant threeDaysAgo = Instant.now().truncatedTo(ChronoUnit.DAYS).minus(3, ChronoUnit.DAYS);
+        setTimestamp(revisions.get(0), Instant.now().minus(30, ChronoUnit.DAYS));
+        setTimestamp(revisions.get(1), threeDaysAgo.plus(1, ChronoUnit.HOURS));
+        setTimestamp(revisions.get(2), threeDaysAgo.plus(2, ChronoUnit.HOURS));
+        setTimestamp(revisions.get(3), threeDaysAgo.plus(1, ChronoUnit.DAYS));
+
+        RevisionRetentionProperties properties = new RevisionRetentionProperties();
+        properties.getAlgorithm().setKeepLast(1);
+        properties.getAlgorithm().setKeepDailyCheckpointsFor(Duration.ofDays(7));
+        createPruningService(properties).pruneRevisions();
+
+        // the oldest revision is out of the checkpoint period and the second one is not the last of its day
+        assertThat(findRevisionNumbers(algorithm)).containsExactly(revisions.get(2), revisions.get(3), revisions.get(4));
+    }
+
+    @Test
+    void pruneRevisions_KeepDeltaProperties() {
+        Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName("algorithmName");
+        algorithm.setIntent("algorithmIntent");
+        algorithm.setComputationModel(ComputationModel.CLASSIC);
+        algorithm = algorithmService.create(algorithm);
+        for (int i = 1; i < 3; i++) {
+            algorithm.setName("algorithmName " + i);
+            algorithmService.update(algorithm);
+        }
+
+        RevisionRetentionProperties properties = new RevisionRetentionProperties();
+        properties.getAlgorithm().setKeepLast(2);
+        createPruningService(properties).pruneRevisions();
+
+        // the intent was only stored by the deleted revision, so the oldest kept one stores it now
+        assertThat(jdbcTemplate.queryForList("SELECT intent FROM algorithm_revisions WHERE id = ? ORDER BY rev", String.class, algorithm.getId()))
+                .containsExactly("algorithmIntent", null);
+        assertThat(algorithmService.findAlgorithmRevisions(algorithm.getId(), Pageable.unpaged()).getContent())
+                .extracting(revision -> revision.getEntity().getIntent())
+                .containsExactly("algorithmIntent", "algorithmIntent");
+    }
+
+    private RevisionPruningService createPruningService(RevisionRetentionProperties properties) {
+        RevisionPruningServiceImpl pruningService = new RevisionPruningServiceImpl(transactionManager, properties, 500);
+        beanFactory.autowireBean(pruningService);
+        return pruningService;
+    }
+
+    private Algorithm createAlgorithm(String name, int revisions) {
+        Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName(name);
+        algorithm.setComputationModel(ComputationModel.CLASSIC);
+        algorithm = algorithmService.create(algorithm);
+        for (int i = 1; i < revisions; i++) {
+            algorithm.setName(name + " " + i);
+            algorithmService.update(algorithm);
+        }
+        return algorithm;
+    }
+
+    private long countRevisions(Algorithm algorithm) {
+        return algorithmService.findAlgorithmRevisions(algorithm.getId(), Pageable.unpaged()).getTotalElements();
+    }
+
+    private List<Integer> findRevisionNumbers(Algorithm algorithm) {
+        return jdbcTemplate.queryForList("SELECT rev FROM algorithm_revisions WHERE id = ? ORDER BY rev", Integer.class, algorithm.getId());
+    }
+
+    private void setTimestamp(int revision, Instant timestamp) {
+        jdbcTemplate.update("UPDATE revinfo SET revtstmp = ? WHERE rev = ?", timestamp.toEpochMilli(), revision);
+    }
+
+    private Revision<Integer, Algorithm> findLastRevision(Algorithm algorithm) {
+        List<Revision<Integer, Algorithm>> revisions = algorithmService.findAlgorithmRevisions(algorithm.getId(), Pageable.unpaged())
+                .getContent();
+        return revisions.get(revisions.size() - 1);
+    }
+}
@@ -25,12 +25,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.UUID;
+import javax.imageio.ImageIO;
 
 import org.junit.jupiter.api.Test;
 import org.planqk.atlas.core.model.Algorithm;
@@ -38,8 +43,10 @@ import org.planqk.atlas.core.model.ApplicationArea;
 import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.model.ComputationModel;
 import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageThumbnail;
 import org.planqk.atlas.core.model.Sketch;
 import org.planqk.atlas.core.repository.ImageRepository;
+import org.planqk.atlas.core.repository.ImageThumbnailRepository;
 import org.planqk.atlas.core.repository.SketchRepository;
 import org.planqk.atlas.core.util.AtlasDatabaseTestBase;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,6 +66,9 @@ public class SketchServiceTest extends AtlasDatabaseTestBase {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private ImageThumbnailRepository imageThumbnailRepository;
+
     @Test
     void updateSketch() {
         final Algorithm algorithm = this.algorithmService.create(this.getAlgorithm("algo"));
@@ -127,6 +137,49 @@ public class SketchServiceTest extends AtlasDatabaseTestBase {
 
         List<Image> images = this.imageRepository.findAll();
         assertThat(images.size()).isEqualTo(1);
+        assertThat(images.get(0).getImage()).isEqualTo(testFile);
+    }
+
+    @Test
+    void addSketchToAlgorithm_GeneratesThumbnails() throws Exception {
+        final Algorithm algorithm = this.algorithmService.create(this.getAlgorithm("algo"));
+        final ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1000, 600, BufferedImage.TYPE_INT_ARGB), "png", png);
+        final MockMultipartFile file = new MockMultipartFile("image", "image.png", "image/png", png.toByteArray());
+
+        final Sketch sketch = sketchService.addSketchToAlgorithm(algorithm.getId(), file, "description", "http://localhost:6626/atlas");
+
+        final long deadline = System.currentTimeMillis() + 30_000;
+        while (imageThumbnailRepository.count() < ImageThumbnail.SIZES.size() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(imageThumbnailRepository.count()).isEqualTo(ImageThumbnail.SIZES.size());
+        final ImageThumbnail thumbnail = sketchService.findThumbnailBySketch(sketch.getId(), 128).orElseThrow();
+        assertThat(thumbnail.getMimeType()).isEqualTo("image/png");
+        final BufferedImage scaled = ImageIO.read(new ByteArrayInputStream(thumbnail.getData()));
+        assertThat(scaled.getWidth()).isEqualTo(128);
+        assertThat(scaled.getHeight()).isEqualTo(77);
+
+        sketchService.delete(sketch.getId());
+        assertThat(imageThumbnailRepository.count()).isZero();
+    }
+
+    @Test
+    void addSketchToAlgorithm_SmallImage_NoThumbnails() throws Exception {
+        final Algorithm algorithm = this.algorithmService.create(this.getAlgorithm("algo"));
+        final ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 60, BufferedImage.TYPE_INT_ARGB), "png", png);
+        final MockMultipartFile file = new MockMultipartFile("image", "image.png", "image/png", png.toByteArray());
+
+        final Sketch sketch = sketchService.addSketchToAlgorithm(algorithm.getId(), file, "description", "http://localhost:6626/atlas");
+
+        assertThat(sketchService.findThumbnailBySketch(sketch.getId(), 128)).isEmpty();
+        assertThat(sketchService.getImageBySketch(sketch.getId()).getImage()).isEqualTo(png.toByteArray());
+    }
+
+    @Test
+    void findThumbnailBySketch_UnsupportedSize() {
+        assertThrows(IllegalArgumentException.class, () -> sketchService.findThumbnailBySketch(UUID.randomUUID(), 100));
     }
 
     @Test
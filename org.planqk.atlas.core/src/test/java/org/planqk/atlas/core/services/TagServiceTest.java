@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -240,4 +241,68 @@ public class TagServiceTest extends AtlasDatabaseTestBase {
 
         assertThat(tagsOfImplementation.size()).isEqualTo(0);
     }
+
+    @Test
+    void addTagsToAlgorithms() {
+        Algorithm algorithm1 = new ClassicAlgorithm();
+        algorithm1.setName("algorithmName1");
+        algorithm1 = algorithmService.create(algorithm1);
+        Algorithm algorithm2 = new ClassicAlgorithm();
+        algorithm2.setName("algorithmName2");
+        algorithm2 = algorithmService.create(algorithm2);
+
+        var tag1 = new Tag();
+        tag1.setValue("value1");
+        tag1.setCategory("category1");
+        tag1 = tagService.create(tag1);
+        tagService.addTagToAlgorithm(algorithm1.getId(), tag1);
+
+        var tag2 = new Tag();
+        tag2.setValue("value2");
+        tag2.setCategory("category2");
+
+        tagService.addTagsToAlgorithms(List.of(algorithm1.getId(), algorithm2.getId()), List.of(tag1, tag2));
+
+        assertThat(tagService.findByValue(tag2.getValue()).getCategory()).isEqualTo("category2");
+        for (UUID algorithmId : List.of(algorithm1.getId(), algorithm2.getId())) {
+            var tagsOfAlgorithm = algorithmService.findById(algorithmId).getTags();
+            assertThat(tagsOfAlgorithm).extracting(Tag::getValue).containsExactlyInAnyOrder("value1", "value2");
+        }
+    }
+
+    @Test
+    void addTagsToAlgorithms_ElementNotFound() {
+        var tag = new Tag();
+        tag.setValue("value1");
+        tag.setCategory("category1");
+
+        assertThrows(NoSuchElementException.class, () ->
+                tagService.addTagsToAlgorithms(List.of(UUID.randomUUID()), List.of(tag)));
+        assertThrows(NoSuchElementException.class, () -> tagService.findByValue(tag.getValue()));
+    }
+
+    @Test
+    void removeTagsFromImplementations() {
+        Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName("algorithmName");
+        algorithm = algorithmService.create(algorithm);
+
+        Implementation implementation = new ClassicImplementation();
+        implementation.setName("implementationName");
+        implementation = implementationService.create(implementation, algorithm.getId());
+
+        var tag1 = new Tag();
+        tag1.setValue("value1");
+        tag1.setCategory("category1");
+        var tag2 = new Tag();
+        tag2.setValue("value2");
+        tag2.setCategory("category2");
+        tagService.addTagsToImplementations(List.of(implementation.getId()), List.of(tag1, tag2));
+
+        tagService.removeTagsFromImplementations(List.of(implementation.getId()), List.of(tag1));
+
+        var tagsOfImplementation = implementationService.findById(implementation.getId()).getTags();
+        assertThat(tagsOfImplementation).extracting(Tag::getValue).containsExactly("value2");
+        assertDoesNotThrow(() -> tagService.findByValue(tag1.getValue()));
+    }
 }
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.core.util;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counts the SQL statements executed by an action, e.g. to verify that the number of queries needed to load a page
+ * does not grow with the number of entities on the page.
+ * <p>
+ * The action is executed in a new transaction, like a request with open session in view, so lazy associations are
+ * initialized within the same persistence context and batch fetching applies.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatementCounter {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final PlatformTransactionManager transactionManager;
+
+    public long count(Runnable action) {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+        statistics.setStatisticsEnabled(false);
+        return statistics.getPrepareStatementCount();
+    }
+}
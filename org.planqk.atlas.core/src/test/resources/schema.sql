@@ -0,0 +1,2 @@
+-- The test schema is created by Hibernate, extensions required by native queries have to be created up front
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -35,14 +35,24 @@ public final class Constants {
 
     public static final String ALGORITHM_RELATION_TYPES = "algorithm-relation-types";
 
+    public static final String NEIGHBORHOOD = "neighborhood";
+
+    public static final String SHORTEST_PATH = "shortest-path";
+
+    public static final String REACHABLE_ALGORITHMS = "reachable-algorithms";
+
     public static final String APPLICATION_AREAS = "application-areas";
 
+    public static final String BULK_IMPORTS = "bulk-imports";
+
     public static final String CLOUD_SERVICES = "cloud-services";
 
     public static final String COMPUTE_RESOURCES = "compute-resources";
 
     public static final String COMPUTE_RESOURCE_PROPERTIES = "compute-resource-properties";
 
+    public static final String MATCHING_COMPUTE_RESOURCES = "matching-compute-resources";
+
     public static final String FILES = "files";
 
     public static final String FILE = "file";
@@ -53,10 +63,14 @@ public final class Constants {
 
     public static final String DISCUSSION_TOPICS = "discussion-topics";
 
+    public static final String EXPORTS = "exports";
+
     public static final String IMPLEMENTATIONS = "implementations";
 
     public static final String IMPLEMENTATION_PACKAGES = "implementation-packages";
 
+    public static final String LINKS = "links";
+
     public static final String PATTERNS = "patterns";
 
     public static final String PATTERN_RELATIONS = "pattern-relations";
@@ -67,12 +81,16 @@ public final class Constants {
 
     public static final String PROBLEM_TYPE_PARENTS = "problem-type-parents";
 
+    public static final String PROBLEM_TYPE_DESCENDANTS = "problem-type-descendants";
+
     public static final String PUBLICATIONS = "publications";
 
     public static final String SKETCHES = "sketches";
 
     public static final String SOFTWARE_PLATFORMS = "software-platforms";
 
+    public static final String SUMMARIES = "summaries";
+
     public static final String TAGS = "tags";
 
     public static final String TOSCA_APPLICATIONS = "tosca/applications";
@@ -81,6 +99,12 @@ public final class Constants {
 
     public static final String REVISIONS = "revisions";
 
+    public static final String AS_OF = "as-of";
+
+    public static final String SAMPLES = "samples";
+
+    public static final String AGGREGATED = "aggregated";
+
     // default Pagination params that are exposed in HATEOAS links
     public static final Integer DEFAULT_PAGE_NUMBER = 0;
 
@@ -93,6 +117,16 @@ public final class Constants {
 
     public static final String SEARCH = "search";
 
+    public static final String AFTER = "after";
+
+    public static final String COUNT = "count";
+
+    // prefix of the query parameters filtering by compute resource properties, e.g. property.qubitCount>=127
+    public static final String PROPERTY_FILTER_PREFIX = "property.";
+
+    // media types
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     // Swagger tag names
     public static final String TAG_ALGORITHM = "algorithm";
 
@@ -102,16 +136,22 @@ public final class Constants {
 
     public static final String TAG_APPLICATION_AREAS = "application-areas";
 
+    public static final String TAG_BULK_IMPORT = "bulk-import";
+
     public static final String TAG_COMPUTE_RESOURCE_PROPERTIES = "compute-resource-properties";
 
     public static final String TAG_COMPUTE_RESOURCE_PROPERTY_TYPES = "compute-resource-property-types";
 
     public static final String TAG_DISCUSSION_TOPIC = "discussion-topic";
 
+    public static final String TAG_EXPORT = "export";
+
     public static final String TAG_EXECUTION_ENVIRONMENTS = "execution-environments";
 
     public static final String TAG_IMPLEMENTATIONS = "implementations";
 
+    public static final String TAG_LINKS = "links";
+
     public static final String TAG_PATTERN_RELATION = "pattern-relation";
 
     public static final String TAG_PATTERN_RELATION_TYPE = "pattern-relation-type";
@@ -23,9 +23,12 @@ import java.util.List;
 
 import org.planqk.atlas.web.annotation.VersionedRequestHandlerMapping;
 import org.planqk.atlas.web.utils.ListParametersMethodArgumentResolver;
+import org.planqk.atlas.web.utils.SliceJsonMixin;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
@@ -47,6 +50,11 @@ public class WebConfiguration implements WebMvcConfigurer {
         return new ListParametersMethodArgumentResolver();
     }
 
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sliceJsonCustomizer() {
+        return builder -> builder.mixIn(Slice.class, SliceJsonMixin.class);
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
         argumentResolvers.add(listParametersResolver());
@@ -19,14 +19,20 @@
 
 package org.planqk.atlas.web.controller;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.AlgorithmSearchResult;
 import org.planqk.atlas.core.model.ApplicationArea;
 import org.planqk.atlas.core.model.ComputeResourceProperty;
 import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageThumbnail;
 import org.planqk.atlas.core.model.LearningMethod;
 import org.planqk.atlas.core.model.PatternRelation;
 import org.planqk.atlas.core.model.ProblemType;
@@ -45,7 +51,10 @@ import org.planqk.atlas.core.services.SketchService;
 import org.planqk.atlas.core.services.TagService;
 import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.AlgorithmDto;
+import org.planqk.atlas.web.dtos.AlgorithmSearchResultDto;
+import org.planqk.atlas.web.dtos.AlgorithmSummaryDto;
 import org.planqk.atlas.web.dtos.ApplicationAreaDto;
+import org.planqk.atlas.web.dtos.ComputeResourceDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
 import org.planqk.atlas.web.dtos.DiscussionCommentDto;
 import org.planqk.atlas.web.dtos.DiscussionTopicDto;
@@ -57,12 +66,17 @@ import org.planqk.atlas.web.dtos.PublicationDto;
 import org.planqk.atlas.web.dtos.RevisionDto;
 import org.planqk.atlas.web.dtos.SketchDto;
 import org.planqk.atlas.web.dtos.TagDto;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
 import org.planqk.atlas.web.utils.ControllerValidationUtils;
+import org.planqk.atlas.web.utils.CountParametersDoc;
+import org.planqk.atlas.web.utils.KeysetParametersDoc;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.planqk.atlas.web.utils.PropertyFilterParametersDoc;
 import org.planqk.atlas.web.utils.ValidationGroups;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -120,17 +134,69 @@ public class AlgorithmController {
 
     private final LinkingService linkingService;
 
+    private final LinkBuilderService linkBuilderService;
+
     @Operation(responses = {
-            @ApiResponse(responseCode = "200")
-    }, description = "Retrieve all algorithms (quantum, hybrid and classic).")
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid cursor or sort property.")
+    }, description = "Retrieve all algorithms (quantum, hybrid and classic). If a cursor is given, the algorithms are " +
+            "retrieved by keyset pagination and the following slice is linked in the Link header. Unless a search is " +
+            "given, the total number of algorithms can be skipped or estimated by the count parameter.")
     @ListParametersDoc
+    @KeysetParametersDoc
+    @CountParametersDoc
+    @PropertyFilterParametersDoc
     @GetMapping
-    public ResponseEntity<Page<AlgorithmDto>> getAlgorithms(
+    public ResponseEntity<Slice<AlgorithmDto>> getAlgorithms(
             @Parameter(hidden = true) ListParameters listParameters) {
+        if (listParameters.isKeysetPagination()) {
+            final var algorithms = algorithmService.findAllAfter(listParameters.getPageable(), listParameters.getAfter());
+            return ResponseEntity.ok()
+                    .headers(linkBuilderService.nextSliceHeaders(algorithms, cursor ->
+                            methodOn(AlgorithmController.class).getAlgorithms(listParameters.withAfter(cursor))))
+                    .body(ModelMapperUtils.convertSlice(algorithms, AlgorithmDto.class));
+        }
+        if (listParameters.hasPropertyFilters()) {
+            return ResponseEntity.ok(ModelMapperUtils.convertPage(algorithmService.findAllByPropertyFilters(
+                    listParameters.getPropertyFilters(), listParameters.getPageable()), AlgorithmDto.class));
+        }
+        if (!listParameters.hasSearch() && listParameters.getCount() == ListParameters.Count.NONE) {
+            return ResponseEntity.ok(ModelMapperUtils.convertSlice(
+                    algorithmService.findAllWithoutCount(listParameters.getPageable()), AlgorithmDto.class));
+        }
+        if (!listParameters.hasSearch() && listParameters.getCount() == ListParameters.Count.ESTIMATED) {
+            return ResponseEntity.ok(ModelMapperUtils.convertPage(
+                    algorithmService.findAllWithEstimatedCount(listParameters.getPageable()), AlgorithmDto.class));
+        }
         return ResponseEntity.ok(ModelMapperUtils.convertPage(algorithmService.findAll(listParameters.getPageable(),
                 listParameters.getSearch()), AlgorithmDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200")
+    }, description = "Retrieve summaries of all algorithms, containing their basic properties only. " +
+            "Considerably cheaper than retrieving the algorithms themselves and therefore intended for read-only list views.")
+    @ListParametersDoc
+    @GetMapping("/" + Constants.SUMMARIES)
+    public ResponseEntity<Page<AlgorithmSummaryDto>> getAlgorithmSummaries(
+            @Parameter(hidden = true) ListParameters listParameters) {
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(
+                algorithmService.findAllSummaries(listParameters.getPageable()), AlgorithmSummaryDto.class));
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200")
+    }, description = "Full-text search over the name, acronym, intent, problem and solution of all algorithms. " +
+            "Results are ordered by relevance unless a sort order is given and contain a highlighted snippet of the matching text.")
+    @ListParametersDoc
+    @GetMapping("/" + Constants.SEARCH)
+    public ResponseEntity<Page<AlgorithmSearchResultDto>> searchAlgorithms(
+            @Parameter(hidden = true) ListParameters listParameters) {
+        final Page<AlgorithmSearchResult> results = algorithmService.search(listParameters.getPageable(), listParameters.getSearch());
+        return ResponseEntity.ok(results.map(result -> new AlgorithmSearchResultDto(
+                ModelMapperUtils.convert(result.getAlgorithm(), AlgorithmDto.class), result.getRank(), result.getHighlight())));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "201"),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
@@ -596,6 +662,23 @@ public class AlgorithmController {
         return discussionTopicController.updateDiscussionComment(algorithmId, topicId, commentId, discussionCommentDto);
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "404",
+                         description = "Not Found. Algorithm with given ID doesn't exist.")
+    }, description = "Retrieve the compute resources providing all compute resource properties required by an algorithm. " +
+            "Numeric properties have to be provided with at least the required value, string properties with the same value.")
+    @ListParametersDoc
+    @GetMapping("/{algorithmId}/" + Constants.MATCHING_COMPUTE_RESOURCES)
+    public ResponseEntity<Page<ComputeResourceDto>> getMatchingComputeResourcesOfAlgorithm(
+            @PathVariable UUID algorithmId,
+            @Parameter(hidden = true) ListParameters listParameters) {
+        final var computeResources = computeResourcePropertyService.findComputeResourcesMatchingAlgorithm(
+                algorithmId, listParameters.getPageable());
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(computeResources, ComputeResourceDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400"),
@@ -844,16 +927,32 @@ public class AlgorithmController {
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Size is not one of 128, 256 or 512."),
             @ApiResponse(responseCode = "404", description = "Not Found. Sketch with given ID doesn't exist")
-    }, description = "Retrieve the image of specific Sketch.")
+    }, description = "Retrieve the image of specific Sketch as binary content of its media type, i.e. as uploaded and no longer " +
+            "Base64 encoded. If a size is given, a thumbnail whose longer edge is at most that many pixels is returned, " +
+            "or the original image if it is not larger than that or its thumbnails are not available yet.")
     @GetMapping(value = "/{algorithmId}/" + Constants.SKETCHES + "/{sketchId}" + "/image")
-    public ResponseEntity<byte[]> getSketchImage(@PathVariable UUID algorithmId, @PathVariable UUID sketchId) {
+    public ResponseEntity<byte[]> getSketchImage(
+            @PathVariable UUID algorithmId,
+            @PathVariable UUID sketchId,
+            @RequestParam(required = false) Integer size) {
+        if (size != null) {
+            final Optional<ImageThumbnail> thumbnail = this.sketchService.findThumbnailBySketch(sketchId, size);
+            if (thumbnail.isPresent()) {
+                return imageResponse(thumbnail.get().getMimeType(), thumbnail.get().getData());
+            }
+        }
         final Image image = this.sketchService.getImageBySketch(sketchId);
+        return imageResponse(image.getMimeType(), image.getImage());
+    }
+
+    private ResponseEntity<byte[]> imageResponse(String mimeType, byte[] data) {
         return ResponseEntity
                 .ok()
-                .contentType(MediaType.parseMediaType(image.getMimeType()))
+                .contentType(MediaType.parseMediaType(mimeType))
                 .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                .body(image.getImage());
+                .body(data);
     }
 
     @Operation(responses = {
@@ -950,4 +1049,16 @@ public class AlgorithmController {
         final Algorithm algorithmRevision = algorithmService.findAlgorithmRevision(algorithmId, revisionId).getEntity();
         return ResponseEntity.ok(ModelMapperUtils.convert(algorithmRevision, AlgorithmDto.class));
     }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "404", description = "Not Found. Algorithm with given ID didn't exist at the given point in time.")
+    }, description = "Retrieve the revision of an algorithm that was current at the given point in time (ISO-8601, e.g. 2022-06-01T12:00:00Z)")
+    @GetMapping("/{algorithmId}/" + Constants.REVISIONS + "/" + Constants.AS_OF)
+    public ResponseEntity<AlgorithmDto> getAlgorithmRevisionAsOf(
+            @PathVariable UUID algorithmId, @RequestParam Instant timestamp) {
+        final Algorithm algorithmRevision = algorithmService.findAlgorithmRevisionAsOf(algorithmId, timestamp).getEntity();
+        return ResponseEntity.ok(ModelMapperUtils.convert(algorithmRevision, AlgorithmDto.class));
+    }
 }
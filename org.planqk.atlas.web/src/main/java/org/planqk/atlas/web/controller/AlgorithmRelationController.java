@@ -19,12 +19,16 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
+import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.AlgorithmRelation;
 import org.planqk.atlas.core.services.AlgorithmRelationService;
 import org.planqk.atlas.core.services.AlgorithmService;
 import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.dtos.AlgorithmDto;
 import org.planqk.atlas.web.dtos.AlgorithmRelationDto;
 import org.planqk.atlas.web.utils.ControllerValidationUtils;
 import org.planqk.atlas.web.utils.ListParameters;
@@ -43,6 +47,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -78,6 +83,55 @@ public class AlgorithmRelationController {
         return ResponseEntity.ok(ModelMapperUtils.convertPage(algorithmRelations, AlgorithmRelationDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Depth is out of range."),
+            @ApiResponse(responseCode = "404", description = "Not Found. Algorithm with given ID doesn't exist.")
+    }, description = "Retrieve all relations reachable from an algorithm within the given number of hops, " +
+            "following relations in both directions. Optionally only relations of the given types are followed.")
+    @GetMapping("/" + Constants.NEIGHBORHOOD)
+    public ResponseEntity<Collection<AlgorithmRelationDto>> getAlgorithmRelationNeighborhood(
+            @PathVariable UUID algorithmId,
+            @RequestParam(defaultValue = "1") int depth,
+            @RequestParam(required = false) Set<UUID> algorithmRelationTypeIds) {
+        final var algorithmRelations = algorithmRelationService.findNeighborhood(algorithmId, depth, nonNull(algorithmRelationTypeIds));
+        return ResponseEntity.ok(ModelMapperUtils.convertCollection(algorithmRelations, AlgorithmRelationDto.class));
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "404",
+                         description = "Not Found. Algorithms with given IDs don't exist or there is no path between them.")
+    }, description = "Retrieve a path with the fewest relations from an algorithm to another algorithm, " +
+            "following relations in both directions. Optionally only relations of the given types are followed.")
+    @GetMapping("/" + Constants.SHORTEST_PATH)
+    public ResponseEntity<Collection<AlgorithmRelationDto>> getShortestAlgorithmRelationPath(
+            @PathVariable UUID algorithmId,
+            @RequestParam UUID targetAlgorithmId,
+            @RequestParam(required = false) Set<UUID> algorithmRelationTypeIds) {
+        final var algorithmRelations = algorithmRelationService.findShortestPath(
+                algorithmId, targetAlgorithmId, nonNull(algorithmRelationTypeIds));
+        return ResponseEntity.ok(ModelMapperUtils.convertCollection(algorithmRelations, AlgorithmRelationDto.class));
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "404", description = "Not Found. Algorithm with given ID doesn't exist.")
+    }, description = "Retrieve all algorithms reachable from an algorithm by following relations from their source " +
+            "to their target algorithm. Optionally only relations of the given types are followed.")
+    @ListParametersDoc
+    @GetMapping("/" + Constants.REACHABLE_ALGORITHMS)
+    public ResponseEntity<Page<AlgorithmDto>> getReachableAlgorithms(
+            @PathVariable UUID algorithmId,
+            @RequestParam(required = false) Set<UUID> algorithmRelationTypeIds,
+            @Parameter(hidden = true) ListParameters listParameters) {
+        final Page<Algorithm> algorithms = algorithmRelationService.findReachableAlgorithms(
+                algorithmId, nonNull(algorithmRelationTypeIds), listParameters.getPageable());
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(algorithms, AlgorithmDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "201"),
             @ApiResponse(responseCode = "400",
@@ -153,4 +207,8 @@ public class AlgorithmRelationController {
         final var algorithmRelation = algorithmRelationService.findById(algorithmRelationId);
         return ResponseEntity.ok(ModelMapperUtils.convert(algorithmRelation, AlgorithmRelationDto.class));
     }
+
+    private static Set<UUID> nonNull(Set<UUID> algorithmRelationTypeIds) {
+        return algorithmRelationTypeIds == null ? Set.of() : algorithmRelationTypeIds;
+    }
 }
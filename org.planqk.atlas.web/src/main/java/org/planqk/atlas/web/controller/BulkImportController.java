@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.controller;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.io.IOException;
+import java.util.UUID;
+import javax.servlet.http.HttpServletRequest;
+
+import org.planqk.atlas.core.model.AlgorithmRecord;
+import org.planqk.atlas.core.model.BulkImportJob;
+import org.planqk.atlas.core.services.BulkImportService;
+import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.dtos.BulkImportJobDto;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@io.swagger.v3.oas.annotations.tags.Tag(name = Constants.TAG_BULK_IMPORT)
+@RestController
+@CrossOrigin(allowedHeaders = "*", origins = "*")
+@RequestMapping("/" + Constants.BULK_IMPORTS)
+@AllArgsConstructor
+@Slf4j
+public class BulkImportController {
+
+    private final BulkImportService bulkImportService;
+
+    private final LinkBuilderService linkBuilderService;
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "202", description = "Accepted. The location header points to the created import job.")
+    }, description = "Import algorithms together with their implementations and their links to problem types, tags and " +
+            "publications. The request body is an NDJSON document containing one algorithm per line, it may be " +
+            "gzip-compressed. The algorithms are imported in the background, retrieve the returned import job to follow " +
+            "the progress.",
+            requestBody = @RequestBody(content = @Content(mediaType = Constants.APPLICATION_NDJSON,
+                                                          schema = @Schema(implementation = AlgorithmRecord.class))))
+    @PostMapping
+    public ResponseEntity<BulkImportJobDto> startBulkImport(HttpServletRequest request) throws IOException {
+        final BulkImportJob job = bulkImportService.startImport(request.getInputStream());
+        return ResponseEntity.accepted()
+                .location(linkBuilderService.urlTo(methodOn(BulkImportController.class).getBulkImport(job.getId())).toUri())
+                .body(ModelMapperUtils.convert(job, BulkImportJobDto.class));
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "404", description = "Not Found. Import job with given ID doesn't exist.")
+    }, description = "Retrieve the progress of an import job. Finished jobs are only kept for one day.")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BulkImportJobDto> getBulkImport(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(ModelMapperUtils.convert(bulkImportService.findJobById(jobId), BulkImportJobDto.class));
+    }
+}
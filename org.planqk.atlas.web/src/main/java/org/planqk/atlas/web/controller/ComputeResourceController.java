@@ -19,20 +19,30 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.ComputeResource;
 import org.planqk.atlas.core.model.ComputeResourceProperty;
+import org.planqk.atlas.core.model.ComputeResourcePropertySample;
+import org.planqk.atlas.core.services.ComputeResourcePropertySampleService;
 import org.planqk.atlas.core.services.ComputeResourcePropertyService;
 import org.planqk.atlas.core.services.ComputeResourceService;
 import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.CloudServiceDto;
 import org.planqk.atlas.web.dtos.ComputeResourceDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertySampleBucketDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertySampleDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertySamplesDto;
 import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.planqk.atlas.web.utils.PropertyFilterParametersDoc;
 import org.planqk.atlas.web.utils.ValidationGroups;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpEntity;
@@ -47,6 +57,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -68,15 +79,21 @@ public class ComputeResourceController {
 
     private final ComputeResourceService computeResourceService;
 
+    private final ComputeResourcePropertySampleService computeResourcePropertySampleService;
+
     @Operation(responses = {
-            @ApiResponse(responseCode = "200")
-    }, description = "Retrieve all compute resources.")
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid property filter.")
+    }, description = "Retrieve all compute resources, optionally filtered by their compute resource properties.")
     @ListParametersDoc
+    @PropertyFilterParametersDoc
     @GetMapping
     public ResponseEntity<Page<ComputeResourceDto>> getComputeResources(
             @Parameter(hidden = true) ListParameters listParameters) {
         final Page<ComputeResource> entities;
-        if (listParameters.getSearch() == null || listParameters.getSearch().isEmpty()) {
+        if (listParameters.hasPropertyFilters()) {
+            entities = computeResourceService.findAllByPropertyFilters(listParameters.getPropertyFilters(), listParameters.getPageable());
+        } else if (listParameters.getSearch() == null || listParameters.getSearch().isEmpty()) {
             entities = computeResourceService.findAll(listParameters.getPageable());
         } else {
             entities = computeResourceService.searchAllByName(listParameters.getSearch(), listParameters.getPageable());
@@ -256,4 +273,62 @@ public class ComputeResourceController {
         final var resource = computeResourcePropertyService.findById(computeResourcePropertyId);
         return ResponseEntity.ok(ModelMapperUtils.convert(resource, ComputeResourcePropertyDto.class));
     }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "202"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body or value of a non-numeric property."),
+            @ApiResponse(responseCode = "404",
+                         description = "Not Found. Compute resource or compute resource properties with given IDs don't exist.")
+    }, description = "Add samples (e.g. the results of a calibration run) to numeric compute resource properties of a compute resource. " +
+            "The samples are written in batches, the value of each property reflects its latest sample immediately.")
+    @PostMapping("/{computeResourceId}/" + Constants.COMPUTE_RESOURCE_PROPERTIES + "/" + Constants.SAMPLES)
+    public ResponseEntity<Void> addComputeResourcePropertySamples(
+            @PathVariable UUID computeResourceId,
+            @Validated @RequestBody ComputeResourcePropertySamplesDto computeResourcePropertySamplesDto) {
+        final List<ComputeResourcePropertySample> samples = List.copyOf(
+                ModelMapperUtils.convertCollection(computeResourcePropertySamplesDto.getSamples(), ComputeResourcePropertySample.class));
+        computeResourcePropertySampleService.addSamples(computeResourceId, samples);
+        return ResponseEntity.accepted().build();
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid time range."),
+            @ApiResponse(responseCode = "404",
+                         description = "Not Found. Compute resource or compute resource property with given IDs don't exist."),
+    }, description = "Retrieve the samples of a compute resource property within the time range [from, to), ordered by their timestamp. " +
+            "If no end is given, all samples since the start are returned.")
+    @GetMapping("/{computeResourceId}/" + Constants.COMPUTE_RESOURCE_PROPERTIES + "/{computeResourcePropertyId}/" + Constants.SAMPLES)
+    public ResponseEntity<Collection<ComputeResourcePropertySampleDto>> getComputeResourcePropertySamples(
+            @PathVariable UUID computeResourceId,
+            @PathVariable UUID computeResourcePropertyId,
+            @RequestParam Instant from,
+            @RequestParam(required = false) Instant to) {
+        computeResourcePropertyService.checkIfComputeResourcePropertyIsOfComputeResource(computeResourceId, computeResourcePropertyId);
+
+        final var samples = computeResourcePropertySampleService.findSamples(computeResourcePropertyId, from, to == null ? Instant.now() : to);
+        return ResponseEntity.ok(ModelMapperUtils.convertCollection(samples, ComputeResourcePropertySampleDto.class));
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid time range or interval."),
+            @ApiResponse(responseCode = "404",
+                         description = "Not Found. Compute resource or compute resource property with given IDs don't exist."),
+    }, description = "Retrieve the minimum, maximum and mean of the samples of a compute resource property per interval (e.g. PT1H) " +
+            "within the time range [from, to). The intervals start at from, intervals without samples are omitted.")
+    @GetMapping("/{computeResourceId}/" + Constants.COMPUTE_RESOURCE_PROPERTIES + "/{computeResourcePropertyId}/" + Constants.SAMPLES
+            + "/" + Constants.AGGREGATED)
+    public ResponseEntity<Collection<ComputeResourcePropertySampleBucketDto>> getAggregatedComputeResourcePropertySamples(
+            @PathVariable UUID computeResourceId,
+            @PathVariable UUID computeResourcePropertyId,
+            @RequestParam Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam Duration interval) {
+        computeResourcePropertyService.checkIfComputeResourcePropertyIsOfComputeResource(computeResourceId, computeResourcePropertyId);
+
+        final var buckets = computeResourcePropertySampleService.findAggregatedSamples(computeResourcePropertyId, from,
+                to == null ? Instant.now() : to, interval);
+        return ResponseEntity.ok(ModelMapperUtils.convertCollection(buckets, ComputeResourcePropertySampleBucketDto.class));
+    }
 }
@@ -19,7 +19,9 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.io.IOException;
 import java.util.UUID;
+import javax.servlet.http.HttpServletRequest;
 
 import org.planqk.atlas.core.model.ConcreteSolution;
 import org.planqk.atlas.core.model.File;
@@ -28,10 +30,12 @@ import org.planqk.atlas.core.services.FileService;
 import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.ConcreteSolutionDto;
 import org.planqk.atlas.web.dtos.FileDto;
+import org.planqk.atlas.web.utils.FileDownloadUtils;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -44,6 +48,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -132,23 +137,24 @@ public class ConcreteSolutionController {
 
         @Operation(responses = {
                 @ApiResponse(responseCode = "200"),
+                @ApiResponse(responseCode = "206", description = "Partial Content. The requested ranges of the file content."),
                 @ApiResponse(responseCode = "404",
-                             description = "File of Concrete Solution with given ID doesn't exist")
-        }, description = "Downloads a specific file content of an concrete solution")
+                             description = "File of Concrete Solution with given ID doesn't exist"),
+                @ApiResponse(responseCode = "416", description = "Range Not Satisfiable. The requested ranges are outside of the file content.")
+        }, description = "Downloads a specific file content of an concrete solution. Supports Range requests to download parts of the " +
+                "content, e.g. to resume an interrupted download, combined with If-Range to do so only while the file did not change.")
         @GetMapping("/{concreteSolutionId}/" + Constants.FILE + "/content")
-        public ResponseEntity<byte[]> downloadFileContent(
-                @PathVariable UUID concreteSolutionId
-        ) {
+        public ResponseEntity<Resource> downloadFileContent(
+                @PathVariable UUID concreteSolutionId,
+                @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+                HttpServletRequest request
+        ) throws IOException {
             final File file =
                     concreteSolutionService.findLinkedFile(concreteSolutionId);
             if (file == null) {
                 return new ResponseEntity<>(HttpStatus.NOT_FOUND);
             }
-            return ResponseEntity
-                    .ok()
-                    .contentType(MediaType.parseMediaType(file.getMimeType()))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + file.getName())
-                    .body(fileService.getFileContent(file.getId()));
+            return FileDownloadUtils.download(file, fileService.getFileContent(file.getId()), ifRange, request);
         }
 
         @Operation(responses = {
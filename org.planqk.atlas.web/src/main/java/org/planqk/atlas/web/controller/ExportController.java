@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.controller;
+
+import org.planqk.atlas.core.services.ExportService;
+import org.planqk.atlas.web.Constants;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@io.swagger.v3.oas.annotations.tags.Tag(name = Constants.TAG_EXPORT)
+@RestController
+@CrossOrigin(allowedHeaders = "*", origins = "*")
+@RequestMapping("/" + Constants.EXPORTS)
+@AllArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private static final String EXPORT_FILENAME = "atlas-export.ndjson";
+
+    private final ExportService exportService;
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200")
+    }, description = "Export the whole catalog as NDJSON document. Every line contains a single algorithm, implementation, " +
+            "publication, software platform, cloud service, compute resource, relation or reference data entry, " +
+            "distinguished by its \"type\" property. Associations are exported as IDs or as separate link lines. " +
+            "The document is streamed while it is read from the database.")
+    @GetMapping(produces = Constants.APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportCatalog() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(Constants.APPLICATION_NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment").filename(EXPORT_FILENAME).build().toString())
+                .body(exportService::exportCatalog);
+    }
+}
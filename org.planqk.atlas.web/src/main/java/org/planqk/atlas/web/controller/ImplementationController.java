@@ -19,8 +19,10 @@
 
 package org.planqk.atlas.web.controller;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.UUID;
+import javax.servlet.http.HttpServletRequest;
 
 import org.planqk.atlas.core.model.ComputeResourceProperty;
 import org.planqk.atlas.core.model.File;
@@ -37,6 +39,7 @@ import org.planqk.atlas.core.services.PublicationService;
 import org.planqk.atlas.core.services.SoftwarePlatformService;
 import org.planqk.atlas.core.services.TagService;
 import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.dtos.ComputeResourceDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
 import org.planqk.atlas.web.dtos.DiscussionCommentDto;
 import org.planqk.atlas.web.dtos.DiscussionTopicDto;
@@ -46,10 +49,12 @@ import org.planqk.atlas.web.dtos.ImplementationPackageDto;
 import org.planqk.atlas.web.dtos.PublicationDto;
 import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
 import org.planqk.atlas.web.dtos.TagDto;
+import org.planqk.atlas.web.utils.FileDownloadUtils;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -64,6 +69,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -389,6 +395,27 @@ public class ImplementationController {
         return ResponseEntity.ok(ModelMapperUtils.convert(softwarePlatform, SoftwarePlatformDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400",
+                         description = "Bad Request. Algorithm is not implemented algorithm of implementation."),
+            @ApiResponse(responseCode = "404",
+                         description = "Not Found. Algorithm or implementation with given IDs don't exist.")
+    }, description = "Retrieve the compute resources providing all compute resource properties required by an implementation. " +
+            "Numeric properties have to be provided with at least the required value, string properties with the same value.")
+    @ListParametersDoc
+    @GetMapping("/{implementationId}/" + Constants.MATCHING_COMPUTE_RESOURCES)
+    public ResponseEntity<Page<ComputeResourceDto>> getMatchingComputeResourcesOfImplementation(
+            @PathVariable UUID algorithmId,
+            @PathVariable UUID implementationId,
+            @Parameter(hidden = true) ListParameters listParameters) {
+        implementationService.checkIfImplementationIsOfAlgorithm(implementationId, algorithmId);
+
+        final var computeResources = computeResourcePropertyService.findComputeResourcesMatchingImplementation(
+                implementationId, listParameters.getPageable());
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(computeResources, ComputeResourceDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400",
@@ -743,15 +770,20 @@ public class ImplementationController {
 
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "206", description = "Partial Content. The requested ranges of the file content."),
             @ApiResponse(responseCode = "404",
-                         description = "File of Implementation with given ID doesn't exist")
-    }, description = "Downloads a specific file content of an Implementation")
+                         description = "File of Implementation with given ID doesn't exist"),
+            @ApiResponse(responseCode = "416", description = "Range Not Satisfiable. The requested ranges are outside of the file content.")
+    }, description = "Downloads a specific file content of an Implementation. Supports Range requests to download parts of the content, " +
+            "e.g. to resume an interrupted download, combined with If-Range to do so only while the file did not change.")
     @GetMapping("/{implementationId}/" + Constants.IMPLEMENTATION_PACKAGES + "/{implementationPackageId}/" + Constants.FILE + "/content")
-    public ResponseEntity<byte[]> downloadFileContent(
+    public ResponseEntity<Resource> downloadFileContent(
             @PathVariable UUID algorithmId,
             @PathVariable UUID implementationId,
-            @PathVariable UUID implementationPackageId
-    ) {
+            @PathVariable UUID implementationPackageId,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            HttpServletRequest request
+    ) throws IOException {
         implementationService.checkIfImplementationIsOfAlgorithm(implementationId, algorithmId);
         implementationPackageService.checkIfImplementationPackageIsLinkedToImplementation(implementationPackageId, implementationId);
         final File file =
@@ -759,11 +791,7 @@ public class ImplementationController {
         if (file == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        return ResponseEntity
-                .ok()
-                .contentType(MediaType.parseMediaType(file.getMimeType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + file.getName())
-                .body(fileService.getFileContent(file.getId()));
+        return FileDownloadUtils.download(file, fileService.getFileContent(file.getId()), ifRange, request);
     }
 
     @Operation(responses = {
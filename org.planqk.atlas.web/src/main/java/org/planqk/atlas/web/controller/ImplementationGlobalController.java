@@ -19,7 +19,10 @@
 
 package org.planqk.atlas.web.controller;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
 import java.net.URI;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -28,13 +31,19 @@ import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.services.ImplementationService;
 import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.planqk.atlas.web.dtos.ImplementationSummaryDto;
 import org.planqk.atlas.web.dtos.PatternUriDto;
 import org.planqk.atlas.web.dtos.RevisionDto;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.planqk.atlas.web.utils.CountParametersDoc;
+import org.planqk.atlas.web.utils.KeysetParametersDoc;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.planqk.atlas.web.utils.PropertyFilterParametersDoc;
 import org.planqk.atlas.web.utils.ValidationGroups;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -68,16 +77,55 @@ public class ImplementationGlobalController {
 
     private final ImplementationService implementationService;
 
+    private final LinkBuilderService linkBuilderService;
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
-    }, description = "Retrieve all implementations unaffected by its implemented algorithm")
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid cursor or sort property.")
+    }, description = "Retrieve all implementations unaffected by its implemented algorithm. If a cursor is given, the " +
+            "implementations are retrieved by keyset pagination and the following slice is linked in the Link header. " +
+            "The total number of implementations can be skipped or estimated by the count parameter.")
     @ListParametersDoc
+    @KeysetParametersDoc
+    @CountParametersDoc
+    @PropertyFilterParametersDoc
     @GetMapping
-    public ResponseEntity<Page<ImplementationDto>> getImplementations(@Parameter(hidden = true) ListParameters listParameters) {
+    public ResponseEntity<Slice<ImplementationDto>> getImplementations(@Parameter(hidden = true) ListParameters listParameters) {
+        if (listParameters.isKeysetPagination()) {
+            final var implementations = implementationService.findAllAfter(listParameters.getPageable(), listParameters.getAfter());
+            return ResponseEntity.ok()
+                    .headers(linkBuilderService.nextSliceHeaders(implementations, cursor ->
+                            methodOn(ImplementationGlobalController.class).getImplementations(listParameters.withAfter(cursor))))
+                    .body(ModelMapperUtils.convertSlice(implementations, ImplementationDto.class));
+        }
+        if (listParameters.hasPropertyFilters()) {
+            return ResponseEntity.ok(ModelMapperUtils.convertPage(implementationService.findAllByPropertyFilters(
+                    listParameters.getPropertyFilters(), listParameters.getPageable()), ImplementationDto.class));
+        }
+        if (listParameters.getCount() == ListParameters.Count.NONE) {
+            return ResponseEntity.ok(ModelMapperUtils.convertSlice(
+                    implementationService.findAllWithoutCount(listParameters.getPageable()), ImplementationDto.class));
+        }
+        if (listParameters.getCount() == ListParameters.Count.ESTIMATED) {
+            return ResponseEntity.ok(ModelMapperUtils.convertPage(
+                    implementationService.findAllWithEstimatedCount(listParameters.getPageable()), ImplementationDto.class));
+        }
         final var implementations = implementationService.findAll(listParameters.getPageable());
         return ResponseEntity.ok(ModelMapperUtils.convertPage(implementations, ImplementationDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200")
+    }, description = "Retrieve summaries of all implementations, containing their basic properties only. " +
+            "Considerably cheaper than retrieving the implementations themselves and therefore intended for read-only list views.")
+    @ListParametersDoc
+    @GetMapping("/" + Constants.SUMMARIES)
+    public ResponseEntity<Page<ImplementationSummaryDto>> getImplementationSummaries(
+            @Parameter(hidden = true) ListParameters listParameters) {
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(
+                implementationService.findAllSummaries(listParameters.getPageable()), ImplementationSummaryDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400"),
@@ -117,6 +165,20 @@ public class ImplementationGlobalController {
         return ResponseEntity.ok(ModelMapperUtils.convert(implementationRevision, ImplementationDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "404",
+                    description = "Not Found. Implementation with given ID didn't exist at the given point in time")
+    }, description = "Retrieve the revision of an implementation that was current at the given point in time "
+            + "(ISO-8601, e.g. 2022-06-01T12:00:00Z)")
+    @GetMapping("/{implementationId}/" + Constants.REVISIONS + "/" + Constants.AS_OF)
+    public ResponseEntity<ImplementationDto> getImplementationRevisionAsOf(
+            @PathVariable UUID implementationId, @RequestParam Instant timestamp) {
+        final Implementation implementationRevision = implementationService.findImplementationRevisionAsOf(implementationId, timestamp).getEntity();
+        return ResponseEntity.ok(ModelMapperUtils.convert(implementationRevision, ImplementationDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "200"),
             @ApiResponse(responseCode = "400",
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.controller;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.services.LinkingService;
+import org.planqk.atlas.core.services.TagService;
+import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.dtos.BulkLinkDto;
+import org.planqk.atlas.web.dtos.BulkTagLinkDto;
+import org.planqk.atlas.web.utils.ModelMapperUtils;
+import org.planqk.atlas.web.utils.ValidationGroups;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@io.swagger.v3.oas.annotations.tags.Tag(name = Constants.TAG_LINKS)
+@RestController
+@CrossOrigin(allowedHeaders = "*", origins = "*")
+@RequestMapping("/" + Constants.LINKS)
+@AllArgsConstructor
+@Slf4j
+public class LinkController {
+
+    private static final String RELATIONS_DESCRIPTION = "The relation is one of \"algorithm-publication\", " +
+            "\"algorithm-problem-type\", \"algorithm-application-area\", \"algorithm-learning-method\", " +
+            "\"implementation-publication\", \"implementation-software-platform\", \"software-platform-cloud-service\", " +
+            "\"software-platform-compute-resource\" and \"cloud-service-compute-resource\", where the first part names " +
+            "the sources and the second part the targets.";
+
+    private final LinkingService linkingService;
+
+    private final TagService tagService;
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "204"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
+            @ApiResponse(responseCode = "404", description = "Not Found. Relation or one of the entities with given IDs doesn't exist.")
+    }, description = "Link every source with every target of a relation. Pairs that are already linked are skipped. " +
+            "All links are created in one transaction, no link is created if any of the entities doesn't exist. " +
+            RELATIONS_DESCRIPTION)
+    @PostMapping("/{relation}")
+    public ResponseEntity<Void> linkAll(@PathVariable String relation, @Validated @RequestBody BulkLinkDto bulkLinkDto) {
+        Relation.of(relation).link.apply(linkingService, bulkLinkDto.getSourceIds(), bulkLinkDto.getTargetIds());
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "204"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
+            @ApiResponse(responseCode = "404", description = "Not Found. Relation or one of the entities with given IDs doesn't exist.")
+    }, description = "Unlink every source from every target of a relation. Pairs that are not linked are skipped. " +
+            "All links are removed in one transaction, no link is removed if any of the entities doesn't exist. " +
+            RELATIONS_DESCRIPTION)
+    @DeleteMapping("/{relation}")
+    public ResponseEntity<Void> unlinkAll(@PathVariable String relation, @Validated @RequestBody BulkLinkDto bulkLinkDto) {
+        Relation.of(relation).unlink.apply(linkingService, bulkLinkDto.getSourceIds(), bulkLinkDto.getTargetIds());
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "204"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
+            @ApiResponse(responseCode = "404", description = "Not Found. Algorithm with one of the given IDs doesn't exist.")
+    }, description = "Add the tags to every algorithm. The tags do not have to exist before adding them.")
+    @PostMapping("/algorithm-tag")
+    public ResponseEntity<Void> addTagsToAlgorithms(
+            @Validated(ValidationGroups.Create.class) @RequestBody BulkTagLinkDto bulkTagLinkDto) {
+        tagService.addTagsToAlgorithms(bulkTagLinkDto.getSourceIds(),
+                ModelMapperUtils.convertCollection(bulkTagLinkDto.getTags(), Tag.class));
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "204"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
+            @ApiResponse(responseCode = "404", description = "Not Found. Algorithm with one of the given IDs or Tag doesn't exist.")
+    }, description = "Remove the tags from every algorithm.")
+    @DeleteMapping("/algorithm-tag")
+    public ResponseEntity<Void> removeTagsFromAlgorithms(
+            @Validated(ValidationGroups.IDOnly.class) @RequestBody BulkTagLinkDto bulkTagLinkDto) {
+        tagService.removeTagsFromAlgorithms(bulkTagLinkDto.getSourceIds(),
+                ModelMapperUtils.convertCollection(bulkTagLinkDto.getTags(), Tag.class));
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "204"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
+            @ApiResponse(responseCode = "404", description = "Not Found. Implementation with one of the given IDs doesn't exist.")
+    }, description = "Add the tags to every implementation. The tags do not have to exist before adding them.")
+    @PostMapping("/implementation-tag")
+    public ResponseEntity<Void> addTagsToImplementations(
+            @Validated(ValidationGroups.Create.class) @RequestBody BulkTagLinkDto bulkTagLinkDto) {
+        tagService.addTagsToImplementations(bulkTagLinkDto.getSourceIds(),
+                ModelMapperUtils.convertCollection(bulkTagLinkDto.getTags(), Tag.class));
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "204"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body."),
+            @ApiResponse(responseCode = "404", description = "Not Found. Implementation with one of the given IDs or Tag doesn't exist.")
+    }, description = "Remove the tags from every implementation.")
+    @DeleteMapping("/implementation-tag")
+    public ResponseEntity<Void> removeTagsFromImplementations(
+            @Validated(ValidationGroups.IDOnly.class) @RequestBody BulkTagLinkDto bulkTagLinkDto) {
+        tagService.removeTagsFromImplementations(bulkTagLinkDto.getSourceIds(),
+                ModelMapperUtils.convertCollection(bulkTagLinkDto.getTags(), Tag.class));
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @FunctionalInterface
+    private interface LinkOperation {
+
+        void apply(LinkingService linkingService, Collection<UUID> sourceIds, Collection<UUID> targetIds);
+    }
+
+    private enum Relation {
+        ALGORITHM_PUBLICATION("algorithm-publication",
+                LinkingService::linkAlgorithmsAndPublications, LinkingService::unlinkAlgorithmsAndPublications),
+        ALGORITHM_PROBLEM_TYPE("algorithm-problem-type",
+                LinkingService::linkAlgorithmsAndProblemTypes, LinkingService::unlinkAlgorithmsAndProblemTypes),
+        ALGORITHM_APPLICATION_AREA("algorithm-application-area",
+                LinkingService::linkAlgorithmsAndApplicationAreas, LinkingService::unlinkAlgorithmsAndApplicationAreas),
+        ALGORITHM_LEARNING_METHOD("algorithm-learning-method",
+                LinkingService::linkAlgorithmsAndLearningMethods, LinkingService::unlinkAlgorithmsAndLearningMethods),
+        IMPLEMENTATION_PUBLICATION("implementation-publication",
+                LinkingService::linkImplementationsAndPublications, LinkingService::unlinkImplementationsAndPublications),
+        IMPLEMENTATION_SOFTWARE_PLATFORM("implementation-software-platform",
+                LinkingService::linkImplementationsAndSoftwarePlatforms, LinkingService::unlinkImplementationsAndSoftwarePlatforms),
+        SOFTWARE_PLATFORM_CLOUD_SERVICE("software-platform-cloud-service",
+                LinkingService::linkSoftwarePlatformsAndCloudServices, LinkingService::unlinkSoftwarePlatformsAndCloudServices),
+        SOFTWARE_PLATFORM_COMPUTE_RESOURCE("software-platform-compute-resource",
+                LinkingService::linkSoftwarePlatformsAndComputeResources, LinkingService::unlinkSoftwarePlatformsAndComputeResources),
+        CLOUD_SERVICE_COMPUTE_RESOURCE("cloud-service-compute-resource",
+                LinkingService::linkCloudServicesAndComputeResources, LinkingService::unlinkCloudServicesAndComputeResources);
+
+        private static final Map<String, Relation> RELATIONS = Arrays.stream(values())
+                .collect(Collectors.toMap(relation -> relation.path, Function.identity()));
+
+        private final String path;
+
+        private final LinkOperation link;
+
+        private final LinkOperation unlink;
+
+        Relation(String path, LinkOperation link, LinkOperation unlink) {
+            this.path = path;
+            this.link = link;
+            this.unlink = unlink;
+        }
+
+        static Relation of(String path) {
+            final Relation relation = RELATIONS.get(path);
+            if (relation == null) {
+                throw new NoSuchElementException("Relation \"" + path + "\" does not exist");
+            }
+            return relation;
+        }
+    }
+}
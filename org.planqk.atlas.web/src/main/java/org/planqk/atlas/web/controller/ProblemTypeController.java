@@ -134,4 +134,18 @@ public class ProblemTypeController {
         final var problemTypeParentList = problemTypeService.getParentList(problemTypeId);
         return ResponseEntity.ok(ModelMapperUtils.convertCollection(problemTypeParentList, ProblemTypeDto.class));
     }
+
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400"),
+            @ApiResponse(responseCode = "404", description = "Not Found. Problem type with given ID doesn't exist.")
+    }, description = "Retrieve all descendant problem types of a specific problem type in depth-first order, " +
+            "i.e. every problem type is followed by its own descendants.")
+    @ListParametersDoc
+    @GetMapping("/{problemTypeId}/" + Constants.PROBLEM_TYPE_DESCENDANTS)
+    public ResponseEntity<Page<ProblemTypeDto>> getProblemTypeDescendants(
+            @PathVariable UUID problemTypeId, @Parameter(hidden = true) ListParameters listParameters) {
+        final var descendants = problemTypeService.findDescendants(problemTypeId, listParameters.getPageable());
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(descendants, ProblemTypeDto.class));
+    }
 }
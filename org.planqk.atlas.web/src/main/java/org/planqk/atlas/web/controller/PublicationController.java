@@ -19,6 +19,8 @@
 
 package org.planqk.atlas.web.controller;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
 import java.util.UUID;
 
 import org.planqk.atlas.core.model.Publication;
@@ -32,11 +34,16 @@ import org.planqk.atlas.web.dtos.DiscussionCommentDto;
 import org.planqk.atlas.web.dtos.DiscussionTopicDto;
 import org.planqk.atlas.web.dtos.ImplementationDto;
 import org.planqk.atlas.web.dtos.PublicationDto;
+import org.planqk.atlas.web.dtos.PublicationSummaryDto;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.planqk.atlas.web.utils.CountParametersDoc;
+import org.planqk.atlas.web.utils.KeysetParametersDoc;
 import org.planqk.atlas.web.utils.ListParameters;
 import org.planqk.atlas.web.utils.ListParametersDoc;
 import org.planqk.atlas.web.utils.ModelMapperUtils;
 import org.planqk.atlas.web.utils.ValidationGroups;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -78,17 +85,51 @@ public class PublicationController {
 
     private final LinkingService linkingService;
 
+    private final LinkBuilderService linkBuilderService;
+
     @Operation(responses = {
-            @ApiResponse(responseCode = "200")
-    }, description = "Retrieve all publications.")
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", description = "Bad Request. Invalid cursor or sort property.")
+    }, description = "Retrieve all publications. If a cursor is given, the publications are retrieved by keyset " +
+            "pagination and the following slice is linked in the Link header. Unless a search is given, the total " +
+            "number of publications can be skipped or estimated by the count parameter.")
     @ListParametersDoc
+    @KeysetParametersDoc
+    @CountParametersDoc
     @GetMapping
-    public ResponseEntity<Page<PublicationDto>> getPublications(
+    public ResponseEntity<Slice<PublicationDto>> getPublications(
             @Parameter(hidden = true) ListParameters listParameters) {
+        if (listParameters.isKeysetPagination()) {
+            final var publications = publicationService.findAllAfter(listParameters.getPageable(), listParameters.getAfter());
+            return ResponseEntity.ok()
+                    .headers(linkBuilderService.nextSliceHeaders(publications, cursor ->
+                            methodOn(PublicationController.class).getPublications(listParameters.withAfter(cursor))))
+                    .body(ModelMapperUtils.convertSlice(publications, PublicationDto.class));
+        }
+        if (!listParameters.hasSearch() && listParameters.getCount() == ListParameters.Count.NONE) {
+            return ResponseEntity.ok(ModelMapperUtils.convertSlice(
+                    publicationService.findAllWithoutCount(listParameters.getPageable()), PublicationDto.class));
+        }
+        if (!listParameters.hasSearch() && listParameters.getCount() == ListParameters.Count.ESTIMATED) {
+            return ResponseEntity.ok(ModelMapperUtils.convertPage(
+                    publicationService.findAllWithEstimatedCount(listParameters.getPageable()), PublicationDto.class));
+        }
         final var entities = publicationService.findAll(listParameters.getPageable(), listParameters.getSearch());
         return ResponseEntity.ok(ModelMapperUtils.convertPage(entities, PublicationDto.class));
     }
 
+    @Operation(responses = {
+            @ApiResponse(responseCode = "200")
+    }, description = "Retrieve summaries of all publications, containing their basic properties only. " +
+            "Considerably cheaper than retrieving the publications themselves and therefore intended for read-only list views.")
+    @ListParametersDoc
+    @GetMapping("/" + Constants.SUMMARIES)
+    public ResponseEntity<Page<PublicationSummaryDto>> getPublicationSummaries(
+            @Parameter(hidden = true) ListParameters listParameters) {
+        return ResponseEntity.ok(ModelMapperUtils.convertPage(
+                publicationService.findAllSummaries(listParameters.getPageable()), PublicationSummaryDto.class));
+    }
+
     @Operation(responses = {
             @ApiResponse(responseCode = "201"),
             @ApiResponse(responseCode = "400", description = "Bad Request. Invalid request body.")
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.dtos;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.planqk.atlas.core.model.BulkImportJob;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for the progress of a bulk import ({@link org.planqk.atlas.core.model.BulkImportJob}).
+ */
+@Data
+@NoArgsConstructor
+public class BulkImportJobDto {
+
+    private UUID id;
+
+    private BulkImportJob.State state;
+
+    private boolean finished;
+
+    private Date createdAt;
+
+    private Date finishedAt;
+
+    private long processedRecords;
+
+    private long importedAlgorithms;
+
+    private long importedImplementations;
+
+    private long failedRecords;
+
+    private List<String> errors;
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.dtos;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import javax.validation.constraints.NotEmpty;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for linking or unlinking every source with every target of a relation at once.
+ */
+@Data
+@NoArgsConstructor
+public class BulkLinkDto {
+
+    @NotEmpty(message = "Source IDs must not be empty!")
+    private Set<UUID> sourceIds = new HashSet<>();
+
+    @NotEmpty(message = "Target IDs must not be empty!")
+    private Set<UUID> targetIds = new HashSet<>();
+}
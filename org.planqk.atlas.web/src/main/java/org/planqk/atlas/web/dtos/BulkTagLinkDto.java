@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.dtos;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+
+import org.planqk.atlas.web.utils.ValidationGroups;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for adding or removing tags ({@link org.planqk.atlas.core.model.Tag}) to or from multiple
+ * entities at once.
+ */
+@Data
+@NoArgsConstructor
+public class BulkTagLinkDto {
+
+    @NotEmpty(groups = {ValidationGroups.IDOnly.class, ValidationGroups.Create.class}, message = "Source IDs must not be empty!")
+    private Set<UUID> sourceIds = new HashSet<>();
+
+    @Valid
+    @NotEmpty(groups = {ValidationGroups.IDOnly.class, ValidationGroups.Create.class}, message = "Tags must not be empty!")
+    private List<TagDto> tags = new ArrayList<>();
+}
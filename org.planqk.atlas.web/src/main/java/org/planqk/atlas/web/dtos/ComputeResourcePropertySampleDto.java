@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.dtos;
+
+import java.time.Instant;
+import java.util.UUID;
+import javax.validation.constraints.NotNull;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for a single measured value of a compute resource property, e.g. the T1 time of a qubit
+ * reported by a calibration run.
+ */
+@Data
+@NoArgsConstructor
+public class ComputeResourcePropertySampleDto {
+
+    @NotNull(message = "Compute resource property ID must not be null!")
+    private UUID computeResourcePropertyId;
+
+    @NotNull(message = "Timestamp must not be null!")
+    private Instant timestamp;
+
+    @NotNull(message = "Value must not be null!")
+    private Double value;
+}
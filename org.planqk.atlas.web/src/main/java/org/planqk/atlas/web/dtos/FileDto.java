@@ -33,4 +33,8 @@ public class FileDto {
     private String mimeType;
 
     private String fileURL;
+
+    private Long size;
+
+    private String checksum;
 }
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.dtos;
+
+import java.util.Date;
+import java.util.UUID;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for summaries of Implementations ({@link org.planqk.atlas.core.repository.ImplementationSummary}).
+ */
+@Data
+@NoArgsConstructor
+public class ImplementationSummaryDto {
+
+    private UUID id;
+
+    private UUID implementedAlgorithmId;
+
+    private String name;
+
+    private String description;
+
+    private String version;
+
+    private String license;
+
+    private String technology;
+
+    private Date creationDate;
+
+    private Date lastModifiedAt;
+}
@@ -21,16 +21,21 @@ package org.planqk.atlas.web.linkassembler;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.planqk.atlas.web.utils.ListParametersMethodArgumentResolver;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.annotation.SynthesizingMethodParameter;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.core.DummyInvocationUtils;
 import org.springframework.hateoas.server.core.LastInvocationAware;
 import org.springframework.hateoas.server.core.MethodInvocation;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -104,6 +109,24 @@ public class LinkBuilderService {
         return urlTo(invocationValue).toUriString();
     }
 
+    /**
+     * Builds the headers of a response containing a slice retrieved by keyset pagination. If there is a following
+     * slice, it is linked in the Link header.
+     *
+     * @param slice          The slice retrieved by keyset pagination
+     * @param nextInvocation Creates the invocation (see {@link WebMvcLinkBuilder#methodOn(Class, Object...)}) of the
+     *                       endpoint retrieving the slice after the given cursor
+     * @return The response headers
+     */
+    public HttpHeaders nextSliceHeaders(KeysetSlice<?> slice, Function<String, Object> nextInvocation) {
+        final HttpHeaders headers = new HttpHeaders();
+        if (slice.getNextCursor() != null) {
+            final String url = urlStringTo(nextInvocation.apply(slice.getNextCursor()));
+            headers.add(HttpHeaders.LINK, new Link(url, IanaLinkRelations.NEXT).toString());
+        }
+        return headers;
+    }
+
     private RequestMappingInfo resolveInvocation(MethodInvocation invocation) {
         for (var entry : this.mappings.getHandlerMethods().entrySet()) {
             if (entry.getValue().getMethod().equals(invocation.getMethod()))
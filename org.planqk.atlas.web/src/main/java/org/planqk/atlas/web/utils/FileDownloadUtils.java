@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils;
+
+import java.io.IOException;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+
+import org.planqk.atlas.core.model.File;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Utility class building the responses of file downloads.
+ * <p>
+ * The content is returned as {@link Resource}, so Spring MVC streams it and answers requests with a Range header with
+ * the requested parts only (206 Partial Content). The checksum of the file serves as ETag, which allows conditional
+ * requests (If-None-Match) and resuming downloads of a file only as long as it did not change (If-Range).
+ * <p>
+ * Contents stored as files on disk are sent by the container directly from the file instead, if the container supports
+ * it (sendfile of Tomcat's NIO connector, which uses {@link java.nio.channels.FileChannel#transferTo}). Thereby they are
+ * not copied through the heap at all. Requests with multiple ranges or conditions other than If-Range are left to
+ * Spring MVC.
+ */
+public final class FileDownloadUtils {
+
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private FileDownloadUtils() {
+    }
+
+    /**
+     * @param file    The downloaded file
+     * @param content The content of the file, as returned by the file service
+     * @param ifRange The value of the If-Range header of the request, if any
+     * @param request The request, which is used to hand over files to the container
+     * @return The response streaming the content, or the requested ranges of it
+     */
+    public static ResponseEntity<Resource> download(File file, Resource content, String ifRange, HttpServletRequest request)
+            throws IOException {
+        final String eTag = file.getChecksum() == null ? null : "\"" + file.getChecksum() + "\"";
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(file.getMimeType()));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + file.getName());
+        if (eTag != null) {
+            headers.setETag(eTag);
+        }
+        // if the client's copy is outdated (or identified by date, which is not supported), the requested ranges are ignored
+        final boolean outdated = ifRange != null && !ifRange.equals(eTag);
+
+        if (content.isFile() && canSendFile(request)) {
+            final ResponseEntity<Resource> response = sendFile(headers, content, outdated ? null : request.getHeader(HttpHeaders.RANGE), request);
+            if (response != null) {
+                return response;
+            }
+        }
+        if (outdated) {
+            // Spring MVC only serves ranges of resources other than InputStreamResources
+            headers.setContentLength(content.contentLength());
+            return ResponseEntity.ok().headers(headers).body(new InputStreamResource(content.getInputStream()));
+        }
+        return ResponseEntity.ok().headers(headers).body(content);
+    }
+
+    private static boolean canSendFile(HttpServletRequest request) {
+        // conditional requests are answered by Spring MVC, which may not send the content at all
+        return request != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))
+                && HttpMethod.GET.matches(request.getMethod())
+                && request.getHeader(HttpHeaders.IF_NONE_MATCH) == null && request.getHeader(HttpHeaders.IF_MATCH) == null;
+    }
+
+    /**
+     * @return The response without body, the content of which is sent by the container, or null if the requested ranges
+     * have to be served by Spring MVC
+     */
+    private static ResponseEntity<Resource> sendFile(HttpHeaders headers, Resource content, String range, HttpServletRequest request)
+            throws IOException {
+        final long length = content.contentLength();
+        long start = 0;
+        long end = length;
+        HttpStatus status = HttpStatus.OK;
+        if (range != null) {
+            final ResourceRegion region;
+            try {
+                final List<HttpRange> ranges = HttpRange.parseRanges(range);
+                if (ranges.size() != 1) {
+                    return null;
+                }
+                region = ranges.get(0).toResourceRegion(content);
+            } catch (IllegalArgumentException e) {
+                // invalid or not satisfiable, answered with 416 Range Not Satisfiable
+                return null;
+            }
+            start = region.getPosition();
+            end = start + region.getCount();
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + length);
+        }
+        request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, content.getFile().getAbsolutePath());
+        request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+        request.setAttribute(SENDFILE_END_ATTRIBUTE, end);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentLength(end - start);
+        return ResponseEntity.status(status).headers(headers).build();
+    }
+}
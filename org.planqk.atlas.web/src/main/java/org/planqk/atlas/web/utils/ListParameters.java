@@ -19,19 +19,30 @@
 
 package org.planqk.atlas.web.utils;
 
+import java.util.List;
+
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.web.Constants;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Core parameters for a generic data list
+ * <p>
+ * If the after cursor is set (an empty cursor addresses the first slice) the list is retrieved by keyset pagination
+ * instead of by page number.
+ * <p>
+ * The count mode determines how the total number of elements of a paged list is determined. Counting can be skipped
+ * if a client (e.g. an infinite scrolling view) only needs to know whether another page follows.
+ * <p>
+ * Lists of entities having compute resource properties can be filtered by them, e.g. {@code ?property.qubitCount>=127}.
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Data
 public class ListParameters {
     @NonNull
@@ -40,7 +51,58 @@ public class ListParameters {
     @Nullable
     private final String search;
 
+    @Nullable
+    private final String after;
+
+    @NonNull
+    private final Count count;
+
+    @NonNull
+    private final List<PropertyFilter> propertyFilters;
+
+    public ListParameters(@NonNull Pageable pageable, @Nullable String search) {
+        this(pageable, search, null, Count.EXACT);
+    }
+
+    public ListParameters(@NonNull Pageable pageable, @Nullable String search, @Nullable String after, @NonNull Count count) {
+        this(pageable, search, after, count, List.of());
+    }
+
+    public boolean hasSearch() {
+        return search != null && !search.isEmpty();
+    }
+
+    public boolean isKeysetPagination() {
+        return after != null;
+    }
+
+    public boolean hasPropertyFilters() {
+        return !propertyFilters.isEmpty();
+    }
+
+    public ListParameters withAfter(@Nullable String after) {
+        return new ListParameters(pageable, search, after, count, propertyFilters);
+    }
+
     public static ListParameters getDefault() {
         return new ListParameters(PageRequest.of(Constants.DEFAULT_PAGE_NUMBER, Constants.DEFAULT_PAGE_SIZE), "");
     }
+
+    /**
+     * Modes to determine the total number of elements of a paged list
+     */
+    public enum Count {
+        /**
+         * Count all elements, the default
+         */
+        EXACT,
+        /**
+         * Skip the count, the list only states whether another page follows
+         */
+        NONE,
+        /**
+         * Estimate the total number of elements based on the statistics of the database
+         */
+        ESTIMATED
+    }
 }
@@ -19,9 +19,13 @@
 
 package org.planqk.atlas.web.utils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.controller.exceptions.InvalidRequestException;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.PageRequest;
@@ -50,6 +54,15 @@ public class ListParametersMethodArgumentResolver extends PageableHandlerMethodA
         final String page = webRequest.getParameter(getParameterNameToUse(Constants.PAGE, methodParameter));
         final String pageSize = webRequest.getParameter(getParameterNameToUse(Constants.SIZE, methodParameter));
         final String searchQuery = webRequest.getParameter(getParameterNameToUse(Constants.SEARCH, methodParameter));
+        final String after = webRequest.getParameter(getParameterNameToUse(Constants.AFTER, methodParameter));
+        if (after != null && searchQuery != null && !searchQuery.isEmpty()) {
+            throw new InvalidRequestException("Cursor pagination cannot be combined with a search");
+        }
+        final List<PropertyFilter> propertyFilters = getPropertyFilters(webRequest,
+                getParameterNameToUse(Constants.PROPERTY_FILTER_PREFIX, methodParameter));
+        if (!propertyFilters.isEmpty() && (after != null || (searchQuery != null && !searchQuery.isEmpty()))) {
+            throw new InvalidRequestException("Property filters cannot be combined with a search or cursor pagination");
+        }
 
         final Sort sort = sortResolver.resolveArgument(methodParameter, mavContainer, webRequest, binderFactory);
         Pageable pageable = getPageable(methodParameter, page, pageSize);
@@ -61,7 +74,58 @@ public class ListParametersMethodArgumentResolver extends PageableHandlerMethodA
         if (sort.isSorted()) {
             pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
         }
-        return new ListParameters(pageable, searchQuery);
+        return new ListParameters(pageable, searchQuery, after,
+                getCount(webRequest.getParameter(getParameterNameToUse(Constants.COUNT, methodParameter))), propertyFilters);
+    }
+
+    /**
+     * Parses the property filters, e.g. {@code property.vendor=IBM} or {@code property.qubitCount>=127}. As the query
+     * string is split at the first "=", strict comparisons like {@code property.qubitCount>127} arrive as parameter
+     * names without a value.
+     */
+    private static List<PropertyFilter> getPropertyFilters(NativeWebRequest webRequest, String prefix) {
+        final List<PropertyFilter> propertyFilters = new ArrayList<>();
+        for (final Map.Entry<String, String[]> parameter : webRequest.getParameterMap().entrySet()) {
+            if (!parameter.getKey().startsWith(prefix)) {
+                continue;
+            }
+            final String filter = parameter.getKey().substring(prefix.length());
+            for (final String value : parameter.getValue()) {
+                propertyFilters.add(getPropertyFilter(filter, value));
+            }
+        }
+        return propertyFilters;
+    }
+
+    private static PropertyFilter getPropertyFilter(String filter, String value) {
+        final PropertyFilter propertyFilter;
+        if (value.isEmpty() && filter.matches("[^<>]+[<>].+")) {
+            final int operatorIndex = filter.indexOf('>') >= 0 ? filter.indexOf('>') : filter.indexOf('<');
+            propertyFilter = new PropertyFilter(filter.substring(0, operatorIndex),
+                    filter.charAt(operatorIndex) == '>' ? PropertyFilter.Operator.GREATER : PropertyFilter.Operator.LESS,
+                    filter.substring(operatorIndex + 1));
+        } else if (filter.endsWith(">")) {
+            propertyFilter = new PropertyFilter(filter.substring(0, filter.length() - 1), PropertyFilter.Operator.GREATER_OR_EQUAL, value);
+        } else if (filter.endsWith("<")) {
+            propertyFilter = new PropertyFilter(filter.substring(0, filter.length() - 1), PropertyFilter.Operator.LESS_OR_EQUAL, value);
+        } else {
+            propertyFilter = new PropertyFilter(filter, PropertyFilter.Operator.EQUAL, value);
+        }
+        if (propertyFilter.getName().isEmpty()) {
+            throw new InvalidRequestException("Invalid property filter \"" + filter + "\", expected e.g. property.qubitCount>=127");
+        }
+        return propertyFilter;
+    }
+
+    private static ListParameters.Count getCount(@Nullable String count) {
+        if (count == null || count.isEmpty() || "true".equalsIgnoreCase(count)) {
+            return ListParameters.Count.EXACT;
+        } else if ("false".equalsIgnoreCase(count)) {
+            return ListParameters.Count.NONE;
+        } else if ("estimate".equalsIgnoreCase(count)) {
+            return ListParameters.Count.ESTIMATED;
+        }
+        throw new InvalidRequestException("Invalid count mode \"" + count + "\", expected true, false or estimate");
     }
 
     @Override
@@ -78,8 +142,11 @@ public class ListParametersMethodArgumentResolver extends PageableHandlerMethodA
         final var pagePropertyName = getParameterNameToUse(Constants.PAGE, parameter);
         final var sizePropertyName = getParameterNameToUse(Constants.SIZE, parameter);
         if (!pageable.isUnpaged()) {
-            final var pageNumber = pageable.getPageNumber();
-            builder.replaceQueryParam(pagePropertyName, isOneIndexedParameters() ? pageNumber + 1 : pageNumber);
+            // the position of a slice is determined by the cursor, the page number is meaningless in keyset mode
+            if (!listParams.isKeysetPagination()) {
+                final var pageNumber = pageable.getPageNumber();
+                builder.replaceQueryParam(pagePropertyName, isOneIndexedParameters() ? pageNumber + 1 : pageNumber);
+            }
             builder.replaceQueryParam(sizePropertyName,
                     pageable.getPageSize() <= getMaxPageSize() ? pageable.getPageSize() : getMaxPageSize());
         } else {
@@ -94,5 +161,36 @@ public class ListParametersMethodArgumentResolver extends PageableHandlerMethodA
         if (listParams.getSearch() != null && !listParams.getSearch().isEmpty()) {
             builder.replaceQueryParam(getParameterNameToUse(Constants.SEARCH, parameter), listParams.getSearch());
         }
+
+        if (listParams.isKeysetPagination()) {
+            builder.replaceQueryParam(getParameterNameToUse(Constants.AFTER, parameter), listParams.getAfter());
+        }
+
+        final var propertyFilterPrefix = getParameterNameToUse(Constants.PROPERTY_FILTER_PREFIX, parameter);
+        for (final PropertyFilter propertyFilter : listParams.getPropertyFilters()) {
+            final var name = propertyFilterPrefix + propertyFilter.getName();
+            switch (propertyFilter.getOperator()) {
+                case GREATER:
+                    builder.queryParam(name + ">" + propertyFilter.getValue());
+                    break;
+                case GREATER_OR_EQUAL:
+                    builder.queryParam(name + ">", propertyFilter.getValue());
+                    break;
+                case LESS:
+                    builder.queryParam(name + "<" + propertyFilter.getValue());
+                    break;
+                case LESS_OR_EQUAL:
+                    builder.queryParam(name + "<", propertyFilter.getValue());
+                    break;
+                default:
+                    builder.queryParam(name, propertyFilter.getValue());
+            }
+        }
+
+        if (listParams.getCount() == ListParameters.Count.NONE) {
+            builder.replaceQueryParam(getParameterNameToUse(Constants.COUNT, parameter), false);
+        } else if (listParams.getCount() == ListParameters.Count.ESTIMATED) {
+            builder.replaceQueryParam(getParameterNameToUse(Constants.COUNT, parameter), "estimate");
+        }
     }
 }
@@ -36,6 +36,7 @@ import org.planqk.atlas.core.model.FileImplementationPackage;
 import org.planqk.atlas.core.model.FunctionImplementationPackage;
 import org.planqk.atlas.core.model.Implementation;
 import org.planqk.atlas.core.model.ImplementationPackage;
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.planqk.atlas.core.model.PatternRelation;
 import org.planqk.atlas.core.model.Qpu;
 import org.planqk.atlas.core.model.QuantumAlgorithm;
@@ -55,6 +56,7 @@ import org.planqk.atlas.web.dtos.QuantumAlgorithmDto;
 import org.planqk.atlas.web.dtos.SimulatorDto;
 import org.planqk.atlas.web.dtos.TOSCAImplementationPackageDto;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import lombok.NonNull;
 
@@ -69,6 +71,14 @@ public final class ModelMapperUtils {
         return entities.map(objectEntity -> convert(objectEntity, dtoClass));
     }
 
+    public static <D, T> Slice<D> convertSlice(@NonNull Slice<T> entities, @NonNull Class<D> dtoClass) {
+        return entities.map(objectEntity -> convert(objectEntity, dtoClass));
+    }
+
+    public static <D, T> KeysetSlice<D> convertSlice(@NonNull KeysetSlice<T> entities, @NonNull Class<D> dtoClass) {
+        return entities.map(objectEntity -> convert(objectEntity, dtoClass));
+    }
+
     public static <D, T> Collection<D> convertCollection(@NonNull Collection<T> entities, @NonNull Class<D> dtoClass) {
         return entities.stream().map(objectEntity -> convert(objectEntity, dtoClass)).collect(Collectors.toCollection(ArrayList::new));
     }
@@ -20,6 +20,7 @@
 package org.planqk.atlas.web.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +37,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,6 +51,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
@@ -66,13 +69,16 @@ import org.planqk.atlas.core.model.AlgorithmRelationType;
 import org.planqk.atlas.core.model.ApplicationArea;
 import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.model.ComputationModel;
+import org.planqk.atlas.core.model.ComputeResource;
 import org.planqk.atlas.core.model.ComputeResourceProperty;
 import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
 import org.planqk.atlas.core.model.ComputeResourcePropertyType;
 import org.planqk.atlas.core.model.DiscussionComment;
 import org.planqk.atlas.core.model.DiscussionTopic;
 import org.planqk.atlas.core.model.Image;
+import org.planqk.atlas.core.model.ImageThumbnail;
 import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.KeysetSlice;
 import org.planqk.atlas.core.model.LearningMethod;
 import org.planqk.atlas.core.model.PatternRelation;
 import org.planqk.atlas.core.model.PatternRelationType;
@@ -81,6 +87,7 @@ import org.planqk.atlas.core.model.Publication;
 import org.planqk.atlas.core.model.Sketch;
 import org.planqk.atlas.core.model.Status;
 import org.planqk.atlas.core.model.Tag;
+import org.planqk.atlas.core.repository.AlgorithmSummary;
 import org.planqk.atlas.core.services.AlgorithmService;
 import org.planqk.atlas.core.services.ApplicationAreaService;
 import org.planqk.atlas.core.services.ComputeResourcePropertyService;
@@ -99,6 +106,7 @@ import org.planqk.atlas.web.controller.util.ObjectMapperUtils;
 import org.planqk.atlas.web.dtos.AlgorithmDto;
 import org.planqk.atlas.web.dtos.AlgorithmRelationDto;
 import org.planqk.atlas.web.dtos.ApplicationAreaDto;
+import org.planqk.atlas.web.dtos.ComputeResourceDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyTypeDto;
 import org.planqk.atlas.web.dtos.DiscussionCommentDto;
@@ -123,9 +131,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.envers.repository.support.DefaultRevisionMetadata;
 import org.springframework.data.history.Revision;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
@@ -371,6 +381,86 @@ public class AlgorithmControllerTest {
         assertEquals(0, resultList.size());
     }
 
+    @Test
+    @SneakyThrows
+    void getAlgorithms_Keyset_returnOkWithNextLink() {
+        initializeAlgorithms();
+        var slice = new KeysetSlice<Algorithm>(List.of(algorithm1, algorithm2), pageable, "nextCursor");
+
+        doReturn(slice).when(algorithmService).findAllAfter(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithms(new ListParameters(pageable, null, "", ListParameters.Count.EXACT)));
+
+        mockMvc.perform(get(url)
+                .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("after=nextCursor")))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")));
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithms_KeysetWithSearch_returnBadRequest() {
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithms(new ListParameters(pageable, "search", "", ListParameters.Count.EXACT)));
+
+        mockMvc.perform(get(url)
+                .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithms_WithoutCount_returnOkWithoutTotal() {
+        initializeAlgorithms();
+        var slice = new SliceImpl<Algorithm>(List.of(algorithm1, algorithm2), pageable, true);
+
+        doReturn(slice).when(algorithmService).findAllWithoutCount(any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithms(new ListParameters(pageable, null, null, ListParameters.Count.NONE)));
+
+        mockMvc.perform(get(url)
+                .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+        Mockito.verify(algorithmService, times(0)).findAll(any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithms_EstimatedCount_returnOkWithTotal() {
+        initializeAlgorithms();
+        var page = new PageImpl<Algorithm>(List.of(algorithm1, algorithm2), pageable, 1000);
+
+        doReturn(page).when(algorithmService).findAllWithEstimatedCount(any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithms(new ListParameters(pageable, null, null, ListParameters.Count.ESTIMATED)));
+
+        mockMvc.perform(get(url)
+                .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1000))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithms_InvalidCount_returnBadRequest() {
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithms(new ListParameters(pageable, null))) + "&count=maybe";
+
+        mockMvc.perform(get(url)
+                .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isBadRequest());
+    }
+
     @Test
     @SneakyThrows
     void getAlgorithms_TwoElements_returnOk() {
@@ -396,6 +486,27 @@ public class AlgorithmControllerTest {
         assertEquals(array.size(), 2);
     }
 
+    @Test
+    @SneakyThrows
+    void getAlgorithmSummaries_returnOk() {
+        var summary = new AlgorithmSummary(UUID.randomUUID(), "algorithmName", "acronym", "intent",
+                ComputationModel.QUANTUM, null, null);
+
+        doReturn(new PageImpl<>(List.of(summary))).when(algorithmService).findAllSummaries(any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithmSummaries(new ListParameters(pageable, null)));
+
+        mockMvc.perform(get(url)
+                .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(summary.getId().toString()))
+                .andExpect(jsonPath("$.content[0].name").value("algorithmName"))
+                .andExpect(jsonPath("$.content[0].computationModel").value("QUANTUM"))
+                .andExpect(jsonPath("$.content[0].sketches").doesNotExist());
+        Mockito.verify(algorithmService, times(0)).findAll(any(), any());
+    }
+
     @Test
     @SneakyThrows
     void createAlgorithm_returnBadRequest() {
@@ -613,6 +724,35 @@ public class AlgorithmControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @SneakyThrows
+    void getAlgorithmRevisionAsOf_returnOk() {
+        initializeAlgorithms();
+        Instant timestamp = Instant.parse("2022-06-01T12:00:00Z");
+
+        Revision<Integer, Algorithm> algorithmRevision = Revision.of(new DefaultRevisionMetadata(new DefaultRevisionEntity()), algorithm1);
+        doReturn(algorithmRevision).when(algorithmService).findAlgorithmRevisionAsOf(algorithm1.getId(), timestamp);
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithmRevisionAsOf(algorithm1.getId(), timestamp));
+
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(algorithm1.getId().toString()));
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithmRevisionAsOf_returnNotFound() {
+        doThrow(NoSuchElementException.class).when(algorithmService).findAlgorithmRevisionAsOf(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getAlgorithmRevisionAsOf(UUID.randomUUID(), Instant.now()));
+
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
 
     @Test
     @SneakyThrows
@@ -1281,6 +1421,34 @@ public class AlgorithmControllerTest {
         });
     }
 
+    @Test
+    @SneakyThrows
+    void getMatchingComputeResourcesOfAlgorithm_returnOk() {
+        var computeResource = new ComputeResource();
+        computeResource.setId(UUID.randomUUID());
+        computeResource.setName("computeResourceName");
+        doReturn(new PageImpl<>(List.of(computeResource))).when(computeResourcePropertyService).findComputeResourcesMatchingAlgorithm(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getMatchingComputeResourcesOfAlgorithm(UUID.randomUUID(), ListParameters.getDefault()));
+        MvcResult mvcResult = mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isOk()).andReturn();
+
+        List<ComputeResourceDto> computeResourceDtos = ObjectMapperUtils.mapResponseToList(mvcResult, ComputeResourceDto.class);
+        assertEquals(computeResourceDtos.get(0).getId(), computeResource.getId());
+    }
+
+    @Test
+    @SneakyThrows
+    void getMatchingComputeResourcesOfAlgorithm_returnNotFound() {
+        doThrow(NoSuchElementException.class).when(computeResourcePropertyService).findComputeResourcesMatchingAlgorithm(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getMatchingComputeResourcesOfAlgorithm(UUID.randomUUID(), ListParameters.getDefault()));
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @SneakyThrows
     void getComputeResourcePropertiesOfAlgorithm_EmptyList_returnOk() {
@@ -1991,7 +2159,7 @@ public class AlgorithmControllerTest {
         doReturn(image).when(sketchService).getImageBySketch(sketchId);
 
         var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
-                .getSketchImage(algorithmId, sketchId));
+                .getSketchImage(algorithmId, sketchId, null));
 
         // call
         var resultActions = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn();
@@ -2001,6 +2169,48 @@ public class AlgorithmControllerTest {
         assertThat(image.getImage()).isEqualTo(responseImage);
     }
 
+    @Test
+    @SneakyThrows
+    void getSketchImage_WithSize_ReturnsThumbnail() {
+        final UUID algorithmId = UUID.randomUUID();
+        final UUID sketchId = UUID.randomUUID();
+
+        ImageThumbnail thumbnail = new ImageThumbnail();
+        thumbnail.setSize(128);
+        thumbnail.setData(new byte[] {1, 2, 3});
+        thumbnail.setMimeType("image/png");
+
+        doReturn(Optional.of(thumbnail)).when(sketchService).findThumbnailBySketch(sketchId, 128);
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getSketchImage(algorithmId, sketchId, 128));
+
+        mockMvc.perform(get(url)).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(content().bytes(thumbnail.getData()));
+        Mockito.verify(sketchService, times(0)).getImageBySketch(sketchId);
+    }
+
+    @Test
+    @SneakyThrows
+    void getSketchImage_WithSizeNotGenerated_ReturnsOriginal() {
+        final UUID algorithmId = UUID.randomUUID();
+        final UUID sketchId = UUID.randomUUID();
+
+        Image image = new Image();
+        image.setImage(new byte[20]);
+        image.setMimeType("image/png");
+
+        doReturn(Optional.empty()).when(sketchService).findThumbnailBySketch(sketchId, 256);
+        doReturn(image).when(sketchService).getImageBySketch(sketchId);
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmController.class)
+                .getSketchImage(algorithmId, sketchId, 256));
+
+        mockMvc.perform(get(url)).andExpect(status().isOk())
+                .andExpect(content().bytes(image.getImage()));
+    }
+
     @Test
     @SneakyThrows
     void getDiscussionTopics() {
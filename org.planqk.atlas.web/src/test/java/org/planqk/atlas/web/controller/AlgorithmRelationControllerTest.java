@@ -22,6 +22,7 @@ package org.planqk.atlas.web.controller;
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -44,10 +45,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.AlgorithmRelation;
 import org.planqk.atlas.core.model.AlgorithmRelationType;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.model.ComputationModel;
 import org.planqk.atlas.core.services.AlgorithmRelationService;
 import org.planqk.atlas.core.services.AlgorithmService;
 import org.planqk.atlas.web.controller.util.ObjectMapperUtils;
+import org.planqk.atlas.web.dtos.AlgorithmDto;
 import org.planqk.atlas.web.dtos.AlgorithmRelationDto;
 import org.planqk.atlas.web.dtos.AlgorithmRelationTypeDto;
 import org.planqk.atlas.web.linkassembler.EnableLinkAssemblers;
@@ -380,4 +383,70 @@ public class AlgorithmRelationControllerTest {
         mockMvc.perform(get(url).accept(APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithmRelationNeighborhood_returnOk() {
+        Algorithm sourceAlgorithm = new Algorithm();
+        sourceAlgorithm.setId(UUID.randomUUID());
+        Algorithm targetAlgorithm = new Algorithm();
+        targetAlgorithm.setId(UUID.randomUUID());
+        AlgorithmRelationType type = new AlgorithmRelationType();
+        type.setId(UUID.randomUUID());
+        AlgorithmRelation algorithmRelation = new AlgorithmRelation();
+        algorithmRelation.setId(UUID.randomUUID());
+        algorithmRelation.setSourceAlgorithm(sourceAlgorithm);
+        algorithmRelation.setTargetAlgorithm(targetAlgorithm);
+        algorithmRelation.setAlgorithmRelationType(type);
+        doReturn(List.of(algorithmRelation)).when(algorithmRelationService).findNeighborhood(any(), anyInt(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmRelationController.class)
+                .getAlgorithmRelationNeighborhood(sourceAlgorithm.getId(), 2, null));
+
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(algorithmRelation.getId().toString()))
+                .andExpect(jsonPath("$[0].targetAlgorithmId").value(targetAlgorithm.getId().toString()));
+    }
+
+    @Test
+    @SneakyThrows
+    void getAlgorithmRelationNeighborhood_returnBadRequest() {
+        doThrow(IllegalArgumentException.class).when(algorithmRelationService).findNeighborhood(any(), anyInt(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmRelationController.class)
+                .getAlgorithmRelationNeighborhood(UUID.randomUUID(), 0, null));
+
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SneakyThrows
+    void getShortestAlgorithmRelationPath_returnNotFound() {
+        doThrow(NoSuchElementException.class).when(algorithmRelationService).findShortestPath(any(), any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmRelationController.class)
+                .getShortestAlgorithmRelationPath(UUID.randomUUID(), UUID.randomUUID(), null));
+
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @SneakyThrows
+    void getReachableAlgorithms_returnOk() {
+        Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setId(UUID.randomUUID());
+        algorithm.setName("algorithmName");
+        algorithm.setComputationModel(ComputationModel.CLASSIC);
+        doReturn(new PageImpl<>(List.of(algorithm))).when(algorithmRelationService).findReachableAlgorithms(any(), any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(AlgorithmRelationController.class)
+                .getReachableAlgorithms(UUID.randomUUID(), null, ListParameters.getDefault()));
+
+        MvcResult mvcResult = mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isOk()).andReturn();
+        assertEquals(ObjectMapperUtils.mapResponseToList(mvcResult, AlgorithmDto.class).get(0).getId(), algorithm.getId());
+    }
 }
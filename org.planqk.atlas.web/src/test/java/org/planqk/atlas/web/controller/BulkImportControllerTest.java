@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planqk.atlas.core.model.BulkImportJob;
+import org.planqk.atlas.core.services.BulkImportService;
+import org.planqk.atlas.web.Constants;
+import org.planqk.atlas.web.linkassembler.EnableLinkAssemblers;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(BulkImportController.class)
+@ExtendWith(MockitoExtension.class)
+@AutoConfigureMockMvc
+@EnableLinkAssemblers
+public class BulkImportControllerTest {
+
+    @MockBean
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LinkBuilderService linkBuilderService;
+
+    @Test
+    void startBulkImport_returnAccepted() throws Exception {
+        BulkImportJob job = new BulkImportJob(UUID.randomUUID());
+        doReturn(job).when(bulkImportService).startImport(any(InputStream.class));
+
+        var url = linkBuilderService.urlStringTo(methodOn(BulkImportController.class).startBulkImport(null));
+        mockMvc.perform(post(url).contentType(Constants.APPLICATION_NDJSON)
+                .content("{\"computationModel\": \"CLASSIC\", \"name\": \"GNFS\"}\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location",
+                        linkBuilderService.urlStringTo(methodOn(BulkImportController.class).getBulkImport(job.getId()))))
+                .andExpect(jsonPath("$.id").value(job.getId().toString()))
+                .andExpect(jsonPath("$.state").value("PENDING"))
+                .andExpect(jsonPath("$.finished").value(false));
+    }
+
+    @Test
+    void getBulkImport_returnOk() throws Exception {
+        BulkImportJob job = new BulkImportJob(UUID.randomUUID());
+        job.setState(BulkImportJob.State.COMPLETED);
+        job.setProcessedRecords(3);
+        job.setImportedAlgorithms(2);
+        job.setFailedRecords(1);
+        job.addError(2, "The name of the algorithm must not be empty");
+        doReturn(job).when(bulkImportService).findJobById(job.getId());
+
+        var url = linkBuilderService.urlStringTo(methodOn(BulkImportController.class).getBulkImport(job.getId()));
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.finished").value(true))
+                .andExpect(jsonPath("$.processedRecords").value(3))
+                .andExpect(jsonPath("$.importedAlgorithms").value(2))
+                .andExpect(jsonPath("$.failedRecords").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("Line 2: The name of the algorithm must not be empty"));
+    }
+
+    @Test
+    void getBulkImport_returnNotFound() throws Exception {
+        doThrow(new NoSuchElementException()).when(bulkImportService).findJobById(any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(BulkImportController.class).getBulkImport(UUID.randomUUID()));
+        mockMvc.perform(get(url)).andExpect(status().isNotFound());
+    }
+}
@@ -23,9 +23,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -36,6 +38,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -50,14 +54,21 @@ import org.planqk.atlas.core.model.CloudService;
 import org.planqk.atlas.core.model.ComputeResource;
 import org.planqk.atlas.core.model.ComputeResourceProperty;
 import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
+import org.planqk.atlas.core.model.ComputeResourcePropertySample;
+import org.planqk.atlas.core.model.ComputeResourcePropertySampleBucket;
 import org.planqk.atlas.core.model.ComputeResourcePropertyType;
+import org.planqk.atlas.core.model.PropertyFilter;
 import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.planqk.atlas.core.services.ComputeResourcePropertySampleService;
 import org.planqk.atlas.core.services.ComputeResourcePropertyService;
 import org.planqk.atlas.core.services.ComputeResourceService;
+import org.planqk.atlas.web.Constants;
 import org.planqk.atlas.web.controller.util.ObjectMapperUtils;
 import org.planqk.atlas.web.dtos.CloudServiceDto;
 import org.planqk.atlas.web.dtos.ComputeResourceDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertySampleDto;
+import org.planqk.atlas.web.dtos.ComputeResourcePropertySamplesDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyTypeDto;
 import org.planqk.atlas.web.dtos.SoftwarePlatformDto;
 import org.planqk.atlas.web.linkassembler.EnableLinkAssemblers;
@@ -99,6 +110,9 @@ public class ComputeResourceControllerTest {
     @MockBean
     private ComputeResourcePropertyService computeResourcePropertyService;
 
+    @MockBean
+    private ComputeResourcePropertySampleService computeResourcePropertySampleService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -279,6 +293,33 @@ public class ComputeResourceControllerTest {
         assertThat(page.getNumber()).isEqualTo(0);
     }
 
+    @Test
+    void listComputeResources_withPropertyFilters() throws Exception {
+        var filters = List.of(
+                new PropertyFilter("qubitCount", PropertyFilter.Operator.GREATER_OR_EQUAL, "127"),
+                new PropertyFilter("vendor", PropertyFilter.Operator.EQUAL, "ibm"),
+                new PropertyFilter("qubitCount", PropertyFilter.Operator.LESS, "1000"));
+        doReturn(Page.empty()).when(computeResourceService).findAllByPropertyFilters(eq(filters), any());
+
+        mockMvc.perform(get("/" + Constants.COMPUTE_RESOURCES)
+                .param(Constants.PROPERTY_FILTER_PREFIX + "qubitCount>", "127")
+                .param(Constants.PROPERTY_FILTER_PREFIX + "vendor", "ibm")
+                .param(Constants.PROPERTY_FILTER_PREFIX + "qubitCount<1000", "")
+                .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isOk());
+
+        verify(computeResourceService).findAllByPropertyFilters(eq(filters), any());
+    }
+
+    @Test
+    void listComputeResources_withPropertyFiltersAndSearch_returnBadRequest() throws Exception {
+        mockMvc.perform(get("/" + Constants.COMPUTE_RESOURCES)
+                .param(Constants.PROPERTY_FILTER_PREFIX + "vendor", "ibm")
+                .param(Constants.SEARCH, "hello")
+                .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isBadRequest());
+    }
+
     @Test
     void listComputeResources_notEmpty() throws Exception {
         var inputList = new ArrayList<ComputeResource>();
@@ -725,4 +766,93 @@ public class ComputeResourceControllerTest {
         ).andExpect(status().isNotFound())
         ;
     }
+
+    @Test
+    @SneakyThrows
+    void addComputeResourcePropertySamples_returnAccepted() {
+        var computeResourceId = UUID.randomUUID();
+        var sampleDto = new ComputeResourcePropertySampleDto();
+        sampleDto.setComputeResourcePropertyId(UUID.randomUUID());
+        sampleDto.setTimestamp(Instant.parse("2022-06-01T12:00:00Z"));
+        sampleDto.setValue(42.5);
+        var samplesDto = new ComputeResourcePropertySamplesDto();
+        samplesDto.setSamples(List.of(sampleDto));
+
+        var url = linkBuilderService.urlStringTo(methodOn(ComputeResourceController.class)
+                .addComputeResourcePropertySamples(computeResourceId, null));
+        mockMvc.perform(
+                post(url)
+                        .accept(APPLICATION_JSON)
+                        .contentType(APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(samplesDto))
+        ).andExpect(status().isAccepted());
+
+        verify(computeResourcePropertySampleService).addSamples(computeResourceId, List.of(
+                new ComputeResourcePropertySample(sampleDto.getComputeResourcePropertyId(), sampleDto.getTimestamp(), 42.5)));
+    }
+
+    @Test
+    @SneakyThrows
+    void addComputeResourcePropertySamples_returnBadRequest() {
+        var sampleDto = new ComputeResourcePropertySampleDto();
+        sampleDto.setComputeResourcePropertyId(UUID.randomUUID());
+        sampleDto.setValue(42.5);
+        var samplesDto = new ComputeResourcePropertySamplesDto();
+        samplesDto.setSamples(List.of(sampleDto));
+
+        var url = linkBuilderService.urlStringTo(methodOn(ComputeResourceController.class)
+                .addComputeResourcePropertySamples(UUID.randomUUID(), null));
+        mockMvc.perform(
+                post(url)
+                        .accept(APPLICATION_JSON)
+                        .contentType(APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(samplesDto))
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SneakyThrows
+    void getComputeResourcePropertySamples_returnOk() {
+        var propertyId = UUID.randomUUID();
+        var from = Instant.parse("2022-06-01T00:00:00Z");
+        var to = Instant.parse("2022-06-02T00:00:00Z");
+        doReturn(List.of(new ComputeResourcePropertySample(propertyId, from.plusSeconds(60), 42.5)))
+                .when(computeResourcePropertySampleService).findSamples(propertyId, from, to);
+
+        var url = linkBuilderService.urlStringTo(methodOn(ComputeResourceController.class)
+                .getComputeResourcePropertySamples(UUID.randomUUID(), propertyId, from, to));
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].computeResourcePropertyId").value(propertyId.toString()))
+                .andExpect(jsonPath("$[0].value").value(42.5));
+    }
+
+    @Test
+    @SneakyThrows
+    void getAggregatedComputeResourcePropertySamples_returnOk() {
+        var propertyId = UUID.randomUUID();
+        var from = Instant.parse("2022-06-01T00:00:00Z");
+        var to = Instant.parse("2022-06-02T00:00:00Z");
+        doReturn(List.of(new ComputeResourcePropertySampleBucket(from, from.plusSeconds(3600), 2, 1.0, 3.0, 2.0)))
+                .when(computeResourcePropertySampleService).findAggregatedSamples(propertyId, from, to, Duration.ofHours(1));
+
+        var url = linkBuilderService.urlStringTo(methodOn(ComputeResourceController.class)
+                .getAggregatedComputeResourcePropertySamples(UUID.randomUUID(), propertyId, from, to, Duration.ofHours(1)));
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].count").value(2))
+                .andExpect(jsonPath("$[0].mean").value(2.0));
+    }
+
+    @Test
+    @SneakyThrows
+    void getComputeResourcePropertySamples_UnknownProperty_returnNotFound() {
+        doThrow(new NoSuchElementException()).when(computeResourcePropertyService)
+                .checkIfComputeResourcePropertyIsOfComputeResource(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ComputeResourceController.class)
+                .getComputeResourcePropertySamples(UUID.randomUUID(), UUID.randomUUID(), Instant.now(), null));
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -33,9 +33,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -47,11 +52,13 @@ import java.util.UUID;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.planqk.atlas.core.model.Algorithm;
 import org.planqk.atlas.core.model.ClassicAlgorithm;
 import org.planqk.atlas.core.model.ComputationModel;
+import org.planqk.atlas.core.model.ComputeResource;
 import org.planqk.atlas.core.model.ComputeResourceProperty;
 import org.planqk.atlas.core.model.ComputeResourcePropertyDataType;
 import org.planqk.atlas.core.model.ComputeResourcePropertyType;
@@ -78,6 +85,7 @@ import org.planqk.atlas.core.services.PublicationService;
 import org.planqk.atlas.core.services.SoftwarePlatformService;
 import org.planqk.atlas.core.services.TagService;
 import org.planqk.atlas.web.controller.util.ObjectMapperUtils;
+import org.planqk.atlas.web.dtos.ComputeResourceDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyDto;
 import org.planqk.atlas.web.dtos.ComputeResourcePropertyTypeDto;
 import org.planqk.atlas.web.dtos.DiscussionCommentDto;
@@ -95,11 +103,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
@@ -937,6 +948,35 @@ public class ImplementationControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @SneakyThrows
+    void getMatchingComputeResourcesOfImplementation_returnOk() {
+        doNothing().when(implementationService).checkIfImplementationIsOfAlgorithm(any(), any());
+        var computeResource = new ComputeResource();
+        computeResource.setId(UUID.randomUUID());
+        computeResource.setName("computeResourceName");
+        doReturn(new PageImpl<>(List.of(computeResource))).when(computeResourcePropertyService).findComputeResourcesMatchingImplementation(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .getMatchingComputeResourcesOfImplementation(UUID.randomUUID(), UUID.randomUUID(), ListParameters.getDefault()));
+        MvcResult mvcResult = mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isOk()).andReturn();
+
+        List<ComputeResourceDto> computeResourceDtos = ObjectMapperUtils.mapResponseToList(mvcResult, ComputeResourceDto.class);
+        assertEquals(computeResourceDtos.get(0).getId(), computeResource.getId());
+    }
+
+    @Test
+    @SneakyThrows
+    void getMatchingComputeResourcesOfImplementation_returnNotFound() {
+        doThrow(NoSuchElementException.class).when(implementationService).checkIfImplementationIsOfAlgorithm(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .getMatchingComputeResourcesOfImplementation(UUID.randomUUID(), UUID.randomUUID(), ListParameters.getDefault()));
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @SneakyThrows
     void getComputeResourcePropertiesOfImplementation_EmptyList_returnOk() {
@@ -2015,18 +2055,139 @@ public class ImplementationControllerTest {
         file.setMimeType("img/png");
 
         when(implementationPackageService.findLinkedFile(implementationPackage.getId())).thenReturn(file);
+        when(fileService.getFileContent(file.getId())).thenReturn(new ByteArrayResource(new byte[] {1, 2, 3, 4, 5, 6}));
 
         // When
         final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
-                .downloadFileContent(algo.getId(), impl.getId(), implementationPackage.getId()));
+                .downloadFileContent(algo.getId(), impl.getId(), implementationPackage.getId(), null, null));
 
         ResultActions result = mockMvc.perform(get(path).accept(MediaType.APPLICATION_JSON));
 
         // Then
-        result.andExpect(status().isOk()).andReturn();
+        result.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(new byte[] {1, 2, 3, 4, 5, 6}));
         Mockito.verify(implementationPackageService, times(1)).findLinkedFile(implementationPackage.getId());
     }
 
+    @Test
+    @SneakyThrows
+    public void testDownloadFileContent_range_response_partial_content() {
+        // Given
+        var implementationPackageId = UUID.randomUUID();
+        var implementationId = UUID.randomUUID();
+        var algorithmId = UUID.randomUUID();
+
+        var file = new File();
+        file.setId(UUID.randomUUID());
+        file.setMimeType("img/png");
+        file.setChecksum("abc");
+
+        when(implementationPackageService.findLinkedFile(implementationPackageId)).thenReturn(file);
+        when(fileService.getFileContent(file.getId())).thenReturn(new ByteArrayResource(new byte[] {1, 2, 3, 4, 5, 6}));
+
+        // When
+        final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .downloadFileContent(algorithmId, implementationId, implementationPackageId, null, null));
+
+        ResultActions result = mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=2-4")
+                .header(HttpHeaders.IF_RANGE, "\"abc\""));
+
+        // Then
+        result.andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-4/6"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                .andExpect(content().bytes(new byte[] {3, 4, 5}));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testDownloadFileContent_range_outdated_response_OK() {
+        // Given
+        var implementationPackageId = UUID.randomUUID();
+        var implementationId = UUID.randomUUID();
+        var algorithmId = UUID.randomUUID();
+
+        var file = new File();
+        file.setId(UUID.randomUUID());
+        file.setMimeType("img/png");
+        file.setChecksum("abc");
+
+        when(implementationPackageService.findLinkedFile(implementationPackageId)).thenReturn(file);
+        when(fileService.getFileContent(file.getId())).thenReturn(new ByteArrayResource(new byte[] {1, 2, 3, 4, 5, 6}));
+
+        // When
+        final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .downloadFileContent(algorithmId, implementationId, implementationPackageId, null, null));
+
+        ResultActions result = mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=2-4")
+                .header(HttpHeaders.IF_RANGE, "\"outdated\""));
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 6))
+                .andExpect(content().bytes(new byte[] {1, 2, 3, 4, 5, 6}));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testDownloadFileContent_range_response_not_satisfiable() {
+        // Given
+        var implementationPackageId = UUID.randomUUID();
+        var implementationId = UUID.randomUUID();
+        var algorithmId = UUID.randomUUID();
+
+        var file = new File();
+        file.setId(UUID.randomUUID());
+        file.setMimeType("img/png");
+
+        when(implementationPackageService.findLinkedFile(implementationPackageId)).thenReturn(file);
+        when(fileService.getFileContent(file.getId())).thenReturn(new ByteArrayResource(new byte[] {1, 2, 3, 4, 5, 6}));
+
+        // When
+        final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .downloadFileContent(algorithmId, implementationId, implementationPackageId, null, null));
+
+        ResultActions result = mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=10-20"));
+
+        // Then
+        result.andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testDownloadFileContent_sendfile_range_response_partial_content(@TempDir Path directory) {
+        // Given
+        var implementationPackageId = UUID.randomUUID();
+        var implementationId = UUID.randomUUID();
+        var algorithmId = UUID.randomUUID();
+
+        var file = new File();
+        file.setId(UUID.randomUUID());
+        file.setMimeType("img/png");
+        file.setChecksum("abc");
+
+        final Path content = Files.write(directory.resolve("abc"), new byte[] {1, 2, 3, 4, 5, 6});
+        when(implementationPackageService.findLinkedFile(implementationPackageId)).thenReturn(file);
+        when(fileService.getFileContent(file.getId())).thenReturn(new FileSystemResource(content));
+
+        // When
+        final String path = linkBuilderService.urlStringTo(methodOn(ImplementationController.class)
+                .downloadFileContent(algorithmId, implementationId, implementationPackageId, null, null));
+
+        ResultActions result = mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=2-4")
+                .requestAttr("org.apache.tomcat.sendfile.support", true));
+
+        // Then the content is left to the container
+        result.andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-4/6"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 3))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.filename", content.toFile().getAbsolutePath()))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 2L))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.end", 5L))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     @SneakyThrows
     public void testDeleteFile_response_file_not_found() {
@@ -235,4 +235,35 @@ public class ImplementationGlobalControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @SneakyThrows
+    void getImplementationRevisionAsOf_returnOk() {
+        var impl = new Implementation();
+        impl.setName("implementation for Shor");
+        impl.setId(UUID.randomUUID());
+        Instant timestamp = Instant.parse("2022-06-01T12:00:00Z");
+
+        Revision<Integer, Implementation> implementationRevision = Revision.of(new DefaultRevisionMetadata(new DefaultRevisionEntity()), impl);
+        doReturn(implementationRevision).when(implementationService).findImplementationRevisionAsOf(impl.getId(), timestamp);
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementationRevisionAsOf(impl.getId(), timestamp));
+
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(impl.getId().toString()));
+    }
+
+    @Test
+    @SneakyThrows
+    void getImplementationRevisionAsOf_returnNotFound() {
+        doThrow(NoSuchElementException.class).when(implementationService).findImplementationRevisionAsOf(any(), any());
+
+        var url = linkBuilderService.urlStringTo(methodOn(ImplementationGlobalController.class)
+                .getImplementationRevisionAsOf(UUID.randomUUID(), Instant.now()));
+
+        mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
 }
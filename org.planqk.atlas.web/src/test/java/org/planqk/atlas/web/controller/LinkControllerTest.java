@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.controller;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.planqk.atlas.core.services.LinkingService;
+import org.planqk.atlas.core.services.TagService;
+import org.planqk.atlas.web.controller.util.ObjectMapperUtils;
+import org.planqk.atlas.web.dtos.BulkLinkDto;
+import org.planqk.atlas.web.dtos.BulkTagLinkDto;
+import org.planqk.atlas.web.dtos.TagDto;
+import org.planqk.atlas.web.linkassembler.EnableLinkAssemblers;
+import org.planqk.atlas.web.linkassembler.LinkBuilderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@WebMvcTest(LinkController.class)
+@ExtendWith(MockitoExtension.class)
+@AutoConfigureMockMvc
+@EnableLinkAssemblers
+public class LinkControllerTest {
+
+    private final ObjectMapper mapper = ObjectMapperUtils.newTestMapper();
+
+    @MockBean
+    private LinkingService linkingService;
+
+    @MockBean
+    private TagService tagService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LinkBuilderService linkBuilderService;
+
+    @Test
+    void linkAll_returnNoContent() throws Exception {
+        BulkLinkDto bulkLinkDto = new BulkLinkDto();
+        bulkLinkDto.setSourceIds(Set.of(UUID.randomUUID(), UUID.randomUUID()));
+        bulkLinkDto.setTargetIds(Set.of(UUID.randomUUID()));
+
+        var url = linkBuilderService.urlStringTo(methodOn(LinkController.class).linkAll("algorithm-publication", null));
+        mockMvc.perform(post(url).content(mapper.writeValueAsString(bulkLinkDto))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent());
+
+        verify(linkingService).linkAlgorithmsAndPublications(bulkLinkDto.getSourceIds(), bulkLinkDto.getTargetIds());
+    }
+
+    @Test
+    void linkAll_returnBadRequest() throws Exception {
+        BulkLinkDto bulkLinkDto = new BulkLinkDto();
+        bulkLinkDto.setTargetIds(Set.of(UUID.randomUUID()));
+
+        var url = linkBuilderService.urlStringTo(methodOn(LinkController.class).linkAll("algorithm-publication", null));
+        mockMvc.perform(post(url).content(mapper.writeValueAsString(bulkLinkDto))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(linkingService);
+    }
+
+    @Test
+    void linkAll_unknownRelation_returnNotFound() throws Exception {
+        BulkLinkDto bulkLinkDto = new BulkLinkDto();
+        bulkLinkDto.setSourceIds(Set.of(UUID.randomUUID()));
+        bulkLinkDto.setTargetIds(Set.of(UUID.randomUUID()));
+
+        var url = linkBuilderService.urlStringTo(methodOn(LinkController.class).linkAll("algorithm-sketch", null));
+        mockMvc.perform(post(url).content(mapper.writeValueAsString(bulkLinkDto))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void unlinkAll_returnNotFound() throws Exception {
+        BulkLinkDto bulkLinkDto = new BulkLinkDto();
+        bulkLinkDto.setSourceIds(Set.of(UUID.randomUUID()));
+        bulkLinkDto.setTargetIds(Set.of(UUID.randomUUID()));
+        doThrow(new NoSuchElementException()).when(linkingService)
+                .unlinkSoftwarePlatformsAndComputeResources(anyCollection(), anyCollection());
+
+        var url = linkBuilderService.urlStringTo(methodOn(LinkController.class).unlinkAll("software-platform-compute-resource", null));
+        mockMvc.perform(delete(url).content(mapper.writeValueAsString(bulkLinkDto))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void addTagsToAlgorithms_returnNoContent() throws Exception {
+        TagDto tagDto = new TagDto();
+        tagDto.setValue("quantum");
+        BulkTagLinkDto bulkTagLinkDto = new BulkTagLinkDto();
+        bulkTagLinkDto.setSourceIds(Set.of(UUID.randomUUID()));
+        bulkTagLinkDto.getTags().add(tagDto);
+
+        var url = linkBuilderService.urlStringTo(methodOn(LinkController.class).addTagsToAlgorithms(null));
+        mockMvc.perform(post(url).content(mapper.writeValueAsString(bulkTagLinkDto))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent());
+
+        verify(tagService).addTagsToAlgorithms(eq(bulkTagLinkDto.getSourceIds()),
+                argThat(tags -> tags.size() == 1 && tags.iterator().next().getValue().equals("quantum")));
+    }
+
+    @Test
+    void removeTagsFromImplementations_returnBadRequest() throws Exception {
+        BulkTagLinkDto bulkTagLinkDto = new BulkTagLinkDto();
+        bulkTagLinkDto.setSourceIds(Set.of(UUID.randomUUID()));
+        bulkTagLinkDto.getTags().add(new TagDto());
+
+        var url = linkBuilderService.urlStringTo(methodOn(LinkController.class).removeTagsFromImplementations(null));
+        mockMvc.perform(delete(url).content(mapper.writeValueAsString(bulkTagLinkDto))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(tagService);
+    }
+}
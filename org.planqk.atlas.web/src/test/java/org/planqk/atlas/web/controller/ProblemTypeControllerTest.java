@@ -305,4 +305,29 @@ public class ProblemTypeControllerTest {
                         .accept(APPLICATION_JSON)
         ).andExpect(status().isNotFound());
     }
+
+    @Test
+    @SneakyThrows
+    void getProblemTypeDescendants_returnOk() {
+        var probType = new ProblemType();
+        probType.setId(UUID.randomUUID());
+        probType.setName("test");
+
+        doReturn(new PageImpl<>(List.of(probType))).when(problemTypeService).findDescendants(any(), any());
+        var url = linkBuilderService.urlStringTo(methodOn(ProblemTypeController.class)
+                .getProblemTypeDescendants(UUID.randomUUID(), ListParameters.getDefault()));
+        MvcResult mvcResult = mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isOk()).andReturn();
+        assertEquals(ObjectMapperUtils.mapResponseToList(mvcResult, ProblemTypeDto.class).get(0).getId(), probType.getId());
+    }
+
+    @Test
+    @SneakyThrows
+    void getProblemTypeDescendants_returnNotFound() {
+        doThrow(new NoSuchElementException()).when(problemTypeService).findDescendants(any(), any());
+        var url = linkBuilderService.urlStringTo(methodOn(ProblemTypeController.class)
+                .getProblemTypeDescendants(UUID.randomUUID(), ListParameters.getDefault()));
+        mockMvc.perform(get(url).accept(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
 }
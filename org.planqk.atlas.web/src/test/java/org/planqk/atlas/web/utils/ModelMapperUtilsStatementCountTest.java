@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2022 the qc-atlas contributors.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package org.planqk.atlas.web.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.planqk.atlas.core.model.Algorithm;
+import org.planqk.atlas.core.model.ClassicAlgorithm;
+import org.planqk.atlas.core.model.ClassicImplementation;
+import org.planqk.atlas.core.model.Implementation;
+import org.planqk.atlas.core.model.Publication;
+import org.planqk.atlas.core.model.SoftwarePlatform;
+import org.planqk.atlas.core.services.AlgorithmService;
+import org.planqk.atlas.core.services.ImplementationService;
+import org.planqk.atlas.core.services.LinkingService;
+import org.planqk.atlas.core.services.PublicationService;
+import org.planqk.atlas.core.services.SoftwarePlatformService;
+import org.planqk.atlas.core.util.DatabaseContainer;
+import org.planqk.atlas.core.util.DatabaseTestEnvironmentConfiguration;
+import org.planqk.atlas.core.util.StatementCounter;
+import org.planqk.atlas.web.dtos.AlgorithmDto;
+import org.planqk.atlas.web.dtos.ImplementationDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.envers.repository.support.EnversRevisionRepositoryFactoryBean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Counts the statements of the list endpoints, i.e. of loading a page and mapping it to DTOs exactly like the
+ * controllers do. The number of statements must not grow with the number of entities on the page.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(classes = ModelMapperUtilsStatementCountTest.CoreTestConfiguration.class)
+@TestPropertySource(locations = "classpath:/db-test.properties")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ModelMapperUtilsStatementCountTest {
+
+    private static final int ENTITY_COUNT = 12;
+
+    private static final String PATTERN = "https://patterns.example.org/pattern";
+
+    @Container
+    public static DatabaseContainer postgreSQLContainer = DatabaseContainer.getInstance();
+
+    @Autowired
+    private AlgorithmService algorithmService;
+
+    @Autowired
+    private ImplementationService implementationService;
+
+    @Autowired
+    private PublicationService publicationService;
+
+    @Autowired
+    private SoftwarePlatformService softwarePlatformService;
+
+    @Autowired
+    private LinkingService linkingService;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Test
+    void getAlgorithms_BoundedStatementCount() {
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            algorithmService.create(getAlgorithm("algorithmName" + i));
+        }
+
+        // page query, count query and one batch for the sketches
+        assertThat(countStatements(pageable -> ModelMapperUtils.convertPage(
+                algorithmService.findAll(pageable, null), AlgorithmDto.class))).isLessThanOrEqualTo(3);
+        countStatements(pageable -> ModelMapperUtils.convertPage(
+                algorithmService.findAll(pageable, "algorithmName"), AlgorithmDto.class));
+        countStatements(pageable -> ModelMapperUtils.convertSlice(
+                algorithmService.findAllWithoutCount(pageable), AlgorithmDto.class));
+        countStatements(pageable -> ModelMapperUtils.convertPage(
+                algorithmService.findAllWithEstimatedCount(pageable), AlgorithmDto.class));
+        countStatements(pageable -> ModelMapperUtils.convertSlice(
+                algorithmService.findAllAfter(pageable, null), AlgorithmDto.class));
+    }
+
+    @Test
+    void getImplementations_BoundedStatementCount() {
+        final Publication publication = new Publication();
+        publication.setTitle("publicationTitle");
+        final Publication storedPublication = publicationService.create(publication);
+        final SoftwarePlatform softwarePlatform = new SoftwarePlatform();
+        softwarePlatform.setName("softwarePlatformName");
+        final SoftwarePlatform storedSoftwarePlatform = softwarePlatformService.create(softwarePlatform);
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            final Algorithm algorithm = algorithmService.create(getAlgorithm("algorithmName" + i));
+            final Implementation implementation = new ClassicImplementation();
+            implementation.setName("implementationName" + i);
+            implementation.setImplementedAlgorithm(algorithm);
+            implementation.getPatterns().add(PATTERN);
+            final Implementation storedImplementation = implementationService.create(implementation, algorithm.getId());
+            linkingService.linkImplementationAndPublication(storedImplementation.getId(), storedPublication.getId());
+            linkingService.linkImplementationAndSoftwarePlatform(storedImplementation.getId(), storedSoftwarePlatform.getId());
+        }
+
+        // page query including the implemented algorithms, count query and one batch for each mapped collection
+        assertThat(countStatements(pageable -> ModelMapperUtils.convertPage(
+                implementationService.findAll(pageable), ImplementationDto.class))).isLessThanOrEqualTo(4);
+        countStatements(pageable -> ModelMapperUtils.convertSlice(
+                implementationService.findAllWithoutCount(pageable), ImplementationDto.class));
+        countStatements(pageable -> ModelMapperUtils.convertPage(
+                implementationService.findAllWithEstimatedCount(pageable), ImplementationDto.class));
+        countStatements(pageable -> ModelMapperUtils.convertSlice(
+                implementationService.findAllAfter(pageable, null), ImplementationDto.class));
+        countStatements(pageable -> ModelMapperUtils.convertPage(
+                publicationService.findLinkedImplementations(storedPublication.getId(), pageable), ImplementationDto.class));
+        countStatements(pageable -> ModelMapperUtils.convertPage(
+                softwarePlatformService.findLinkedImplementations(storedSoftwarePlatform.getId(), pageable), ImplementationDto.class));
+        countStatements(pageable -> ModelMapperUtils.convertPage(
+                implementationService.findByImplementedPatterns(PATTERN, pageable), ImplementationDto.class));
+    }
+
+    @Test
+    void getImplementationsOfAlgorithm_BoundedStatementCount() {
+        final Algorithm algorithm = algorithmService.create(getAlgorithm("algorithmName"));
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            final Implementation implementation = new ClassicImplementation();
+            implementation.setName("implementationName" + i);
+            implementation.setImplementedAlgorithm(algorithm);
+            final Implementation storedImplementation = implementationService.create(implementation, algorithm.getId());
+            final SoftwarePlatform softwarePlatform = new SoftwarePlatform();
+            softwarePlatform.setName("softwarePlatformName" + i);
+            softwarePlatformService.create(softwarePlatform);
+            linkingService.linkImplementationAndSoftwarePlatform(storedImplementation.getId(), softwarePlatform.getId());
+        }
+
+        countStatements(pageable -> ModelMapperUtils.convertPage(
+                implementationService.findByImplementedAlgorithm(algorithm.getId(), pageable), ImplementationDto.class));
+    }
+
+    /**
+     * Counts the statements of the given list endpoint for a small and a larger page, the larger page must not need more
+     * statements.
+     *
+     * @return The number of statements needed for the larger page
+     */
+    private long countStatements(Function<Pageable, ?> listEndpoint) {
+        final long smallPage = statementCounter.count(() -> listEndpoint.apply(PageRequest.of(0, 2)));
+        final long largePage = statementCounter.count(() -> listEndpoint.apply(PageRequest.of(0, ENTITY_COUNT - 2)));
+        assertThat(largePage).isLessThanOrEqualTo(smallPage);
+        return largePage;
+    }
+
+    private static Algorithm getAlgorithm(String name) {
+        final Algorithm algorithm = new ClassicAlgorithm();
+        algorithm.setName(name);
+        return algorithm;
+    }
+
+    /**
+     * The database test environment of the core module restricted to the core, the controllers are not needed to map
+     * the entities to the DTOs.
+     */
+    @SpringBootConfiguration
+    @EnableJpaRepositories(basePackages = "org.planqk.atlas.core", repositoryFactoryBeanClass = EnversRevisionRepositoryFactoryBean.class)
+    @EntityScan("org.planqk.atlas.core")
+    @ComponentScan(basePackages = "org.planqk.atlas.core", excludeFilters = @ComponentScan.Filter(
+            type = FilterType.ASSIGNABLE_TYPE, classes = DatabaseTestEnvironmentConfiguration.class))
+    @AutoConfigureDataJpa
+    static class CoreTestConfiguration {
+    }
+}